@@ -0,0 +1,51 @@
+#!/usr/bin/env python3
+"""Compare a JMH JSON result against the checked-in baseline.
+
+Usage: benchmarks/compare.py [result.json] [baseline.json] [--threshold 0.10]
+
+Prints one line per benchmark with the relative change and exits with
+status 1 if any benchmark is slower than the baseline by more than the
+threshold (and by more than the combined error margins).
+"""
+import json
+import sys
+
+
+def load(path):
+    with open(path) as f:
+        results = {}
+        for run in json.load(f):
+            params = ",".join(f"{k}={v}" for k, v in sorted((run.get("params") or {}).items()))
+            key = run["benchmark"].rsplit(".", 2)[-2:]
+            name = ".".join(key) + (f"[{params}]" if params else "")
+            metric = run["primaryMetric"]
+            results[name] = (metric["score"], metric.get("scoreError") or 0.0, metric["scoreUnit"])
+        return results
+
+
+def main(argv):
+    threshold = 0.10
+    if "--threshold" in argv:
+        i = argv.index("--threshold")
+        threshold = float(argv[i + 1])
+        argv = argv[:i] + argv[i + 2:]
+    result_path = argv[0] if len(argv) > 0 else "target/jmh-result.json"
+    baseline_path = argv[1] if len(argv) > 1 else "benchmarks/baseline.json"
+
+    current, baseline = load(result_path), load(baseline_path)
+    regressions = 0
+    for name in sorted(current):
+        score, error, unit = current[name]
+        if name not in baseline:
+            print(f"  NEW   {name}: {score:.3f} {unit}")
+            continue
+        base, base_error, _ = baseline[name]
+        change = (score - base) / base
+        regressed = change > threshold and (score - error) > (base + base_error)
+        regressions += regressed
+        print(f"{'!' if regressed else ' '} {change:+7.1%} {name}: {base:.3f} -> {score:.3f} {unit}")
+    return 1 if regressions else 0
+
+
+if __name__ == "__main__":
+    sys.exit(main(sys.argv[1:]))
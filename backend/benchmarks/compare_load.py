@@ -0,0 +1,78 @@
+#!/usr/bin/env python3
+"""Compare an HTTP load test report against the checked-in baseline.
+
+Usage: benchmarks/compare_load.py [report.json] [baseline.json]
+                                  [--latency-threshold 0.20] [--throughput-threshold 0.10]
+                                  [--error-threshold 0.01]
+
+Prints one line per endpoint with p95 latency, throughput and error rate
+against the baseline, and exits with status 1 if any endpoint regressed:
+p95 slower by more than the latency threshold, throughput lower by more
+than the throughput threshold, or error rate higher by more than the error
+threshold (absolute, 0.01 = one percentage point). A baseline that has not
+been recorded yet only lists the current numbers.
+"""
+import json
+import sys
+
+
+def load(path):
+    with open(path) as f:
+        return json.load(f)
+
+
+def option(argv, name, default):
+    if name in argv:
+        i = argv.index(name)
+        value = float(argv[i + 1])
+        del argv[i:i + 2]
+        return value
+    return default
+
+
+def main(argv):
+    argv = list(argv)
+    latency_threshold = option(argv, "--latency-threshold", 0.20)
+    throughput_threshold = option(argv, "--throughput-threshold", 0.10)
+    error_threshold = option(argv, "--error-threshold", 0.01)
+    report_path = argv[0] if len(argv) > 0 else "target/load-report.json"
+    baseline_path = argv[1] if len(argv) > 1 else "benchmarks/load-baseline.json"
+
+    report, baseline = load(report_path), load(baseline_path)
+    if not baseline.get("recorded", True):
+        print(f"Baseline {baseline_path} has not been recorded yet; nothing to compare against.")
+    elif (report.get("users"), report.get("thinkMillis")) != (baseline.get("users"), baseline.get("thinkMillis")):
+        print(f"Warning: load shape differs from the baseline (users {report.get('users')} vs "
+              f"{baseline.get('users')}, think time {report.get('thinkMillis')} vs {baseline.get('thinkMillis')} ms)")
+    base_endpoints = baseline.get("endpoints", {})
+
+    regressions = 0
+    for name, current in sorted(report["endpoints"].items()):
+        summary = (f"p95 {current['p95Ms']:.1f} ms, {current['throughputPerSecond']:.2f} req/s, "
+                   f"{current['errorRate']:.2%} errors")
+        base = base_endpoints.get(name)
+        if base is None:
+            print(f"  NEW   {name}: {summary}")
+            continue
+        latency = (current["p95Ms"] - base["p95Ms"]) / base["p95Ms"] if base["p95Ms"] else 0.0
+        throughput = ((current["throughputPerSecond"] - base["throughputPerSecond"]) / base["throughputPerSecond"]
+                      if base["throughputPerSecond"] else 0.0)
+        errors = current["errorRate"] - base["errorRate"]
+        problems = []
+        if latency > latency_threshold:
+            problems.append("p95")
+        if -throughput > throughput_threshold:
+            problems.append("throughput")
+        if errors > error_threshold:
+            problems.append("errors")
+        regressions += bool(problems)
+        print(f"{'!' if problems else ' '} p95 {latency:+7.1%} req/s {throughput:+7.1%} errors {errors:+.2%}"
+              f" {name}: {summary}" + (f"  [{', '.join(problems)}]" if problems else ""))
+
+    for name in sorted(set(base_endpoints) - set(report["endpoints"])):
+        print(f"  GONE  {name}")
+    return 1 if regressions else 0
+
+
+if __name__ == "__main__":
+    sys.exit(main(sys.argv[1:]))
@@ -0,0 +1,92 @@
+package com.lucknow.healthcare.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.lucknow.healthcare.dto.BookingDTO;
+import com.lucknow.healthcare.entity.Booking;
+import com.lucknow.healthcare.mapper.BookingMapper;
+import com.lucknow.healthcare.privacy.PrivacyMaskingModule;
+import com.lucknow.healthcare.privacy.PrivacyPolicy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity-to-DTO mapping and JSON serialization of booking responses
+ * 
+ * The ObjectMapper is configured like Spring Boot's default (modules
+ * discovered from the classpath, ISO dates). Provider responses are
+ * measured the way the API writes them: BookingDTOs masked during
+ * serialization by PrivacyMaskingModule. PrivacyMaskingBenchmark compares
+ * that with the deprecated copy-per-row DTOs.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BookingMappingBenchmark {
+    
+    @Param({"1", "50"})
+    public int bookingCount;
+    
+    private final BookingMapper mapper = new BookingMapper();
+    private ObjectMapper objectMapper;
+    private List<Booking> bookings;
+    private ObjectWriter providerWriter;
+    private List<BookingDTO> dtos;
+    
+    @Setup
+    public void setUp() {
+        objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+        ObjectMapper maskingMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .addModule(new PrivacyMaskingModule(PrivacyPolicy.defaultPolicy(), Clock.systemDefaultZone()))
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+        providerWriter = maskingMapper.writer().withAttribute(PrivacyMaskingModule.ROLE_ATTRIBUTE, "PROVIDER");
+        bookings = BenchmarkFixtures.bookings(bookingCount);
+        dtos = mapper.toDTOList(bookings);
+    }
+    
+    @Benchmark
+    public BookingDTO toDTO() {
+        return mapper.toDTO(bookings.get(0));
+    }
+    
+    @Benchmark
+    public List<BookingDTO> toDTOList() {
+        return mapper.toDTOList(bookings);
+    }
+    
+    @Benchmark
+    public byte[] serializeBookingDTOs() throws Exception {
+        return objectMapper.writeValueAsBytes(dtos);
+    }
+    
+    @Benchmark
+    public byte[] serializeProviderBookingDTOs() throws Exception {
+        return providerWriter.writeValueAsBytes(dtos);
+    }
+}
@@ -0,0 +1,76 @@
+package com.lucknow.healthcare.benchmark;
+
+import com.lucknow.healthcare.entity.Booking;
+import com.lucknow.healthcare.payment.PaytmChecksum;
+import com.lucknow.healthcare.util.OtpGenerator;
+import com.lucknow.healthcare.util.ScheduleConflicts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Small CPU-bound rules on the booking and payment paths: provider
+ * schedule conflict check, Paytm checksum and OTP generation
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BookingRulesBenchmark {
+    
+    private List<Booking> providerSchedule;
+    private TreeMap<String, String> paytmParams;
+    
+    @Setup
+    public void setUp() {
+        // A busy provider: 20 active bookings, half of them on the requested date
+        providerSchedule = BenchmarkFixtures.bookings(20);
+        for (int i = 0; i < providerSchedule.size(); i += 2) {
+            providerSchedule.get(i).setScheduledDate(BenchmarkFixtures.SERVICE_DATE.plusDays(1));
+        }
+        
+        paytmParams = new TreeMap<>();
+        paytmParams.put("MID", "BENCHMARK000000000001");
+        paytmParams.put("ORDER_ID", "ORDER_1706000000000_ab12cd34");
+        paytmParams.put("CUST_ID", BenchmarkFixtures.id("user", 1).toString());
+        paytmParams.put("INDUSTRY_TYPE_ID", "Retail");
+        paytmParams.put("CHANNEL_ID", "WEB");
+        paytmParams.put("TXN_AMOUNT", "799.00");
+        paytmParams.put("WEBSITE", "WEBSTAGING");
+        paytmParams.put("CALLBACK_URL", "http://localhost:8080/api/payments/paytm/callback");
+    }
+    
+    @Benchmark
+    public Optional<Booking> scheduleConflictCheck() {
+        // Evening slot: scans the whole schedule without finding a conflict
+        return ScheduleConflicts.findConflict(BenchmarkFixtures.SERVICE_DATE, LocalTime.of(20, 30), 2, providerSchedule);
+    }
+    
+    @Benchmark
+    public String paytmChecksum() throws Exception {
+        return PaytmChecksum.generate(paytmParams, "benchmark-merchant-key");
+    }
+    
+    @Benchmark
+    public String otp() {
+        return OtpGenerator.generate();
+    }
+}
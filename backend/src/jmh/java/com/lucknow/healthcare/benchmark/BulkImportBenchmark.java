@@ -0,0 +1,158 @@
+package com.lucknow.healthcare.benchmark;
+
+import com.lucknow.healthcare.bulk.BulkWriteResult;
+import com.lucknow.healthcare.bulk.BulkWriter;
+import com.lucknow.healthcare.entity.Patient;
+import com.lucknow.healthcare.entity.PatientMedication;
+import com.lucknow.healthcare.entity.User;
+import com.lucknow.healthcare.metrics.ServiceMetrics;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulk import throughput: 100,000 patient medications through
+ * {@link BulkWriter}, one INSERT per round trip versus JDBC batching
+ * 
+ * Needs a PostgreSQL database; pass it with -Dbench.jdbc.url (plus
+ * -Dbench.jdbc.user / -Dbench.jdbc.password). The benchmark builds the
+ * entity schema in its own bench_bulk schema and drops it afterwards.
+ * {@code ROW} runs Hibernate without statement batching; {@code BATCHED}
+ * uses the application settings (batch_size 50, ordered inserts and
+ * pgjdbc's reWriteBatchedInserts). Scores are rows per second.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(BulkImportBenchmark.ROWS)
+@Warmup(iterations = 1, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BulkImportBenchmark {
+    
+    static final int ROWS = 100_000;
+    private static final String SCHEMA = "bench_bulk";
+    
+    public enum Batching {
+        ROW, BATCHED
+    }
+    
+    @Param({"ROW", "BATCHED"})
+    public Batching batching;
+    
+    private HikariDataSource dataSource;
+    private LocalContainerEntityManagerFactoryBean factoryBean;
+    private BulkWriter bulkWriter;
+    private Patient patient;
+    private List<PatientMedication> rows;
+    
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        String url = System.getProperty("bench.jdbc.url");
+        if (url == null) {
+            throw new IllegalStateException("Set -Dbench.jdbc.url to a PostgreSQL database to run this benchmark");
+        }
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(System.getProperty("bench.jdbc.user", "postgres"));
+        dataSource.setPassword(System.getProperty("bench.jdbc.password", ""));
+        dataSource.setMaximumPoolSize(2);
+        dataSource.addDataSourceProperty("reWriteBatchedInserts", batching == Batching.BATCHED);
+        execute("CREATE SCHEMA IF NOT EXISTS " + SCHEMA);
+        
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("hibernate.default_schema", SCHEMA);
+        properties.put("hibernate.hbm2ddl.auto", "create");
+        properties.put("hibernate.jdbc.batch_size", batching == Batching.BATCHED ? 50 : 1);
+        properties.put("hibernate.order_inserts", batching == Batching.BATCHED);
+        
+        factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan("com.lucknow.healthcare.entity");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(properties);
+        factoryBean.afterPropertiesSet();
+        EntityManagerFactory factory = factoryBean.getObject();
+        
+        EntityManager setup = factory.createEntityManager();
+        setup.getTransaction().begin();
+        User customer = BenchmarkFixtures.user(0);
+        customer.setId(null);
+        setup.persist(customer);
+        patient = BenchmarkFixtures.patient(0, customer);
+        patient.setId(null);
+        setup.persist(patient);
+        setup.getTransaction().commit();
+        setup.close();
+        
+        bulkWriter = new BulkWriter(SharedEntityManagerCreator.createSharedEntityManager(factory),
+            new JpaTransactionManager(factory), new ServiceMetrics(new SimpleMeterRegistry()), 1000);
+    }
+    
+    @Setup(Level.Invocation)
+    public void prepareRows() throws SQLException {
+        execute("TRUNCATE " + SCHEMA + ".patient_medications");
+        rows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            PatientMedication medication = new PatientMedication(patient, "Medication " + (i % 500), "500mg", "Twice daily");
+            medication.setStartDate(BenchmarkFixtures.SERVICE_DATE.minusDays(i % 365));
+            medication.setCreatedAt(BenchmarkFixtures.TIMESTAMP);
+            medication.setUpdatedAt(BenchmarkFixtures.TIMESTAMP);
+            rows.add(medication);
+        }
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        factoryBean.destroy();
+        execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        dataSource.close();
+    }
+    
+    @Benchmark
+    public int importMedications() {
+        BulkWriteResult result = bulkWriter.write("medications", rows,
+            medication -> medication.setPatient(bulkWriter.reference(Patient.class, patient.getId())), null);
+        if (!result.isComplete()) {
+            throw new IllegalStateException(result.getError());
+        }
+        return result.getWritten();
+    }
+    
+    private void execute(String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.lucknow.healthcare.benchmark;
+
+import com.lucknow.healthcare.dispatch.DispatchPlan;
+import com.lucknow.healthcare.dispatch.DispatchPlanner;
+import com.lucknow.healthcare.dispatch.DispatchProperties;
+import com.lucknow.healthcare.dispatch.ProviderSchedule;
+import com.lucknow.healthcare.entity.Booking;
+import com.lucknow.healthcare.entity.Provider;
+import com.lucknow.healthcare.entity.Service;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Solve time of the batch dispatch planner
+ * 
+ * 10,000 unassigned bookings over a 14-day window, 1,000 providers and 50
+ * services. Every provider offers 5 services, so each service has about 100
+ * candidates, and a third of the providers start with existing visits.
+ * Inputs are generated from a fixed seed; schedules are rebuilt before
+ * every invocation because the planner adds to them.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DispatchPlannerBenchmark {
+    
+    private static final int SERVICES = 50;
+    private static final int SERVICES_PER_PROVIDER = 5;
+    private static final int WINDOW_DAYS = 14;
+    private static final ZoneId ZONE = ZoneId.of("Asia/Kolkata");
+    
+    @Param({"10000"})
+    public int bookingCount;
+    
+    @Param({"1000"})
+    public int providerCount;
+    
+    private DispatchPlanner planner;
+    private List<Booking> bookings;
+    private List<Provider> providers;
+    private Map<UUID, List<Provider>> candidatesByService;
+    private List<long[]> existingVisits;
+    private Map<UUID, ProviderSchedule> schedules;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        planner = new DispatchPlanner(new DispatchProperties.Weights(), ZONE);
+        
+        List<Service> services = new ArrayList<>();
+        candidatesByService = new HashMap<>();
+        for (int i = 0; i < SERVICES; i++) {
+            Service service = BenchmarkFixtures.service(i);
+            services.add(service);
+            candidatesByService.put(service.getId(), new ArrayList<>());
+        }
+        
+        providers = new ArrayList<>();
+        for (int i = 0; i < providerCount; i++) {
+            Provider provider = BenchmarkFixtures.provider(i);
+            provider.setRating(3.0 + random.nextInt(21) / 10.0);
+            provider.setExperience(random.nextInt(25));
+            for (int s = 0; s < SERVICES_PER_PROVIDER; s++) {
+                candidatesByService.get(services.get((i + s * 11) % SERVICES).getId()).add(provider);
+            }
+            providers.add(provider);
+        }
+        
+        existingVisits = new ArrayList<>();
+        for (int i = 0; i < providerCount; i += 3) {
+            long start = BenchmarkFixtures.SERVICE_DATE.plusDays(random.nextInt(WINDOW_DAYS))
+                .atTime(8 + random.nextInt(10), 0).atZone(ZONE).toEpochSecond() / 60;
+            existingVisits.add(new long[] {i, start, start + 120});
+        }
+        
+        bookings = new ArrayList<>(bookingCount);
+        for (int i = 0; i < bookingCount; i++) {
+            Booking booking = new Booking();
+            booking.setId(BenchmarkFixtures.id("dispatch", i));
+            booking.setService(services.get(random.nextInt(SERVICES)));
+            booking.setScheduledDate(BenchmarkFixtures.SERVICE_DATE.plusDays(random.nextInt(WINDOW_DAYS)));
+            booking.setScheduledTime(LocalTime.of(7 + random.nextInt(13), random.nextBoolean() ? 0 : 30));
+            booking.setDuration(1 + random.nextInt(3));
+            bookings.add(booking);
+        }
+    }
+    
+    @Setup(Level.Invocation)
+    public void resetSchedules() {
+        schedules = new HashMap<>();
+        for (long[] visit : existingVisits) {
+            schedules.computeIfAbsent(providers.get((int) visit[0]).getId(), id -> new ProviderSchedule())
+                .add(visit[1], visit[2]);
+        }
+    }
+    
+    @Benchmark
+    public DispatchPlan solve() {
+        return planner.plan(bookings, candidatesByService, schedules);
+    }
+}
@@ -0,0 +1,112 @@
+package com.lucknow.healthcare.benchmark;
+
+import com.lucknow.healthcare.storage.LocalFileSystemDocumentStorage;
+import com.lucknow.healthcare.storage.StoredContent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Patient document storage throughput: concurrent uploads of unique and
+ * duplicate content, and full-file reads through FileChannel.transferTo
+ * 
+ * Runs with 4 threads to show contention on the store; multiply ops/s by
+ * the payload size for bytes/s.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class DocumentStorageBenchmark {
+    
+    @Param({"262144", "4194304"})
+    public int payloadBytes;
+    
+    private Path root;
+    private LocalFileSystemDocumentStorage storage;
+    private byte[] sharedPayload;
+    private String sharedDigest;
+    
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        root = Files.createTempDirectory("document-storage-bench");
+        storage = new LocalFileSystemDocumentStorage(root, 64 * 1024, Duration.ZERO);
+        sharedPayload = new byte[payloadBytes];
+        new Random(42).nextBytes(sharedPayload);
+        sharedDigest = storage.store(new ByteArrayInputStream(sharedPayload), Long.MAX_VALUE).getSha256();
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(root)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+    
+    @State(Scope.Thread)
+    public static class UniquePayload {
+        
+        private byte[] payload;
+        
+        @Setup(Level.Trial)
+        public void setUp(DocumentStorageBenchmark benchmark) {
+            payload = new byte[benchmark.payloadBytes];
+            new Random(Thread.currentThread().getId()).nextBytes(payload);
+        }
+        
+        byte[] next() {
+            // Change the first bytes so every upload has a new digest
+            long counter = System.nanoTime();
+            for (int i = 0; i < 8; i++) {
+                payload[i] = (byte) (counter >>> (i * 8));
+            }
+            return payload;
+        }
+    }
+    
+    @Benchmark
+    public StoredContent uploadUnique(UniquePayload unique) throws IOException {
+        StoredContent stored = storage.store(new ByteArrayInputStream(unique.next()), Long.MAX_VALUE);
+        storage.delete(stored.getSha256());
+        return stored;
+    }
+    
+    @Benchmark
+    public StoredContent uploadDuplicate() throws IOException {
+        return storage.store(new ByteArrayInputStream(sharedPayload), Long.MAX_VALUE);
+    }
+    
+    @Benchmark
+    public long download() throws IOException {
+        return storage.transferTo(sharedDigest, 0, payloadBytes, Channels.newChannel(OutputStream.nullOutputStream()));
+    }
+}
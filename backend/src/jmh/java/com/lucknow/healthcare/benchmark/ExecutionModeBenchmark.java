@@ -0,0 +1,197 @@
+package com.lucknow.healthcare.benchmark;
+
+import com.lucknow.healthcare.execution.ExecutionMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Load test of the two execution modes with a slow payment gateway
+ * 
+ * Models the server rather than booting it: requests run either on a
+ * 200-thread pool with an unbounded accept queue (Tomcat defaults) or one
+ * virtual thread per request, in both cases behind the admission limit.
+ * Every request takes a connection from a 20-permit pool (Hikari) for
+ * 2 ms; payment requests first call the gateway through a bulkhead sized
+ * like the shipped Paytm one (10 running, 20 queued, the rest refused at
+ * once). 240 clients send payments while 16 clients load booking lists,
+ * so the booking list percentiles show how much a gateway slowdown hurts
+ * unrelated traffic.
+ * 
+ * maxConcurrentRequests 40 is the shipped default, derived from the pool
+ * (20 connections x app.execution.requests-per-connection 2); 200 matches
+ * the Tomcat thread count, which is what the old fixed default amounted
+ * to. Rejected requests return at once and still count as samples; the
+ * rejection count is printed at the end of each trial.
+ * 
+ * VIRTUAL needs a Java 21+ JVM to run the benchmark; on Java 17 its setup
+ * fails and JMH moves on to the next parameter.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+@State(Scope.Group)
+public class ExecutionModeBenchmark {
+    
+    private static final int TOMCAT_THREADS = 200;
+    private static final int DB_POOL_SIZE = 20;
+    private static final long DB_WORK_MILLIS = 2;
+    /** app.outbound.integrations.paytm: max-concurrent-calls and queue-capacity */
+    private static final int GATEWAY_CALLS = 10;
+    private static final int GATEWAY_QUEUE = 20;
+    
+    @Param({"PLATFORM", "VIRTUAL"})
+    public ExecutionMode mode;
+    
+    @Param({"250"})
+    public long gatewayLatencyMillis;
+    
+    @Param({"40", "200"})
+    public int maxConcurrentRequests;
+    
+    private ExecutorService platformPool;
+    private Executor server;
+    private Semaphore admission;
+    private Semaphore dbPool;
+    private Semaphore gatewayBulkhead;
+    private Semaphore gatewayCalls;
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong gatewayRejected = new AtomicLong();
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        dbPool = new Semaphore(DB_POOL_SIZE, true);
+        gatewayBulkhead = new Semaphore(GATEWAY_CALLS + GATEWAY_QUEUE);
+        gatewayCalls = new Semaphore(GATEWAY_CALLS, true);
+        if (mode == ExecutionMode.VIRTUAL) {
+            if (!ExecutionMode.virtualThreadsSupported()) {
+                throw new IllegalStateException("VIRTUAL mode needs a Java 21+ JVM");
+            }
+            ThreadFactory factory = mode.threadFactory("request");
+            server = runnable -> factory.newThread(runnable).start();
+        } else {
+            platformPool = new ThreadPoolExecutor(TOMCAT_THREADS, TOMCAT_THREADS, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), ExecutionMode.PLATFORM.threadFactory("request"));
+            server = platformPool;
+        }
+        admission = new Semaphore(maxConcurrentRequests);
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.out.println("Rejected by admission: " + rejected.get() + ", by the gateway bulkhead: " + gatewayRejected.get());
+        if (platformPool != null) {
+            platformPool.shutdownNow();
+        }
+    }
+    
+    @Benchmark
+    @Group("slowGateway")
+    @GroupThreads(240)
+    public boolean payment() {
+        return handle(() -> callGateway() && queryDatabase());
+    }
+    
+    @Benchmark
+    @Group("slowGateway")
+    @GroupThreads(16)
+    public boolean bookingList() {
+        return handle(this::queryDatabase);
+    }
+    
+    private boolean handle(Supplier<Boolean> request) {
+        return CompletableFuture.supplyAsync(() -> {
+            // Same policy as AdmissionControlFilter
+            try {
+                if (!admission.tryAcquire(2, TimeUnit.SECONDS)) {
+                    rejected.incrementAndGet();
+                    return false;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+            try {
+                return request.get();
+            } finally {
+                admission.release();
+            }
+        }, server).join();
+    }
+    
+    /**
+     * Same shape as OutboundCallGuard: calls past the running and queued
+     * limit are refused at once
+     */
+    private boolean callGateway() {
+        if (!gatewayBulkhead.tryAcquire()) {
+            gatewayRejected.incrementAndGet();
+            return false;
+        }
+        try {
+            gatewayCalls.acquire();
+            try {
+                sleep(gatewayLatencyMillis);
+                return true;
+            } finally {
+                gatewayCalls.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            gatewayBulkhead.release();
+        }
+    }
+    
+    private boolean queryDatabase() {
+        try {
+            dbPool.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        try {
+            sleep(DB_WORK_MILLIS);
+            return true;
+        } finally {
+            dbPool.release();
+        }
+    }
+    
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
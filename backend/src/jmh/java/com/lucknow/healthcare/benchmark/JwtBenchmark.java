@@ -0,0 +1,73 @@
+package com.lucknow.healthcare.benchmark;
+
+import com.lucknow.healthcare.security.JwtUtil;
+import com.lucknow.healthcare.security.UserPrincipal;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT issue, parse and validate costs on the request path
+ * 
+ * {@code validateLegacy} is the old filter path (three signature checks per
+ * request); {@code parseAndValidateClaims} is the single-parse path the
+ * filter uses now.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+    
+    private JwtUtil jwtUtil;
+    private UserPrincipal principal;
+    private String token;
+    
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret",
+            "benchmark-secret-key-that-is-long-enough-for-hs512-signing-benchmark-secret-key-0123456789");
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 900_000L);
+        principal = UserPrincipal.from(BenchmarkFixtures.user(1));
+        token = jwtUtil.generateToken(principal);
+    }
+    
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(principal);
+    }
+    
+    @Benchmark
+    public Claims parseClaims() {
+        return jwtUtil.parseClaims(token);
+    }
+    
+    @Benchmark
+    public boolean validateLegacy() {
+        String username = jwtUtil.getUsernameFromToken(token);
+        return username != null && jwtUtil.validateToken(token, principal);
+    }
+    
+    @Benchmark
+    public boolean parseAndValidateClaims() {
+        Claims claims = jwtUtil.parseClaims(token);
+        return jwtUtil.getUserId(claims) != null && jwtUtil.validateClaims(claims, principal);
+    }
+}
@@ -0,0 +1,86 @@
+package com.lucknow.healthcare.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.lucknow.healthcare.dto.BookingDTO;
+import com.lucknow.healthcare.dto.PrivacyAwareBookingDTO;
+import com.lucknow.healthcare.mapper.BookingMapper;
+import com.lucknow.healthcare.privacy.PrivacyMaskingModule;
+import com.lucknow.healthcare.privacy.PrivacyPolicy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Provider booking list serialization with privacy masking: the deprecated
+ * copy-per-row PrivacyAware DTOs against masking during serialization
+ * 
+ * Scores are lists per second; multiply by bookingCount for bookings per
+ * second on one core.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+@SuppressWarnings("deprecation")
+public class PrivacyMaskingBenchmark {
+    
+    @Param({"1000"})
+    public int bookingCount;
+    
+    private ObjectMapper plainMapper;
+    private ObjectWriter providerWriter;
+    private List<BookingDTO> dtos;
+    
+    @Setup
+    public void setUp() {
+        plainMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+        ObjectMapper maskingMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .addModule(new PrivacyMaskingModule(PrivacyPolicy.defaultPolicy(), Clock.systemDefaultZone()))
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+        providerWriter = maskingMapper.writer().withAttribute(PrivacyMaskingModule.ROLE_ATTRIBUTE, "PROVIDER");
+        dtos = new BookingMapper().toDTOList(BenchmarkFixtures.bookings(bookingCount));
+    }
+    
+    @Benchmark
+    public byte[] unmasked() throws Exception {
+        return plainMapper.writeValueAsBytes(dtos);
+    }
+    
+    @Benchmark
+    public byte[] legacyCopyThenSerialize() throws Exception {
+        List<PrivacyAwareBookingDTO> copies = dtos.stream()
+            .map(dto -> new PrivacyAwareBookingDTO(dto, "PROVIDER"))
+            .toList();
+        return plainMapper.writeValueAsBytes(copies);
+    }
+    
+    @Benchmark
+    public byte[] maskedDuringSerialization() throws Exception {
+        return providerWriter.writeValueAsBytes(dtos);
+    }
+}
@@ -0,0 +1,215 @@
+package com.lucknow.healthcare.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Provider assignment throughput under contention: exclusion constraint
+ * insert versus a provider row lock around a read-then-insert check
+ * 
+ * Needs a PostgreSQL database; pass it with -Dbench.jdbc.url (plus
+ * -Dbench.jdbc.user / -Dbench.jdbc.password). The benchmark creates its own
+ * bench_* tables with the same constraint as provider_reservations and
+ * truncates them every iteration. Each operation reserves a random 2-hour
+ * slot in a 30-day window for one of {@code providers} providers, so fewer
+ * providers means more threads competing for the same rows and a higher
+ * conflict rate. Conflicts are counted as completed operations in both
+ * variants.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class ProviderReservationBenchmark {
+    
+    private static final int WINDOW_HOURS = 30 * 24;
+    private static final String EXCLUSION_VIOLATION = "23P01";
+    
+    @Param({"1", "16"})
+    public int providers;
+    
+    private UUID[] providerIds;
+    private OffsetDateTime windowStart;
+    
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute("CREATE EXTENSION IF NOT EXISTS btree_gist");
+            statement.execute("DROP TABLE IF EXISTS bench_reservations, bench_providers");
+            statement.execute("CREATE TABLE bench_providers (id UUID PRIMARY KEY)");
+            statement.execute("CREATE TABLE bench_reservations (" +
+                "booking_id UUID PRIMARY KEY, " +
+                "provider_id UUID NOT NULL REFERENCES bench_providers(id), " +
+                "starts_at TIMESTAMPTZ NOT NULL, " +
+                "ends_at TIMESTAMPTZ NOT NULL, " +
+                "slot TSTZRANGE GENERATED ALWAYS AS (tstzrange(starts_at, ends_at, '[]')) STORED, " +
+                "EXCLUDE USING gist (provider_id WITH =, slot WITH &&))");
+            // Lookup index for the locked variant's overlap query
+            statement.execute("CREATE INDEX ON bench_reservations (provider_id, starts_at)");
+            
+            providerIds = new UUID[providers];
+            try (PreparedStatement insert = connection.prepareStatement("INSERT INTO bench_providers (id) VALUES (?)")) {
+                for (int i = 0; i < providers; i++) {
+                    providerIds[i] = UUID.randomUUID();
+                    insert.setObject(1, providerIds[i]);
+                    insert.executeUpdate();
+                }
+            }
+        }
+        windowStart = OffsetDateTime.now(ZoneOffset.UTC).plusDays(1).withMinute(0).withSecond(0).withNano(0);
+    }
+    
+    @Setup(Level.Iteration)
+    public void clearReservations() throws SQLException {
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute("TRUNCATE bench_reservations");
+        }
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS bench_reservations, bench_providers");
+        }
+    }
+    
+    @State(Scope.Thread)
+    public static class Session {
+        
+        Connection connection;
+        PreparedStatement insert;
+        PreparedStatement lockProvider;
+        PreparedStatement findOverlap;
+        
+        @Setup(Level.Trial)
+        public void open() throws SQLException {
+            connection = connect();
+            insert = connection.prepareStatement(
+                "INSERT INTO bench_reservations (booking_id, provider_id, starts_at, ends_at) VALUES (?, ?, ?, ?)");
+            lockProvider = connection.prepareStatement("SELECT id FROM bench_providers WHERE id = ? FOR UPDATE");
+            findOverlap = connection.prepareStatement(
+                "SELECT 1 FROM bench_reservations WHERE provider_id = ? AND starts_at <= ? AND ends_at >= ? LIMIT 1");
+        }
+        
+        @TearDown(Level.Trial)
+        public void close() throws SQLException {
+            connection.close();
+        }
+    }
+    
+    /**
+     * One autocommit insert; the exclusion constraint decides conflicts
+     */
+    @Benchmark
+    public boolean exclusionConstraint(Session session) throws SQLException {
+        Slot slot = nextSlot();
+        session.connection.setAutoCommit(true);
+        bind(session.insert, slot);
+        try {
+            return session.insert.executeUpdate() == 1;
+        } catch (SQLException e) {
+            if (EXCLUSION_VIOLATION.equals(e.getSQLState())) {
+                return false;
+            }
+            throw e;
+        }
+    }
+    
+    /**
+     * Serialize on the provider row, check for overlap, then insert
+     */
+    @Benchmark
+    public boolean providerRowLock(Session session, Blackhole blackhole) throws SQLException {
+        Slot slot = nextSlot();
+        session.connection.setAutoCommit(false);
+        try {
+            session.lockProvider.setObject(1, slot.providerId);
+            try (ResultSet locked = session.lockProvider.executeQuery()) {
+                blackhole.consume(locked.next());
+            }
+            session.findOverlap.setObject(1, slot.providerId);
+            session.findOverlap.setObject(2, slot.endsAt);
+            session.findOverlap.setObject(3, slot.startsAt);
+            boolean conflict;
+            try (ResultSet overlap = session.findOverlap.executeQuery()) {
+                conflict = overlap.next();
+            }
+            if (!conflict) {
+                bind(session.insert, slot);
+                session.insert.executeUpdate();
+            }
+            session.connection.commit();
+            return !conflict;
+        } catch (SQLException e) {
+            session.connection.rollback();
+            throw e;
+        }
+    }
+    
+    private Slot nextSlot() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        OffsetDateTime startsAt = windowStart.plusHours(random.nextInt(WINDOW_HOURS));
+        return new Slot(providerIds[random.nextInt(providers)], startsAt, startsAt.plusHours(2));
+    }
+    
+    private static void bind(PreparedStatement insert, Slot slot) throws SQLException {
+        insert.setObject(1, UUID.randomUUID());
+        insert.setObject(2, slot.providerId);
+        insert.setObject(3, slot.startsAt);
+        insert.setObject(4, slot.endsAt);
+    }
+    
+    private static Connection connect() throws SQLException {
+        String url = System.getProperty("bench.jdbc.url");
+        if (url == null) {
+            throw new IllegalStateException("Set -Dbench.jdbc.url to a PostgreSQL database to run this benchmark");
+        }
+        return DriverManager.getConnection(url,
+            System.getProperty("bench.jdbc.user", "postgres"),
+            System.getProperty("bench.jdbc.password", ""));
+    }
+    
+    private static final class Slot {
+        
+        private final UUID providerId;
+        private final OffsetDateTime startsAt;
+        private final OffsetDateTime endsAt;
+        
+        private Slot(UUID providerId, OffsetDateTime startsAt, OffsetDateTime endsAt) {
+            this.providerId = providerId;
+            this.startsAt = startsAt;
+            this.endsAt = endsAt;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.lucknow.healthcare.bulk;
+
+/**
+ * Outcome of one bulk write
+ * 
+ * Rows are committed chunk by chunk, so after a failure {@code written}
+ * rows from the start of the input are in the database and the rest are
+ * not; resubmitting from that offset continues the import.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+public class BulkWriteResult {
+    
+    private final String kind;
+    private final int submitted;
+    private final int written;
+    private final int chunks;
+    private final long millis;
+    private final String error;
+    
+    public BulkWriteResult(String kind, int submitted, int written, int chunks, long millis, String error) {
+        this.kind = kind;
+        this.submitted = submitted;
+        this.written = written;
+        this.chunks = chunks;
+        this.millis = millis;
+        this.error = error;
+    }
+    
+    public String getKind() {
+        return kind;
+    }
+    
+    public int getSubmitted() {
+        return submitted;
+    }
+    
+    public int getWritten() {
+        return written;
+    }
+    
+    public int getChunks() {
+        return chunks;
+    }
+    
+    public long getMillis() {
+        return millis;
+    }
+    
+    /**
+     * @return the failure that stopped the write, or null if every row was written
+     */
+    public String getError() {
+        return error;
+    }
+    
+    public boolean isComplete() {
+        return error == null;
+    }
+    
+    public long getRowsPerSecond() {
+        return millis == 0 ? written : written * 1000L / millis;
+    }
+}
@@ -0,0 +1,22 @@
+package com.lucknow.healthcare.cache;
+
+/**
+ * Hibernate second-level cache region names
+ * 
+ * The reference data every booking load joins in: services, their
+ * categories and providers. Regions are created, sized and given a TTL by
+ * SecondLevelCacheConfig; entities name theirs in their @Cache annotation.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+public final class CacheRegions {
+    
+    public static final String SERVICE_CATEGORY = "reference.service-category";
+    public static final String SERVICE = "reference.service";
+    public static final String PROVIDER = "reference.provider";
+    public static final String PROVIDER_SERVICES = "reference.provider.services";
+    
+    private CacheRegions() {
+    }
+}
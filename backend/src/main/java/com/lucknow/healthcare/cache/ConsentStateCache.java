@@ -0,0 +1,130 @@
+package com.lucknow.healthcare.cache;
+
+import com.lucknow.healthcare.entity.ConsentRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToLongFunction;
+
+/**
+ * Per-user consent state held as a bitset
+ * 
+ * For every consent type two bits are kept: "has a valid acceptance of the
+ * current version" (low 32 bits, by ordinal) and "has a valid acceptance of
+ * any version" (high 32 bits). A user's whole consent state is one long,
+ * loaded with a single grouped query and checked with a mask.
+ * 
+ * Entries are stamped with the consent-version epoch; bumping the epoch when
+ * a version changes makes every entry stale at once without walking the map.
+ * Accept/revoke invalidate the affected user. A load that overlaps any
+ * invalidation is returned but not cached, so a stale read can never
+ * outlive the write that replaced it. Entries also expire after a TTL,
+ * which bounds staleness for changes made on other nodes.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@Component
+public class ConsentStateCache {
+    
+    private static final int ANY_VERSION_SHIFT = 32;
+    
+    private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong epoch = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+    
+    private final long ttlNanos;
+    private final int maxSize;
+    
+    public ConsentStateCache(@Value("${consent.cache.ttl-seconds:300}") long ttlSeconds,
+                             @Value("${consent.cache.max-size:50000}") int maxSize) {
+        this.ttlNanos = ttlSeconds * 1_000_000_000L;
+        this.maxSize = maxSize;
+    }
+    
+    public static long currentVersionBit(ConsentRecord.ConsentType type) {
+        return 1L << type.ordinal();
+    }
+    
+    public static long anyVersionBit(ConsentRecord.ConsentType type) {
+        return 1L << (ANY_VERSION_SHIFT + type.ordinal());
+    }
+    
+    /**
+     * Get a user's consent bits, loading them on a miss
+     * 
+     * @param userId the user
+     * @param loader builds the bitset from the database
+     * @return the bitset
+     */
+    public long get(UUID userId, ToLongFunction<UUID> loader) {
+        long now = System.nanoTime();
+        long currentEpoch = epoch.get();
+        Entry entry = entries.get(userId);
+        if (entry != null && entry.epoch == currentEpoch && now - entry.loadedAt < ttlNanos) {
+            return entry.bits;
+        }
+        
+        long invalidationsBefore = invalidations.get();
+        long bits = loader.applyAsLong(userId);
+        if (invalidations.get() == invalidationsBefore && epoch.get() == currentEpoch) {
+            if (entries.size() >= maxSize) {
+                evict(now, currentEpoch);
+            }
+            entries.put(userId, new Entry(bits, currentEpoch, now));
+        }
+        return bits;
+    }
+    
+    public boolean hasCurrentVersion(UUID userId, ConsentRecord.ConsentType type, ToLongFunction<UUID> loader) {
+        return (get(userId, loader) & currentVersionBit(type)) != 0;
+    }
+    
+    public boolean hasAnyVersion(UUID userId, ConsentRecord.ConsentType type, ToLongFunction<UUID> loader) {
+        return (get(userId, loader) & anyVersionBit(type)) != 0;
+    }
+    
+    /**
+     * Drop one user's state after an accept or revoke
+     */
+    public void invalidate(UUID userId) {
+        invalidations.incrementAndGet();
+        entries.remove(userId);
+    }
+    
+    /**
+     * Make every cached state stale after a consent version change
+     */
+    public void bumpEpoch() {
+        invalidations.incrementAndGet();
+        epoch.incrementAndGet();
+    }
+    
+    int size() {
+        return entries.size();
+    }
+    
+    private void evict(long now, long currentEpoch) {
+        entries.values().removeIf(e -> e.epoch != currentEpoch || now - e.loadedAt >= ttlNanos);
+        if (entries.size() >= maxSize) {
+            entries.clear();
+        }
+    }
+    
+    private static final class Entry {
+        
+        private final long bits;
+        private final long epoch;
+        private final long loadedAt;
+        
+        private Entry(long bits, long epoch, long loadedAt) {
+            this.bits = bits;
+            this.epoch = epoch;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
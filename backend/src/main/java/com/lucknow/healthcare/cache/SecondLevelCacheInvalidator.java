@@ -0,0 +1,188 @@
+package com.lucknow.healthcare.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.descriptor.java.JavaType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Cross-node invalidation for the Hibernate second-level cache
+ * 
+ * Every node caches entities locally (see SecondLevelCacheConfig), so a
+ * write on one node leaves the others holding the old state. After a
+ * transaction that updated or deleted a cached entity commits, this
+ * publishes "node entity id" on a Redis channel; every other node evicts
+ * that entity and the cached collections it owns (Provider.services
+ * changes bump the provider's version, so they arrive as provider
+ * updates). The writing node skips its own messages, since Hibernate has
+ * already put the new state in its cache.
+ * 
+ * Inserts need no message: no node can hold a cached copy of a new row.
+ * A node that reloads an entity from the database between the commit and
+ * the message's arrival can cache the old state again; that, and missed
+ * messages while Redis is down, last at most the region's TTL.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@Component
+public class SecondLevelCacheInvalidator implements PostCommitUpdateEventListener, PostCommitDeleteEventListener,
+                                                    MessageListener {
+    
+    private static final Logger logger = LoggerFactory.getLogger(SecondLevelCacheInvalidator.class);
+    
+    private static final String METRIC = "hibernate.cache.remote.invalidations";
+    
+    private final String nodeId = UUID.randomUUID().toString();
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @Value("${app.cache.second-level.invalidation-channel:hibernate-l2-invalidation}")
+    private String channel;
+    
+    private SessionFactoryImplementor sessionFactory;
+    private boolean enabled;
+    
+    @PostConstruct
+    void register() {
+        sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        enabled = sessionFactory.getSessionFactoryOptions().isSecondLevelCacheEnabled();
+        if (!enabled) {
+            logger.info("Second-level cache disabled; cross-node invalidation is off");
+            return;
+        }
+        EventListenerRegistry registry = sessionFactory.getServiceRegistry().requireService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+        logger.info("Second-level cache invalidations published on Redis channel {} as node {}", channel, nodeId);
+    }
+    
+    public String getChannel() {
+        return channel;
+    }
+    
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        publish(event.getPersister(), event.getId());
+    }
+    
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        // Rolled back: the cached state is still the committed one
+    }
+    
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        publish(event.getPersister(), event.getId());
+    }
+    
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+        // Rolled back: the cached state is still the committed one
+    }
+    
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return persister.canWriteToCache();
+    }
+    
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        handle(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+    
+    /**
+     * Applies one invalidation message; messages from this node are ignored
+     */
+    void handle(String message) {
+        String[] parts = message.split(" ", 3);
+        if (!enabled || parts.length != 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+        String entityName = parts[1];
+        EntityPersister persister = sessionFactory.getMappingMetamodel().findEntityDescriptor(entityName);
+        if (persister == null || !persister.canWriteToCache()) {
+            logger.warn("Ignoring cache invalidation for unknown or uncached entity {}", entityName);
+            return;
+        }
+        
+        Object id;
+        try {
+            id = persister.getIdentifierMapping().getJavaType().fromString(parts[2]);
+        } catch (RuntimeException e) {
+            // Cannot tell which entry is stale, so drop them all
+            logger.warn("Unreadable id in cache invalidation for {}; evicting the whole region", entityName, e);
+            sessionFactory.getCache().evictEntityData(entityName);
+            count(entityName, "region-evicted");
+            return;
+        }
+        sessionFactory.getCache().evictEntityData(entityName, id);
+        for (String role : cachedCollectionRoles(entityName)) {
+            sessionFactory.getCache().evictCollectionData(role, id);
+        }
+        count(entityName, "applied");
+    }
+    
+    private void publish(EntityPersister persister, Object id) {
+        @SuppressWarnings("unchecked")
+        JavaType<Object> idType = (JavaType<Object>) persister.getIdentifierMapping().getJavaType();
+        String message = nodeId + " " + persister.getEntityName() + " " + idType.toString(id);
+        try {
+            redisTemplate.convertAndSend(channel, message);
+            count(persister.getEntityName(), "published");
+        } catch (RuntimeException e) {
+            // The commit already happened; other nodes catch up when their entries expire
+            logger.warn("Could not publish cache invalidation for {} {}: {}",
+                        persister.getEntityName(), id, e.getMessage());
+            count(persister.getEntityName(), "publish-failed");
+        }
+    }
+    
+    private List<String> cachedCollectionRoles(String entityName) {
+        List<String> roles = new ArrayList<>();
+        sessionFactory.getMappingMetamodel().forEachCollectionDescriptor(collection -> {
+            if (collection.hasCache() && ownedBy(collection, entityName)) {
+                roles.add(collection.getRole());
+            }
+        });
+        return roles;
+    }
+    
+    private static boolean ownedBy(CollectionPersister collection, String entityName) {
+        return collection.getOwnerEntityPersister().getEntityName().equals(entityName);
+    }
+    
+    private void count(String entityName, String outcome) {
+        meterRegistry.counter(METRIC, "entity", entityName.substring(entityName.lastIndexOf('.') + 1),
+                              "outcome", outcome).increment();
+    }
+}
@@ -1,19 +1,31 @@
 package com.lucknow.healthcare.config;
 
+import com.lucknow.healthcare.datasource.ReadWriteRoutingDataSource;
+import com.lucknow.healthcare.datasource.ReplicaPool;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
 import javax.sql.DataSource;
 import org.springframework.boot.jdbc.DataSourceBuilder;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Database Configuration
  * 
  * Configures database connection, JPA settings, and transaction management.
+ * Read-only transactions are routed to the read replicas listed in
+ * app.datasource.replicas.urls, when there are any; see
+ * {@link ReadWriteRoutingDataSource}.
  * 
  * @author Lucknow Healthcare Team
  * @version 1.0.0
@@ -26,7 +38,44 @@ public class DatabaseConfig {
     
     @Bean
     @ConfigurationProperties(prefix = "spring.datasource")
-    public DataSource dataSource() {
-        return DataSourceBuilder.create().build();
+    public HikariDataSource primaryDataSource() {
+        return DataSourceBuilder.create().type(HikariDataSource.class).build();
+    }
+    
+    @Bean
+    public ReadWriteRoutingDataSource routingDataSource(HikariDataSource primaryDataSource,
+                                                        @Value("${app.datasource.replicas.urls:}") List<String> urls,
+                                                        @Value("${app.datasource.replicas.username:}") String username,
+                                                        @Value("${app.datasource.replicas.password:}") String password,
+                                                        @Value("${app.datasource.replicas.maximum-pool-size:20}") int maximumPoolSize) {
+        List<ReplicaPool> replicas = new ArrayList<>();
+        for (String url : urls) {
+            if (url.isBlank()) {
+                continue;
+            }
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + (replicas.size() + 1));
+            replica.setJdbcUrl(url.trim());
+            replica.setDriverClassName(primaryDataSource.getDriverClassName());
+            replica.setUsername(username.isBlank() ? primaryDataSource.getUsername() : username);
+            replica.setPassword(username.isBlank() ? primaryDataSource.getPassword() : password);
+            replica.setMaximumPoolSize(maximumPoolSize);
+            replica.setConnectionTimeout(primaryDataSource.getConnectionTimeout());
+            replica.setReadOnly(true);
+            // Do not fail startup when a replica is down; the lag monitor keeps it out of rotation
+            replica.setInitializationFailTimeout(-1);
+            replicas.add(new ReplicaPool(replica.getPoolName(), replica));
+        }
+        return new ReadWriteRoutingDataSource(primaryDataSource, replicas);
+    }
+    
+    /**
+     * Application DataSource; defers fetching the physical connection to the
+     * first statement so routing sees the transaction's read-only flag
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
     }
 }
@@ -0,0 +1,30 @@
+package com.lucknow.healthcare.config;
+
+import com.lucknow.healthcare.dispatch.DispatchPlanner;
+import com.lucknow.healthcare.dispatch.DispatchProperties;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.ZoneId;
+
+/**
+ * Dispatch Configuration
+ * 
+ * Wires the batch provider dispatch planner with the configured score
+ * weights and the booking time zone.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@Configuration
+@EnableConfigurationProperties(DispatchProperties.class)
+public class DispatchConfig {
+    
+    @Bean
+    public DispatchPlanner dispatchPlanner(DispatchProperties properties,
+                                           @Value("${app.booking.time-zone:Asia/Kolkata}") ZoneId zone) {
+        return new DispatchPlanner(properties.getWeights(), zone);
+    }
+}
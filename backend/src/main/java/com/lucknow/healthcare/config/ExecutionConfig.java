@@ -0,0 +1,49 @@
+package com.lucknow.healthcare.config;
+
+import com.lucknow.healthcare.execution.AdmissionControlFilter;
+import com.lucknow.healthcare.execution.ExecutionMode;
+import com.lucknow.healthcare.execution.ExecutionProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Execution Configuration
+ * 
+ * One switch, spring.threads.virtual.enabled, selects the thread model.
+ * Spring Boot applies it to Tomcat request handling, the @Async executor and
+ * the scheduler (on Java 21+); the ExecutionMode bean applies it to outbound
+ * integration calls. In either mode request concurrency is bounded by the
+ * admission filter, sized from the primary connection pool, so that the
+ * database pool is not swamped.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@Configuration
+@EnableConfigurationProperties(ExecutionProperties.class)
+public class ExecutionConfig {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ExecutionConfig.class);
+    
+    @Bean
+    public ExecutionMode executionMode(@Value("${spring.threads.virtual.enabled:false}") boolean virtualRequested) {
+        ExecutionMode mode = ExecutionMode.resolve(virtualRequested);
+        logger.info("Execution mode {} (Java {})", mode, Runtime.version().feature());
+        return mode;
+    }
+    
+    @Bean
+    public AdmissionControlFilter admissionControlFilter(ExecutionProperties properties, HikariDataSource primaryDataSource,
+                                                         MeterRegistry meterRegistry) {
+        int poolSize = primaryDataSource.getMaximumPoolSize();
+        AdmissionControlFilter filter = new AdmissionControlFilter(properties, poolSize, meterRegistry);
+        logger.info("At most {} concurrent requests ({} database connections)", filter.getLimit(), poolSize);
+        return filter;
+    }
+}
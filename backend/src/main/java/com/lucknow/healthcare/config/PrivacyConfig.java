@@ -0,0 +1,28 @@
+package com.lucknow.healthcare.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.lucknow.healthcare.privacy.PrivacyMaskingModule;
+import com.lucknow.healthcare.privacy.PrivacyPolicy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+/**
+ * Privacy Configuration
+ * 
+ * Registers the field-masking module with the application ObjectMapper, so
+ * customer contact details in booking responses are masked for providers
+ * outside the service window.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@Configuration
+public class PrivacyConfig {
+    
+    @Bean
+    public Module privacyMaskingModule() {
+        return new PrivacyMaskingModule(PrivacyPolicy.defaultPolicy(), Clock.systemDefaultZone());
+    }
+}
@@ -1,5 +1,6 @@
 package com.lucknow.healthcare.config;
 
+import com.lucknow.healthcare.realtime.DashboardEventRelay;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -7,13 +8,16 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 /**
  * Redis Configuration
  * 
- * Configures Redis connection and RedisTemplate for OTP storage and caching.
+ * Configures Redis connection and RedisTemplate for OTP storage and caching,
+ * and the pub/sub subscription that relays dashboard events between nodes.
  * 
  * @author Lucknow Healthcare Team
  * @version 1.0.0
@@ -57,4 +61,14 @@ public class RedisConfig {
         template.afterPropertiesSet();
         return template;
     }
+    
+    @Bean
+    public RedisMessageListenerContainer dashboardEventListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                         DashboardEventRelay relay) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        // A missing Redis does not fail startup; the container keeps retrying the subscription
+        container.addMessageListener(relay, new ChannelTopic(relay.getChannel()));
+        return container;
+    }
 }
@@ -0,0 +1,30 @@
+package com.lucknow.healthcare.config;
+
+import com.lucknow.healthcare.resilience.OutboundCallProperties;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Resilience Configuration
+ * 
+ * Provides the circuit breaker registry used by outbound integration guards
+ * and exports breaker state and call counts through Micrometer.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@Configuration
+@EnableConfigurationProperties(OutboundCallProperties.class)
+public class ResilienceConfig {
+    
+    @Bean
+    public CircuitBreakerRegistry circuitBreakerRegistry(MeterRegistry meterRegistry) {
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.ofDefaults();
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+        return registry;
+    }
+}
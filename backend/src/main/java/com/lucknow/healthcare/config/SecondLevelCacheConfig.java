@@ -0,0 +1,87 @@
+package com.lucknow.healthcare.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.lucknow.healthcare.cache.CacheRegions;
+import com.lucknow.healthcare.cache.SecondLevelCacheInvalidator;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hibernate Second-Level Cache Configuration
+ * 
+ * Gives Hibernate's JCache region factory a Caffeine cache manager with one
+ * bounded, expiring cache per region in {@link CacheRegions}. Caches are
+ * local to each node; {@link SecondLevelCacheInvalidator} keeps the nodes
+ * coherent over the Redis channel subscribed here. The TTLs bound how long
+ * a node can serve an entry whose invalidation it missed (Redis down,
+ * rows changed outside the application).
+ * 
+ * Caching itself is switched by hibernate.cache.use_second_level_cache
+ * (L2_CACHE_ENABLED).
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+    
+    /**
+     * One cache manager per application context, so test contexts sharing a
+     * JVM do not share (or close) each other's caches
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${app.cache.second-level.reference-ttl-seconds:3600}") long referenceTtlSeconds,
+            @Value("${app.cache.second-level.provider-ttl-seconds:600}") long providerTtlSeconds,
+            @Value("${app.cache.second-level.provider-max-size:100000}") long providerMaxSize) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(
+            URI.create("urn:lucknow-healthcare:hibernate-l2:" + UUID.randomUUID()), getClass().getClassLoader());
+        
+        createRegion(cacheManager, CacheRegions.SERVICE_CATEGORY, 1_000, referenceTtlSeconds);
+        createRegion(cacheManager, CacheRegions.SERVICE, 10_000, referenceTtlSeconds);
+        createRegion(cacheManager, CacheRegions.PROVIDER, providerMaxSize, providerTtlSeconds);
+        createRegion(cacheManager, CacheRegions.PROVIDER_SERVICES, providerMaxSize, providerTtlSeconds);
+        return cacheManager;
+    }
+    
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+    
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            SecondLevelCacheInvalidator invalidator) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        // A missing Redis does not fail startup; the container keeps retrying the subscription
+        container.addMessageListener(invalidator, new ChannelTopic(invalidator.getChannel()));
+        return container;
+    }
+    
+    private static void createRegion(CacheManager cacheManager, String region, long maximumSize, long ttlSeconds) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.SECONDS.toNanos(ttlSeconds)));
+        // Hibernate stores immutable disassembled state; copying it on every get and put buys nothing
+        configuration.setStoreByValue(false);
+        cacheManager.createCache(region, configuration);
+    }
+}
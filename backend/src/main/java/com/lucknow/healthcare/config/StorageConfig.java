@@ -0,0 +1,38 @@
+package com.lucknow.healthcare.config;
+
+import com.lucknow.healthcare.storage.DocumentStorage;
+import com.lucknow.healthcare.storage.LocalFileSystemDocumentStorage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Document Storage Configuration
+ * 
+ * Selects the patient document storage backend from app.storage.backend.
+ * Only "local" is available; an S3-compatible backend plugs in here behind
+ * the same DocumentStorage interface.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@Configuration
+public class StorageConfig {
+    
+    @Bean
+    public DocumentStorage documentStorage(@Value("${app.storage.backend:local}") String backend,
+                                           @Value("${app.upload.dir:./uploads}") String uploadDir,
+                                           @Value("${app.storage.buffer-size:65536}") int bufferSize,
+                                           @Value("${app.storage.delete-grace-seconds:600}") long deleteGraceSeconds)
+            throws IOException {
+        if ("local".equalsIgnoreCase(backend)) {
+            return new LocalFileSystemDocumentStorage(Path.of(uploadDir, "documents"), bufferSize,
+                Duration.ofSeconds(deleteGraceSeconds));
+        }
+        throw new IllegalStateException("Unsupported document storage backend: " + backend);
+    }
+}
@@ -1,16 +1,34 @@
 package com.lucknow.healthcare.controller;
 
+import com.lucknow.healthcare.bulk.BulkWriteResult;
+import com.lucknow.healthcare.dispatch.DispatchPlan;
+import com.lucknow.healthcare.entity.Booking;
+import com.lucknow.healthcare.entity.ConsentCampaign;
+import com.lucknow.healthcare.entity.ConsentRecord;
+import com.lucknow.healthcare.entity.PatientMedication;
+import com.lucknow.healthcare.entity.Payment;
+import com.lucknow.healthcare.entity.Provider;
+import com.lucknow.healthcare.entity.Review;
+import com.lucknow.healthcare.entity.User;
+import com.lucknow.healthcare.service.interfaces.BulkImportService;
+import com.lucknow.healthcare.service.interfaces.ConsentCampaignService;
+import com.lucknow.healthcare.service.interfaces.ConsentService;
 import com.lucknow.healthcare.service.interfaces.UserService;
 import com.lucknow.healthcare.service.interfaces.ServiceService;
 import com.lucknow.healthcare.service.interfaces.ProviderService;
 import com.lucknow.healthcare.service.interfaces.BookingService;
+import com.lucknow.healthcare.service.interfaces.ProviderDispatchService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 /**
  * Admin Controller
@@ -38,6 +56,18 @@ public class AdminController {
     @Autowired
     private BookingService bookingService;
     
+    @Autowired
+    private ConsentService consentService;
+    
+    @Autowired
+    private ConsentCampaignService consentCampaignService;
+    
+    @Autowired
+    private ProviderDispatchService providerDispatchService;
+    
+    @Autowired
+    private BulkImportService bulkImportService;
+    
     /**
      * Get admin statistics
      * 
@@ -205,4 +235,189 @@ public class AdminController {
             return ResponseEntity.internalServerError().body(List.of());
         }
     }
+    
+    /**
+     * Publish a new consent version and start the re-consent campaign
+     * that notifies every user who accepted an older version
+     * 
+     * @param consentType the consent type
+     * @param version the new version
+     * @return ResponseEntity containing the started campaign
+     */
+    @PutMapping("/consents/{consentType}/version")
+    public ResponseEntity<?> updateConsentVersion(@PathVariable ConsentRecord.ConsentType consentType,
+                                                  @RequestParam String version) {
+        if (version.isBlank() || version.length() > 20) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Version must be 1-20 characters"));
+        }
+        if (version.equals(consentService.getLatestConsentVersion(consentType))) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Version " + version + " is already current"));
+        }
+        
+        ConsentCampaign campaign = consentCampaignService.startCampaign(consentType, version);
+        return ResponseEntity.accepted().body(campaign);
+    }
+    
+    /**
+     * Get all re-consent campaigns with their progress
+     * 
+     * @return ResponseEntity containing the campaigns
+     */
+    @GetMapping("/consent-campaigns")
+    public ResponseEntity<List<ConsentCampaign>> getConsentCampaigns() {
+        return ResponseEntity.ok(consentCampaignService.getCampaigns());
+    }
+    
+    /**
+     * Get one re-consent campaign with its progress
+     * 
+     * @param id the campaign ID
+     * @return ResponseEntity containing the campaign
+     */
+    @GetMapping("/consent-campaigns/{id}")
+    public ResponseEntity<ConsentCampaign> getConsentCampaign(@PathVariable UUID id) {
+        return consentCampaignService.getCampaign(id)
+            .map(ResponseEntity::ok)
+            .orElse(ResponseEntity.notFound().build());
+    }
+    
+    /**
+     * Assign providers to all unassigned pending bookings in a date window
+     * 
+     * @param from first scheduled date
+     * @param to last scheduled date
+     * @param dryRun return the plan without saving it
+     * @return ResponseEntity containing the dispatch plan
+     */
+    @PostMapping("/bookings/dispatch")
+    public ResponseEntity<?> dispatchBookings(@RequestParam LocalDate from,
+                                              @RequestParam LocalDate to,
+                                              @RequestParam(defaultValue = "false") boolean dryRun) {
+        try {
+            DispatchPlan plan = providerDispatchService.dispatch(from, to, dryRun);
+            return ResponseEntity.ok(plan);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
+        }
+    }
+    
+    /**
+     * Bulk import bookings
+     * 
+     * Rows bypass the booking API's validation and events; see
+     * {@link BulkImportService#importBookings(List)}.
+     * 
+     * @param bookings bookings referencing existing users, services, providers and patients by id
+     * @return ResponseEntity containing the import result; 422 if the import stopped partway
+     */
+    @PostMapping("/import/bookings")
+    public ResponseEntity<?> importBookings(@RequestBody List<Booking> bookings) {
+        try {
+            return importResponse(bulkImportService.importBookings(bookings));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+    
+    /**
+     * Bulk import payments
+     * 
+     * @param payments payments referencing existing bookings and customers by id
+     * @return ResponseEntity containing the import result; 422 if the import stopped partway
+     */
+    @PostMapping("/import/payments")
+    public ResponseEntity<?> importPayments(@RequestBody List<Payment> payments) {
+        try {
+            return importResponse(bulkImportService.importPayments(payments));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+    
+    /**
+     * Bulk import reviews
+     * 
+     * @param rows reviews by booking, user and provider id
+     * @return ResponseEntity containing the import result; 422 if the import stopped partway
+     */
+    @PostMapping("/import/reviews")
+    public ResponseEntity<?> importReviews(@RequestBody List<ReviewImportRow> rows) {
+        List<Review> reviews = new ArrayList<>(rows.size());
+        for (ReviewImportRow row : rows) {
+            reviews.add(row.toReview());
+        }
+        try {
+            return importResponse(bulkImportService.importReviews(reviews));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+    
+    /**
+     * Bulk import patient medications
+     * 
+     * @param medications medications referencing existing patients by id
+     * @return ResponseEntity containing the import result; 422 if the import stopped partway
+     */
+    @PostMapping("/import/medications")
+    public ResponseEntity<?> importMedications(@RequestBody List<PatientMedication> medications) {
+        try {
+            return importResponse(bulkImportService.importMedications(medications));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+    
+    private ResponseEntity<BulkWriteResult> importResponse(BulkWriteResult result) {
+        return result.isComplete()
+            ? ResponseEntity.ok(result)
+            : ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(result);
+    }
+    
+    /**
+     * Review import row; the review entity does not serialize its associations
+     */
+    public static class ReviewImportRow {
+        private UUID bookingId;
+        private UUID userId;
+        private UUID providerId;
+        private Integer rating;
+        private String comment;
+        
+        public UUID getBookingId() { return bookingId; }
+        public void setBookingId(UUID bookingId) { this.bookingId = bookingId; }
+        
+        public UUID getUserId() { return userId; }
+        public void setUserId(UUID userId) { this.userId = userId; }
+        
+        public UUID getProviderId() { return providerId; }
+        public void setProviderId(UUID providerId) { this.providerId = providerId; }
+        
+        public Integer getRating() { return rating; }
+        public void setRating(Integer rating) { this.rating = rating; }
+        
+        public String getComment() { return comment; }
+        public void setComment(String comment) { this.comment = comment; }
+        
+        Review toReview() {
+            Booking booking = null;
+            if (bookingId != null) {
+                booking = new Booking();
+                booking.setId(bookingId);
+            }
+            User user = null;
+            if (userId != null) {
+                user = new User();
+                user.setId(userId);
+            }
+            Provider provider = null;
+            if (providerId != null) {
+                provider = new Provider();
+                provider.setId(providerId);
+            }
+            return new Review(booking, user, provider, rating, comment);
+        }
+    }
 }
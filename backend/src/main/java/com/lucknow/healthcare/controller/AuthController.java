@@ -4,6 +4,7 @@ import com.lucknow.healthcare.entity.User;
 import com.lucknow.healthcare.entity.Provider;
 import com.lucknow.healthcare.dto.ProviderRegistrationRequest;
 import com.lucknow.healthcare.security.JwtUtil;
+import com.lucknow.healthcare.security.UserPrincipal;
 import com.lucknow.healthcare.service.interfaces.UserService;
 import com.lucknow.healthcare.service.interfaces.ProviderService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -243,11 +244,7 @@ public class AuthController {
             }
             
             User user = userOpt.get();
-            UserDetails userDetails = org.springframework.security.core.userdetails.User
-                .withUsername(user.getEmail())
-                .password(user.getPassword())
-                .authorities("ROLE_" + user.getRole().name())
-                .build();
+            UserDetails userDetails = UserPrincipal.from(user);
             
             String newToken = jwtUtil.generateToken(userDetails);
             
@@ -364,12 +361,7 @@ public class AuthController {
             Provider createdProvider = providerService.createProviderWithUser(registeredUser, provider);
             
             // Generate JWT token
-            org.springframework.security.core.userdetails.UserDetails userDetails = 
-                org.springframework.security.core.userdetails.User
-                    .withUsername(registeredUser.getEmail())
-                    .password(registeredUser.getPassword())
-                    .authorities("ROLE_" + registeredUser.getRole().name())
-                    .build();
+            UserDetails userDetails = UserPrincipal.from(registeredUser);
             
             String token = jwtUtil.generateToken(userDetails);
             
@@ -6,9 +6,12 @@ import com.lucknow.healthcare.enums.BookingStatus;
 import com.lucknow.healthcare.enums.PaymentStatus;
 import com.lucknow.healthcare.service.interfaces.BookingService;
 import com.lucknow.healthcare.service.interfaces.ProviderService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -35,6 +38,8 @@ import java.util.UUID;
 @CrossOrigin(origins = "*")
 public class BookingController {
     
+    private static final Logger logger = LoggerFactory.getLogger(BookingController.class);
+    
     @Autowired
     private BookingService bookingService;
     
@@ -97,6 +102,9 @@ public class BookingController {
             return ResponseEntity.ok(updatedBooking);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.notFound().build();
+        } catch (OptimisticLockingFailureException e) {
+            // The supplied version is stale; the client must reload before saving
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         }
     }
     
@@ -110,19 +118,17 @@ public class BookingController {
     @PutMapping("/{id}/status")
     public ResponseEntity<?> updateBookingStatus(@PathVariable UUID id, @RequestParam BookingStatus status) {
         try {
-            System.out.println("Updating booking " + id + " status to " + status);
             Booking updatedBooking = bookingService.updateBookingStatus(id, status);
-            System.out.println("Booking status updated successfully");
+            logger.debug("Booking {} status updated to {}", id, status);
             return ResponseEntity.ok(updatedBooking);
         } catch (IllegalArgumentException e) {
-            System.err.println("Booking not found: " + e.getMessage());
+            logger.debug("Booking status update rejected: {}", e.getMessage());
             return ResponseEntity.badRequest().body(java.util.Map.of("error", e.getMessage()));
         } catch (IllegalStateException e) {
-            System.err.println("Business rule violation: " + e.getMessage());
+            logger.debug("Booking status update violates business rule: {}", e.getMessage());
             return ResponseEntity.badRequest().body(java.util.Map.of("error", e.getMessage()));
         } catch (Exception e) {
-            System.err.println("Error updating booking status: " + e.getMessage());
-            e.printStackTrace();
+            logger.error("Error updating booking {} status to {}", id, status, e);
             return ResponseEntity.internalServerError().body(java.util.Map.of("error", "Internal server error: " + e.getMessage()));
         }
     }
@@ -154,29 +160,26 @@ public class BookingController {
     @PostMapping("/{id}/assign-provider/{providerId}")
     public ResponseEntity<?> assignProvider(@PathVariable UUID id, @PathVariable UUID providerId) {
         try {
-            System.out.println("Assigning provider " + providerId + " to booking " + id);
-            
             Optional<Provider> providerOpt = providerService.findById(providerId);
             if (providerOpt.isEmpty()) {
-                System.err.println("Provider not found: " + providerId);
+                logger.debug("Provider {} not found for booking {}", providerId, id);
                 return ResponseEntity.status(HttpStatus.NOT_FOUND)
                     .body(java.util.Map.of("error", "Provider not found"));
             }
             
             Booking updatedBooking = bookingService.assignProvider(id, providerOpt.get());
-            System.out.println("Provider assigned successfully");
+            logger.debug("Provider {} assigned to booking {}", providerId, id);
             return ResponseEntity.ok(updatedBooking);
         } catch (IllegalArgumentException e) {
-            System.err.println("Bad request: " + e.getMessage());
+            logger.debug("Provider assignment rejected: {}", e.getMessage());
             return ResponseEntity.badRequest()
                 .body(java.util.Map.of("error", e.getMessage()));
         } catch (IllegalStateException e) {
-            System.err.println("Business rule violation: " + e.getMessage());
+            logger.debug("Provider assignment violates business rule: {}", e.getMessage());
             return ResponseEntity.badRequest()
                 .body(java.util.Map.of("error", e.getMessage()));
         } catch (Exception e) {
-            System.err.println("Error assigning provider: " + e.getMessage());
-            e.printStackTrace();
+            logger.error("Error assigning provider {} to booking {}", providerId, id, e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(java.util.Map.of("error", "Failed to assign provider: " + e.getMessage()));
         }
@@ -602,7 +605,7 @@ public class BookingController {
             List<Booking> unassignedBookings = bookingService.findUnassignedBookings();
             return ResponseEntity.ok(unassignedBookings);
         } catch (Exception e) {
-            e.printStackTrace();
+            logger.error("Unexpected error in getUnassignedBookings", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
@@ -669,7 +672,7 @@ public class BookingController {
             
             return ResponseEntity.ok(availableProviders);
         } catch (Exception e) {
-            e.printStackTrace();
+            logger.error("Unexpected error in getAvailableProvidersForBooking", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
@@ -6,6 +6,8 @@ import com.lucknow.healthcare.service.interfaces.BookingRejectionService;
 import com.lucknow.healthcare.service.interfaces.BookingService;
 import com.lucknow.healthcare.service.interfaces.ProviderService;
 import com.lucknow.healthcare.service.interfaces.UserService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -29,6 +31,8 @@ import java.util.UUID;
 @CrossOrigin(origins = "*")
 public class BookingRejectionController {
     
+    private static final Logger logger = LoggerFactory.getLogger(BookingRejectionController.class);
+    
     @Autowired
     private BookingRejectionService rejectionService;
     
@@ -75,7 +79,7 @@ public class BookingRejectionController {
         } catch (IllegalStateException e) {
             return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
-            e.printStackTrace();
+            logger.error("Unexpected error in requestRejection", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(Map.of("error", "Failed to create rejection request: " + e.getMessage()));
         }
@@ -127,7 +131,7 @@ public class BookingRejectionController {
         } catch (IllegalStateException e) {
             return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
-            e.printStackTrace();
+            logger.error("Unexpected error in approveRejection", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(Map.of("error", "Failed to approve rejection: " + e.getMessage()));
         }
@@ -165,7 +169,7 @@ public class BookingRejectionController {
         } catch (IllegalStateException e) {
             return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
-            e.printStackTrace();
+            logger.error("Unexpected error in denyRejection", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(Map.of("error", "Failed to deny rejection: " + e.getMessage()));
         }
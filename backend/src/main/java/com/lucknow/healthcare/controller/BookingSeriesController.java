@@ -0,0 +1,137 @@
+package com.lucknow.healthcare.controller;
+
+import com.lucknow.healthcare.entity.Booking;
+import com.lucknow.healthcare.entity.BookingSeries;
+import com.lucknow.healthcare.series.SeriesConflictException;
+import com.lucknow.healthcare.service.interfaces.BookingSeriesService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * REST Controller for recurring booking series
+ * 
+ * A series is created, rescheduled and cancelled here as a whole; its
+ * occurrences are ordinary bookings and are managed one at a time through
+ * BookingController.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/bookings/series")
+@CrossOrigin(origins = "*")
+public class BookingSeriesController {
+    
+    @Autowired
+    private BookingSeriesService bookingSeriesService;
+    
+    /**
+     * Create a booking series and all of its occurrences
+     * 
+     * @param series the series to create
+     * @return ResponseEntity containing the created series, or the conflicting dates
+     */
+    @PostMapping
+    public ResponseEntity<?> createSeries(@RequestBody BookingSeries series) {
+        try {
+            BookingSeries created = bookingSeriesService.createSeries(series);
+            return ResponseEntity.status(HttpStatus.CREATED).body(created);
+        } catch (SeriesConflictException e) {
+            return conflict(e);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
+        }
+    }
+    
+    /**
+     * Get booking series by ID
+     * 
+     * @param id the series ID
+     * @return ResponseEntity containing the series if found
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<BookingSeries> getSeriesById(@PathVariable UUID id) {
+        return bookingSeriesService.findById(id)
+            .map(ResponseEntity::ok)
+            .orElse(ResponseEntity.notFound().build());
+    }
+    
+    /**
+     * Get the occurrences of a booking series
+     * 
+     * @param id the series ID
+     * @return ResponseEntity containing the bookings in date order
+     */
+    @GetMapping("/{id}/occurrences")
+    public ResponseEntity<List<Booking>> getOccurrences(@PathVariable UUID id) {
+        return ResponseEntity.ok(bookingSeriesService.getOccurrences(id));
+    }
+    
+    /**
+     * Get booking series by user
+     * 
+     * @param userId the user ID
+     * @return ResponseEntity containing the user's series, newest first
+     */
+    @GetMapping("/user/{userId}")
+    public ResponseEntity<List<BookingSeries>> getSeriesByUser(@PathVariable UUID userId) {
+        return ResponseEntity.ok(bookingSeriesService.getSeriesByUserId(userId));
+    }
+    
+    /**
+     * Move the remaining occurrences of a series to a new time of day
+     * 
+     * @param id the series ID
+     * @param from first date to change (defaults to today)
+     * @param newTime the new scheduled time
+     * @return ResponseEntity containing the updated series, or the conflicting dates
+     */
+    @PutMapping("/{id}/reschedule")
+    public ResponseEntity<?> rescheduleSeries(@PathVariable UUID id,
+                                              @RequestParam(required = false) LocalDate from,
+                                              @RequestParam LocalTime newTime) {
+        try {
+            return ResponseEntity.ok(bookingSeriesService.rescheduleSeries(id, from, newTime));
+        } catch (SeriesConflictException e) {
+            return conflict(e);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (IllegalStateException | OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
+        }
+    }
+    
+    /**
+     * Cancel the remaining occurrences of a series
+     * 
+     * @param id the series ID
+     * @param from first date to cancel (defaults to today)
+     * @return ResponseEntity containing the cancelled series
+     */
+    @PutMapping("/{id}/cancel")
+    public ResponseEntity<?> cancelSeries(@PathVariable UUID id, @RequestParam(required = false) LocalDate from) {
+        try {
+            return ResponseEntity.ok(bookingSeriesService.cancelSeries(id, from));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
+        }
+    }
+    
+    private ResponseEntity<?> conflict(SeriesConflictException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+            .body(Map.of("error", e.getMessage(), "conflictingDates", e.getConflictingDates()));
+    }
+}
@@ -0,0 +1,43 @@
+package com.lucknow.healthcare.controller;
+
+import com.lucknow.healthcare.realtime.SseBroadcaster;
+import com.lucknow.healthcare.util.SecurityUtils;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * REST Controller for the dashboard event stream
+ * 
+ * Dashboards open one EventSource here instead of polling the booking and
+ * request lists. Events carry identifiers and the new state; after a
+ * "connected" event (first connect or reconnect) clients reload their lists
+ * once, then apply changes as they arrive.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/events")
+public class EventStreamController {
+    
+    @Autowired
+    private SseBroadcaster sseBroadcaster;
+    
+    /**
+     * Open an event stream for the current user
+     * 
+     * @return the event stream
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(HttpServletResponse response) {
+        // Stop reverse proxies from buffering the stream
+        response.setHeader("X-Accel-Buffering", "no");
+        response.setHeader("Cache-Control", "no-cache");
+        return sseBroadcaster.subscribe(SecurityUtils.getCurrentUserEmail(), SecurityUtils.hasRole("ADMIN"));
+    }
+}
@@ -0,0 +1,352 @@
+package com.lucknow.healthcare.controller;
+
+import com.lucknow.healthcare.entity.PatientDocument;
+import com.lucknow.healthcare.mapper.PatientDocumentMapper;
+import com.lucknow.healthcare.preview.PreviewVariant;
+import com.lucknow.healthcare.service.interfaces.DocumentPreviewService;
+import com.lucknow.healthcare.service.interfaces.PatientDocumentService;
+import com.lucknow.healthcare.storage.DocumentStorage;
+import com.lucknow.healthcare.util.SecurityUtils;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * REST Controller for Patient Document management
+ * 
+ * Uploads take the raw file as the request body (Content-Type is the file's
+ * MIME type) and are streamed into document storage without buffering the
+ * file in memory. Downloads support single byte ranges and conditional
+ * requests, and use the container's sendfile support when available.
+ * Thumbnails and first-page previews are served from the preview endpoint.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/patients/{patientId}/documents")
+@CrossOrigin(origins = "*")
+public class PatientDocumentController {
+    
+    private static final Logger logger = LoggerFactory.getLogger(PatientDocumentController.class);
+    
+    // Tomcat sendfile request attributes (NIO/NIO2 connectors)
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    
+    @Autowired
+    private PatientDocumentService documentService;
+    
+    @Autowired
+    private PatientDocumentMapper documentMapper;
+    
+    @Autowired
+    private DocumentStorage documentStorage;
+    
+    @Autowired
+    private DocumentPreviewService previewService;
+    
+    @Value("${app.upload.max-file-size:10485760}")
+    private long maxFileSize;
+    
+    /**
+     * Upload a document for a patient
+     */
+    @PostMapping
+    public ResponseEntity<?> uploadDocument(
+            @PathVariable UUID patientId,
+            @RequestParam PatientDocument.DocumentType documentType,
+            @RequestParam String fileName,
+            @RequestParam(required = false) String description,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate documentDate,
+            HttpServletRequest request) {
+        try {
+            if (request.getContentLengthLong() > maxFileSize) {
+                return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE)
+                        .body("File exceeds maximum size of " + maxFileSize + " bytes");
+            }
+            
+            PatientDocument document = new PatientDocument();
+            document.setDocumentType(documentType);
+            document.setFileName(fileName);
+            document.setMimeType(request.getContentType());
+            document.setDescription(description);
+            document.setDocumentDate(documentDate);
+            
+            UUID customerId = SecurityUtils.getCurrentUserId();
+            PatientDocument created = documentService.uploadDocument(patientId, document,
+                    request.getInputStream(), customerId);
+            return ResponseEntity.status(HttpStatus.CREATED).body(documentMapper.toDTO(created));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            logger.error("Error uploading document for patient {}", patientId, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body("Error uploading document: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Get all documents for a patient
+     */
+    @GetMapping
+    public ResponseEntity<?> getPatientDocuments(@PathVariable UUID patientId) {
+        try {
+            UUID customerId = SecurityUtils.getCurrentUserId();
+            List<PatientDocument> documents = documentService.getPatientDocuments(patientId, customerId);
+            return ResponseEntity.ok(documentMapper.toDTOList(documents));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body("Error fetching documents: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Get document metadata by ID
+     */
+    @GetMapping("/{documentId}")
+    public ResponseEntity<?> getDocumentById(
+            @PathVariable UUID patientId,
+            @PathVariable UUID documentId) {
+        try {
+            UUID customerId = SecurityUtils.getCurrentUserId();
+            return documentService.getDocumentById(documentId, patientId, customerId)
+                    .map(document -> ResponseEntity.ok(documentMapper.toDTO(document)))
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body("Error fetching document: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Download document content
+     * 
+     * Honours If-None-Match (the ETag is the content SHA-256) and a single
+     * "Range: bytes=..." range; multi-range requests get the whole file.
+     */
+    @GetMapping("/{documentId}/content")
+    public void downloadDocument(
+            @PathVariable UUID patientId,
+            @PathVariable UUID documentId,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        UUID customerId = SecurityUtils.getCurrentUserId();
+        Optional<PatientDocument> found = documentService.getDocumentById(documentId, patientId, customerId);
+        if (found.isEmpty() || found.get().getContentHash() == null
+                || !documentStorage.exists(found.get().getContentHash())) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        
+        PatientDocument document = found.get();
+        String contentHash = document.getContentHash();
+        String etag = "\"" + contentHash + "\"";
+        long length = documentStorage.size(contentHash);
+        
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && (ifNoneMatch.contains(etag) || ifNoneMatch.trim().equals("*"))) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        
+        long start = 0;
+        long end = length - 1;
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (rangeHeader != null && (ifRange == null || ifRange.equals(etag))) {
+            long[] range = parseRange(rangeHeader, length);
+            if (range == null) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            if (range.length == 2) {
+                start = range[0];
+                end = range[1];
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+        
+        long count = end - start + 1;
+        response.setContentType(document.getMimeType() != null ? document.getMimeType() : "application/octet-stream");
+        response.setContentLengthLong(count);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.inline()
+                .filename(document.getFileName(), StandardCharsets.UTF_8).build().toString());
+        
+        Optional<Path> localPath = documentStorage.localPath(contentHash);
+        if (localPath.isPresent() && count > 0 && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // The connector writes the file with sendfile once this method returns
+            request.setAttribute(SENDFILE_FILENAME, localPath.get().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+        
+        if (count > 0) {
+            documentStorage.transferTo(contentHash, start, count, Channels.newChannel(response.getOutputStream()));
+        }
+    }
+    
+    /**
+     * Get a downscaled JPEG preview of a document
+     * 
+     * size is "thumbnail" (256 px) or "preview" (1024 px, first page for PDFs).
+     * Previews never change for a document, so they are cacheable for a year.
+     * Besides the owning customer, a provider may fetch previews of a patient
+     * they are assigned to on a booking that is not cancelled; the other
+     * document endpoints stay customer-only.
+     */
+    @GetMapping("/{documentId}/preview")
+    public void getDocumentPreview(
+            @PathVariable UUID patientId,
+            @PathVariable UUID documentId,
+            @RequestParam(defaultValue = "thumbnail") String size,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        PreviewVariant variant;
+        try {
+            variant = PreviewVariant.fromParameter(size);
+        } catch (IllegalArgumentException e) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, e.getMessage());
+            return;
+        }
+        
+        Optional<PatientDocument> found = SecurityUtils.hasRole("PROVIDER")
+            ? documentService.getDocumentForProvider(documentId, patientId, SecurityUtils.getCurrentUserEmail())
+            : documentService.getDocumentById(documentId, patientId, SecurityUtils.getCurrentUserId());
+        if (found.isEmpty() || found.get().getContentHash() == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        
+        PatientDocument document = found.get();
+        String etag = "\"" + document.getContentHash() + "-" + variant.name().toLowerCase(Locale.ROOT) + "\"";
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && ifNoneMatch.contains(etag)) {
+            response.setHeader(HttpHeaders.ETAG, etag);
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        
+        Optional<Path> preview;
+        try {
+            preview = previewService.getPreview(document.getContentHash(), document.getMimeType(), variant);
+        } catch (IllegalArgumentException e) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND, e.getMessage());
+            return;
+        } catch (IllegalStateException e) {
+            logger.warn("Preview failed for document {}: {}", documentId, e.getMessage());
+            response.sendError(HttpStatus.UNPROCESSABLE_ENTITY.value(), "Preview could not be generated");
+            return;
+        }
+        if (preview.isEmpty()) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, "2");
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, "Preview is being generated");
+            return;
+        }
+        
+        try {
+            long length = Files.size(preview.get());
+            response.setContentType("image/jpeg");
+            response.setContentLengthLong(length);
+            response.setHeader(HttpHeaders.ETAG, etag);
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "private, max-age=31536000, immutable");
+            Files.copy(preview.get(), response.getOutputStream());
+        } catch (NoSuchFileException e) {
+            // Evicted between lookup and read
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, "Preview is being generated");
+        }
+    }
+    
+    /**
+     * Delete document
+     */
+    @DeleteMapping("/{documentId}")
+    public ResponseEntity<?> deleteDocument(
+            @PathVariable UUID patientId,
+            @PathVariable UUID documentId) {
+        try {
+            UUID customerId = SecurityUtils.getCurrentUserId();
+            boolean deleted = documentService.deleteDocument(documentId, patientId, customerId);
+            
+            if (deleted) {
+                return ResponseEntity.noContent().build();
+            } else {
+                return ResponseEntity.notFound().build();
+            }
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body("Error deleting document: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Parse a Range header against the content length
+     * 
+     * @return {start, end} for one satisfiable range, an empty array when the
+     *         header should be ignored (malformed or multiple ranges), or null
+     *         when the range cannot be satisfied
+     */
+    static long[] parseRange(String header, long length) {
+        if (!header.startsWith("bytes=") || header.indexOf(',') >= 0) {
+            return new long[0];
+        }
+        String spec = header.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return new long[0];
+        }
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            if (first.isEmpty()) {
+                // Suffix range: the last N bytes
+                long suffix = Long.parseLong(last);
+                if (suffix <= 0 || length == 0) {
+                    return null;
+                }
+                return new long[] {Math.max(0, length - suffix), length - 1};
+            }
+            long start = Long.parseLong(first);
+            long end = last.isEmpty() ? length - 1 : Math.min(Long.parseLong(last), length - 1);
+            if (start >= length || start > end) {
+                return start >= length ? null : new long[0];
+            }
+            return new long[] {start, end};
+        } catch (NumberFormatException e) {
+            return new long[0];
+        }
+    }
+}
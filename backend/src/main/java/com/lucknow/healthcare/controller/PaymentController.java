@@ -1,9 +1,11 @@
 package com.lucknow.healthcare.controller;
 
+import com.lucknow.healthcare.metrics.ServiceMetrics;
 import com.lucknow.healthcare.payment.PaymentGateway;
 import com.lucknow.healthcare.payment.PaytmPaymentGateway;
 import com.lucknow.healthcare.repository.PaymentRepository;
 import com.lucknow.healthcare.util.SecurityUtils;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -44,6 +46,9 @@ public class PaymentController {
     @Autowired
     private PaymentRepository paymentRepository;
     
+    @Autowired
+    private ServiceMetrics serviceMetrics;
+    
     @Value("${payment.gateway.mode:DUMMY}")
     private String gatewayMode;
     
@@ -67,7 +72,8 @@ public class PaymentController {
             paymentRequest.setCurrency("INR");
             
             // Initiate payment through gateway
-            PaymentGateway.PaymentInitiationResponse response = paymentGateway.initiatePayment(paymentRequest);
+            PaymentGateway.PaymentInitiationResponse response = serviceMetrics.timed("payment.initiate",
+                () -> paymentGateway.initiatePayment(paymentRequest), "gateway", gatewayMode);
             
             // For Paytm, also return the form parameters
             Map<String, Object> responseData = new HashMap<>();
@@ -107,8 +113,16 @@ public class PaymentController {
         try {
             logger.info("Verifying payment: {}", request.getTransactionId());
             
-            PaymentGateway.PaymentVerificationResponse response = 
-                paymentGateway.verifyPayment(request.getTransactionId());
+            Timer.Sample sample = serviceMetrics.start();
+            PaymentGateway.PaymentVerificationResponse response;
+            try {
+                response = paymentGateway.verifyPayment(request.getTransactionId());
+            } catch (RuntimeException e) {
+                serviceMetrics.stop(sample, "payment.verify", ServiceMetrics.outcomeOf(e), "gateway", gatewayMode);
+                throw e;
+            }
+            serviceMetrics.stop(sample, "payment.verify", response.isVerified() ? "verified" : "unverified",
+                                "gateway", gatewayMode);
             
             return ResponseEntity.ok(response);
             
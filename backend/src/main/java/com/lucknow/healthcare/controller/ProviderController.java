@@ -8,14 +8,20 @@ import com.lucknow.healthcare.dto.BookingDTO;
 import com.lucknow.healthcare.mapper.BookingMapper;
 import com.lucknow.healthcare.enums.AvailabilityStatus;
 import com.lucknow.healthcare.enums.BookingStatus;
+import com.lucknow.healthcare.geo.GeoPoint;
+import com.lucknow.healthcare.geo.NearbyProvider;
 import com.lucknow.healthcare.service.interfaces.BookingService;
+import com.lucknow.healthcare.service.interfaces.ProviderProximityService;
 import com.lucknow.healthcare.service.interfaces.ProviderService;
 import com.lucknow.healthcare.service.interfaces.ReviewService;
 import com.lucknow.healthcare.service.interfaces.UserService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -45,6 +51,8 @@ import java.util.UUID;
 @CrossOrigin(origins = "*")
 public class ProviderController {
     
+    private static final Logger logger = LoggerFactory.getLogger(ProviderController.class);
+    
     @Autowired
     private ProviderService providerService;
     
@@ -60,6 +68,9 @@ public class ProviderController {
     @Autowired
     private BookingMapper bookingMapper;
     
+    @Autowired
+    private ProviderProximityService providerProximityService;
+    
     /**
      * Create a new provider
      * 
@@ -117,6 +128,9 @@ public class ProviderController {
             return ResponseEntity.ok(updatedProvider);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.notFound().build();
+        } catch (OptimisticLockingFailureException e) {
+            // The supplied version is stale; the client must reload before saving
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         }
     }
     
@@ -327,6 +341,55 @@ public class ProviderController {
         return ResponseEntity.ok(providers);
     }
     
+    /**
+     * Get the nearest available, verified providers to a point or an address
+     * 
+     * @param latitude origin latitude, used together with longitude
+     * @param longitude origin longitude, used together with latitude
+     * @param address free-text address, used when no coordinates are given
+     * @param serviceId only providers offering this service (optional)
+     * @param limit maximum number of providers
+     * @return ResponseEntity containing the providers ordered by distance
+     */
+    @GetMapping("/nearby")
+    public ResponseEntity<List<NearbyProvider>> getNearbyProviders(@RequestParam(required = false) Double latitude,
+                                                                   @RequestParam(required = false) Double longitude,
+                                                                   @RequestParam(required = false) String address,
+                                                                   @RequestParam(required = false) UUID serviceId,
+                                                                   @RequestParam(defaultValue = "10") int limit) {
+        try {
+            List<NearbyProvider> providers;
+            if (latitude != null && longitude != null) {
+                providers = providerProximityService.findNearest(new GeoPoint(latitude, longitude), serviceId, limit);
+            } else if (address != null) {
+                providers = providerProximityService.findNearest(address, serviceId, limit);
+            } else {
+                return ResponseEntity.badRequest().build();
+            }
+            return ResponseEntity.ok(providers);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    /**
+     * Get the nearest providers who can take a booking, measured from its customer
+     * 
+     * @param bookingId the booking ID
+     * @param limit maximum number of providers
+     * @return ResponseEntity containing the providers ordered by distance
+     */
+    @GetMapping("/nearby/booking/{bookingId}")
+    public ResponseEntity<List<NearbyProvider>> getNearbyProvidersForBooking(@PathVariable UUID bookingId,
+                                                                             @RequestParam(defaultValue = "10") int limit) {
+        try {
+            List<NearbyProvider> providers = providerProximityService.findNearestForBooking(bookingId, limit);
+            return ResponseEntity.ok(providers);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
     /**
      * Get all providers with pagination
      * 
@@ -448,7 +511,7 @@ public class ProviderController {
             
             return ResponseEntity.ok(providerOpt.get());
         } catch (Exception e) {
-            e.printStackTrace();
+            logger.error("Unexpected error in getProviderProfile", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
@@ -539,7 +602,7 @@ public class ProviderController {
             
             return ResponseEntity.ok(bookingDTOs);
         } catch (Exception e) {
-            e.printStackTrace();
+            logger.error("Unexpected error in getProviderBookings", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
@@ -579,7 +642,7 @@ public class ProviderController {
             
             return ResponseEntity.ok(bookingDTOs);
         } catch (Exception e) {
-            e.printStackTrace();
+            logger.error("Unexpected error in getProviderBookingsForCalendar", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
@@ -618,7 +681,7 @@ public class ProviderController {
             
             return ResponseEntity.ok(bookingDTOs);
         } catch (Exception e) {
-            e.printStackTrace();
+            logger.error("Unexpected error in getProviderBookingsForCalendar", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
@@ -688,8 +751,7 @@ public class ProviderController {
                 
                 return ResponseEntity.ok(stats);
             } catch (Exception calcEx) {
-                System.err.println("Error calculating stats: " + calcEx.getMessage());
-                calcEx.printStackTrace();
+                logger.error("Error calculating provider stats", calcEx);
                 
                 // Return default stats on error
                 stats.put("todayBookings", 0);
@@ -704,7 +766,7 @@ public class ProviderController {
                 return ResponseEntity.ok(stats);
             }
         } catch (Exception e) {
-            e.printStackTrace();
+            logger.error("Unexpected error in getProviderStats", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
@@ -812,7 +874,7 @@ public class ProviderController {
             
             return ResponseEntity.ok(recentBookingDTOs);
         } catch (Exception e) {
-            e.printStackTrace();
+            logger.error("Unexpected error in getRecentBookings", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
@@ -959,7 +1021,7 @@ public class ProviderController {
             List<com.lucknow.healthcare.entity.Service> services = providerService.getProviderServicesEager(id);
             return ResponseEntity.ok(services);
         } catch (Exception e) {
-            e.printStackTrace();
+            logger.error("Unexpected error in getProviderServices", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
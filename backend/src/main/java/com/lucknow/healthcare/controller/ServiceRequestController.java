@@ -4,6 +4,8 @@ import com.lucknow.healthcare.entity.ServiceRequest;
 import com.lucknow.healthcare.entity.User;
 import com.lucknow.healthcare.service.interfaces.ServiceRequestService;
 import com.lucknow.healthcare.service.interfaces.UserService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -31,6 +33,8 @@ import java.util.UUID;
 @CrossOrigin(origins = "*")
 public class ServiceRequestController {
     
+    private static final Logger logger = LoggerFactory.getLogger(ServiceRequestController.class);
+    
     @Autowired
     private ServiceRequestService serviceRequestService;
     
@@ -169,7 +173,7 @@ public class ServiceRequestController {
         } catch (IllegalStateException e) {
             return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
-            e.printStackTrace();
+            logger.error("Unexpected error in approveRequest", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(Map.of("error", "Failed to approve request: " + e.getMessage()));
         }
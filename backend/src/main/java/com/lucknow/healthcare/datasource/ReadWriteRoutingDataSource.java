@@ -0,0 +1,100 @@
+package com.lucknow.healthcare.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DataSource that sends read-only transactions to replicas
+ * 
+ * Connections requested inside a {@code @Transactional(readOnly = true)}
+ * transaction come from the available replicas in turn; everything else,
+ * and read-only work when no replica is available or a replica refuses the
+ * connection, goes to the primary. The read-only flag is only known once
+ * the transaction has started, so this must sit behind a
+ * LazyConnectionDataSourceProxy that defers the connection to the first
+ * statement (see DatabaseConfig).
+ * 
+ * A read-only transaction may see data up to the replica's lag behind the
+ * primary, bounded by {@link ReplicaLagMonitor}'s maximum lag.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+public class ReadWriteRoutingDataSource extends AbstractDataSource implements Closeable {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ReadWriteRoutingDataSource.class);
+    
+    private final DataSource primary;
+    private final List<ReplicaPool> replicas;
+    private final AtomicInteger next = new AtomicInteger();
+    
+    public ReadWriteRoutingDataSource(DataSource primary, List<ReplicaPool> replicas) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+    }
+    
+    public List<ReplicaPool> getReplicas() {
+        return replicas;
+    }
+    
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!replicas.isEmpty() && TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            Connection connection = replicaConnection();
+            if (connection != null) {
+                return connection;
+            }
+        }
+        return primary.getConnection();
+    }
+    
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+    
+    /**
+     * Close the replica pools; the primary is a bean of its own and is
+     * closed by the container
+     */
+    @Override
+    public void close() {
+        for (ReplicaPool replica : replicas) {
+            if (replica.getDataSource() instanceof Closeable closeable) {
+                try {
+                    closeable.close();
+                } catch (IOException e) {
+                    logger.warn("Could not close read replica {}: {}", replica.getName(), e.getMessage());
+                }
+            }
+        }
+    }
+    
+    private Connection replicaConnection() {
+        int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            ReplicaPool replica = replicas.get((start + i) % replicas.size());
+            if (!replica.isAvailable()) {
+                continue;
+            }
+            try {
+                return replica.getDataSource().getConnection();
+            } catch (SQLException e) {
+                replica.setAvailable(false);
+                logger.warn("Read replica {} refused a connection, routing reads elsewhere: {}",
+                            replica.getName(), e.getMessage());
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,93 @@
+package com.lucknow.healthcare.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Checks read replica health and replay lag
+ * 
+ * A replica whose lag exceeds maxLagSeconds, or that cannot be queried,
+ * is taken out of read rotation until a later check finds it caught up.
+ * A replica with nothing left to replay reports zero lag even when the
+ * primary has been idle for a while.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@Component
+public class ReplicaLagMonitor {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+    
+    private static final String LAG_QUERY =
+        "SELECT CASE WHEN NOT pg_is_in_recovery() THEN 0 " +
+        "WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+        "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END";
+    
+    private final ReadWriteRoutingDataSource routingDataSource;
+    private final double maxLagSeconds;
+    
+    public ReplicaLagMonitor(ReadWriteRoutingDataSource routingDataSource,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.datasource.replicas.max-lag-seconds:5}") double maxLagSeconds) {
+        this.routingDataSource = routingDataSource;
+        this.maxLagSeconds = maxLagSeconds;
+        
+        for (ReplicaPool replica : routingDataSource.getReplicas()) {
+            Gauge.builder("datasource.replica.lag", replica, ReplicaPool::getLagSeconds)
+                .description("Replay lag of a read replica at the last check")
+                .baseUnit("seconds")
+                .tag("replica", replica.getName())
+                .register(meterRegistry);
+            Gauge.builder("datasource.replica.available", replica, r -> r.isAvailable() ? 1 : 0)
+                .description("Whether a read replica is in read rotation")
+                .tag("replica", replica.getName())
+                .register(meterRegistry);
+        }
+    }
+    
+    @Scheduled(fixedDelayString = "${app.datasource.replicas.check-interval-ms:5000}")
+    public void check() {
+        for (ReplicaPool replica : routingDataSource.getReplicas()) {
+            boolean wasAvailable = replica.isAvailable();
+            boolean available;
+            try {
+                double lag = lagSeconds(replica);
+                replica.setLagSeconds(lag);
+                available = lag <= maxLagSeconds;
+                if (!available && wasAvailable) {
+                    logger.warn("Read replica {} is {}s behind the primary, routing reads elsewhere",
+                                replica.getName(), Math.round(lag));
+                }
+            } catch (SQLException e) {
+                available = false;
+                if (wasAvailable) {
+                    logger.warn("Read replica {} failed its health check: {}", replica.getName(), e.getMessage());
+                }
+            }
+            if (available && !wasAvailable) {
+                logger.info("Read replica {} is back in read rotation", replica.getName());
+            }
+            replica.setAvailable(available);
+        }
+    }
+    
+    private double lagSeconds(ReplicaPool replica) throws SQLException {
+        try (Connection connection = replica.getDataSource().getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery(LAG_QUERY)) {
+            result.next();
+            return result.getDouble(1);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.lucknow.healthcare.datasource;
+
+import javax.sql.DataSource;
+
+/**
+ * One read replica behind {@link ReadWriteRoutingDataSource}
+ * 
+ * Availability and lag are updated by {@link ReplicaLagMonitor}; a failed
+ * connection attempt also takes the replica out of rotation until the next
+ * successful check.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+public class ReplicaPool {
+    
+    private final String name;
+    private final DataSource dataSource;
+    
+    private volatile boolean available = true;
+    private volatile double lagSeconds;
+    
+    public ReplicaPool(String name, DataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+    
+    public boolean isAvailable() {
+        return available;
+    }
+    
+    public void setAvailable(boolean available) {
+        this.available = available;
+    }
+    
+    /**
+     * @return replay lag at the last check, in seconds; 0 when caught up
+     */
+    public double getLagSeconds() {
+        return lagSeconds;
+    }
+    
+    public void setLagSeconds(double lagSeconds) {
+        this.lagSeconds = lagSeconds;
+    }
+}
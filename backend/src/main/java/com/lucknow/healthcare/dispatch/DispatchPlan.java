@@ -0,0 +1,101 @@
+package com.lucknow.healthcare.dispatch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Result of one dispatch run: the chosen provider for each booking that
+ * could be placed and the reason for each one that could not
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+public class DispatchPlan {
+    
+    public enum UnassignedReason {
+        /** No available, verified provider offers the booking's service */
+        NO_ELIGIBLE_PROVIDER,
+        /** Every eligible provider is already busy at that time */
+        NO_FREE_PROVIDER
+    }
+    
+    private final List<Assignment> assignments = new ArrayList<>();
+    
+    private final List<Unassigned> unassigned = new ArrayList<>();
+    
+    private long solveMillis;
+    
+    private boolean committed;
+    
+    public List<Assignment> getAssignments() {
+        return assignments;
+    }
+    
+    public List<Unassigned> getUnassigned() {
+        return unassigned;
+    }
+    
+    public long getSolveMillis() {
+        return solveMillis;
+    }
+    
+    public void setSolveMillis(long solveMillis) {
+        this.solveMillis = solveMillis;
+    }
+    
+    public boolean isCommitted() {
+        return committed;
+    }
+    
+    public void setCommitted(boolean committed) {
+        this.committed = committed;
+    }
+    
+    public static class Assignment {
+        
+        private final UUID bookingId;
+        
+        private final UUID providerId;
+        
+        private final double score;
+        
+        public Assignment(UUID bookingId, UUID providerId, double score) {
+            this.bookingId = bookingId;
+            this.providerId = providerId;
+            this.score = score;
+        }
+        
+        public UUID getBookingId() {
+            return bookingId;
+        }
+        
+        public UUID getProviderId() {
+            return providerId;
+        }
+        
+        public double getScore() {
+            return score;
+        }
+    }
+    
+    public static class Unassigned {
+        
+        private final UUID bookingId;
+        
+        private final UnassignedReason reason;
+        
+        public Unassigned(UUID bookingId, UnassignedReason reason) {
+            this.bookingId = bookingId;
+            this.reason = reason;
+        }
+        
+        public UUID getBookingId() {
+            return bookingId;
+        }
+        
+        public UnassignedReason getReason() {
+            return reason;
+        }
+    }
+}
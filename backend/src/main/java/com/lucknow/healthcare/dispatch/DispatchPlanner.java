@@ -0,0 +1,130 @@
+package com.lucknow.healthcare.dispatch;
+
+import com.lucknow.healthcare.entity.Booking;
+import com.lucknow.healthcare.entity.Provider;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Greedy weighted matching of bookings to providers
+ * 
+ * Bookings are placed in one pass, scarcest first (fewest eligible
+ * providers, then earliest start), so bookings with few options are not
+ * crowded out by flexible ones. Each booking goes to the free eligible
+ * provider with the highest score; the chosen slot is added to that
+ * provider's in-memory schedule before the next booking is considered.
+ * Ties are broken by provider id so a plan is reproducible.
+ * 
+ * Pure computation: callers load bookings, candidates and existing
+ * schedules and persist the result.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+public class DispatchPlanner {
+    
+    /** Gap to a neighbouring visit beyond which the time fit score is zero */
+    static final long TIME_FIT_HORIZON_MINUTES = 4 * 60;
+    
+    /** Years of experience at which the experience score saturates */
+    static final int EXPERIENCE_CAP_YEARS = 20;
+    
+    private final DispatchProperties.Weights weights;
+    private final ZoneId zone;
+    
+    public DispatchPlanner(DispatchProperties.Weights weights, ZoneId zone) {
+        this.weights = weights;
+        this.zone = zone;
+    }
+    
+    /**
+     * Plan assignments for a set of bookings
+     * 
+     * @param bookings unassigned bookings
+     * @param candidatesByService eligible providers per service id
+     * @param schedules existing schedule per provider id; updated in place with the planned slots
+     * @return the plan
+     */
+    public DispatchPlan plan(List<Booking> bookings, Map<UUID, List<Provider>> candidatesByService,
+                             Map<UUID, ProviderSchedule> schedules) {
+        long started = System.nanoTime();
+        DispatchPlan plan = new DispatchPlan();
+        
+        List<Booking> order = new ArrayList<>(bookings);
+        Map<UUID, Integer> candidateCounts = new HashMap<>();
+        for (Booking booking : order) {
+            candidateCounts.put(booking.getId(), candidates(booking, candidatesByService).size());
+        }
+        order.sort(Comparator.comparing((Booking b) -> candidateCounts.get(b.getId()))
+            .thenComparing(Booking::getScheduledDate)
+            .thenComparing(Booking::getScheduledTime)
+            .thenComparing(Booking::getId));
+        
+        for (Booking booking : order) {
+            List<Provider> candidates = candidates(booking, candidatesByService);
+            if (candidates.isEmpty()) {
+                plan.getUnassigned().add(new DispatchPlan.Unassigned(
+                    booking.getId(), DispatchPlan.UnassignedReason.NO_ELIGIBLE_PROVIDER));
+                continue;
+            }
+            
+            long start = booking.getScheduledDate().atTime(booking.getScheduledTime()).atZone(zone).toEpochSecond() / 60;
+            long end = start + booking.getDuration() * 60L;
+            
+            Provider best = null;
+            ProviderSchedule bestSchedule = null;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (Provider provider : candidates) {
+                ProviderSchedule schedule = schedules.computeIfAbsent(provider.getId(), id -> new ProviderSchedule());
+                if (!schedule.isFree(start, end)) {
+                    continue;
+                }
+                double score = score(provider, schedule, start, end);
+                if (score > bestScore || (score == bestScore && provider.getId().compareTo(best.getId()) < 0)) {
+                    best = provider;
+                    bestSchedule = schedule;
+                    bestScore = score;
+                }
+            }
+            
+            if (best == null) {
+                plan.getUnassigned().add(new DispatchPlan.Unassigned(
+                    booking.getId(), DispatchPlan.UnassignedReason.NO_FREE_PROVIDER));
+                continue;
+            }
+            bestSchedule.add(start, end);
+            plan.getAssignments().add(new DispatchPlan.Assignment(booking.getId(), best.getId(), bestScore));
+        }
+        
+        plan.setSolveMillis((System.nanoTime() - started) / 1_000_000);
+        return plan;
+    }
+    
+    double score(Provider provider, ProviderSchedule schedule, long start, long end) {
+        double rating = provider.getRating() != null ? provider.getRating() / 5.0 : 0.0;
+        double experience = provider.getExperience() != null
+            ? Math.min(provider.getExperience(), EXPERIENCE_CAP_YEARS) / (double) EXPERIENCE_CAP_YEARS : 0.0;
+        double spareCapacity = 1.0 / (1 + schedule.size());
+        long gap = schedule.gapMinutes(start, end);
+        double timeFit = gap < TIME_FIT_HORIZON_MINUTES ? 1.0 - (double) gap / TIME_FIT_HORIZON_MINUTES : 0.0;
+        
+        return weights.getRating() * rating
+            + weights.getExperience() * experience
+            + weights.getLoad() * spareCapacity
+            + weights.getTimeFit() * timeFit;
+    }
+    
+    private static List<Provider> candidates(Booking booking, Map<UUID, List<Provider>> candidatesByService) {
+        if (booking.getService() == null) {
+            return Collections.emptyList();
+        }
+        return candidatesByService.getOrDefault(booking.getService().getId(), Collections.emptyList());
+    }
+}
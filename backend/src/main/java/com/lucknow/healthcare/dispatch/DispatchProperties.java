@@ -0,0 +1,81 @@
+package com.lucknow.healthcare.dispatch;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Batch provider dispatch settings
+ * 
+ * The weights scale the four parts of a provider's score for a booking,
+ * each of which lies in [0, 1]: rating, experience, spare capacity (fewer
+ * bookings already held in the window) and time fit (how closely the
+ * booking follows or precedes another visit the same day).
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@ConfigurationProperties(prefix = "app.dispatch")
+public class DispatchProperties {
+    
+    private int maxWindowDays = 31;
+    
+    private Weights weights = new Weights();
+    
+    public int getMaxWindowDays() {
+        return maxWindowDays;
+    }
+    
+    public void setMaxWindowDays(int maxWindowDays) {
+        this.maxWindowDays = maxWindowDays;
+    }
+    
+    public Weights getWeights() {
+        return weights;
+    }
+    
+    public void setWeights(Weights weights) {
+        this.weights = weights;
+    }
+    
+    public static class Weights {
+        
+        private double rating = 0.4;
+        
+        private double experience = 0.2;
+        
+        private double load = 0.25;
+        
+        private double timeFit = 0.15;
+        
+        public double getRating() {
+            return rating;
+        }
+        
+        public void setRating(double rating) {
+            this.rating = rating;
+        }
+        
+        public double getExperience() {
+            return experience;
+        }
+        
+        public void setExperience(double experience) {
+            this.experience = experience;
+        }
+        
+        public double getLoad() {
+            return load;
+        }
+        
+        public void setLoad(double load) {
+            this.load = load;
+        }
+        
+        public double getTimeFit() {
+            return timeFit;
+        }
+        
+        public void setTimeFit(double timeFit) {
+            this.timeFit = timeFit;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.lucknow.healthcare.dispatch;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * In-memory timeline of the slots one provider holds
+ * 
+ * Slots are closed ranges in epoch minutes keyed by start, and never
+ * overlap or touch, mirroring the provider_reservations exclusion
+ * constraint. That invariant lets the free check look at a single
+ * neighbour.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+public class ProviderSchedule {
+    
+    private final TreeMap<Long, Long> slots = new TreeMap<>();
+    
+    /**
+     * @return true if [start, end] does not meet any held slot
+     */
+    public boolean isFree(long start, long end) {
+        Map.Entry<Long, Long> latestStarting = slots.floorEntry(end);
+        return latestStarting == null || latestStarting.getValue() < start;
+    }
+    
+    /**
+     * Hold a slot; callers check {@link #isFree} first
+     */
+    public void add(long start, long end) {
+        slots.put(start, end);
+    }
+    
+    /**
+     * Minutes between a free slot and the nearest held slot on either side
+     * 
+     * @return the gap, or Long.MAX_VALUE when nothing else is held
+     */
+    public long gapMinutes(long start, long end) {
+        long gap = Long.MAX_VALUE;
+        Map.Entry<Long, Long> previous = slots.lowerEntry(start);
+        if (previous != null) {
+            gap = start - previous.getValue();
+        }
+        Map.Entry<Long, Long> next = slots.higherEntry(end);
+        if (next != null) {
+            gap = Math.min(gap, next.getKey() - end);
+        }
+        return gap;
+    }
+    
+    public int size() {
+        return slots.size();
+    }
+}
@@ -0,0 +1,134 @@
+package com.lucknow.healthcare.dto;
+
+import com.lucknow.healthcare.entity.PatientDocument;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Data Transfer Object for PatientDocument entity
+ * 
+ * Document metadata for API responses. The content itself is served by the
+ * document content endpoint; contentHash doubles as its ETag. When
+ * previewAvailable is set, list views should load the thumbnail from the
+ * preview endpoint instead of the original.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+public class PatientDocumentDTO {
+    
+    private UUID id;
+    private UUID patientId;
+    private PatientDocument.DocumentType documentType;
+    private String fileName;
+    private Long fileSize;
+    private String mimeType;
+    private String contentHash;
+    private Boolean previewAvailable;
+    private String description;
+    private LocalDate documentDate;
+    private Boolean isVerified;
+    private LocalDateTime uploadedAt;
+    
+    // Constructors
+    public PatientDocumentDTO() {}
+    
+    // Getters and Setters
+    public UUID getId() {
+        return id;
+    }
+    
+    public void setId(UUID id) {
+        this.id = id;
+    }
+    
+    public UUID getPatientId() {
+        return patientId;
+    }
+    
+    public void setPatientId(UUID patientId) {
+        this.patientId = patientId;
+    }
+    
+    public PatientDocument.DocumentType getDocumentType() {
+        return documentType;
+    }
+    
+    public void setDocumentType(PatientDocument.DocumentType documentType) {
+        this.documentType = documentType;
+    }
+    
+    public String getFileName() {
+        return fileName;
+    }
+    
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+    
+    public Long getFileSize() {
+        return fileSize;
+    }
+    
+    public void setFileSize(Long fileSize) {
+        this.fileSize = fileSize;
+    }
+    
+    public String getMimeType() {
+        return mimeType;
+    }
+    
+    public void setMimeType(String mimeType) {
+        this.mimeType = mimeType;
+    }
+    
+    public String getContentHash() {
+        return contentHash;
+    }
+    
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+    
+    public Boolean getPreviewAvailable() {
+        return previewAvailable;
+    }
+    
+    public void setPreviewAvailable(Boolean previewAvailable) {
+        this.previewAvailable = previewAvailable;
+    }
+    
+    public String getDescription() {
+        return description;
+    }
+    
+    public void setDescription(String description) {
+        this.description = description;
+    }
+    
+    public LocalDate getDocumentDate() {
+        return documentDate;
+    }
+    
+    public void setDocumentDate(LocalDate documentDate) {
+        this.documentDate = documentDate;
+    }
+    
+    public Boolean getIsVerified() {
+        return isVerified;
+    }
+    
+    public void setIsVerified(Boolean isVerified) {
+        this.isVerified = isVerified;
+    }
+    
+    public LocalDateTime getUploadedAt() {
+        return uploadedAt;
+    }
+    
+    public void setUploadedAt(LocalDateTime uploadedAt) {
+        this.uploadedAt = uploadedAt;
+    }
+}
@@ -15,9 +15,13 @@ import java.util.UUID;
  * Implements customer privacy protection where providers can only see
  * customer contact details within 24 hours before and after the service date.
  * 
+ * @deprecated Copies every field per row. BookingDTO responses are masked during
+ * serialization by {@link com.lucknow.healthcare.privacy.PrivacyMaskingModule}.
+ * 
  * @author Lucknow Healthcare Team
  * @version 1.0.0
  */
+@Deprecated
 public class PrivacyAwareBookingDTO {
     
     private UUID id;
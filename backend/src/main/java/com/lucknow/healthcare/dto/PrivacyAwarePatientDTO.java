@@ -13,9 +13,13 @@ import java.util.UUID;
  * Implements customer privacy protection where providers can only see
  * emergency contact details within 24 hours before and after the service date.
  * 
+ * @deprecated Copies every field per row. PatientDTO responses are masked during
+ * serialization by {@link com.lucknow.healthcare.privacy.PrivacyMaskingModule}.
+ * 
  * @author Lucknow Healthcare Team
  * @version 1.0.0
  */
+@Deprecated
 public class PrivacyAwarePatientDTO {
     
     private UUID id;
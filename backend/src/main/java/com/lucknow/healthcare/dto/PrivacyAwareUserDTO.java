@@ -14,9 +14,13 @@ import java.util.UUID;
  * customer contact details (phone and address) within 24 hours before
  * and after the service date.
  * 
+ * @deprecated Copies every field per row. UserDTO responses are masked during
+ * serialization by {@link com.lucknow.healthcare.privacy.PrivacyMaskingModule}.
+ * 
  * @author Lucknow Healthcare Team
  * @version 1.0.0
  */
+@Deprecated
 public class PrivacyAwareUserDTO {
     
     private UUID id;
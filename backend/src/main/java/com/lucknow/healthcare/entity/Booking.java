@@ -4,6 +4,8 @@ import com.lucknow.healthcare.enums.BookingStatus;
 import com.lucknow.healthcare.enums.PaymentStatus;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -19,22 +21,25 @@ import java.util.UUID;
  * 
  * This entity stores booking information including user, service, provider,
  * scheduling details, payment status, and special instructions.
+ * The table is partitioned by month of scheduled_date (see V23), so
+ * queries that bound scheduledDate only read the matching months.
  * 
  * @author Lucknow Healthcare Team
  * @version 1.0.0
  */
 @Entity
 @Table(name = "bookings", indexes = {
-    @Index(name = "idx_booking_user_id", columnList = "user_id"),
     @Index(name = "idx_booking_service_id", columnList = "service_id"),
-    @Index(name = "idx_booking_provider_id", columnList = "provider_id"),
     @Index(name = "idx_booking_status", columnList = "status"),
     @Index(name = "idx_booking_scheduled_date", columnList = "scheduled_date"),
     @Index(name = "idx_booking_payment_status", columnList = "payment_status"),
     @Index(name = "idx_booking_created_at", columnList = "created_at"),
     @Index(name = "idx_booking_user_status", columnList = "user_id, status"),
     @Index(name = "idx_booking_provider_status", columnList = "provider_id, status"),
-    @Index(name = "idx_booking_date_status", columnList = "scheduled_date, status")
+    @Index(name = "idx_booking_date_status", columnList = "scheduled_date, status"),
+    @Index(name = "idx_booking_series_date", columnList = "series_id, scheduled_date"),
+    @Index(name = "idx_booking_user_schedule", columnList = "user_id, scheduled_date, scheduled_time"),
+    @Index(name = "idx_booking_provider_schedule", columnList = "provider_id, scheduled_date, scheduled_time")
 })
 @EntityListeners(AuditingEntityListener.class)
 public class Booking {
@@ -43,17 +48,30 @@ public class Booking {
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
     
+    /**
+     * Optimistic lock version; null until first persisted
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
+    
     @NotNull(message = "User is required")
     @ManyToOne(fetch = FetchType.EAGER)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
     
+    /**
+     * Service and provider are read by id, so a booking load takes them from
+     * the second-level cache instead of joining their tables
+     */
     @NotNull(message = "Service is required")
     @ManyToOne(fetch = FetchType.EAGER)
+    @Fetch(FetchMode.SELECT)
     @JoinColumn(name = "service_id", nullable = false)
     private Service service;
     
     @ManyToOne(fetch = FetchType.EAGER)
+    @Fetch(FetchMode.SELECT)
     @JoinColumn(name = "provider_id")
     private Provider provider;
     
@@ -98,6 +116,12 @@ public class Booking {
     @Column(length = 1000)
     private String notes;
     
+    /**
+     * Series this booking is an occurrence of; null for one-off bookings
+     */
+    @Column(name = "series_id")
+    private UUID seriesId;
+    
     @CreatedDate
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -149,6 +173,14 @@ public class Booking {
         this.id = id;
     }
     
+    public Long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+    
     public User getUser() {
         return user;
     }
@@ -268,4 +300,12 @@ public class Booking {
     public void setNotes(String notes) {
         this.notes = notes;
     }
+    
+    public UUID getSeriesId() {
+        return seriesId;
+    }
+    
+    public void setSeriesId(UUID seriesId) {
+        this.seriesId = seriesId;
+    }
 }
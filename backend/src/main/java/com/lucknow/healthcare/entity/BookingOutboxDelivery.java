@@ -0,0 +1,73 @@
+package com.lucknow.healthcare.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * BookingOutboxDelivery entity
+ * 
+ * Records that one subscriber has handled a booking outbox event. Written
+ * in the subscriber's delivery transaction, so a failed subscriber leaves
+ * no row and is the only one the relay retries.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "booking_outbox_deliveries")
+public class BookingOutboxDelivery {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+    
+    @Column(name = "subscriber", nullable = false, length = 50)
+    private String subscriber;
+    
+    @Column(name = "delivered_at", nullable = false)
+    private LocalDateTime deliveredAt;
+    
+    public BookingOutboxDelivery() {}
+    
+    public BookingOutboxDelivery(Long eventId, String subscriber) {
+        this.eventId = eventId;
+        this.subscriber = subscriber;
+        this.deliveredAt = LocalDateTime.now();
+    }
+    
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public Long getEventId() {
+        return eventId;
+    }
+    
+    public void setEventId(Long eventId) {
+        this.eventId = eventId;
+    }
+    
+    public String getSubscriber() {
+        return subscriber;
+    }
+    
+    public void setSubscriber(String subscriber) {
+        this.subscriber = subscriber;
+    }
+    
+    public LocalDateTime getDeliveredAt() {
+        return deliveredAt;
+    }
+    
+    public void setDeliveredAt(LocalDateTime deliveredAt) {
+        this.deliveredAt = deliveredAt;
+    }
+}
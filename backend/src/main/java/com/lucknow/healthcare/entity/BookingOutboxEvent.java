@@ -0,0 +1,134 @@
+package com.lucknow.healthcare.entity;
+
+import com.lucknow.healthcare.event.BookingDomainEvent;
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * BookingOutboxEvent entity
+ * 
+ * A booking domain event written in the same transaction as the booking
+ * change. The relay delivers unpublished rows in id order and stamps
+ * publishedAt; after a failed attempt, nextAttemptAt holds the row (and
+ * later rows for the same booking) back until it is due again. Rows are
+ * deleted after the retention period.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "booking_outbox")
+public class BookingOutboxEvent {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "booking_id", nullable = false)
+    private UUID bookingId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 30)
+    private BookingDomainEvent.Type eventType;
+    
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+    
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+    
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+    
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+    
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+    
+    public BookingOutboxEvent() {}
+    
+    public BookingOutboxEvent(UUID bookingId, BookingDomainEvent.Type eventType, String payload) {
+        this.bookingId = bookingId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.createdAt = LocalDateTime.now();
+    }
+    
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public UUID getBookingId() {
+        return bookingId;
+    }
+    
+    public void setBookingId(UUID bookingId) {
+        this.bookingId = bookingId;
+    }
+    
+    public BookingDomainEvent.Type getEventType() {
+        return eventType;
+    }
+    
+    public void setEventType(BookingDomainEvent.Type eventType) {
+        this.eventType = eventType;
+    }
+    
+    public String getPayload() {
+        return payload;
+    }
+    
+    public void setPayload(String payload) {
+        this.payload = payload;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+    
+    public LocalDateTime getPublishedAt() {
+        return publishedAt;
+    }
+    
+    public void setPublishedAt(LocalDateTime publishedAt) {
+        this.publishedAt = publishedAt;
+    }
+    
+    public int getAttempts() {
+        return attempts;
+    }
+    
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+    
+    public String getLastError() {
+        return lastError;
+    }
+    
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+    
+    public LocalDateTime getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+    
+    public void setNextAttemptAt(LocalDateTime nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+}
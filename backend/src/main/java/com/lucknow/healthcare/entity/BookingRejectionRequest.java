@@ -37,7 +37,7 @@ public class BookingRejectionRequest {
     
     @NotNull(message = "Booking is required")
     @ManyToOne(fetch = FetchType.EAGER)
-    @JoinColumn(name = "booking_id", nullable = false)
+    @JoinColumn(name = "booking_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     @JsonIgnoreProperties({"reviews", "payments"})
     private Booking booking;
     
@@ -0,0 +1,261 @@
+package com.lucknow.healthcare.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * BookingSeries entity representing a recurring booking
+ * 
+ * The series keeps the recurrence rule and the details shared by every
+ * visit. Occurrences are generated up front as ordinary bookings that
+ * carry the series id, so they are accepted, started, paid and reviewed
+ * one at a time like any other booking.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "booking_series", indexes = {
+    @Index(name = "idx_booking_series_user_id", columnList = "user_id"),
+    @Index(name = "idx_booking_series_provider_id", columnList = "provider_id")
+})
+@EntityListeners(AuditingEntityListener.class)
+public class BookingSeries {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+    
+    /**
+     * Optimistic lock version; series-wide changes go through it so two of
+     * them cannot interleave
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
+    
+    @NotNull(message = "User is required")
+    @ManyToOne(fetch = FetchType.EAGER)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+    
+    @NotNull(message = "Service is required")
+    @ManyToOne(fetch = FetchType.EAGER)
+    @JoinColumn(name = "service_id", nullable = false)
+    private Service service;
+    
+    @ManyToOne(fetch = FetchType.EAGER)
+    @JoinColumn(name = "provider_id")
+    private Provider provider;
+    
+    @ManyToOne(fetch = FetchType.EAGER)
+    @JoinColumn(name = "patient_id")
+    private Patient patient;
+    
+    /**
+     * Recurrence in RRULE syntax, e.g. FREQ=WEEKLY;BYDAY=MO,WE,FR;COUNT=36
+     */
+    @NotBlank(message = "Recurrence rule is required")
+    @Size(max = 200, message = "Recurrence rule must not exceed 200 characters")
+    @Column(name = "recurrence_rule", nullable = false, length = 200)
+    private String recurrenceRule;
+    
+    @NotNull(message = "Start date is required")
+    @Column(nullable = false)
+    private LocalDate startDate;
+    
+    /**
+     * Date of the last generated occurrence
+     */
+    @Column(nullable = false)
+    private LocalDate endDate;
+    
+    @NotNull(message = "Scheduled time is required")
+    @Column(nullable = false)
+    private LocalTime scheduledTime;
+    
+    @NotNull(message = "Duration is required")
+    @Min(value = 1, message = "Duration must be at least 1 hour")
+    @Column(nullable = false)
+    private Integer duration; // Duration in hours
+    
+    @NotNull(message = "Amount per visit is required")
+    @DecimalMin(value = "0.0", inclusive = false, message = "Amount per visit must be greater than 0")
+    @Column(nullable = false, precision = 10, scale = 2)
+    private BigDecimal amountPerVisit;
+    
+    /**
+     * Number of generated occurrences
+     */
+    @Column(nullable = false)
+    private Integer occurrences;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status = Status.ACTIVE;
+    
+    @Size(max = 1000, message = "Special instructions must not exceed 1000 characters")
+    @Column(length = 1000)
+    private String specialInstructions;
+    
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @LastModifiedDate
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+    
+    public enum Status {
+        ACTIVE, CANCELLED
+    }
+    
+    // Constructors
+    public BookingSeries() {}
+    
+    // Getters and Setters
+    public UUID getId() {
+        return id;
+    }
+    
+    public void setId(UUID id) {
+        this.id = id;
+    }
+    
+    public Long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+    
+    public User getUser() {
+        return user;
+    }
+    
+    public void setUser(User user) {
+        this.user = user;
+    }
+    
+    public Service getService() {
+        return service;
+    }
+    
+    public void setService(Service service) {
+        this.service = service;
+    }
+    
+    public Provider getProvider() {
+        return provider;
+    }
+    
+    public void setProvider(Provider provider) {
+        this.provider = provider;
+    }
+    
+    public Patient getPatient() {
+        return patient;
+    }
+    
+    public void setPatient(Patient patient) {
+        this.patient = patient;
+    }
+    
+    public String getRecurrenceRule() {
+        return recurrenceRule;
+    }
+    
+    public void setRecurrenceRule(String recurrenceRule) {
+        this.recurrenceRule = recurrenceRule;
+    }
+    
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+    
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+    
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+    
+    public void setEndDate(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+    
+    public LocalTime getScheduledTime() {
+        return scheduledTime;
+    }
+    
+    public void setScheduledTime(LocalTime scheduledTime) {
+        this.scheduledTime = scheduledTime;
+    }
+    
+    public Integer getDuration() {
+        return duration;
+    }
+    
+    public void setDuration(Integer duration) {
+        this.duration = duration;
+    }
+    
+    public BigDecimal getAmountPerVisit() {
+        return amountPerVisit;
+    }
+    
+    public void setAmountPerVisit(BigDecimal amountPerVisit) {
+        this.amountPerVisit = amountPerVisit;
+    }
+    
+    public Integer getOccurrences() {
+        return occurrences;
+    }
+    
+    public void setOccurrences(Integer occurrences) {
+        this.occurrences = occurrences;
+    }
+    
+    public Status getStatus() {
+        return status;
+    }
+    
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+    
+    public String getSpecialInstructions() {
+        return specialInstructions;
+    }
+    
+    public void setSpecialInstructions(String specialInstructions) {
+        this.specialInstructions = specialInstructions;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,190 @@
+package com.lucknow.healthcare.entity;
+
+import jakarta.persistence.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * ConsentCampaign entity
+ * 
+ * A bulk re-consent notification run started by a consent version bump.
+ * Also the checkpoint of the run: lastUserId is the keyset cursor of the
+ * last completed chunk, and the lease fields decide which node owns it.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "consent_campaigns", indexes = {
+    @Index(name = "idx_consent_campaigns_status", columnList = "status")
+})
+@EntityListeners(AuditingEntityListener.class)
+public class ConsentCampaign {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "consent_type", nullable = false, length = 50)
+    private ConsentRecord.ConsentType consentType;
+    
+    @Column(name = "consent_version", nullable = false, length = 20)
+    private String consentVersion;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private Status status = Status.RUNNING;
+    
+    @Column(name = "last_user_id")
+    private UUID lastUserId;
+    
+    @Column(name = "processed_count", nullable = false)
+    private long processedCount;
+    
+    @Column(name = "failed_count", nullable = false)
+    private long failedCount;
+    
+    @Column(name = "lease_owner", length = 100)
+    private String leaseOwner;
+    
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+    
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+    
+    @CreatedDate
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+    
+    @LastModifiedDate
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+    
+    public enum Status {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+    
+    public ConsentCampaign() {}
+    
+    public ConsentCampaign(ConsentRecord.ConsentType consentType, String consentVersion) {
+        this.consentType = consentType;
+        this.consentVersion = consentVersion;
+    }
+    
+    // Getters and Setters
+    
+    public UUID getId() {
+        return id;
+    }
+    
+    public void setId(UUID id) {
+        this.id = id;
+    }
+    
+    public ConsentRecord.ConsentType getConsentType() {
+        return consentType;
+    }
+    
+    public void setConsentType(ConsentRecord.ConsentType consentType) {
+        this.consentType = consentType;
+    }
+    
+    public String getConsentVersion() {
+        return consentVersion;
+    }
+    
+    public void setConsentVersion(String consentVersion) {
+        this.consentVersion = consentVersion;
+    }
+    
+    public Status getStatus() {
+        return status;
+    }
+    
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+    
+    public UUID getLastUserId() {
+        return lastUserId;
+    }
+    
+    public void setLastUserId(UUID lastUserId) {
+        this.lastUserId = lastUserId;
+    }
+    
+    public long getProcessedCount() {
+        return processedCount;
+    }
+    
+    public void setProcessedCount(long processedCount) {
+        this.processedCount = processedCount;
+    }
+    
+    public long getFailedCount() {
+        return failedCount;
+    }
+    
+    public void setFailedCount(long failedCount) {
+        this.failedCount = failedCount;
+    }
+    
+    public String getLeaseOwner() {
+        return leaseOwner;
+    }
+    
+    public void setLeaseOwner(String leaseOwner) {
+        this.leaseOwner = leaseOwner;
+    }
+    
+    public LocalDateTime getLeaseUntil() {
+        return leaseUntil;
+    }
+    
+    public void setLeaseUntil(LocalDateTime leaseUntil) {
+        this.leaseUntil = leaseUntil;
+    }
+    
+    public String getLastError() {
+        return lastError;
+    }
+    
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+    
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+    
+    public void setCompletedAt(LocalDateTime completedAt) {
+        this.completedAt = completedAt;
+    }
+}
@@ -13,7 +13,8 @@ import java.util.UUID;
  * PatientDocument entity representing medical documents uploaded for patients
  * 
  * Stores prescriptions, medical reports, lab results, and other medical documentation.
- * Files are stored locally with proper security and access controls.
+ * Files are stored content-addressed (by SHA-256) in the configured DocumentStorage
+ * backend, so identical uploads share one stored object.
  * 
  * @author Lucknow Healthcare Team
  * @version 1.0.0
@@ -24,7 +25,8 @@ import java.util.UUID;
     @Index(name = "idx_patient_documents_document_type", columnList = "document_type"),
     @Index(name = "idx_patient_documents_uploaded_at", columnList = "uploaded_at"),
     @Index(name = "idx_patient_documents_patient_type", columnList = "patient_id, document_type"),
-    @Index(name = "idx_patient_documents_is_verified", columnList = "is_verified")
+    @Index(name = "idx_patient_documents_is_verified", columnList = "is_verified"),
+    @Index(name = "idx_patient_documents_content_hash", columnList = "content_hash")
 })
 @EntityListeners(AuditingEntityListener.class)
 public class PatientDocument {
@@ -52,6 +54,10 @@ public class PatientDocument {
     @Column(name = "file_path", nullable = false, columnDefinition = "TEXT")
     private String filePath; // Local storage path
     
+    @Size(max = 64, message = "Content hash too long")
+    @Column(name = "content_hash", length = 64)
+    private String contentHash; // SHA-256 of the file content, storage key
+    
     @Min(value = 0, message = "File size must be positive")
     @Column(name = "file_size")
     private Long fileSize; // in bytes
@@ -184,6 +190,14 @@ public class PatientDocument {
         this.filePath = filePath;
     }
     
+    public String getContentHash() {
+        return contentHash;
+    }
+    
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+    
     public Long getFileSize() {
         return fileSize;
     }
@@ -27,7 +27,8 @@ import java.util.UUID;
     @Index(name = "idx_payments_transaction_id", columnList = "transaction_id"),
     @Index(name = "idx_payments_invoice_number", columnList = "invoice_number"),
     @Index(name = "idx_payments_created_at", columnList = "created_at"),
-    @Index(name = "idx_payments_customer_status", columnList = "customer_id, payment_status")
+    @Index(name = "idx_payments_customer_status", columnList = "customer_id, payment_status"),
+    @Index(name = "idx_payments_customer_created", columnList = "customer_id, created_at DESC")
 })
 @EntityListeners(AuditingEntityListener.class)
 public class Payment {
@@ -36,9 +37,10 @@ public class Payment {
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
     
+    // Enforced by a trigger; bookings is partitioned and cannot be a foreign key target
     @NotNull(message = "Booking is required")
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "booking_id", nullable = false)
+    @JoinColumn(name = "booking_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private Booking booking;
     
     @NotNull(message = "Customer is required")
@@ -74,7 +76,8 @@ public class Payment {
     @Column(name = "payment_timing", nullable = false, length = 20)
     private PaymentTiming paymentTiming;
     
-    @Column(name = "invoice_number", unique = true, length = 50)
+    // Unique across partitions through payment_unique_keys (see V23)
+    @Column(name = "invoice_number", length = 50)
     private String invoiceNumber;
     
     @Column(name = "invoice_url", columnDefinition = "TEXT")
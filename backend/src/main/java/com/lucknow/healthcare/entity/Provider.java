@@ -1,8 +1,11 @@
 package com.lucknow.healthcare.entity;
 
+import com.lucknow.healthcare.cache.CacheRegions;
 import com.lucknow.healthcare.enums.AvailabilityStatus;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -28,15 +31,25 @@ import java.util.UUID;
     @Index(name = "idx_provider_availability", columnList = "availability_status"),
     @Index(name = "idx_provider_rating", columnList = "rating"),
     @Index(name = "idx_provider_verified", columnList = "is_verified"),
-    @Index(name = "idx_provider_experience", columnList = "experience")
+    @Index(name = "idx_provider_experience", columnList = "experience"),
+    @Index(name = "idx_provider_status_verified", columnList = "availability_status, is_verified, rating")
 })
 @EntityListeners(AuditingEntityListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.PROVIDER)
 public class Provider {
     
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
     
+    /**
+     * Optimistic lock version; null until first persisted
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
+    
     @NotBlank(message = "Name is required")
     @Size(max = 100, message = "Name must not exceed 100 characters")
     @Column(nullable = false, length = 100)
@@ -63,6 +76,14 @@ public class Provider {
     @Column(nullable = false)
     private Integer experience; // Experience in years
     
+    /** Base location the provider travels from */
+    @Column(columnDefinition = "TEXT")
+    private String address;
+    
+    private Double latitude;
+    
+    private Double longitude;
+    
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private AvailabilityStatus availabilityStatus = AvailabilityStatus.AVAILABLE;
@@ -83,6 +104,7 @@ public class Provider {
     private List<String> documents; // Store verification documents
     
     @ManyToMany(fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.PROVIDER_SERVICES)
     @JoinTable(
         name = "provider_services",
         joinColumns = @JoinColumn(name = "provider_id"),
@@ -136,6 +158,14 @@ public class Provider {
         this.id = id;
     }
     
+    public Long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+    
     public String getName() {
         return name;
     }
@@ -176,6 +206,30 @@ public class Provider {
         this.experience = experience;
     }
     
+    public String getAddress() {
+        return address;
+    }
+    
+    public void setAddress(String address) {
+        this.address = address;
+    }
+    
+    public Double getLatitude() {
+        return latitude;
+    }
+    
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+    
+    public Double getLongitude() {
+        return longitude;
+    }
+    
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
+    
     public AvailabilityStatus getAvailabilityStatus() {
         return availabilityStatus;
     }
@@ -0,0 +1,82 @@
+package com.lucknow.healthcare.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * ProviderReservation entity
+ * 
+ * The provider time held by one booking. The table carries a GiST
+ * exclusion constraint over (provider_id, slot), so the database rejects
+ * a reservation that overlaps another one for the same provider. Rows are
+ * written through native upserts in ProviderReservationRepository; the
+ * generated slot range column is not mapped.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "provider_reservations")
+public class ProviderReservation {
+    
+    @Id
+    @Column(name = "booking_id")
+    private UUID bookingId;
+    
+    @Column(name = "provider_id", nullable = false)
+    private UUID providerId;
+    
+    @Column(name = "starts_at", nullable = false)
+    private OffsetDateTime startsAt;
+    
+    @Column(name = "ends_at", nullable = false)
+    private OffsetDateTime endsAt;
+    
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    public ProviderReservation() {}
+    
+    public UUID getBookingId() {
+        return bookingId;
+    }
+    
+    public void setBookingId(UUID bookingId) {
+        this.bookingId = bookingId;
+    }
+    
+    public UUID getProviderId() {
+        return providerId;
+    }
+    
+    public void setProviderId(UUID providerId) {
+        this.providerId = providerId;
+    }
+    
+    public OffsetDateTime getStartsAt() {
+        return startsAt;
+    }
+    
+    public void setStartsAt(OffsetDateTime startsAt) {
+        this.startsAt = startsAt;
+    }
+    
+    public OffsetDateTime getEndsAt() {
+        return endsAt;
+    }
+    
+    public void setEndsAt(OffsetDateTime endsAt) {
+        this.endsAt = endsAt;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -1,8 +1,11 @@
 package com.lucknow.healthcare.entity;
 
+import com.lucknow.healthcare.cache.CacheRegions;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -25,6 +28,8 @@ import java.util.UUID;
     @Index(name = "idx_service_category_active", columnList = "is_active")
 })
 @EntityListeners(AuditingEntityListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.SERVICE_CATEGORY)
 public class ServiceCategory {
     
     @Id
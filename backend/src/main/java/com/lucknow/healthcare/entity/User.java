@@ -64,6 +64,11 @@ public class User {
     @Column(columnDefinition = "TEXT")
     private String address;
     
+    /** Home visit location; geocoded from address when not set explicitly */
+    private Double latitude;
+    
+    private Double longitude;
+    
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private UserStatus status = UserStatus.ACTIVE;
@@ -172,6 +177,22 @@ public class User {
         this.address = address;
     }
     
+    public Double getLatitude() {
+        return latitude;
+    }
+    
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+    
+    public Double getLongitude() {
+        return longitude;
+    }
+    
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
+    
     public UserStatus getStatus() {
         return status;
     }
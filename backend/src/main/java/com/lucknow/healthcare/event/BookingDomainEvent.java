@@ -0,0 +1,94 @@
+package com.lucknow.healthcare.event;
+
+import com.lucknow.healthcare.enums.BookingStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Booking lifecycle event delivered from the outbox to subscribers
+ * 
+ * Delivery is at-least-once and in commit order per booking. A subscriber
+ * can see an event again after a failure elsewhere, so it must be safe to
+ * repeat.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+public class BookingDomainEvent {
+    
+    public static final String FROM_STATUS = "from";
+    public static final String TO_STATUS = "to";
+    public static final String PROVIDER_ID = "providerId";
+    public static final String PREVIOUS_PROVIDER_ID = "previousProviderId";
+    public static final String SERIES_ID = "seriesId";
+    /** Set on the first occurrence's event of a series operation only */
+    public static final String SERIES_OCCURRENCES = "occurrences";
+    
+    public enum Type {
+        CREATED,
+        STATUS_CHANGED,
+        PROVIDER_ASSIGNED,
+        RESCHEDULED
+    }
+    
+    private final long sequence;
+    private final UUID bookingId;
+    private final Type type;
+    private final Map<String, String> data;
+    private final LocalDateTime occurredAt;
+    
+    public BookingDomainEvent(long sequence, UUID bookingId, Type type, Map<String, String> data,
+                              LocalDateTime occurredAt) {
+        this.sequence = sequence;
+        this.bookingId = bookingId;
+        this.type = type;
+        this.data = Collections.unmodifiableMap(data);
+        this.occurredAt = occurredAt;
+    }
+    
+    /**
+     * Outbox id; increases with commit order
+     */
+    public long getSequence() {
+        return sequence;
+    }
+    
+    public UUID getBookingId() {
+        return bookingId;
+    }
+    
+    public Type getType() {
+        return type;
+    }
+    
+    public Map<String, String> getData() {
+        return data;
+    }
+    
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+    
+    public BookingStatus getFromStatus() {
+        String value = data.get(FROM_STATUS);
+        return value != null ? BookingStatus.valueOf(value) : null;
+    }
+    
+    public BookingStatus getToStatus() {
+        String value = data.get(TO_STATUS);
+        return value != null ? BookingStatus.valueOf(value) : null;
+    }
+    
+    public UUID getProviderId() {
+        String value = data.get(PROVIDER_ID);
+        return value != null ? UUID.fromString(value) : null;
+    }
+    
+    @Override
+    public String toString() {
+        return type + "#" + sequence + " booking " + bookingId + " " + data;
+    }
+}
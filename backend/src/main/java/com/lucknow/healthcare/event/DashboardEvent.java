@@ -0,0 +1,95 @@
+package com.lucknow.healthcare.event;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Change pushed to connected dashboards
+ * 
+ * Published by the service layer; delivered after the surrounding
+ * transaction commits to the listed users (by login email) and, when
+ * forAdmins is set, to every connected admin.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+public class DashboardEvent {
+    
+    public static final String BOOKING_ASSIGNED = "booking.assigned";
+    public static final String BOOKING_STATUS_CHANGED = "booking.status_changed";
+    public static final String REJECTION_REQUESTED = "booking_rejection.requested";
+    public static final String REJECTION_RESOLVED = "booking_rejection.resolved";
+    public static final String SERVICE_REQUEST_CREATED = "service_request.created";
+    public static final String SERVICE_REQUEST_RESOLVED = "service_request.resolved";
+    
+    private final String type;
+    private final Map<String, Object> data;
+    private final Set<String> recipients;
+    private final boolean forAdmins;
+    
+    private DashboardEvent(Builder builder) {
+        this.type = builder.type;
+        this.data = Collections.unmodifiableMap(builder.data);
+        this.recipients = Collections.unmodifiableSet(builder.recipients);
+        this.forAdmins = builder.forAdmins;
+    }
+    
+    public static Builder builder(String type) {
+        return new Builder(type);
+    }
+    
+    public String getType() {
+        return type;
+    }
+    
+    public Map<String, Object> getData() {
+        return data;
+    }
+    
+    public Set<String> getRecipients() {
+        return recipients;
+    }
+    
+    public boolean isForAdmins() {
+        return forAdmins;
+    }
+    
+    public static final class Builder {
+        
+        private final String type;
+        private final Map<String, Object> data = new LinkedHashMap<>();
+        private final Set<String> recipients = new LinkedHashSet<>();
+        private boolean forAdmins;
+        
+        private Builder(String type) {
+            this.type = type;
+        }
+        
+        public Builder data(String key, Object value) {
+            data.put(key, value);
+            return this;
+        }
+        
+        /**
+         * Add a recipient by login email; null is ignored
+         */
+        public Builder recipient(String email) {
+            if (email != null) {
+                recipients.add(email);
+            }
+            return this;
+        }
+        
+        public Builder admins() {
+            this.forAdmins = true;
+            return this;
+        }
+        
+        public DashboardEvent build() {
+            return new DashboardEvent(this);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.lucknow.healthcare.event;
+
+import java.util.UUID;
+
+/**
+ * Published after a patient document has been stored and saved
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+public class DocumentUploadedEvent {
+    
+    private final UUID documentId;
+    private final String contentHash;
+    private final String mimeType;
+    
+    public DocumentUploadedEvent(UUID documentId, String contentHash, String mimeType) {
+        this.documentId = documentId;
+        this.contentHash = contentHash;
+        this.mimeType = mimeType;
+    }
+    
+    public UUID getDocumentId() {
+        return documentId;
+    }
+    
+    public String getContentHash() {
+        return contentHash;
+    }
+    
+    public String getMimeType() {
+        return mimeType;
+    }
+}
@@ -0,0 +1,93 @@
+package com.lucknow.healthcare.execution;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admission Control Filter
+ * 
+ * Bounds the number of requests processed concurrently, by default at a
+ * small multiple of the database pool size (see ExecutionProperties) so
+ * that admitted requests do not pile up on the pool. Requests wait up to
+ * the admission timeout for a slot and are then rejected with 503 and
+ * Retry-After. Actuator endpoints bypass the limit so health checks keep
+ * working under load. Async requests (event streams) release their slot
+ * once the initial dispatch returns.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class AdmissionControlFilter extends OncePerRequestFilter {
+    
+    private static final Logger logger = LoggerFactory.getLogger(AdmissionControlFilter.class);
+    
+    private final int limit;
+    private final Semaphore permits;
+    private final long timeoutNanos;
+    private final Counter rejected;
+    
+    public AdmissionControlFilter(ExecutionProperties properties, int connectionPoolSize, MeterRegistry meterRegistry) {
+        this.limit = properties.resolveMaxConcurrentRequests(connectionPoolSize);
+        this.permits = new Semaphore(limit);
+        this.timeoutNanos = properties.getAdmissionTimeout().toNanos();
+        
+        Gauge.builder("http.admission.active", permits, p -> limit - p.availablePermits())
+            .description("Requests currently admitted")
+            .register(meterRegistry);
+        Gauge.builder("http.admission.waiting", permits, Semaphore::getQueueLength)
+            .description("Requests waiting for admission")
+            .register(meterRegistry);
+        this.rejected = Counter.builder("http.admission.rejected")
+            .description("Requests rejected because the server was at its concurrency limit")
+            .register(meterRegistry);
+    }
+    
+    public int getLimit() {
+        return limit;
+    }
+    
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return request.getServletPath().startsWith("/actuator");
+    }
+    
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain chain) throws ServletException, IOException {
+        boolean admitted;
+        try {
+            admitted = permits.tryAcquire(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            admitted = false;
+        }
+        if (!admitted) {
+            rejected.increment();
+            logger.debug("Rejected {} {}: {} requests in flight", request.getMethod(), request.getRequestURI(), limit);
+            response.setHeader("Retry-After", "1");
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, "Server busy, retry shortly");
+            return;
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+}
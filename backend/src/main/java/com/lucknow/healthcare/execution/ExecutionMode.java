@@ -0,0 +1,91 @@
+package com.lucknow.healthcare.execution;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Thread model used for request handling and blocking integration calls
+ * 
+ * VIRTUAL needs a Java 21+ runtime. The build targets Java 17, so virtual
+ * threads are created reflectively and the mode falls back to PLATFORM when
+ * the running JVM does not support them.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+public enum ExecutionMode {
+    
+    PLATFORM,
+    VIRTUAL;
+    
+    private static final Logger logger = LoggerFactory.getLogger(ExecutionMode.class);
+    
+    private static final Method OF_VIRTUAL = findOfVirtual();
+    
+    /**
+     * Resolve the effective mode
+     * 
+     * @param virtualRequested whether virtual threads were requested
+     * @return VIRTUAL if requested and supported by this JVM, otherwise PLATFORM
+     */
+    public static ExecutionMode resolve(boolean virtualRequested) {
+        if (!virtualRequested) {
+            return PLATFORM;
+        }
+        if (!virtualThreadsSupported()) {
+            logger.warn("Virtual threads requested but not supported by Java {}; using platform threads",
+                       Runtime.version().feature());
+            return PLATFORM;
+        }
+        return VIRTUAL;
+    }
+    
+    public static boolean virtualThreadsSupported() {
+        return OF_VIRTUAL != null;
+    }
+    
+    /**
+     * Create a thread factory for this mode
+     * 
+     * Platform threads are daemon threads named {@code <prefix>-N}; virtual
+     * threads get the same names.
+     */
+    public ThreadFactory threadFactory(String prefix) {
+        if (this == VIRTUAL) {
+            return virtualThreadFactory(prefix);
+        }
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+    
+    private static ThreadFactory virtualThreadFactory(String prefix) {
+        if (OF_VIRTUAL == null) {
+            throw new IllegalStateException("Virtual threads are not supported by this JVM");
+        }
+        try {
+            // Thread.ofVirtual().name(prefix + "-", 1).factory()
+            Object builder = OF_VIRTUAL.invoke(null);
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, prefix + "-", 1L);
+            return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Could not create virtual thread factory", e);
+        }
+    }
+    
+    private static Method findOfVirtual() {
+        try {
+            return Thread.class.getMethod("ofVirtual");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
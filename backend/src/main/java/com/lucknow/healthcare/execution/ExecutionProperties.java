@@ -0,0 +1,66 @@
+package com.lucknow.healthcare.execution;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Request admission limits
+ * 
+ * Tomcat's 200 platform threads (or no cap at all with virtual threads)
+ * let far more requests in than the database pool can serve, so the
+ * admission filter bounds in-flight requests in both modes. Unless
+ * maxConcurrentRequests is set, the limit is the primary pool size times
+ * requestsPerConnection, which leaves room for requests that are between
+ * queries or waiting on an outbound call. A request that cannot get in
+ * within admissionTimeout is answered with 503 instead of queueing on the
+ * connection pool.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@ConfigurationProperties(prefix = "app.execution")
+public class ExecutionProperties {
+    
+    /** Fixed limit; 0 derives it from the connection pool */
+    private int maxConcurrentRequests = 0;
+    
+    private int requestsPerConnection = 2;
+    
+    private Duration admissionTimeout = Duration.ofSeconds(2);
+    
+    public int getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+    
+    public void setMaxConcurrentRequests(int maxConcurrentRequests) {
+        this.maxConcurrentRequests = maxConcurrentRequests;
+    }
+    
+    public int getRequestsPerConnection() {
+        return requestsPerConnection;
+    }
+    
+    public void setRequestsPerConnection(int requestsPerConnection) {
+        this.requestsPerConnection = requestsPerConnection;
+    }
+    
+    /**
+     * @param connectionPoolSize maximum size of the primary connection pool
+     * @return the configured limit, or the one derived from the pool size
+     */
+    public int resolveMaxConcurrentRequests(int connectionPoolSize) {
+        if (maxConcurrentRequests > 0) {
+            return maxConcurrentRequests;
+        }
+        return Math.max(1, connectionPoolSize * requestsPerConnection);
+    }
+    
+    public Duration getAdmissionTimeout() {
+        return admissionTimeout;
+    }
+    
+    public void setAdmissionTimeout(Duration admissionTimeout) {
+        this.admissionTimeout = admissionTimeout;
+    }
+}
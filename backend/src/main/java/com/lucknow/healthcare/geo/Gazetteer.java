@@ -0,0 +1,121 @@
+package com.lucknow.healthcare.geo;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Offline geocoder backed by a local gazetteer of localities
+ * 
+ * Stands in for an external geocoding API. An address resolves to the
+ * centroid of the longest locality name (or alias) it contains, so
+ * "Gomti Nagar Extension" wins over "Gomti Nagar"; failing that, to the
+ * first locality listed for a six-digit PIN code in the address. Precision
+ * is therefore locality level, which is enough to rank providers by travel
+ * distance within the city.
+ * 
+ * File format: one locality per line as
+ * {@code name,pincode,latitude,longitude[,alias|alias...]}; lines starting
+ * with # are comments.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@Component
+public class Gazetteer {
+    
+    private static final Logger logger = LoggerFactory.getLogger(Gazetteer.class);
+    
+    private static final Pattern PIN_CODE = Pattern.compile("\\b(\\d{6})\\b");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^a-z0-9]+");
+    
+    /** Normalized names and aliases, longest first */
+    private final List<Map.Entry<String, GeoPoint>> names = new ArrayList<>();
+    private final Map<String, GeoPoint> pinCodes = new HashMap<>();
+    
+    public Gazetteer(@Value("${app.geo.gazetteer:classpath:geo/lucknow-gazetteer.csv}") Resource source) {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(source.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                add(line.split(","));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read gazetteer " + source.getDescription(), e);
+        }
+        names.sort(Comparator.comparingInt((Map.Entry<String, GeoPoint> e) -> e.getKey().length()).reversed());
+        logger.info("Gazetteer loaded: {} names, {} PIN codes", names.size(), pinCodes.size());
+    }
+    
+    private void add(String[] fields) {
+        if (fields.length < 4) {
+            throw new IllegalArgumentException("Gazetteer line needs name,pincode,latitude,longitude: " + String.join(",", fields));
+        }
+        GeoPoint point = new GeoPoint(Double.parseDouble(fields[2].trim()), Double.parseDouble(fields[3].trim()));
+        names.add(Map.entry(normalize(fields[0]), point));
+        if (fields.length > 4) {
+            for (String alias : fields[4].split("\\|")) {
+                names.add(Map.entry(normalize(alias), point));
+            }
+        }
+        String pinCode = fields[1].trim();
+        if (!pinCode.isEmpty()) {
+            pinCodes.putIfAbsent(pinCode, point);
+        }
+    }
+    
+    /**
+     * Locate an address
+     * 
+     * @param address free-text address
+     * @return the locality centroid, or empty if no locality or PIN code is recognised
+     */
+    public Optional<GeoPoint> geocode(String address) {
+        if (address == null || address.isBlank()) {
+            return Optional.empty();
+        }
+        String normalized = normalize(address);
+        for (Map.Entry<String, GeoPoint> name : names) {
+            if (normalized.contains(name.getKey())) {
+                return Optional.of(name.getValue());
+            }
+        }
+        Matcher pin = PIN_CODE.matcher(address);
+        while (pin.find()) {
+            GeoPoint point = pinCodes.get(pin.group(1));
+            if (point != null) {
+                return Optional.of(point);
+            }
+        }
+        return Optional.empty();
+    }
+    
+    /**
+     * Lower-case words separated by single spaces, padded with a space on
+     * each side so that contains() only matches whole words
+     */
+    private static String normalize(String text) {
+        return " " + NON_ALPHANUMERIC.matcher(text.toLowerCase(Locale.ROOT)).replaceAll(" ").trim() + " ";
+    }
+}
@@ -0,0 +1,204 @@
+package com.lucknow.healthcare.geo;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Immutable uniform-grid spatial index for k-nearest-neighbour queries
+ * 
+ * Points are bucketed into square cells of roughly cellKm on each side
+ * (longitude steps are scaled at the mean latitude of the points). A query
+ * scans rings of cells outwards from the origin's cell, keeping the k
+ * closest matches in a bounded heap, and stops once every unscanned cell is
+ * provably farther away than the current k-th match. At city scale with
+ * cells around a kilometre that touches a handful of cells per query.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+public final class GeoGrid {
+    
+    private static final double KM_PER_DEGREE_LATITUDE = 111.32;
+    
+    private final double latStep;
+    private final double lonStep;
+    /** Smallest cell side in km over the covered latitudes, for the stopping rule */
+    private final double minCellKm;
+    private final Map<Long, List<Entry>> cells = new HashMap<>();
+    private final int size;
+    private int minRow = Integer.MAX_VALUE;
+    private int maxRow = Integer.MIN_VALUE;
+    private int minCol = Integer.MAX_VALUE;
+    private int maxCol = Integer.MIN_VALUE;
+    
+    public GeoGrid(Collection<Entry> entries, double cellKm) {
+        if (cellKm <= 0) {
+            throw new IllegalArgumentException("Cell size must be positive");
+        }
+        double meanLatitude = entries.stream().mapToDouble(e -> e.latitude).average().orElse(0.0);
+        double maxAbsLatitude = entries.stream().mapToDouble(e -> Math.abs(e.latitude)).max().orElse(0.0);
+        this.latStep = cellKm / KM_PER_DEGREE_LATITUDE;
+        this.lonStep = cellKm / (KM_PER_DEGREE_LATITUDE * Math.max(0.01, Math.cos(Math.toRadians(meanLatitude))));
+        double narrowestLonKm = lonStep * KM_PER_DEGREE_LATITUDE * Math.cos(Math.toRadians(Math.min(89.0, maxAbsLatitude)));
+        // Slack for the flat-earth cell geometry versus haversine distances
+        this.minCellKm = 0.99 * Math.min(cellKm, narrowestLonKm);
+        
+        for (Entry entry : entries) {
+            int row = row(entry.latitude);
+            int col = col(entry.longitude);
+            cells.computeIfAbsent(key(row, col), k -> new ArrayList<>()).add(entry);
+            minRow = Math.min(minRow, row);
+            maxRow = Math.max(maxRow, row);
+            minCol = Math.min(minCol, col);
+            maxCol = Math.max(maxCol, col);
+        }
+        this.size = entries.size();
+    }
+    
+    /**
+     * Find the k nearest entries to a point
+     * 
+     * @param origin the query point
+     * @param k maximum number of matches
+     * @param serviceId only entries offering this service, or null for all
+     * @return matches ordered by increasing distance
+     */
+    public List<Match> nearest(GeoPoint origin, int k, UUID serviceId) {
+        if (k <= 0 || size == 0) {
+            return Collections.emptyList();
+        }
+        PriorityQueue<Match> best = new PriorityQueue<>(k + 1, Comparator.comparingDouble(Match::getDistanceKm).reversed());
+        int row0 = row(origin.getLatitude());
+        int col0 = col(origin.getLongitude());
+        
+        for (int r = 0; ; r++) {
+            // Rings 0..r-1 are scanned; any point in ring r or beyond is at least r-1 whole cells away
+            if (best.size() == k && best.peek().getDistanceKm() <= (r - 1) * minCellKm) {
+                break;
+            }
+            if (row0 - r < minRow && row0 + r > maxRow && col0 - r < minCol && col0 + r > maxCol) {
+                break;
+            }
+            int fromRow = Math.max(row0 - r, minRow);
+            int toRow = Math.min(row0 + r, maxRow);
+            for (int row = fromRow; row <= toRow; row++) {
+                if (Math.abs(row - row0) == r) {
+                    for (int col = Math.max(col0 - r, minCol); col <= Math.min(col0 + r, maxCol); col++) {
+                        scan(row, col, origin, k, serviceId, best);
+                    }
+                } else {
+                    if (col0 - r >= minCol) {
+                        scan(row, col0 - r, origin, k, serviceId, best);
+                    }
+                    if (col0 + r <= maxCol) {
+                        scan(row, col0 + r, origin, k, serviceId, best);
+                    }
+                }
+            }
+        }
+        
+        List<Match> matches = new ArrayList<>(best);
+        matches.sort(Comparator.comparingDouble(Match::getDistanceKm));
+        return matches;
+    }
+    
+    private void scan(int row, int col, GeoPoint origin, int k, UUID serviceId, PriorityQueue<Match> best) {
+        List<Entry> cell = cells.get(key(row, col));
+        if (cell == null) {
+            return;
+        }
+        for (Entry entry : cell) {
+            if (serviceId != null && !entry.serviceIds.contains(serviceId)) {
+                continue;
+            }
+            double distance = GeoPoint.distanceKm(origin.getLatitude(), origin.getLongitude(),
+                                                  entry.latitude, entry.longitude);
+            if (best.size() < k) {
+                best.add(new Match(entry.providerId, distance));
+            } else if (distance < best.peek().getDistanceKm()) {
+                best.poll();
+                best.add(new Match(entry.providerId, distance));
+            }
+        }
+    }
+    
+    private int row(double latitude) {
+        return (int) Math.floor(latitude / latStep);
+    }
+    
+    private int col(double longitude) {
+        return (int) Math.floor(longitude / lonStep);
+    }
+    
+    private static long key(int row, int col) {
+        return ((long) row << 32) | (col & 0xffffffffL);
+    }
+    
+    public int size() {
+        return size;
+    }
+    
+    /**
+     * An indexed provider location
+     */
+    public static final class Entry {
+        
+        private final UUID providerId;
+        private final double latitude;
+        private final double longitude;
+        private final Set<UUID> serviceIds;
+        
+        public Entry(UUID providerId, double latitude, double longitude, Set<UUID> serviceIds) {
+            this.providerId = providerId;
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.serviceIds = serviceIds;
+        }
+        
+        public UUID getProviderId() {
+            return providerId;
+        }
+        
+        public double getLatitude() {
+            return latitude;
+        }
+        
+        public double getLongitude() {
+            return longitude;
+        }
+        
+        public Set<UUID> getServiceIds() {
+            return serviceIds;
+        }
+    }
+    
+    /**
+     * A query result: provider and great-circle distance from the query point
+     */
+    public static final class Match {
+        
+        private final UUID providerId;
+        private final double distanceKm;
+        
+        public Match(UUID providerId, double distanceKm) {
+            this.providerId = providerId;
+            this.distanceKm = distanceKm;
+        }
+        
+        public UUID getProviderId() {
+            return providerId;
+        }
+        
+        public double getDistanceKm() {
+            return distanceKm;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.lucknow.healthcare.geo;
+
+/**
+ * A WGS84 coordinate in decimal degrees
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+public final class GeoPoint {
+    
+    static final double EARTH_RADIUS_KM = 6371.0088;
+    
+    private final double latitude;
+    private final double longitude;
+    
+    public GeoPoint(double latitude, double longitude) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("Invalid coordinates: " + latitude + ", " + longitude);
+        }
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+    
+    /**
+     * @return the point, or null unless both coordinates are set
+     */
+    public static GeoPoint ofNullable(Double latitude, Double longitude) {
+        return latitude != null && longitude != null ? new GeoPoint(latitude, longitude) : null;
+    }
+    
+    /**
+     * Great-circle distance (haversine)
+     */
+    public double distanceKm(GeoPoint other) {
+        return distanceKm(latitude, longitude, other.latitude, other.longitude);
+    }
+    
+    static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+            + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+    
+    public double getLatitude() {
+        return latitude;
+    }
+    
+    public double getLongitude() {
+        return longitude;
+    }
+    
+    @Override
+    public String toString() {
+        return latitude + "," + longitude;
+    }
+}
@@ -0,0 +1,109 @@
+package com.lucknow.healthcare.geo;
+
+import com.lucknow.healthcare.entity.Provider;
+import com.lucknow.healthcare.entity.User;
+import com.lucknow.healthcare.repository.ProviderRepository;
+import com.lucknow.healthcare.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Geocodes stored addresses that have no coordinates yet
+ * 
+ * Runs once on startup in batches of one transaction each, walking users
+ * and providers in id order so addresses the gazetteer cannot resolve are
+ * passed over rather than fetched again. New and updated addresses are
+ * geocoded when they are saved.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@Component
+public class GeocodingBackfill {
+    
+    private static final Logger logger = LoggerFactory.getLogger(GeocodingBackfill.class);
+    
+    private static final int BATCH_SIZE = 500;
+    private static final UUID FIRST = new UUID(0, 0);
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private ProviderRepository providerRepository;
+    
+    @Autowired
+    private Gazetteer gazetteer;
+    
+    @Autowired
+    private ProviderGeoIndex providerGeoIndex;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @Value("${app.geo.backfill-on-startup:true}")
+    private boolean enabled;
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (!enabled) {
+            return;
+        }
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        
+        int users = backfill(transaction, userRepository::findMissingCoordinatesAfter,
+            User::getId, User::getAddress, (user, point) -> {
+                user.setLatitude(point.getLatitude());
+                user.setLongitude(point.getLongitude());
+            });
+        int providers = backfill(transaction, providerRepository::findMissingCoordinatesAfter,
+            Provider::getId, Provider::getAddress, (provider, point) -> {
+                provider.setLatitude(point.getLatitude());
+                provider.setLongitude(point.getLongitude());
+            });
+        
+        if (users > 0 || providers > 0) {
+            logger.info("Geocoded {} user and {} provider addresses", users, providers);
+        }
+        if (providers > 0) {
+            providerGeoIndex.refresh();
+        }
+    }
+    
+    private <T> int backfill(TransactionTemplate transaction, BiFunction<UUID, Pageable, List<T>> findBatch,
+                             Function<T, UUID> id, Function<T, String> address, BiConsumer<T, GeoPoint> locate) {
+        int located = 0;
+        UUID after = FIRST;
+        while (after != null) {
+            UUID from = after;
+            int[] batchLocated = new int[1];
+            after = transaction.execute(status -> {
+                List<T> batch = findBatch.apply(from, PageRequest.of(0, BATCH_SIZE));
+                for (T row : batch) {
+                    gazetteer.geocode(address.apply(row)).ifPresent(point -> {
+                        locate.accept(row, point);
+                        batchLocated[0]++;
+                    });
+                }
+                return batch.size() < BATCH_SIZE ? null : id.apply(batch.get(batch.size() - 1));
+            });
+            located += batchLocated[0];
+        }
+        return located;
+    }
+}
@@ -0,0 +1,28 @@
+package com.lucknow.healthcare.geo;
+
+import com.lucknow.healthcare.entity.Provider;
+
+/**
+ * A provider together with its distance from the search origin
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+public class NearbyProvider {
+    
+    private final Provider provider;
+    private final double distanceKm;
+    
+    public NearbyProvider(Provider provider, double distanceKm) {
+        this.provider = provider;
+        this.distanceKm = distanceKm;
+    }
+    
+    public Provider getProvider() {
+        return provider;
+    }
+    
+    public double getDistanceKm() {
+        return distanceKm;
+    }
+}
@@ -0,0 +1,85 @@
+package com.lucknow.healthcare.geo;
+
+import com.lucknow.healthcare.entity.Provider;
+import com.lucknow.healthcare.entity.Service;
+import com.lucknow.healthcare.repository.ProviderRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * In-memory spatial index of available, verified providers
+ * 
+ * Holds an immutable {@link GeoGrid} snapshot that is rebuilt on startup
+ * and then on a fixed delay, so queries never touch the database and never
+ * wait for a rebuild. Availability can lag by up to one refresh interval;
+ * assignment still checks the provider's current status.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@Component
+public class ProviderGeoIndex {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ProviderGeoIndex.class);
+    
+    private final ProviderRepository providerRepository;
+    private final double cellKm;
+    private volatile GeoGrid grid;
+    
+    public ProviderGeoIndex(ProviderRepository providerRepository, MeterRegistry meterRegistry,
+                            @Value("${app.geo.grid-cell-km:1.0}") double cellKm) {
+        this.providerRepository = providerRepository;
+        this.cellKm = cellKm;
+        this.grid = new GeoGrid(Collections.emptyList(), cellKm);
+        Gauge.builder("geo.index.providers", this, index -> index.grid.size())
+            .description("Providers in the proximity index")
+            .register(meterRegistry);
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.geo.index-refresh-ms:60000}",
+               initialDelayString = "${app.geo.index-refresh-ms:60000}")
+    @Transactional(readOnly = true)
+    public void refresh() {
+        List<Provider> providers = providerRepository.findLocatedAvailableVerifiedProviders();
+        List<GeoGrid.Entry> entries = new ArrayList<>(providers.size());
+        for (Provider provider : providers) {
+            Set<UUID> serviceIds = new HashSet<>();
+            if (provider.getServices() != null) {
+                for (Service service : provider.getServices()) {
+                    serviceIds.add(service.getId());
+                }
+            }
+            entries.add(new GeoGrid.Entry(provider.getId(), provider.getLatitude(), provider.getLongitude(), serviceIds));
+        }
+        grid = new GeoGrid(entries, cellKm);
+        logger.debug("Provider geo index rebuilt with {} providers", entries.size());
+    }
+    
+    /**
+     * Nearest indexed providers to a point
+     * 
+     * @param origin the query point
+     * @param limit maximum number of providers
+     * @param serviceId only providers offering this service, or null for any
+     * @return matches ordered by distance
+     */
+    public List<GeoGrid.Match> nearest(GeoPoint origin, int limit, UUID serviceId) {
+        return grid.nearest(origin, limit, serviceId);
+    }
+}
@@ -0,0 +1,23 @@
+package com.lucknow.healthcare.logging;
+
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+
+/**
+ * Shared SLF4J markers
+ * 
+ * Events tagged with {@link #SAMPLED} are high-frequency diagnostics
+ * (one per request or more). They are passed through
+ * {@link SamplingTurboFilter}, which lets only one in N of them reach the
+ * appenders so debug logging can stay enabled under load.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+public final class LogMarkers {
+    
+    public static final Marker SAMPLED = MarkerFactory.getMarker("SAMPLED");
+    
+    private LogMarkers() {
+    }
+}
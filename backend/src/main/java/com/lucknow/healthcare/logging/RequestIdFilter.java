@@ -0,0 +1,62 @@
+package com.lucknow.healthcare.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * Request ID Filter
+ * 
+ * Tags every request with a correlation ID. An incoming
+ * {@code X-Request-ID} header is reused when it looks sane, otherwise a
+ * new ID is generated. The ID is put in the MDC for the duration of the
+ * request, so every log line carries it, and echoed back in the response.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestIdFilter extends OncePerRequestFilter {
+    
+    public static final String HEADER = "X-Request-ID";
+    public static final String MDC_KEY = "requestId";
+    
+    private static final int MAX_LENGTH = 64;
+    
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain chain) throws ServletException, IOException {
+        String requestId = resolveRequestId(request.getHeader(HEADER));
+        MDC.put(MDC_KEY, requestId);
+        response.setHeader(HEADER, requestId);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            MDC.remove(MDC_KEY);
+        }
+    }
+    
+    static String resolveRequestId(String header) {
+        if (header == null || header.isEmpty() || header.length() > MAX_LENGTH) {
+            return UUID.randomUUID().toString();
+        }
+        for (int i = 0; i < header.length(); i++) {
+            char c = header.charAt(i);
+            if (!(Character.isLetterOrDigit(c) || c == '-' || c == '_' || c == '.')) {
+                return UUID.randomUUID().toString();
+            }
+        }
+        return header;
+    }
+}
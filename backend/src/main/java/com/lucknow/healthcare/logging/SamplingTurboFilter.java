@@ -0,0 +1,57 @@
+package com.lucknow.healthcare.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Logback turbo filter that samples high-frequency events
+ * 
+ * Only events carrying the {@link LogMarkers#SAMPLED} marker are affected.
+ * For each distinct message format one event in {@code sampleRate} is let
+ * through; the rest are denied before a logging event is even built.
+ * Warnings and errors are never sampled. Formats are compile-time
+ * constants, so the counter map stays small.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+public class SamplingTurboFilter extends TurboFilter {
+    
+    private final ConcurrentMap<String, AtomicLong> counters = new ConcurrentHashMap<>();
+    
+    private int sampleRate = 100;
+    
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format,
+                              Object[] params, Throwable t) {
+        if (marker == null || !marker.contains(LogMarkers.SAMPLED)
+                || level.isGreaterOrEqual(Level.WARN) || sampleRate <= 1) {
+            return FilterReply.NEUTRAL;
+        }
+        // isXxxEnabled(marker) checks carry no format; let the level check decide
+        if (format == null) {
+            return FilterReply.NEUTRAL;
+        }
+        // Don't burn a sample on events the logger would drop anyway
+        if (!level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.DENY;
+        }
+        long count = counters.computeIfAbsent(format, key -> new AtomicLong()).getAndIncrement();
+        return count % sampleRate == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+    
+    public int getSampleRate() {
+        return sampleRate;
+    }
+    
+    public void setSampleRate(int sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+}
@@ -0,0 +1,57 @@
+package com.lucknow.healthcare.mapper;
+
+import com.lucknow.healthcare.dto.PatientDocumentDTO;
+import com.lucknow.healthcare.entity.PatientDocument;
+import com.lucknow.healthcare.preview.PreviewRenderer;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Mapper for converting PatientDocument entities to DTOs
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@Component
+public class PatientDocumentMapper {
+    
+    /**
+     * Convert PatientDocument entity to PatientDocumentDTO
+     */
+    public PatientDocumentDTO toDTO(PatientDocument document) {
+        if (document == null) {
+            return null;
+        }
+        
+        PatientDocumentDTO dto = new PatientDocumentDTO();
+        dto.setId(document.getId());
+        dto.setPatientId(document.getPatient() != null ? document.getPatient().getId() : null);
+        dto.setDocumentType(document.getDocumentType());
+        dto.setFileName(document.getFileName());
+        dto.setFileSize(document.getFileSize());
+        dto.setMimeType(document.getMimeType());
+        dto.setContentHash(document.getContentHash());
+        dto.setPreviewAvailable(document.getContentHash() != null && PreviewRenderer.supports(document.getMimeType()));
+        dto.setDescription(document.getDescription());
+        dto.setDocumentDate(document.getDocumentDate());
+        dto.setIsVerified(document.getIsVerified());
+        dto.setUploadedAt(document.getUploadedAt());
+        
+        return dto;
+    }
+    
+    /**
+     * Convert list of PatientDocument entities to DTOs
+     */
+    public List<PatientDocumentDTO> toDTOList(List<PatientDocument> documents) {
+        if (documents == null) {
+            return null;
+        }
+        
+        return documents.stream()
+                .map(this::toDTO)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,129 @@
+package com.lucknow.healthcare.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Metrics facade for service-layer hot paths
+ * 
+ * Wraps the Micrometer registry so services can time an operation and tag
+ * it by outcome without repeating builder boilerplate. Every timer publishes
+ * a percentile histogram plus SLO buckets, so the Prometheus endpoint can
+ * answer latency percentile and SLO burn queries directly.
+ * 
+ * Outcome tags:
+ * <ul>
+ *   <li>success  - the operation completed</li>
+ *   <li>rejected - a business rule refused it (IllegalArgumentException / IllegalStateException)</li>
+ *   <li>denied   - a SecurityException was raised</li>
+ *   <li>error    - any other exception</li>
+ * </ul>
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@Component
+public class ServiceMetrics {
+    
+    public static final String OUTCOME_SUCCESS = "success";
+    public static final String OUTCOME_REJECTED = "rejected";
+    public static final String OUTCOME_DENIED = "denied";
+    public static final String OUTCOME_ERROR = "error";
+    
+    private static final Duration[] SLO_BOUNDARIES = {
+        Duration.ofMillis(50), Duration.ofMillis(100), Duration.ofMillis(250),
+        Duration.ofMillis(500), Duration.ofSeconds(1), Duration.ofSeconds(2)
+    };
+    
+    private final MeterRegistry meterRegistry;
+    
+    @Autowired
+    public ServiceMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+    
+    /**
+     * Time an operation and tag it with its outcome
+     * 
+     * @param name the timer name, e.g. "booking.create"
+     * @param operation the work to time
+     * @param tags additional key/value tag pairs
+     * @return the operation result
+     */
+    public <T> T timed(String name, Supplier<T> operation, String... tags) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            T result = operation.get();
+            stop(sample, name, OUTCOME_SUCCESS, tags);
+            return result;
+        } catch (RuntimeException e) {
+            stop(sample, name, outcomeOf(e), tags);
+            throw e;
+        }
+    }
+    
+    /**
+     * Start a timer sample for operations whose outcome is decided by the caller
+     */
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+    
+    /**
+     * Stop a sample and record it under the given outcome
+     */
+    public void stop(Timer.Sample sample, String name, String outcome, String... tags) {
+        sample.stop(timer(name, outcome, tags));
+    }
+    
+    /**
+     * Increment a counter tagged with the given key/value pairs
+     */
+    public void increment(String name, String... tags) {
+        Counter.builder(name)
+            .tags(tags)
+            .register(meterRegistry)
+            .increment();
+    }
+    
+    /**
+     * Add an amount to a counter tagged with the given key/value pairs
+     */
+    public void increment(String name, long amount, String... tags) {
+        if (amount <= 0) {
+            return;
+        }
+        Counter.builder(name)
+            .tags(tags)
+            .register(meterRegistry)
+            .increment(amount);
+    }
+    
+    /**
+     * Map an exception to an outcome tag
+     */
+    public static String outcomeOf(Throwable e) {
+        if (e instanceof IllegalArgumentException || e instanceof IllegalStateException) {
+            return OUTCOME_REJECTED;
+        }
+        if (e instanceof SecurityException) {
+            return OUTCOME_DENIED;
+        }
+        return OUTCOME_ERROR;
+    }
+    
+    private Timer timer(String name, String outcome, String... tags) {
+        return Timer.builder(name)
+            .tags(Tags.of(tags).and("outcome", outcome))
+            .publishPercentileHistogram()
+            .serviceLevelObjectives(SLO_BOUNDARIES)
+            .register(meterRegistry);
+    }
+}
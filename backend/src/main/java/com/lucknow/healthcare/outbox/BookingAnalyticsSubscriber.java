@@ -0,0 +1,64 @@
+package com.lucknow.healthcare.outbox;
+
+import com.lucknow.healthcare.enums.BookingStatus;
+import com.lucknow.healthcare.event.BookingDomainEvent;
+import com.lucknow.healthcare.repository.BookingRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Booking lifecycle rollups for dashboards
+ * 
+ * Counts lifecycle events by type and target status, and records how long
+ * bookings take from creation to acceptance and to completion. Driven by
+ * the outbox, so every committed change is counted (at least once) no
+ * matter which code path made it.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@Component
+public class BookingAnalyticsSubscriber implements BookingEventSubscriber {
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @Autowired
+    private BookingRepository bookingRepository;
+    
+    @Override
+    public String getName() {
+        return "analytics";
+    }
+    
+    @Override
+    public void onEvent(BookingDomainEvent event) {
+        BookingStatus to = event.getToStatus();
+        Counter.builder("booking.lifecycle.events")
+            .description("Booking lifecycle events relayed from the outbox")
+            .tag("type", event.getType().name())
+            .tag("to", to != null ? to.name() : "none")
+            .register(meterRegistry)
+            .increment();
+        
+        if (event.getType() == BookingDomainEvent.Type.STATUS_CHANGED
+                && (to == BookingStatus.CONFIRMED || to == BookingStatus.COMPLETED)) {
+            bookingRepository.findById(event.getBookingId()).ifPresent(booking -> {
+                LocalDateTime createdAt = booking.getCreatedAt();
+                if (createdAt != null) {
+                    Timer.builder("booking.lifecycle.time_to_status")
+                        .description("Time from booking creation to confirmation or completion")
+                        .tag("status", to.name())
+                        .register(meterRegistry)
+                        .record(Duration.between(createdAt, event.getOccurredAt()));
+                }
+            });
+        }
+    }
+}
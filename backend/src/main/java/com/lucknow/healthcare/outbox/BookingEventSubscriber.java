@@ -0,0 +1,26 @@
+package com.lucknow.healthcare.outbox;
+
+import com.lucknow.healthcare.event.BookingDomainEvent;
+
+/**
+ * In-process consumer of booking domain events
+ * 
+ * Called by the outbox relay, one event at a time in commit order, inside a
+ * transaction of its own that also records the delivery to this subscriber.
+ * Database changes made by a subscriber therefore commit together with its
+ * delivery record; a thrown exception rolls them back and the event is
+ * redelivered later to this subscriber only. Side effects outside the
+ * database should be deferred until that transaction commits.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+public interface BookingEventSubscriber {
+    
+    /**
+     * Name used in logs and metrics
+     */
+    String getName();
+    
+    void onEvent(BookingDomainEvent event);
+}
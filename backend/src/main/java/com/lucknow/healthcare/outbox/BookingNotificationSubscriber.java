@@ -0,0 +1,92 @@
+package com.lucknow.healthcare.outbox;
+
+import com.lucknow.healthcare.entity.Booking;
+import com.lucknow.healthcare.event.BookingDomainEvent;
+import com.lucknow.healthcare.repository.BookingRepository;
+import com.lucknow.healthcare.service.interfaces.EmailNotificationService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Objects;
+
+/**
+ * Emails customers and providers about booking lifecycle changes
+ * 
+ * The booking is read when the event is relayed. A status update is only
+ * sent if the booking still has that status, so a customer whose booking
+ * moved on in the meantime gets one mail for the latest state. A series
+ * operation writes an event per occurrence; only the first one, which
+ * carries the occurrence count, is mailed. Mail is
+ * handed to the application task executor after the delivery transaction
+ * commits, so a rolled-back delivery sends nothing and SMTP latency does
+ * not hold up the relay.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@Component
+public class BookingNotificationSubscriber implements BookingEventSubscriber {
+    
+    @Autowired
+    private BookingRepository bookingRepository;
+    
+    @Autowired
+    private EmailNotificationService emailNotificationService;
+    
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private TaskExecutor taskExecutor;
+    
+    @Override
+    public String getName() {
+        return "notifications";
+    }
+    
+    @Override
+    public void onEvent(BookingDomainEvent event) {
+        if (event.getData().containsKey(BookingDomainEvent.SERIES_ID)
+                && !event.getData().containsKey(BookingDomainEvent.SERIES_OCCURRENCES)) {
+            return;
+        }
+        
+        Booking booking = bookingRepository.findById(event.getBookingId()).orElse(null);
+        if (booking == null) {
+            return;
+        }
+        
+        switch (event.getType()) {
+            case CREATED -> sendAfterCommit(() -> emailNotificationService.sendBookingConfirmation(booking));
+            case STATUS_CHANGED -> {
+                if (booking.getStatus() == event.getToStatus()) {
+                    String previous = event.getFromStatus().name();
+                    sendAfterCommit(() -> emailNotificationService.sendBookingStatusUpdate(booking, previous));
+                }
+            }
+            case PROVIDER_ASSIGNED -> {
+                if (booking.getProvider() != null && Objects.equals(booking.getProvider().getId(), event.getProviderId())) {
+                    sendAfterCommit(() -> emailNotificationService.sendProviderAssignment(booking, booking.getProvider()));
+                }
+            }
+            default -> {
+                // rescheduling is confirmed in the response; no mail template yet
+            }
+        }
+    }
+    
+    private void sendAfterCommit(Runnable mail) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            taskExecutor.execute(mail);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                taskExecutor.execute(mail);
+            }
+        });
+    }
+}
@@ -0,0 +1,75 @@
+package com.lucknow.healthcare.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lucknow.healthcare.entity.BookingOutboxEvent;
+import com.lucknow.healthcare.event.BookingDomainEvent;
+import com.lucknow.healthcare.repository.BookingOutboxRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Writes booking domain events to the outbox
+ * 
+ * Must be called inside the transaction that changes the booking, so the
+ * event exists if and only if the change commits. After commit the relay is
+ * woken up instead of waiting for its next poll.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@Component
+public class BookingOutbox {
+    
+    @Autowired
+    private BookingOutboxRepository outboxRepository;
+    
+    @Autowired
+    private BookingOutboxRelay relay;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    /**
+     * Append an event for a booking
+     * 
+     * @param bookingId the booking
+     * @param type the event type
+     * @param attributes event attributes as alternating keys and values; null values are left out
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(UUID bookingId, BookingDomainEvent.Type type, Object... attributes) {
+        if (attributes.length % 2 != 0) {
+            throw new IllegalArgumentException("Attributes must be key/value pairs");
+        }
+        Map<String, String> data = new LinkedHashMap<>();
+        for (int i = 0; i < attributes.length; i += 2) {
+            if (attributes[i + 1] != null) {
+                data.put(attributes[i].toString(), attributes[i + 1].toString());
+            }
+        }
+        
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(data);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize booking event", e);
+        }
+        outboxRepository.save(new BookingOutboxEvent(bookingId, type, payload));
+        
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                relay.wakeUp();
+            }
+        });
+    }
+}
@@ -0,0 +1,324 @@
+package com.lucknow.healthcare.outbox;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lucknow.healthcare.entity.BookingOutboxDelivery;
+import com.lucknow.healthcare.entity.BookingOutboxEvent;
+import com.lucknow.healthcare.event.BookingDomainEvent;
+import com.lucknow.healthcare.repository.BookingOutboxDeliveryRepository;
+import com.lucknow.healthcare.repository.BookingOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Relays booking outbox events to subscribers
+ * 
+ * A single relay thread per node polls the unpublished head of the outbox
+ * in batches, and is woken right after commit by {@link BookingOutbox}. A
+ * batch runs under a cluster-wide advisory lock, so only one node relays at
+ * a time. Each subscriber handles an event in its own transaction together
+ * with a delivery record for (event, subscriber); the event is marked
+ * published once every subscriber has a record. When a subscriber fails,
+ * only that subscriber is retried, and later events for the same booking
+ * are held back until it succeeds, keeping per-booking order. Retries back
+ * off exponentially from retryBackoff up to maxRetryBackoff, so the
+ * attempts last through an outage of the mail server or Redis rather than
+ * being spent on consecutive polls. After maxAttempts the event is
+ * dead-lettered (published with its error) so one bad event cannot stall a
+ * booking forever.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@Component
+public class BookingOutboxRelay {
+    
+    private static final Logger logger = LoggerFactory.getLogger(BookingOutboxRelay.class);
+    
+    // Arbitrary application-wide key for pg_try_advisory_xact_lock
+    static final long RELAY_LOCK_KEY = 0x626f6f6b696e67L;
+    
+    private static final TypeReference<Map<String, String>> PAYLOAD_TYPE = new TypeReference<>() {};
+    
+    private final BookingOutboxRepository outboxRepository;
+    private final BookingOutboxDeliveryRepository deliveryRepository;
+    private final List<BookingEventSubscriber> subscribers;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate batchTransaction;
+    private final TransactionTemplate eventTransaction;
+    private final int batchSize;
+    private final long pollIntervalMillis;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+    private final long maxRetryBackoffMillis;
+    private final int retentionDays;
+    
+    private final Object signal = new Object();
+    private final AtomicLong oldestPendingAgeMillis = new AtomicLong();
+    private final Timer lag;
+    private final Counter delivered;
+    private final Counter failed;
+    private final Counter deadLettered;
+    
+    private boolean wakeRequested;
+    private volatile boolean running;
+    private Thread relayThread;
+    
+    public BookingOutboxRelay(BookingOutboxRepository outboxRepository,
+                              BookingOutboxDeliveryRepository deliveryRepository,
+                              List<BookingEventSubscriber> subscribers,
+                              ObjectMapper objectMapper,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry,
+                              @Value("${app.outbox.batch-size:100}") int batchSize,
+                              @Value("${app.outbox.poll-interval-ms:1000}") long pollIntervalMillis,
+                              @Value("${app.outbox.max-attempts:20}") int maxAttempts,
+                              @Value("${app.outbox.retry-backoff-ms:1000}") long retryBackoffMillis,
+                              @Value("${app.outbox.max-retry-backoff-ms:300000}") long maxRetryBackoffMillis,
+                              @Value("${app.outbox.retention-days:7}") int retentionDays) {
+        this.outboxRepository = outboxRepository;
+        this.deliveryRepository = deliveryRepository;
+        this.subscribers = subscribers;
+        this.objectMapper = objectMapper;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.eventTransaction = new TransactionTemplate(transactionManager);
+        this.eventTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.batchSize = batchSize;
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.maxRetryBackoffMillis = maxRetryBackoffMillis;
+        this.retentionDays = retentionDays;
+        
+        this.lag = Timer.builder("booking.outbox.lag")
+            .description("Time from commit of a booking change to delivery of its event")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+        Gauge.builder("booking.outbox.oldest.age", oldestPendingAgeMillis, AtomicLong::get)
+            .description("Age in milliseconds of the oldest undelivered event at the last relay pass")
+            .baseUnit("milliseconds")
+            .register(meterRegistry);
+        this.delivered = Counter.builder("booking.outbox.events").tag("outcome", "delivered").register(meterRegistry);
+        this.failed = Counter.builder("booking.outbox.events").tag("outcome", "failed").register(meterRegistry);
+        this.deadLettered = Counter.builder("booking.outbox.events").tag("outcome", "dead_lettered").register(meterRegistry);
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        logger.info("Booking outbox relay starting with {} subscribers", subscribers.size());
+        running = true;
+        relayThread = new Thread(this::runLoop, "booking-outbox-relay");
+        relayThread.setDaemon(true);
+        relayThread.start();
+    }
+    
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (relayThread != null) {
+            relayThread.interrupt();
+        }
+    }
+    
+    /**
+     * Ask the relay to run a pass now rather than at the next poll
+     */
+    public void wakeUp() {
+        synchronized (signal) {
+            wakeRequested = true;
+            signal.notifyAll();
+        }
+    }
+    
+    /**
+     * Delete delivered events past the retention period
+     */
+    @Scheduled(cron = "${app.outbox.cleanup-cron:0 30 3 * * *}")
+    public void purgePublished() {
+        Integer deleted = batchTransaction.execute(status ->
+            outboxRepository.deletePublishedBefore(LocalDateTime.now().minusDays(retentionDays)));
+        logger.info("Purged {} delivered booking events older than {} days", deleted, retentionDays);
+    }
+    
+    private void runLoop() {
+        while (running) {
+            int published = 0;
+            try {
+                published = relayBatch();
+            } catch (Exception e) {
+                logger.warn("Booking outbox relay pass failed: {}", e.getMessage());
+            }
+            if (published < batchSize) {
+                awaitWork();
+            }
+        }
+    }
+    
+    private void awaitWork() {
+        synchronized (signal) {
+            long deadline = System.currentTimeMillis() + pollIntervalMillis;
+            long remaining = pollIntervalMillis;
+            while (running && !wakeRequested && remaining > 0) {
+                try {
+                    signal.wait(remaining);
+                } catch (InterruptedException e) {
+                    running = false;
+                    return;
+                }
+                remaining = deadline - System.currentTimeMillis();
+            }
+            wakeRequested = false;
+        }
+    }
+    
+    /**
+     * Relay one batch if no other node is relaying
+     * 
+     * @return number of events delivered (or dead-lettered)
+     */
+    public int relayBatch() {
+        Integer published = batchTransaction.execute(status -> {
+            if (!outboxRepository.tryRelayLock(RELAY_LOCK_KEY)) {
+                return 0;
+            }
+            List<BookingOutboxEvent> batch = outboxRepository.findDueUnpublished(LocalDateTime.now(),
+                PageRequest.of(0, batchSize));
+            oldestPendingAgeMillis.set(batch.isEmpty() ? 0
+                : Duration.between(batch.get(0).getCreatedAt(), LocalDateTime.now()).toMillis());
+            return deliver(batch);
+        });
+        return published != null ? published : 0;
+    }
+    
+    int deliver(List<BookingOutboxEvent> batch) {
+        Map<Long, Set<String>> deliveredTo = deliveredSubscribers(batch);
+        Set<UUID> heldBack = new HashSet<>();
+        int published = 0;
+        for (BookingOutboxEvent row : batch) {
+            if (heldBack.contains(row.getBookingId())) {
+                continue;
+            }
+            String failure;
+            try {
+                failure = deliverToSubscribers(row, deliveredTo.getOrDefault(row.getId(), Set.of()));
+                if (failure == null) {
+                    eventTransaction.executeWithoutResult(status ->
+                        outboxRepository.markPublished(row.getId(), LocalDateTime.now()));
+                }
+            } catch (Exception e) {
+                failure = describe(e);
+            }
+            if (failure == null) {
+                lag.record(Duration.between(row.getCreatedAt(), LocalDateTime.now()).toNanos(), TimeUnit.NANOSECONDS);
+                delivered.increment();
+                published++;
+            } else if (onFailure(row, failure)) {
+                published++;
+            } else {
+                heldBack.add(row.getBookingId());
+            }
+        }
+        return published;
+    }
+    
+    /**
+     * Run the subscribers that have not yet handled an event, each in its
+     * own transaction with its delivery record
+     * 
+     * @return the failures, or null if every subscriber has now handled it
+     */
+    private String deliverToSubscribers(BookingOutboxEvent row, Set<String> alreadyDelivered) throws Exception {
+        BookingDomainEvent event = toDomainEvent(row);
+        String failure = null;
+        for (BookingEventSubscriber subscriber : subscribers) {
+            if (alreadyDelivered.contains(subscriber.getName())) {
+                continue;
+            }
+            try {
+                eventTransaction.executeWithoutResult(status -> {
+                    subscriber.onEvent(event);
+                    deliveryRepository.save(new BookingOutboxDelivery(row.getId(), subscriber.getName()));
+                });
+            } catch (Exception e) {
+                String error = subscriber.getName() + ": " + describe(e);
+                failure = failure == null ? error : failure + "; " + error;
+            }
+        }
+        return failure;
+    }
+    
+    private Map<Long, Set<String>> deliveredSubscribers(List<BookingOutboxEvent> batch) {
+        if (batch.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> eventIds = batch.stream().map(BookingOutboxEvent::getId).toList();
+        return deliveryRepository.findByEventIdIn(eventIds).stream()
+            .collect(Collectors.groupingBy(BookingOutboxDelivery::getEventId,
+                Collectors.mapping(BookingOutboxDelivery::getSubscriber, Collectors.toSet())));
+    }
+    
+    /**
+     * @return true if the event was dead-lettered
+     */
+    private boolean onFailure(BookingOutboxEvent row, String error) {
+        int attempt = row.getAttempts() + 1;
+        boolean deadLetter = attempt >= maxAttempts;
+        LocalDateTime now = LocalDateTime.now();
+        Duration backoff = retryBackoff(attempt);
+        eventTransaction.executeWithoutResult(status -> outboxRepository.recordFailure(row.getId(), error,
+            deadLetter ? null : now.plus(backoff), deadLetter ? now : null));
+        if (deadLetter) {
+            deadLettered.increment();
+            logger.error("Dead-lettered booking event {} ({} for booking {}) after {} attempts: {}",
+                        row.getId(), row.getEventType(), row.getBookingId(), maxAttempts, error);
+        } else {
+            failed.increment();
+            logger.warn("Delivery of booking event {} ({} for booking {}) failed, attempt {}, retrying in {} ms: {}",
+                       row.getId(), row.getEventType(), row.getBookingId(), attempt, backoff.toMillis(), error);
+        }
+        return deadLetter;
+    }
+    
+    /**
+     * Delay before the next attempt after the given failed attempt, doubling
+     * from retryBackoff and capped at maxRetryBackoff
+     */
+    Duration retryBackoff(int attempt) {
+        int doublings = Math.min(attempt - 1, 30);
+        return Duration.ofMillis(Math.min(retryBackoffMillis << doublings, maxRetryBackoffMillis));
+    }
+    
+    private static String describe(Exception e) {
+        return e.getClass().getSimpleName() + ": " + e.getMessage();
+    }
+    
+    private BookingDomainEvent toDomainEvent(BookingOutboxEvent row) throws Exception {
+        Map<String, String> data = objectMapper.readValue(row.getPayload(), PAYLOAD_TYPE);
+        return new BookingDomainEvent(row.getId(), row.getBookingId(), row.getEventType(), data, row.getCreatedAt());
+    }
+}
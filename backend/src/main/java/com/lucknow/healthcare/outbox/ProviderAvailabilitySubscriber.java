@@ -0,0 +1,72 @@
+package com.lucknow.healthcare.outbox;
+
+import com.lucknow.healthcare.entity.Provider;
+import com.lucknow.healthcare.enums.AvailabilityStatus;
+import com.lucknow.healthcare.enums.BookingStatus;
+import com.lucknow.healthcare.event.BookingDomainEvent;
+import com.lucknow.healthcare.repository.BookingRepository;
+import com.lucknow.healthcare.repository.ProviderRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Keeps provider availability in step with their bookings
+ * 
+ * A provider becomes BUSY when one of their bookings starts and AVAILABLE
+ * again when their last in-progress booking completes or is cancelled.
+ * Only the AVAILABLE/BUSY pair is switched; OFF_DUTY and ON_LEAVE are set
+ * by the provider and left alone. Both transitions are idempotent.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@Component
+public class ProviderAvailabilitySubscriber implements BookingEventSubscriber {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ProviderAvailabilitySubscriber.class);
+    
+    @Autowired
+    private ProviderRepository providerRepository;
+    
+    @Autowired
+    private BookingRepository bookingRepository;
+    
+    @Override
+    public String getName() {
+        return "provider-availability";
+    }
+    
+    @Override
+    public void onEvent(BookingDomainEvent event) {
+        if (event.getType() != BookingDomainEvent.Type.STATUS_CHANGED || event.getProviderId() == null) {
+            return;
+        }
+        BookingStatus to = event.getToStatus();
+        if (to != BookingStatus.IN_PROGRESS && to != BookingStatus.COMPLETED && to != BookingStatus.CANCELLED) {
+            return;
+        }
+        
+        UUID providerId = event.getProviderId();
+        Provider provider = providerRepository.findById(providerId).orElse(null);
+        if (provider == null) {
+            return;
+        }
+        
+        if (to == BookingStatus.IN_PROGRESS) {
+            if (provider.getAvailabilityStatus() == AvailabilityStatus.AVAILABLE) {
+                provider.setAvailabilityStatus(AvailabilityStatus.BUSY);
+                providerRepository.save(provider);
+                logger.info("Provider {} set to BUSY (booking {} started)", providerId, event.getBookingId());
+            }
+        } else if (provider.getAvailabilityStatus() == AvailabilityStatus.BUSY
+                && bookingRepository.findByProviderAndStatus(provider, BookingStatus.IN_PROGRESS).isEmpty()) {
+            provider.setAvailabilityStatus(AvailabilityStatus.AVAILABLE);
+            providerRepository.save(provider);
+            logger.info("Provider {} set to AVAILABLE (no bookings in progress)", providerId);
+        }
+    }
+}
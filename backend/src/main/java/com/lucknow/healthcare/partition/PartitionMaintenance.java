@@ -0,0 +1,136 @@
+package com.lucknow.healthcare.partition;
+
+import com.lucknow.healthcare.metrics.ServiceMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+
+/**
+ * Creates future monthly partitions and archives old ones
+ * 
+ * Runs once at startup and then nightly. Each run makes sure bookings and
+ * payments have partitions from the current month to monthsAhead months
+ * out, then moves months that ended more than archiveAfterMonths ago and
+ * hold no open rows into the archive schema, and onto the cold tablespace
+ * when one is configured. The SQL functions doing the work are defined in
+ * V23. A transaction-scoped advisory lock keeps nodes from running it at
+ * the same time.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@Component
+public class PartitionMaintenance {
+    
+    private static final Logger logger = LoggerFactory.getLogger(PartitionMaintenance.class);
+    
+    // Arbitrary application-wide key for pg_try_advisory_xact_lock
+    static final long MAINTENANCE_LOCK_KEY = 0x706172746974L;
+    
+    private static final String OPEN_BOOKINGS = "status IN ('PENDING', 'CONFIRMED', 'IN_PROGRESS', 'RESCHEDULED')";
+    private static final String OPEN_PAYMENTS = "payment_status IN ('PENDING', 'PROCESSING')";
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ServiceMetrics serviceMetrics;
+    private final boolean enabled;
+    private final int monthsAhead;
+    private final int archiveAfterMonths;
+    private final String coldTablespace;
+    
+    public PartitionMaintenance(JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                ServiceMetrics serviceMetrics,
+                                @Value("${app.partitions.enabled:true}") boolean enabled,
+                                @Value("${app.partitions.months-ahead:12}") int monthsAhead,
+                                @Value("${app.partitions.archive-after-months:24}") int archiveAfterMonths,
+                                @Value("${app.partitions.cold-tablespace:}") String coldTablespace) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.serviceMetrics = serviceMetrics;
+        this.enabled = enabled;
+        this.monthsAhead = monthsAhead;
+        this.archiveAfterMonths = archiveAfterMonths;
+        this.coldTablespace = coldTablespace;
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        run(false);
+    }
+    
+    @Scheduled(cron = "${app.partitions.maintenance-cron:0 15 2 * * *}")
+    public void nightly() {
+        run(true);
+    }
+    
+    /**
+     * Create missing future partitions, and archive closed ones if asked
+     */
+    public void run(boolean archive) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!isPartitioned()) {
+                    logger.debug("bookings is not partitioned here, skipping partition maintenance");
+                    return;
+                }
+                Boolean locked = jdbcTemplate.queryForObject(
+                    "SELECT pg_try_advisory_xact_lock(?)", Boolean.class, MAINTENANCE_LOCK_KEY);
+                if (!Boolean.TRUE.equals(locked)) {
+                    logger.debug("Partition maintenance is running on another node");
+                    return;
+                }
+                
+                LocalDate thisMonth = LocalDate.now().withDayOfMonth(1);
+                LocalDate lastMonth = thisMonth.plusMonths(monthsAhead);
+                ensure("bookings", thisMonth, lastMonth);
+                ensure("payments", thisMonth, lastMonth);
+                
+                if (archive) {
+                    LocalDate archiveBefore = thisMonth.minusMonths(archiveAfterMonths);
+                    archive("bookings", archiveBefore, OPEN_BOOKINGS);
+                    archive("payments", archiveBefore, OPEN_PAYMENTS);
+                }
+            });
+        } catch (DataAccessException e) {
+            logger.error("Partition maintenance failed: {}", e.getMessage());
+            serviceMetrics.increment("partition.maintenance.failures");
+        }
+    }
+    
+    private boolean isPartitioned() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+            "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass('bookings'))", Boolean.class));
+    }
+    
+    private void ensure(String table, LocalDate from, LocalDate to) {
+        Integer created = jdbcTemplate.queryForObject(
+            "SELECT ensure_monthly_partitions(?, ?, ?)", Integer.class, table, from, to);
+        if (created != null && created > 0) {
+            logger.info("Created {} monthly partitions of {} up to {}", created, table, to);
+            serviceMetrics.increment("partition.created", created, "table", table);
+        }
+    }
+    
+    private void archive(String table, LocalDate before, String openRows) {
+        Integer archived = jdbcTemplate.queryForObject(
+            "SELECT archive_monthly_partitions(?, ?, ?, ?)", Integer.class, table, before, openRows, coldTablespace);
+        if (archived != null && archived > 0) {
+            logger.info("Archived {} monthly partitions of {} before {}", archived, table, before);
+            serviceMetrics.increment("partition.archived", archived, "table", table);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.lucknow.healthcare.partition;
+
+import com.lucknow.healthcare.enums.BookingStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Scheduled-date bound for queries over open bookings
+ * 
+ * Bookings are partitioned by month of scheduled_date. Open bookings
+ * (pending, confirmed, in progress or rescheduled) are scheduled around
+ * today, so queries for them add {@code scheduledDate >= openBookingsFrom()}
+ * and PostgreSQL skips every older month. An open booking scheduled more
+ * than lookbackMonths in the past is stale and drops out of those lists.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@Component
+public class PartitionWindow {
+    
+    private static final Set<BookingStatus> OPEN_STATUSES = EnumSet.of(
+        BookingStatus.PENDING, BookingStatus.CONFIRMED, BookingStatus.IN_PROGRESS, BookingStatus.RESCHEDULED);
+    
+    private final Clock clock;
+    private final int lookbackMonths;
+    
+    public PartitionWindow(@Value("${app.partitions.open-lookback-months:3}") int lookbackMonths) {
+        this(Clock.systemDefaultZone(), lookbackMonths);
+    }
+    
+    PartitionWindow(Clock clock, int lookbackMonths) {
+        if (lookbackMonths < 0) {
+            throw new IllegalArgumentException("Open booking lookback must not be negative");
+        }
+        this.clock = clock;
+        this.lookbackMonths = lookbackMonths;
+    }
+    
+    /**
+     * @return first day of the oldest month searched for open bookings
+     */
+    public LocalDate openBookingsFrom() {
+        return LocalDate.now(clock).minusMonths(lookbackMonths).withDayOfMonth(1);
+    }
+    
+    public static boolean isOpen(BookingStatus status) {
+        return OPEN_STATUSES.contains(status);
+    }
+}
@@ -0,0 +1,49 @@
+package com.lucknow.healthcare.payment;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
+import java.util.SortedMap;
+
+/**
+ * Paytm checksum generation
+ * 
+ * Joins the parameter values in key order with '|' and signs the result
+ * with HMAC-SHA256 using the merchant key.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+public final class PaytmChecksum {
+    
+    private static final String ALGORITHM = "HmacSHA256";
+    
+    private PaytmChecksum() {
+    }
+    
+    /**
+     * Generate the checksum for a set of parameters
+     * 
+     * @param params the request parameters, sorted by key
+     * @param merchantKey the merchant secret
+     * @return Base64-encoded HMAC-SHA256 of the joined values
+     */
+    public static String generate(SortedMap<String, String> params, String merchantKey) throws GeneralSecurityException {
+        StringBuilder allParams = new StringBuilder();
+        
+        for (String value : params.values()) {
+            if (allParams.length() > 0) {
+                allParams.append('|');
+            }
+            allParams.append(value);
+        }
+        
+        Mac mac = Mac.getInstance(ALGORITHM);
+        mac.init(new SecretKeySpec(merchantKey.getBytes(StandardCharsets.UTF_8), ALGORITHM));
+        
+        byte[] hash = mac.doFinal(allParams.toString().getBytes(StandardCharsets.UTF_8));
+        return Base64.getEncoder().encodeToString(hash);
+    }
+}
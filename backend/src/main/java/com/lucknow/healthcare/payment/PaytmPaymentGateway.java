@@ -1,17 +1,29 @@
 package com.lucknow.healthcare.payment;
 
+import com.lucknow.healthcare.resilience.OutboundCallException;
+import com.lucknow.healthcare.resilience.OutboundCallRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.apache.hc.client5.http.classic.methods.HttpPost;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.http.io.entity.StringEntity;
+import org.apache.hc.core5.util.Timeout;
+import org.json.JSONObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
-import javax.crypto.Mac;
-import javax.crypto.spec.SecretKeySpec;
 import java.math.BigDecimal;
-import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Paytm Payment Gateway Implementation
@@ -55,8 +67,34 @@ public class PaytmPaymentGateway implements PaymentGateway {
     @Value("${payment.paytm.status-query-url}")
     private String statusQueryUrl;
     
+    @Value("${payment.paytm.http-timeout-ms:4000}")
+    private int httpTimeoutMs;
+    
+    @Autowired
+    private OutboundCallRegistry outboundCalls;
+    
     // In-memory storage for tracking transactions (use Redis in production)
-    private final Map<String, PaytmTransaction> transactions = new HashMap<>();
+    private final Map<String, PaytmTransaction> transactions = new ConcurrentHashMap<>();
+    
+    private CloseableHttpClient httpClient;
+    
+    @PostConstruct
+    public void init() {
+        RequestConfig requestConfig = RequestConfig.custom()
+            .setConnectionRequestTimeout(Timeout.ofMilliseconds(httpTimeoutMs))
+            .setResponseTimeout(Timeout.ofMilliseconds(httpTimeoutMs))
+            .build();
+        httpClient = HttpClients.custom()
+            .setDefaultRequestConfig(requestConfig)
+            .build();
+    }
+    
+    @PreDestroy
+    public void close() throws java.io.IOException {
+        if (httpClient != null) {
+            httpClient.close();
+        }
+    }
     
     @Override
     public PaymentInitiationResponse initiatePayment(PaymentRequest request) {
@@ -83,7 +121,7 @@ public class PaytmPaymentGateway implements PaymentGateway {
             paytmParams.put("CALLBACK_URL", callbackUrl);
             
             // Generate checksum
-            String checksum = generateChecksum(paytmParams, merchantKey);
+            String checksum = PaytmChecksum.generate(paytmParams, merchantKey);
             paytmParams.put("CHECKSUMHASH", checksum);
             
             // Store transaction for verification
@@ -136,8 +174,10 @@ public class PaytmPaymentGateway implements PaymentGateway {
                 return response;
             }
             
-            // In production, you would call Paytm's status query API here
-            // For now, we'll return the stored transaction status
+            // Ask Paytm for the final status while the callback has not arrived yet
+            if (!isFinalStatus(transaction.getStatus())) {
+                refreshStatusFromGateway(transaction);
+            }
             
             PaymentVerificationResponse response = new PaymentVerificationResponse();
             response.setTransactionId(transaction.getTransactionId());
@@ -234,6 +274,58 @@ public class PaytmPaymentGateway implements PaymentGateway {
         };
     }
     
+    /**
+     * Query Paytm's order status API and update the stored transaction
+     * 
+     * Runs through the "paytm" outbound guard, so a slow or failing gateway
+     * only degrades to the locally stored status instead of tying up
+     * request threads.
+     */
+    private void refreshStatusFromGateway(PaytmTransaction transaction) {
+        if (merchantId == null || merchantId.isBlank()) {
+            return;
+        }
+        
+        try {
+            JSONObject status = outboundCalls.execute("paytm", () -> queryOrderStatus(transaction.getOrderId()));
+            String gatewayStatus = status.optString("STATUS", null);
+            if (gatewayStatus != null) {
+                transaction.setStatus(switch (gatewayStatus) {
+                    case "TXN_SUCCESS" -> "SUCCESS";
+                    case "TXN_FAILURE" -> "FAILED";
+                    default -> gatewayStatus;
+                });
+                transaction.setTransactionId(status.optString("TXNID", transaction.getTransactionId()));
+                transaction.setResponseCode(status.optString("RESPCODE", transaction.getResponseCode()));
+            }
+        } catch (OutboundCallException e) {
+            logger.warn("Paytm status query unavailable for order {} ({}), using stored status",
+                       transaction.getOrderId(), e.getReason());
+        }
+    }
+    
+    private JSONObject queryOrderStatus(String orderId) throws Exception {
+        TreeMap<String, String> params = new TreeMap<>();
+        params.put("MID", merchantId);
+        params.put("ORDERID", orderId);
+        params.put("CHECKSUMHASH", PaytmChecksum.generate(params, merchantKey));
+        
+        HttpPost post = new HttpPost(statusQueryUrl);
+        post.setEntity(new StringEntity(new JSONObject(params).toString(), ContentType.APPLICATION_JSON));
+        
+        return httpClient.execute(post, response -> {
+            if (response.getCode() >= 300) {
+                throw new java.io.IOException("Paytm status query returned HTTP " + response.getCode());
+            }
+            return new JSONObject(EntityUtils.toString(response.getEntity()));
+        });
+    }
+    
+    private static boolean isFinalStatus(String status) {
+        return "SUCCESS".equals(status) || "TXN_SUCCESS".equals(status)
+            || "FAILED".equals(status) || "TXN_FAILURE".equals(status);
+    }
+    
     /**
      * Update transaction status after Paytm callback
      */
@@ -268,7 +360,7 @@ public class PaytmPaymentGateway implements PaymentGateway {
         paytmParams.put("CALLBACK_URL", callbackUrl);
         
         try {
-            String checksum = generateChecksum(paytmParams, merchantKey);
+            String checksum = PaytmChecksum.generate(paytmParams, merchantKey);
             paytmParams.put("CHECKSUMHASH", checksum);
         } catch (Exception e) {
             logger.error("Error generating checksum", e);
@@ -285,7 +377,7 @@ public class PaytmPaymentGateway implements PaymentGateway {
             TreeMap<String, String> params = new TreeMap<>(paytmParams);
             params.remove("CHECKSUMHASH");
             
-            String generatedChecksum = generateChecksum(params, merchantKey);
+            String generatedChecksum = PaytmChecksum.generate(params, merchantKey);
             return generatedChecksum.equals(checksum);
         } catch (Exception e) {
             logger.error("Error verifying checksum", e);
@@ -300,30 +392,6 @@ public class PaytmPaymentGateway implements PaymentGateway {
         return transactionUrl;
     }
     
-    /**
-     * Generate Paytm checksum
-     */
-    private String generateChecksum(TreeMap<String, String> params, String merchantKey) throws Exception {
-        StringBuilder allParams = new StringBuilder();
-        
-        for (Map.Entry<String, String> entry : params.entrySet()) {
-            allParams.append(entry.getValue()).append("|");
-        }
-        
-        // Remove trailing pipe
-        if (allParams.length() > 0) {
-            allParams.setLength(allParams.length() - 1);
-        }
-        
-        // Generate checksum using HMAC-SHA256
-        Mac sha256_HMAC = Mac.getInstance("HmacSHA256");
-        SecretKeySpec secret_key = new SecretKeySpec(merchantKey.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
-        sha256_HMAC.init(secret_key);
-        
-        byte[] hash = sha256_HMAC.doFinal(allParams.toString().getBytes(StandardCharsets.UTF_8));
-        return Base64.getEncoder().encodeToString(hash);
-    }
-    
     // Transaction storage class
     private static class PaytmTransaction {
         private String orderId;
@@ -0,0 +1,175 @@
+package com.lucknow.healthcare.preview;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Size-capped on-disk cache of generated previews
+ * 
+ * Files are tracked in access order; once the total size passes the cap
+ * the least recently used files are deleted. On startup the existing files
+ * are re-registered oldest first by modification time, which approximates
+ * the previous access order. Entries are written to a temporary file and
+ * moved into place, so readers never see a partial preview.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+public class PreviewDiskCache {
+    
+    private static final Logger logger = LoggerFactory.getLogger(PreviewDiskCache.class);
+    
+    private static final String TMP_SUFFIX = ".part";
+    
+    /**
+     * Writes an entry's content
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void write(OutputStream out) throws IOException;
+    }
+    
+    private final Path dir;
+    private final long maxBytes;
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long totalBytes;
+    
+    public PreviewDiskCache(Path dir, long maxBytes) throws IOException {
+        this.dir = dir.toAbsolutePath().normalize();
+        this.maxBytes = maxBytes;
+        Files.createDirectories(this.dir);
+        load();
+    }
+    
+    /**
+     * Get a cached entry, marking it as recently used
+     */
+    public synchronized Optional<Path> get(String key) {
+        if (entries.get(key) == null) {
+            return Optional.empty();
+        }
+        Path path = dir.resolve(key);
+        if (!Files.isRegularFile(path)) {
+            totalBytes -= entries.remove(key);
+            return Optional.empty();
+        }
+        return Optional.of(path);
+    }
+    
+    /**
+     * Write an entry and evict least recently used entries over the cap
+     * 
+     * @return path of the stored entry
+     */
+    public Path put(String key, ContentWriter writer) throws IOException {
+        Path tmp = Files.createTempFile(dir, "preview-", TMP_SUFFIX);
+        try {
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                writer.write(out);
+            }
+            Path target = dir.resolve(key);
+            try {
+                Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            register(key, Files.size(target));
+            return target;
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+    
+    /**
+     * Delete an entry
+     * 
+     * @return true if the entry was cached
+     */
+    public synchronized boolean remove(String key) throws IOException {
+        Long bytes = entries.remove(key);
+        Files.deleteIfExists(dir.resolve(key));
+        if (bytes == null) {
+            return false;
+        }
+        totalBytes -= bytes;
+        return true;
+    }
+    
+    public synchronized long getTotalBytes() {
+        return totalBytes;
+    }
+    
+    public synchronized int size() {
+        return entries.size();
+    }
+    
+    private synchronized void register(String key, long bytes) {
+        Long previous = entries.put(key, bytes);
+        totalBytes += bytes - (previous != null ? previous : 0L);
+        evict(key);
+    }
+    
+    private void evict(String keep) {
+        Iterator<Map.Entry<String, Long>> eldest = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && eldest.hasNext()) {
+            Map.Entry<String, Long> entry = eldest.next();
+            if (entry.getKey().equals(keep)) {
+                continue;
+            }
+            try {
+                Files.deleteIfExists(dir.resolve(entry.getKey()));
+            } catch (IOException e) {
+                logger.warn("Could not evict preview {}: {}", entry.getKey(), e.getMessage());
+                continue;
+            }
+            totalBytes -= entry.getValue();
+            eldest.remove();
+        }
+    }
+    
+    private void load() throws IOException {
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(dir)) {
+            files = listing.filter(Files::isRegularFile).collect(Collectors.toList());
+        }
+        for (Path file : files) {
+            if (file.getFileName().toString().endsWith(TMP_SUFFIX)) {
+                Files.deleteIfExists(file);
+            }
+        }
+        files.removeIf(file -> !Files.exists(file));
+        files.sort(Comparator.comparing(PreviewDiskCache::lastModified));
+        synchronized (this) {
+            for (Path file : files) {
+                long bytes = Files.size(file);
+                entries.put(file.getFileName().toString(), bytes);
+                totalBytes += bytes;
+            }
+            evict(null);
+        }
+        logger.info("Preview cache loaded {} entries ({} bytes) from {}", entries.size(), totalBytes, dir);
+    }
+    
+    private static long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.lucknow.healthcare.preview;
+
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.io.RandomAccessReadBufferedFile;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.rendering.ImageType;
+import org.apache.pdfbox.rendering.PDFRenderer;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.Iterator;
+
+/**
+ * Renders downscaled JPEG previews of images and PDF first pages
+ * 
+ * Large images are decoded with source subsampling, so a 24 MP photo is
+ * never fully expanded in memory for a 256 px thumbnail. PDFs render only
+ * the first page, at the resolution the target size needs.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+public class PreviewRenderer {
+    
+    private static final float JPEG_QUALITY = 0.82f;
+    
+    private final long maxSourcePixels;
+    
+    public PreviewRenderer(long maxSourcePixels) {
+        this.maxSourcePixels = maxSourcePixels;
+    }
+    
+    /**
+     * Whether previews can be generated for a MIME type
+     */
+    public static boolean supports(String mimeType) {
+        return "image/jpeg".equals(mimeType) || "image/png".equals(mimeType) || "application/pdf".equals(mimeType);
+    }
+    
+    /**
+     * Render a preview of source and write it to out as JPEG
+     */
+    public void render(Path source, String mimeType, PreviewVariant variant, OutputStream out) throws IOException {
+        BufferedImage image = "application/pdf".equals(mimeType)
+            ? renderPdfFirstPage(source, variant.getMaxDimension())
+            : readImage(source, variant.getMaxDimension());
+        writeJpeg(scaleToFit(image, variant.getMaxDimension()), out);
+    }
+    
+    BufferedImage readImage(Path source, int maxDimension) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(source.toFile())) {
+            Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+            if (readers == null || !readers.hasNext()) {
+                throw new IOException("Unsupported image format");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxSourcePixels) {
+                    throw new IOException("Image too large for preview: " + width + "x" + height);
+                }
+                
+                // Decode at no less than twice the target size, then scale smoothly
+                int subsampling = Math.max(1, Math.max(width, height) / (maxDimension * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+    
+    BufferedImage renderPdfFirstPage(Path source, int maxDimension) throws IOException {
+        try (PDDocument document = Loader.loadPDF(new RandomAccessReadBufferedFile(source.toFile()))) {
+            if (document.getNumberOfPages() == 0) {
+                throw new IOException("PDF has no pages");
+            }
+            PDRectangle box = document.getPage(0).getCropBox();
+            float longestSidePoints = Math.max(box.getWidth(), box.getHeight());
+            float dpi = Math.max(1f, Math.min(300f, maxDimension * 72f / longestSidePoints));
+            return new PDFRenderer(document).renderImageWithDPI(0, dpi, ImageType.RGB);
+        }
+    }
+    
+    static BufferedImage scaleToFit(BufferedImage image, int maxDimension) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        double scale = Math.min(1.0, (double) maxDimension / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+        
+        // Halve in steps while far from the target; one bilinear pass over a large ratio aliases badly
+        BufferedImage current = image;
+        int currentWidth = width;
+        int currentHeight = height;
+        do {
+            currentWidth = Math.max(targetWidth, currentWidth / 2);
+            currentHeight = Math.max(targetHeight, currentHeight / 2);
+            if (scale == 1.0) {
+                currentWidth = targetWidth;
+                currentHeight = targetHeight;
+            }
+            current = draw(current, currentWidth, currentHeight);
+        } while (currentWidth != targetWidth || currentHeight != targetHeight);
+        return current;
+    }
+    
+    private static BufferedImage draw(BufferedImage source, int width, int height) {
+        // Always redraw onto opaque RGB: JPEG has no alpha, transparent areas become white
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+    
+    private static void writeJpeg(BufferedImage image, OutputStream out) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(out)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+}
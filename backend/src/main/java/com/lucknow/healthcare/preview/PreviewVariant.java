@@ -0,0 +1,39 @@
+package com.lucknow.healthcare.preview;
+
+import java.util.Locale;
+
+/**
+ * Derived image sizes generated for patient documents
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+public enum PreviewVariant {
+    
+    /** List and grid views */
+    THUMBNAIL(256),
+    
+    /** Full-screen view on a phone; first page for PDFs */
+    PREVIEW(1024);
+    
+    private final int maxDimension;
+    
+    PreviewVariant(int maxDimension) {
+        this.maxDimension = maxDimension;
+    }
+    
+    /**
+     * Longest side of the generated image in pixels
+     */
+    public int getMaxDimension() {
+        return maxDimension;
+    }
+    
+    public static PreviewVariant fromParameter(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown preview size: " + value);
+        }
+    }
+}
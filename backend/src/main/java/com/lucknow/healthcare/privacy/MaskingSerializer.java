@@ -0,0 +1,212 @@
+package com.lucknow.healthcare.privacy;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.AnnotationIntrospector;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.impl.PropertySerializerMap;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Jackson serializer driven by a compiled MaskingPlan
+ * 
+ * For anchor types the role's visibility window is evaluated once per
+ * object and stored in the per-call PrivacyContext, so nested objects (the
+ * booking's user and patient) read it instead of recomputing it. Anchored
+ * objects also get customerContactAvailable and privacyMessage when a rule
+ * applies to the caller's role.
+ * 
+ * Property values are written with the serializer Jackson would pick for
+ * that property, so @JsonSerialize and @JsonFormat on DTO fields still
+ * apply. Serializers for annotated and final-typed properties are resolved
+ * once per context; the rest are cached per runtime class, as
+ * BeanPropertyWriter does.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+final class MaskingSerializer extends StdSerializer<Object> implements ContextualSerializer {
+    
+    static final String CONTACT_AVAILABLE_FIELD = "customerContactAvailable";
+    static final String PRIVACY_MESSAGE_FIELD = "privacyMessage";
+    
+    private static final long serialVersionUID = 1L;
+    
+    // Resolved per mapper at runtime, never meant to survive Java serialization
+    private final transient MaskingPlan plan;
+    private final transient PrivacyPolicy policy;
+    private final transient PrivacyMaskingModule.ContextResolver contexts;
+    /** Serializer per property when known up front, else null */
+    private final transient JsonSerializer<Object>[] serializers;
+    /** Serializers by runtime class for the other properties */
+    private final transient PropertySerializerMap[] dynamicSerializers;
+    
+    MaskingSerializer(MaskingPlan plan, PrivacyPolicy policy, PrivacyMaskingModule.ContextResolver contexts) {
+        this(plan, policy, contexts, newSerializerArray(plan.names.length));
+    }
+    
+    private MaskingSerializer(MaskingPlan plan, PrivacyPolicy policy, PrivacyMaskingModule.ContextResolver contexts,
+                              JsonSerializer<Object>[] serializers) {
+        super(Object.class);
+        this.plan = plan;
+        this.policy = policy;
+        this.contexts = contexts;
+        this.serializers = serializers;
+        this.dynamicSerializers = new PropertySerializerMap[plan.names.length];
+        for (int i = 0; i < dynamicSerializers.length; i++) {
+            dynamicSerializers[i] = PropertySerializerMap.emptyForProperties();
+        }
+    }
+    
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
+            throws JsonMappingException {
+        AnnotationIntrospector introspector = provider.getAnnotationIntrospector();
+        JsonSerializer<Object>[] resolved = newSerializerArray(plan.names.length);
+        for (int i = 0; i < resolved.length; i++) {
+            BeanProperty beanProperty = plan.properties[i];
+            Object annotated = introspector != null ? introspector.findSerializer(beanProperty.getMember()) : null;
+            if (annotated != null) {
+                JsonSerializer<?> serializer = provider.serializerInstance(beanProperty.getMember(), annotated);
+                resolved[i] = castSerializer(provider.handlePrimaryContextualization(serializer, beanProperty));
+            } else if (isStaticallyTyped(beanProperty.getType())) {
+                resolved[i] = provider.findValueSerializer(beanProperty.getType(), beanProperty);
+            }
+        }
+        return new MaskingSerializer(plan, policy, contexts, resolved);
+    }
+    
+    @Override
+    public void serialize(Object bean, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        PrivacyMaskingModule.PrivacyContext context = contexts.resolve(provider);
+        int role = context.roleIndex;
+        
+        boolean anchored = role >= 0 && plan.anchorGetter != null;
+        int previous = context.visibility;
+        LocalDate serviceDate = null;
+        boolean visible = true;
+        if (anchored) {
+            serviceDate = toDate(invoke(plan.anchorGetter, bean));
+            visible = serviceDate != null
+                && policy.isWithinWindow(role, serviceDate.toEpochDay(), context.todayEpochDay);
+            context.visibility = visible ? PrivacyMaskingModule.PrivacyContext.VISIBLE
+                : PrivacyMaskingModule.PrivacyContext.HIDDEN;
+        } else if (role >= 0) {
+            // Masking applies only inside an anchor; a provider's own profile is not masked
+            visible = context.visibility != PrivacyMaskingModule.PrivacyContext.HIDDEN;
+        }
+        
+        try {
+            gen.writeStartObject(bean);
+            boolean[] masked = role >= 0 && !visible ? plan.masked[role] : null;
+            for (int i = 0; i < plan.names.length; i++) {
+                Object value = masked != null && masked[i] ? null : invoke(plan, i, bean);
+                if (value == null) {
+                    if (!plan.suppressNulls) {
+                        gen.writeFieldName(plan.names[i]);
+                        gen.writeNull();
+                    }
+                    continue;
+                }
+                gen.writeFieldName(plan.names[i]);
+                serializer(i, value.getClass(), provider).serialize(value, gen, provider);
+            }
+            if (anchored) {
+                gen.writeBooleanField(CONTACT_AVAILABLE_FIELD, visible);
+                gen.writeStringField(PRIVACY_MESSAGE_FIELD, message(role, serviceDate, visible, context));
+            }
+            gen.writeEndObject();
+        } finally {
+            context.visibility = previous;
+        }
+    }
+    
+    private JsonSerializer<Object> serializer(int index, Class<?> valueType, SerializerProvider provider)
+            throws JsonMappingException {
+        JsonSerializer<Object> serializer = serializers[index];
+        if (serializer != null) {
+            return serializer;
+        }
+        PropertySerializerMap map = dynamicSerializers[index];
+        serializer = map.serializerFor(valueType);
+        if (serializer == null) {
+            PropertySerializerMap.SerializerAndMapResult result =
+                map.findAndAddSecondarySerializer(valueType, provider, plan.properties[index]);
+            // Racing threads may each add an entry; the map is immutable, so the last one wins harmlessly
+            dynamicSerializers[index] = result.map;
+            serializer = result.serializer;
+        }
+        return serializer;
+    }
+    
+    /**
+     * Final types (String, LocalDate, UUID, enums, primitives) cannot hold a
+     * subclass, so their serializer can be fixed up front
+     */
+    private static boolean isStaticallyTyped(JavaType type) {
+        return type.isPrimitive() || (type.isFinal() && !type.isContainerType());
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static JsonSerializer<Object>[] newSerializerArray(int length) {
+        return (JsonSerializer<Object>[]) new JsonSerializer<?>[length];
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static JsonSerializer<Object> castSerializer(JsonSerializer<?> serializer) {
+        return (JsonSerializer<Object>) serializer;
+    }
+    
+    private String message(int role, LocalDate serviceDate, boolean visible, PrivacyMaskingModule.PrivacyContext context) {
+        if (visible) {
+            return "Contact details available for service on " + serviceDate;
+        }
+        if (serviceDate == null) {
+            return "Contact details are not available";
+        }
+        LocalDate from = policy.windowStart(role, serviceDate);
+        if (context.todayEpochDay < from.toEpochDay()) {
+            return "Contact details will be available from " + from;
+        }
+        return "Contact details are no longer available for this service";
+    }
+    
+    private static LocalDate toDate(Object value) {
+        if (value instanceof LocalDate date) {
+            return date;
+        }
+        if (value instanceof LocalDateTime dateTime) {
+            return dateTime.toLocalDate();
+        }
+        return null;
+    }
+    
+    private static Object invoke(MaskingPlan plan, int index, Object bean) throws IOException {
+        try {
+            return plan.get(index, bean);
+        } catch (IOException | RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IOException("Failed to read " + plan.names[index] + " of " + plan.type.getName(), e);
+        }
+    }
+    
+    private static Object invoke(MethodHandle getter, Object bean) throws IOException {
+        try {
+            return (Object) getter.invokeExact(bean);
+        } catch (IOException | RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IOException("Failed to read anchor property", e);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.lucknow.healthcare.privacy;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Clock;
+import java.time.LocalDate;
+
+/**
+ * Jackson module applying a PrivacyPolicy during serialization
+ * 
+ * Every type named by the policy gets a MaskingSerializer with a plan
+ * compiled on first use; Jackson caches serializers per type, so the plan
+ * is built once per class. The caller's role is taken from the
+ * {@link #ROLE_ATTRIBUTE} writer attribute when present, otherwise from the
+ * authenticated user's ROLE_ authority, and resolved once per
+ * serialization call together with today's date.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+public class PrivacyMaskingModule extends SimpleModule {
+    
+    private static final long serialVersionUID = 1L;
+    
+    /** ObjectWriter attribute overriding the role, e.g. writer().withAttribute(ROLE_ATTRIBUTE, "PROVIDER") */
+    public static final String ROLE_ATTRIBUTE = "privacy.role";
+    
+    private static final Object CONTEXT_ATTRIBUTE = new Object();
+    
+    public PrivacyMaskingModule(PrivacyPolicy policy, Clock clock) {
+        super("PrivacyMaskingModule");
+        ContextResolver contexts = new ContextResolver(policy, clock);
+        setSerializerModifier(new BeanSerializerModifier() {
+            @Override
+            public JsonSerializer<?> modifySerializer(SerializationConfig config, BeanDescription description,
+                                                      JsonSerializer<?> serializer) {
+                if (!policy.isManaged(description.getBeanClass())) {
+                    return serializer;
+                }
+                return new MaskingSerializer(MaskingPlan.compile(config, description, policy), policy, contexts);
+            }
+        });
+    }
+    
+    /**
+     * Role, date and current anchor visibility for one serialization call
+     * 
+     * A serialization call runs on one thread, so visibility is a plain
+     * field; setting a per-call attribute per row would copy the attribute
+     * map each time.
+     */
+    static final class PrivacyContext {
+        
+        static final int OUTSIDE_ANCHOR = 0;
+        static final int VISIBLE = 1;
+        static final int HIDDEN = 2;
+        
+        final int roleIndex;
+        final long todayEpochDay;
+        int visibility = OUTSIDE_ANCHOR;
+        
+        PrivacyContext(int roleIndex, long todayEpochDay) {
+            this.roleIndex = roleIndex;
+            this.todayEpochDay = todayEpochDay;
+        }
+    }
+    
+    static final class ContextResolver {
+        
+        private final PrivacyPolicy policy;
+        private final Clock clock;
+        
+        ContextResolver(PrivacyPolicy policy, Clock clock) {
+            this.policy = policy;
+            this.clock = clock;
+        }
+        
+        PrivacyContext resolve(SerializerProvider provider) {
+            Object cached = provider.getAttribute(CONTEXT_ATTRIBUTE);
+            if (cached instanceof PrivacyContext context) {
+                return context;
+            }
+            Object role = provider.getAttribute(ROLE_ATTRIBUTE);
+            int roleIndex = role != null ? policy.roleIndex(role.toString()) : currentUserRoleIndex();
+            PrivacyContext context = new PrivacyContext(roleIndex, LocalDate.now(clock).toEpochDay());
+            provider.setAttribute(CONTEXT_ATTRIBUTE, context);
+            return context;
+        }
+        
+        private int currentUserRoleIndex() {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication == null) {
+                return -1;
+            }
+            for (GrantedAuthority authority : authentication.getAuthorities()) {
+                String name = authority.getAuthority();
+                if (name != null && name.startsWith("ROLE_")) {
+                    int index = policy.roleIndex(name.substring("ROLE_".length()));
+                    if (index >= 0) {
+                        return index;
+                    }
+                }
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.lucknow.healthcare.privacy;
+
+import com.lucknow.healthcare.dto.BookingDTO;
+import com.lucknow.healthcare.dto.PatientDTO;
+import com.lucknow.healthcare.dto.UserDTO;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Declarative field-masking rules for API responses
+ * 
+ * Each role may have a visibility window around a service date and a set
+ * of masked properties per DTO class. The service date comes from an anchor
+ * property (for example BookingDTO.scheduledDate); masked properties of
+ * objects nested inside an anchored object are written as null when the
+ * current date is outside the role's window. Roles without rules see
+ * everything.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+public final class PrivacyPolicy {
+    
+    private final List<String> roles;
+    private final int[] daysBefore;
+    private final int[] daysAfter;
+    private final Map<Class<?>, String> anchors;
+    private final Map<Class<?>, List<Set<String>>> maskedByClass;
+    
+    private PrivacyPolicy(Builder builder) {
+        this.roles = List.copyOf(builder.roles);
+        this.daysBefore = builder.daysBefore.stream().mapToInt(Integer::intValue).toArray();
+        this.daysAfter = builder.daysAfter.stream().mapToInt(Integer::intValue).toArray();
+        this.anchors = Map.copyOf(builder.anchors);
+        Map<Class<?>, List<Set<String>>> masked = new HashMap<>();
+        builder.masked.forEach((type, byRole) -> {
+            List<Set<String>> copy = new ArrayList<>();
+            for (int i = 0; i < roles.size(); i++) {
+                copy.add(Set.copyOf(byRole.getOrDefault(i, Collections.emptySet())));
+            }
+            masked.put(type, List.copyOf(copy));
+        });
+        this.maskedByClass = Map.copyOf(masked);
+    }
+    
+    /**
+     * Policy used by the application: providers see customer phone and
+     * address and the patient's emergency contact phone only from one day
+     * before until one day after the booked service date
+     */
+    public static PrivacyPolicy defaultPolicy() {
+        return builder()
+            .anchor(BookingDTO.class, "scheduledDate")
+            .role("PROVIDER", 1, 1)
+            .mask(UserDTO.class, "phone", "address")
+            .mask(PatientDTO.class, "emergencyContactPhone")
+            .build();
+    }
+    
+    public static Builder builder() {
+        return new Builder();
+    }
+    
+    /**
+     * Index of a role with rules, or -1 if the role sees everything
+     */
+    public int roleIndex(String role) {
+        return role == null ? -1 : roles.indexOf(role);
+    }
+    
+    public List<String> getRoles() {
+        return roles;
+    }
+    
+    public boolean isManaged(Class<?> type) {
+        return anchors.containsKey(type) || maskedByClass.containsKey(type);
+    }
+    
+    public Set<Class<?>> getManagedTypes() {
+        Set<Class<?>> types = new HashSet<>(anchors.keySet());
+        types.addAll(maskedByClass.keySet());
+        return types;
+    }
+    
+    /**
+     * Name of the property holding the service date for an anchor type, or null
+     */
+    public String anchorProperty(Class<?> type) {
+        return anchors.get(type);
+    }
+    
+    public boolean isMasked(Class<?> type, String property, int roleIndex) {
+        List<Set<String>> byRole = maskedByClass.get(type);
+        return byRole != null && roleIndex >= 0 && byRole.get(roleIndex).contains(property);
+    }
+    
+    public LocalDate windowStart(int roleIndex, LocalDate serviceDate) {
+        return serviceDate.minusDays(daysBefore[roleIndex]);
+    }
+    
+    public boolean isWithinWindow(int roleIndex, long serviceEpochDay, long todayEpochDay) {
+        return todayEpochDay >= serviceEpochDay - daysBefore[roleIndex]
+            && todayEpochDay <= serviceEpochDay + daysAfter[roleIndex];
+    }
+    
+    /**
+     * Builder for PrivacyPolicy; mask() applies to the most recent role()
+     */
+    public static final class Builder {
+        
+        private final List<String> roles = new ArrayList<>();
+        private final List<Integer> daysBefore = new ArrayList<>();
+        private final List<Integer> daysAfter = new ArrayList<>();
+        private final Map<Class<?>, String> anchors = new LinkedHashMap<>();
+        private final Map<Class<?>, Map<Integer, Set<String>>> masked = new LinkedHashMap<>();
+        
+        private Builder() {}
+        
+        public Builder anchor(Class<?> type, String serviceDateProperty) {
+            anchors.put(type, serviceDateProperty);
+            return this;
+        }
+        
+        public Builder role(String role, int visibleDaysBefore, int visibleDaysAfter) {
+            if (roles.contains(role)) {
+                throw new IllegalArgumentException("Duplicate privacy rule for role " + role);
+            }
+            roles.add(role);
+            daysBefore.add(visibleDaysBefore);
+            daysAfter.add(visibleDaysAfter);
+            return this;
+        }
+        
+        public Builder mask(Class<?> type, String... properties) {
+            if (roles.isEmpty()) {
+                throw new IllegalStateException("mask() must follow role()");
+            }
+            masked.computeIfAbsent(type, t -> new HashMap<>())
+                .computeIfAbsent(roles.size() - 1, r -> new HashSet<>())
+                .addAll(Arrays.asList(properties));
+            return this;
+        }
+        
+        public PrivacyPolicy build() {
+            return new PrivacyPolicy(this);
+        }
+    }
+}
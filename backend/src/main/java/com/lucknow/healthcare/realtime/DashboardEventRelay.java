@@ -0,0 +1,121 @@
+package com.lucknow.healthcare.realtime;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lucknow.healthcare.event.DashboardEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Relays dashboard events between nodes over Redis pub/sub
+ * 
+ * A dashboard is connected to one node, but the change it should see may
+ * be committed on any other. After commit each event is delivered to this
+ * node's connections straight away and published on a Redis channel; every
+ * other node fans it out to its own connections from the listener. A node
+ * skips its own messages, so local dashboards get each event once.
+ * 
+ * Delivery stays best effort: while Redis is down only connections on the
+ * publishing node see the event, and the others catch up on their next
+ * reconnect and reload.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@Component
+public class DashboardEventRelay implements MessageListener {
+    
+    private static final Logger logger = LoggerFactory.getLogger(DashboardEventRelay.class);
+    
+    private static final String METRIC = "sse.events.relayed";
+    private static final TypeReference<Map<String, Object>> ENVELOPE = new TypeReference<>() {};
+    
+    private final String nodeId = UUID.randomUUID().toString();
+    
+    @Autowired
+    private SseBroadcaster broadcaster;
+    
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @Value("${app.events.relay-channel:dashboard-events}")
+    private String channel;
+    
+    public String getChannel() {
+        return channel;
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDashboardEvent(DashboardEvent event) {
+        broadcaster.publish(event);
+        
+        Map<String, Object> envelope = new LinkedHashMap<>();
+        envelope.put("origin", nodeId);
+        envelope.put("type", event.getType());
+        envelope.put("data", event.getData());
+        envelope.put("recipients", event.getRecipients());
+        envelope.put("admins", event.isForAdmins());
+        try {
+            redisTemplate.convertAndSend(channel, objectMapper.writeValueAsString(envelope));
+            meterRegistry.counter(METRIC, "direction", "out", "outcome", "published").increment();
+        } catch (Exception e) {
+            logger.warn("Could not relay {} event to other nodes: {}", event.getType(), e.getMessage());
+            meterRegistry.counter(METRIC, "direction", "out", "outcome", "failed").increment();
+        }
+    }
+    
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        handle(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+    
+    /**
+     * Deliver an event relayed from another node; this node's own are ignored
+     */
+    @SuppressWarnings("unchecked")
+    void handle(String message) {
+        Map<String, Object> envelope;
+        try {
+            envelope = objectMapper.readValue(message, ENVELOPE);
+        } catch (Exception e) {
+            logger.warn("Ignoring unreadable dashboard event: {}", e.getMessage());
+            return;
+        }
+        if (nodeId.equals(envelope.get("origin")) || !(envelope.get("type") instanceof String type)) {
+            return;
+        }
+        
+        DashboardEvent.Builder builder = DashboardEvent.builder(type);
+        if (envelope.get("data") instanceof Map<?, ?> data) {
+            ((Map<String, Object>) data).forEach(builder::data);
+        }
+        if (envelope.get("recipients") instanceof List<?> recipients) {
+            recipients.forEach(recipient -> builder.recipient(String.valueOf(recipient)));
+        }
+        if (Boolean.TRUE.equals(envelope.get("admins"))) {
+            builder.admins();
+        }
+        broadcaster.publish(builder.build());
+        meterRegistry.counter(METRIC, "direction", "in", "outcome", "delivered").increment();
+    }
+}
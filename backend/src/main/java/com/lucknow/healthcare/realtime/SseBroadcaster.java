@@ -0,0 +1,290 @@
+package com.lucknow.healthcare.realtime;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lucknow.healthcare.event.DashboardEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Server-Sent Events fan-out to dashboard connections
+ * 
+ * Connections are async servlet requests, so an idle dashboard holds a
+ * socket but no thread. Each event is serialized once and the encoded frame
+ * is shared by every recipient. Every connection has a small bounded queue
+ * drained by a shared dispatcher pool, one drain task per connection at a
+ * time, so events arrive in order and a slow client never blocks the
+ * publishing request or other clients. A connection whose queue overflows
+ * is closed; the browser reconnects and reloads its state.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@Component
+public class SseBroadcaster {
+    
+    private static final Logger logger = LoggerFactory.getLogger(SseBroadcaster.class);
+    
+    static final String CONNECTED_EVENT = "connected";
+    
+    private final ObjectMapper objectMapper;
+    private final long timeoutMillis;
+    private final int queueCapacity;
+    private final int maxConnectionsPerUser;
+    private final long reconnectMillis;
+    
+    private final Map<String, List<Connection>> connectionsByUser = new ConcurrentHashMap<>();
+    private final List<Connection> adminConnections = new CopyOnWriteArrayList<>();
+    private final AtomicInteger openConnections = new AtomicInteger();
+    private final AtomicLong sequence = new AtomicLong();
+    private final ExecutorService dispatcher;
+    private final Counter eventsDelivered;
+    private final Counter connectionsDropped;
+    
+    public SseBroadcaster(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                          @Value("${app.events.timeout-ms:1800000}") long timeoutMillis,
+                          @Value("${app.events.queue-capacity:64}") int queueCapacity,
+                          @Value("${app.events.max-connections-per-user:5}") int maxConnectionsPerUser,
+                          @Value("${app.events.reconnect-ms:3000}") long reconnectMillis,
+                          @Value("${app.events.dispatch-threads:4}") int dispatchThreads) {
+        this.objectMapper = objectMapper;
+        this.timeoutMillis = timeoutMillis;
+        this.queueCapacity = queueCapacity;
+        this.maxConnectionsPerUser = maxConnectionsPerUser;
+        this.reconnectMillis = reconnectMillis;
+        
+        AtomicInteger threadCounter = new AtomicInteger();
+        // At most one queued drain task per connection, so the task queue is bounded by the connection count
+        this.dispatcher = new ThreadPoolExecutor(dispatchThreads, dispatchThreads, 60, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, "sse-dispatch-" + threadCounter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        
+        Gauge.builder("sse.connections", openConnections, AtomicInteger::get)
+            .description("Open dashboard event stream connections")
+            .register(meterRegistry);
+        this.eventsDelivered = Counter.builder("sse.events.delivered")
+            .description("Events written to dashboard connections")
+            .register(meterRegistry);
+        this.connectionsDropped = Counter.builder("sse.connections.dropped")
+            .description("Connections closed because the client could not keep up")
+            .register(meterRegistry);
+    }
+    
+    /**
+     * Open an event stream for a user
+     * 
+     * @param email login email of the user; events addressed to it are delivered
+     * @param admin whether the user also receives admin events
+     */
+    public SseEmitter subscribe(String email, boolean admin) {
+        return subscribe(email, admin, new SseEmitter(timeoutMillis));
+    }
+    
+    SseEmitter subscribe(String email, boolean admin, SseEmitter emitter) {
+        Connection connection = new Connection(email, admin, emitter);
+        emitter.onCompletion(connection::unregister);
+        emitter.onTimeout(connection::close);
+        emitter.onError(e -> connection.close());
+        
+        List<Connection> userConnections = connectionsByUser.computeIfAbsent(email, k -> new CopyOnWriteArrayList<>());
+        userConnections.add(connection);
+        if (admin) {
+            adminConnections.add(connection);
+        }
+        openConnections.incrementAndGet();
+        while (userConnections.size() > maxConnectionsPerUser) {
+            userConnections.get(0).close();
+        }
+        
+        // Clients may have missed events while disconnected; "connected" tells them to reload once
+        connection.offer(frame(CONNECTED_EVENT, Map.of("at", System.currentTimeMillis())));
+        return emitter;
+    }
+    
+    /**
+     * Deliver an event to its recipients connected to this node
+     * 
+     * Events reach here through DashboardEventRelay, which also passes them
+     * to the other nodes.
+     */
+    public void publish(DashboardEvent event) {
+        Set<ResponseBodyEmitter.DataWithMediaType> frame = frame(event.getType(), event.getData());
+        if (frame == null) {
+            return;
+        }
+        for (String email : event.getRecipients()) {
+            List<Connection> connections = connectionsByUser.get(email);
+            if (connections != null) {
+                for (Connection connection : connections) {
+                    // Admins addressed directly also get the admin copy; send one
+                    if (!(event.isForAdmins() && connection.admin)) {
+                        connection.offer(frame);
+                    }
+                }
+            }
+        }
+        if (event.isForAdmins()) {
+            for (Connection connection : adminConnections) {
+                connection.offer(frame);
+            }
+        }
+    }
+    
+    /**
+     * Keep idle connections alive through proxies and detect dead clients
+     */
+    @Scheduled(fixedDelayString = "${app.events.heartbeat-ms:20000}")
+    public void heartbeat() {
+        Set<ResponseBodyEmitter.DataWithMediaType> ping = SseEmitter.event().comment("ping").build();
+        for (List<Connection> connections : connectionsByUser.values()) {
+            for (Connection connection : connections) {
+                connection.offer(ping);
+            }
+        }
+    }
+    
+    public int getConnectionCount() {
+        return openConnections.get();
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        for (List<Connection> connections : connectionsByUser.values()) {
+            connections.forEach(Connection::close);
+        }
+        dispatcher.shutdownNow();
+    }
+    
+    private Set<ResponseBodyEmitter.DataWithMediaType> frame(String type, Object data) {
+        try {
+            return SseEmitter.event()
+                .id(Long.toString(sequence.incrementAndGet()))
+                .name(type)
+                .reconnectTime(reconnectMillis)
+                .data(objectMapper.writeValueAsString(data), MediaType.APPLICATION_JSON)
+                .build();
+        } catch (JsonProcessingException e) {
+            logger.warn("Could not serialize {} event: {}", type, e.getMessage());
+            return null;
+        }
+    }
+    
+    /**
+     * One open event stream
+     */
+    private final class Connection {
+        
+        private final String email;
+        private final boolean admin;
+        private final SseEmitter emitter;
+        private final ArrayBlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> queue;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean registered = new AtomicBoolean(true);
+        
+        private Connection(String email, boolean admin, SseEmitter emitter) {
+            this.email = email;
+            this.admin = admin;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        }
+        
+        void offer(Set<ResponseBodyEmitter.DataWithMediaType> frame) {
+            if (!registered.get()) {
+                return;
+            }
+            if (!queue.offer(frame)) {
+                connectionsDropped.increment();
+                logger.debug("Event queue full for {}, closing stream", email);
+                close();
+                return;
+            }
+            schedule();
+        }
+        
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    dispatcher.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    scheduled.set(false);
+                    close();
+                }
+            }
+        }
+        
+        private void drain() {
+            try {
+                Set<ResponseBodyEmitter.DataWithMediaType> frame;
+                while (registered.get() && (frame = queue.poll()) != null) {
+                    emitter.send(frame);
+                    eventsDelivered.increment();
+                }
+            } catch (Exception e) {
+                // Client went away; the container reports it through onError/onCompletion as well
+                close();
+            } finally {
+                scheduled.set(false);
+                if (registered.get() && !queue.isEmpty()) {
+                    schedule();
+                }
+            }
+        }
+        
+        void close() {
+            if (unregister()) {
+                try {
+                    emitter.complete();
+                } catch (Exception ignored) {
+                    // already completed by the container
+                }
+            }
+        }
+        
+        boolean unregister() {
+            if (!registered.compareAndSet(true, false)) {
+                return false;
+            }
+            List<Connection> connections = connectionsByUser.get(email);
+            if (connections != null) {
+                connections.remove(this);
+                if (connections.isEmpty()) {
+                    connectionsByUser.remove(email, connections);
+                }
+            }
+            if (admin) {
+                adminConnections.remove(this);
+            }
+            queue.clear();
+            openConnections.decrementAndGet();
+            return true;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.lucknow.healthcare.repository;
+
+import com.lucknow.healthcare.entity.BookingOutboxDelivery;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for BookingOutboxDelivery entity
+ * 
+ * Rows are removed by the database (ON DELETE CASCADE) when the relay
+ * purges their outbox event.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@Repository
+public interface BookingOutboxDeliveryRepository extends JpaRepository<BookingOutboxDelivery, Long> {
+    
+    /**
+     * Deliveries already recorded for a batch of events
+     */
+    List<BookingOutboxDelivery> findByEventIdIn(Collection<Long> eventIds);
+}
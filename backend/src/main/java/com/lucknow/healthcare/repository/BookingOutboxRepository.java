@@ -0,0 +1,63 @@
+package com.lucknow.healthcare.repository;
+
+import com.lucknow.healthcare.entity.BookingOutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository interface for BookingOutboxEvent entity
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@Repository
+public interface BookingOutboxRepository extends JpaRepository<BookingOutboxEvent, Long> {
+    
+    /**
+     * Take the relay lock for the current transaction
+     * 
+     * Only one node relays at a time, which keeps per-booking order across
+     * the cluster. The lock is released when the transaction ends.
+     * 
+     * @return true if this transaction holds the lock
+     */
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+    boolean tryRelayLock(@Param("key") long key);
+    
+    /**
+     * Oldest unpublished events that are due, in relay order
+     * 
+     * A row waiting out its retry backoff is skipped together with every
+     * later row for the same booking, which keeps per-booking order.
+     */
+    @Query("SELECT e FROM BookingOutboxEvent e WHERE e.publishedAt IS NULL AND NOT EXISTS (" +
+           "SELECT w.id FROM BookingOutboxEvent w WHERE w.bookingId = e.bookingId AND w.publishedAt IS NULL " +
+           "AND w.nextAttemptAt > :now AND w.id <= e.id) ORDER BY e.id ASC")
+    List<BookingOutboxEvent> findDueUnpublished(@Param("now") LocalDateTime now, Pageable pageable);
+    
+    @Modifying
+    @Query("UPDATE BookingOutboxEvent e SET e.publishedAt = :now, e.attempts = e.attempts + 1 WHERE e.id = :id")
+    int markPublished(@Param("id") Long id, @Param("now") LocalDateTime now);
+    
+    /**
+     * Record a failed delivery and when to try again; a non-null publishedAt
+     * dead-letters the event
+     */
+    @Modifying
+    @Query("UPDATE BookingOutboxEvent e SET e.attempts = e.attempts + 1, e.lastError = :error, " +
+           "e.nextAttemptAt = :nextAttemptAt, e.publishedAt = :publishedAt WHERE e.id = :id")
+    int recordFailure(@Param("id") Long id, @Param("error") String error,
+                      @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                      @Param("publishedAt") LocalDateTime publishedAt);
+    
+    @Modifying
+    @Query("DELETE FROM BookingOutboxEvent e WHERE e.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") LocalDateTime before);
+}
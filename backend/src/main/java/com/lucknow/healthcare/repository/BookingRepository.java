@@ -9,12 +9,14 @@ import com.lucknow.healthcare.enums.PaymentStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -57,10 +59,13 @@ public interface BookingRepository extends JpaRepository<Booking, UUID> {
     /**
      * Find bookings by provider with patient data loaded
      * 
+     * The service and provider are not joined; they come from the
+     * second-level cache.
+     * 
      * @param provider the provider to filter by
      * @return List of bookings for the specified provider with patient data
      */
-    @Query("SELECT b FROM Booking b LEFT JOIN FETCH b.patient p LEFT JOIN FETCH b.user u LEFT JOIN FETCH b.service s LEFT JOIN FETCH b.provider pr WHERE b.provider = :provider")
+    @Query("SELECT b FROM Booking b LEFT JOIN FETCH b.patient p LEFT JOIN FETCH b.user u WHERE b.provider = :provider")
     List<Booking> findByProviderWithPatient(@Param("provider") Provider provider);
     
     /**
@@ -71,6 +76,12 @@ public interface BookingRepository extends JpaRepository<Booking, UUID> {
      */
     List<Booking> findByProviderId(UUID providerId);
     
+    /**
+     * Whether a provider is assigned to a booking for the patient that is
+     * not in the given status
+     */
+    boolean existsByProviderIdAndPatientIdAndStatusNot(UUID providerId, UUID patientId, BookingStatus status);
+    
     /**
      * Find bookings by service
      * 
@@ -95,6 +106,16 @@ public interface BookingRepository extends JpaRepository<Booking, UUID> {
      */
     List<Booking> findByStatus(BookingStatus status);
     
+    /**
+     * Find bookings by status scheduled on or after a date; the date bound
+     * lets PostgreSQL skip older monthly partitions
+     * 
+     * @param status the booking status to filter by
+     * @param from first scheduled date, inclusive
+     * @return List of bookings with the specified status
+     */
+    List<Booking> findByStatusAndScheduledDateGreaterThanEqual(BookingStatus status, LocalDate from);
+    
     /**
      * Find bookings by payment status
      * 
@@ -230,6 +251,24 @@ public interface BookingRepository extends JpaRepository<Booking, UUID> {
      */
     long countByStatusIn(List<BookingStatus> statuses);
     
+    /**
+     * Count bookings by status scheduled on or after a date (partition pruned)
+     * 
+     * @param status the booking status to count
+     * @param from first scheduled date, inclusive
+     * @return number of bookings with the specified status
+     */
+    long countByStatusAndScheduledDateGreaterThanEqual(BookingStatus status, LocalDate from);
+    
+    /**
+     * Count bookings by multiple statuses scheduled on or after a date (partition pruned)
+     * 
+     * @param statuses the list of booking statuses to count
+     * @param from first scheduled date, inclusive
+     * @return number of bookings with any of the specified statuses
+     */
+    long countByStatusInAndScheduledDateGreaterThanEqual(List<BookingStatus> statuses, LocalDate from);
+    
     /**
      * Count bookings by user
      * 
@@ -270,6 +309,28 @@ public interface BookingRepository extends JpaRepository<Booking, UUID> {
     @Query("SELECT b FROM Booking b WHERE b.provider IS NULL AND b.status = 'PENDING'")
     List<Booking> findBookingsNeedingProviderAssignment();
     
+    /**
+     * Find bookings that need provider assignment, scheduled on or after a
+     * date (partition pruned)
+     * 
+     * @param from first scheduled date, inclusive
+     * @return List of bookings without assigned providers
+     */
+    @Query("SELECT b FROM Booking b WHERE b.provider IS NULL AND b.status = 'PENDING' AND b.scheduledDate >= :from")
+    List<Booking> findBookingsNeedingProviderAssignmentFrom(@Param("from") LocalDate from);
+    
+    /**
+     * Find bookings needing provider assignment within a date window,
+     * in schedule order
+     * 
+     * @param from first scheduled date, inclusive
+     * @param to last scheduled date, inclusive
+     * @return List of unassigned pending bookings
+     */
+    @Query("SELECT b FROM Booking b WHERE b.provider IS NULL AND b.status = 'PENDING' " +
+           "AND b.scheduledDate BETWEEN :from AND :to ORDER BY b.scheduledDate, b.scheduledTime")
+    List<Booking> findBookingsNeedingProviderAssignmentBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+    
     /**
      * Find bookings that need provider assignment or can be reassigned
      * (not cancelled or completed)
@@ -277,6 +338,17 @@ public interface BookingRepository extends JpaRepository<Booking, UUID> {
     @Query("SELECT b FROM Booking b WHERE (b.provider IS NULL OR b.status IN ('PENDING', 'CONFIRMED')) AND b.status NOT IN ('CANCELLED', 'COMPLETED') ORDER BY b.scheduledDate ASC, b.scheduledTime ASC")
     List<Booking> findUnassignedBookings();
     
+    /**
+     * Find bookings that need provider assignment or can be reassigned,
+     * scheduled on or after a date (partition pruned)
+     * 
+     * @param from first scheduled date, inclusive
+     * @return List of open bookings in schedule order
+     */
+    @Query("SELECT b FROM Booking b WHERE (b.provider IS NULL OR b.status IN ('PENDING', 'CONFIRMED')) AND b.status NOT IN ('CANCELLED', 'COMPLETED') " +
+           "AND b.scheduledDate >= :from ORDER BY b.scheduledDate ASC, b.scheduledTime ASC")
+    List<Booking> findUnassignedBookingsFrom(@Param("from") LocalDate from);
+    
     /**
      * Find unassigned bookings (no provider assigned) with pagination
      */
@@ -289,14 +361,44 @@ public interface BookingRepository extends JpaRepository<Booking, UUID> {
     Page<Booking> findByProvider(Provider provider, Pageable pageable);
     Page<Booking> findByProviderId(UUID providerId, Pageable pageable);
     Page<Booking> findByStatus(BookingStatus status, Pageable pageable);
+    Page<Booking> findByStatusAndScheduledDateGreaterThanEqual(BookingStatus status, LocalDate from, Pageable pageable);
     
     /**
      * Find bookings by provider with patient data loaded (pageable)
      * 
+     * The service and provider are not joined; they come from the
+     * second-level cache.
+     * 
      * @param provider the provider to filter by
      * @param pageable pagination information
      * @return Page of bookings for the specified provider with patient data
      */
-    @Query("SELECT b FROM Booking b LEFT JOIN FETCH b.patient p LEFT JOIN FETCH b.user u LEFT JOIN FETCH b.service s LEFT JOIN FETCH b.provider pr WHERE b.provider = :provider")
+    @Query("SELECT b FROM Booking b LEFT JOIN FETCH b.patient p LEFT JOIN FETCH b.user u WHERE b.provider = :provider")
     Page<Booking> findByProviderWithPatient(@Param("provider") Provider provider, Pageable pageable);
+    
+    // Recurring series occurrences
+    List<Booking> findBySeriesIdOrderByScheduledDateAscScheduledTimeAsc(UUID seriesId);
+    
+    /**
+     * Id, date, status and provider id (null when unassigned) of a series'
+     * occurrences from a date on that can still be changed, in date order
+     */
+    @Query("SELECT b.id, b.scheduledDate, b.status, p.id FROM Booking b LEFT JOIN b.provider p WHERE b.seriesId = :seriesId AND b.scheduledDate >= :from AND b.status IN ('PENDING', 'CONFIRMED') ORDER BY b.scheduledDate ASC")
+    List<Object[]> findOpenSeriesOccurrences(@Param("seriesId") UUID seriesId, @Param("from") LocalDate from);
+    
+    /**
+     * Move a series' open occurrences from a date on to a new time of day, in one statement
+     */
+    @Modifying
+    @Query("UPDATE Booking b SET b.scheduledTime = :time, b.version = b.version + 1, b.updatedAt = :now WHERE b.seriesId = :seriesId AND b.scheduledDate >= :from AND b.status IN ('PENDING', 'CONFIRMED')")
+    int rescheduleOpenSeriesOccurrences(@Param("seriesId") UUID seriesId, @Param("from") LocalDate from,
+                                        @Param("time") LocalTime time, @Param("now") LocalDateTime now);
+    
+    /**
+     * Cancel a series' open occurrences from a date on, in one statement
+     */
+    @Modifying
+    @Query("UPDATE Booking b SET b.status = :cancelled, b.version = b.version + 1, b.updatedAt = :now WHERE b.seriesId = :seriesId AND b.scheduledDate >= :from AND b.status IN ('PENDING', 'CONFIRMED')")
+    int cancelOpenSeriesOccurrences(@Param("seriesId") UUID seriesId, @Param("from") LocalDate from,
+                                    @Param("cancelled") BookingStatus cancelled, @Param("now") LocalDateTime now);
 }
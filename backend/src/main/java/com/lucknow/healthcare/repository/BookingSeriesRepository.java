@@ -0,0 +1,20 @@
+package com.lucknow.healthcare.repository;
+
+import com.lucknow.healthcare.entity.BookingSeries;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository interface for BookingSeries entity
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@Repository
+public interface BookingSeriesRepository extends JpaRepository<BookingSeries, UUID> {
+    
+    List<BookingSeries> findByUserIdOrderByStartDateDesc(UUID userId);
+}
@@ -0,0 +1,89 @@
+package com.lucknow.healthcare.repository;
+
+import com.lucknow.healthcare.entity.ConsentCampaign;
+import com.lucknow.healthcare.entity.ConsentRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repository interface for ConsentCampaign entity
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@Repository
+public interface ConsentCampaignRepository extends JpaRepository<ConsentCampaign, UUID> {
+    
+    /**
+     * Find campaigns in a given status, newest first
+     */
+    List<ConsentCampaign> findByStatusOrderByCreatedAtDesc(ConsentCampaign.Status status);
+    
+    /**
+     * Find all campaigns, newest first
+     */
+    List<ConsentCampaign> findAllByOrderByCreatedAtDesc();
+    
+    /**
+     * Find the newest campaign of a consent type; its version is the current one
+     */
+    Optional<ConsentCampaign> findFirstByConsentTypeOrderByCreatedAtDesc(ConsentRecord.ConsentType consentType);
+    
+    /**
+     * Take over a running campaign whose lease has expired
+     * 
+     * @return 1 if this node now owns the campaign, 0 otherwise
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE ConsentCampaign c SET c.leaseOwner = :owner, c.leaseUntil = :leaseUntil " +
+           "WHERE c.id = :id AND c.status = com.lucknow.healthcare.entity.ConsentCampaign.Status.RUNNING AND " +
+           "(c.leaseUntil IS NULL OR c.leaseUntil < :now)")
+    int claimLease(@Param("id") UUID id,
+                   @Param("owner") String owner,
+                   @Param("leaseUntil") LocalDateTime leaseUntil,
+                   @Param("now") LocalDateTime now);
+    
+    /**
+     * Record a fully processed chunk and renew the lease
+     * 
+     * @return 0 if this node no longer owns the campaign
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE ConsentCampaign c SET c.lastUserId = :lastUserId, " +
+           "c.processedCount = c.processedCount + :processed, c.failedCount = c.failedCount + :failed, " +
+           "c.leaseUntil = :leaseUntil, c.updatedAt = :now " +
+           "WHERE c.id = :id AND c.leaseOwner = :owner AND " +
+           "c.status = com.lucknow.healthcare.entity.ConsentCampaign.Status.RUNNING")
+    int checkpoint(@Param("id") UUID id,
+                   @Param("owner") String owner,
+                   @Param("lastUserId") UUID lastUserId,
+                   @Param("processed") long processed,
+                   @Param("failed") long failed,
+                   @Param("leaseUntil") LocalDateTime leaseUntil,
+                   @Param("now") LocalDateTime now);
+    
+    /**
+     * Finish a campaign owned by this node and release its lease
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE ConsentCampaign c SET c.status = :status, c.lastError = :lastError, " +
+           "c.completedAt = :now, c.updatedAt = :now, c.leaseUntil = NULL " +
+           "WHERE c.id = :id AND c.leaseOwner = :owner")
+    int finish(@Param("id") UUID id,
+               @Param("owner") String owner,
+               @Param("status") ConsentCampaign.Status status,
+               @Param("lastError") String lastError,
+               @Param("now") LocalDateTime now);
+}
@@ -1,6 +1,7 @@
 package com.lucknow.healthcare.repository;
 
 import com.lucknow.healthcare.entity.ConsentRecord;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -74,6 +75,15 @@ public interface ConsentRecordRepository extends JpaRepository<ConsentRecord, UU
                                    @Param("consentType") ConsentRecord.ConsentType consentType,
                                    @Param("version") String version);
     
+    /**
+     * Distinct (type, version) pairs a user has validly accepted,
+     * as [ConsentType, String] rows
+     */
+    @Query("SELECT c.consentType, c.consentVersion FROM ConsentRecord c " +
+           "WHERE c.user.id = :userId AND c.isAccepted = true AND c.revokedAt IS NULL " +
+           "GROUP BY c.consentType, c.consentVersion")
+    List<Object[]> findValidConsentTypeVersions(@Param("userId") UUID userId);
+    
     /**
      * Find users who need to re-accept consents due to version update
      */
@@ -84,5 +94,24 @@ public interface ConsentRecordRepository extends JpaRepository<ConsentRecord, UU
         @Param("consentType") ConsentRecord.ConsentType consentType,
         @Param("latestVersion") String latestVersion
     );
+    
+    /**
+     * Keyset page of users holding a valid acceptance of an older version
+     * of a consent type and none of the latest version, ordered by user ID.
+     * Pass the last ID of the previous page as {@code afterUserId} (the
+     * all-zero UUID for the first page).
+     */
+    @Query("SELECT DISTINCT c.user.id FROM ConsentRecord c " +
+           "WHERE c.consentType = :consentType AND c.consentVersion <> :latestVersion AND " +
+           "c.isAccepted = true AND c.revokedAt IS NULL AND c.user.id > :afterUserId AND " +
+           "NOT EXISTS (SELECT n.id FROM ConsentRecord n WHERE n.user.id = c.user.id AND " +
+           "n.consentType = :consentType AND n.consentVersion = :latestVersion AND " +
+           "n.isAccepted = true AND n.revokedAt IS NULL) " +
+           "ORDER BY c.user.id")
+    List<UUID> findUsersRequiringConsentUpdateAfter(
+        @Param("consentType") ConsentRecord.ConsentType consentType,
+        @Param("latestVersion") String latestVersion,
+        @Param("afterUserId") UUID afterUserId,
+        Pageable page
+    );
 }
-
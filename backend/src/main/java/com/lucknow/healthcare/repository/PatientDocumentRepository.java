@@ -6,8 +6,10 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -67,5 +69,15 @@ public interface PatientDocumentRepository extends JpaRepository<PatientDocument
      * Find all documents uploaded by a user
      */
     List<PatientDocument> findByUploadedById(UUID userId);
+    
+    /**
+     * Count documents that share stored content
+     */
+    long countByContentHash(String contentHash);
+    
+    /**
+     * Which of the given content digests are still referenced by a document
+     */
+    @Query("SELECT DISTINCT d.contentHash FROM PatientDocument d WHERE d.contentHash IN :contentHashes")
+    Set<String> findReferencedContentHashes(@Param("contentHashes") Collection<String> contentHashes);
 }
-
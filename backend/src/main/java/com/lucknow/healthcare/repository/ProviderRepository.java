@@ -202,4 +202,25 @@ public interface ProviderRepository extends JpaRepository<Provider, UUID> {
      */
     @Query("SELECT DISTINCT p FROM Provider p JOIN p.services s WHERE s.id = :serviceId AND p.availabilityStatus = 'AVAILABLE' AND p.isVerified = true ORDER BY p.rating DESC")
     List<Provider> findAvailableVerifiedProvidersByService(@Param("serviceId") UUID serviceId);
+    
+    /**
+     * Find available, verified providers that have a location, with their
+     * services, for the proximity index
+     * 
+     * @return List of located providers
+     */
+    @Query("SELECT DISTINCT p FROM Provider p LEFT JOIN FETCH p.services WHERE p.availabilityStatus = 'AVAILABLE' " +
+           "AND p.isVerified = true AND p.latitude IS NOT NULL AND p.longitude IS NOT NULL")
+    List<Provider> findLocatedAvailableVerifiedProviders();
+    
+    /**
+     * Find providers with an address that has not been geocoded yet, in id
+     * order after the given id (keyset paging)
+     * 
+     * @param after the last id of the previous batch
+     * @param pageable batch size
+     * @return List of providers missing coordinates
+     */
+    @Query("SELECT p FROM Provider p WHERE p.latitude IS NULL AND p.address IS NOT NULL AND p.id > :after ORDER BY p.id")
+    List<Provider> findMissingCoordinatesAfter(@Param("after") UUID after, Pageable pageable);
 }
@@ -0,0 +1,45 @@
+package com.lucknow.healthcare.repository;
+
+import com.lucknow.healthcare.entity.ProviderReservation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository interface for ProviderReservation entity
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@Repository
+public interface ProviderReservationRepository extends JpaRepository<ProviderReservation, UUID> {
+    
+    /**
+     * Reservations that overlap a time window, for building in-memory schedules
+     */
+    @Query("SELECT r FROM ProviderReservation r WHERE r.startsAt <= :to AND r.endsAt >= :from")
+    List<ProviderReservation> findOverlapping(@Param("from") OffsetDateTime from, @Param("to") OffsetDateTime to);
+    
+    @Modifying
+    @Query("DELETE FROM ProviderReservation r WHERE r.bookingId = :bookingId")
+    int deleteByBookingId(@Param("bookingId") UUID bookingId);
+    
+    /**
+     * One provider's reservations that overlap a time window
+     */
+    @Query("SELECT r FROM ProviderReservation r WHERE r.providerId = :providerId AND r.startsAt <= :to AND r.endsAt >= :from")
+    List<ProviderReservation> findOverlappingForProvider(@Param("providerId") UUID providerId,
+                                                         @Param("from") OffsetDateTime from,
+                                                         @Param("to") OffsetDateTime to);
+    
+    @Modifying
+    @Query("DELETE FROM ProviderReservation r WHERE r.bookingId IN :bookingIds")
+    int deleteByBookingIdIn(@Param("bookingIds") Collection<UUID> bookingIds);
+}
@@ -125,4 +125,15 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     // Additional query methods
     Optional<User> findByEmailVerificationToken(String token);
     Optional<User> findByPasswordResetToken(String token);
+    
+    /**
+     * Find users with an address that has not been geocoded yet, in id
+     * order after the given id (keyset paging)
+     * 
+     * @param after the last id of the previous batch
+     * @param pageable batch size
+     * @return List of users missing coordinates
+     */
+    @Query("SELECT u FROM User u WHERE u.latitude IS NULL AND u.address IS NOT NULL AND u.id > :after ORDER BY u.id")
+    List<User> findMissingCoordinatesAfter(@Param("after") UUID after, Pageable pageable);
 }
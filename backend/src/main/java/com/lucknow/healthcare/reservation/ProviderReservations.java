@@ -0,0 +1,195 @@
+package com.lucknow.healthcare.reservation;
+
+import com.lucknow.healthcare.entity.Booking;
+import com.lucknow.healthcare.entity.Provider;
+import com.lucknow.healthcare.enums.BookingStatus;
+import com.lucknow.healthcare.metrics.ServiceMetrics;
+import com.lucknow.healthcare.repository.ProviderReservationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Holds provider time for assigned bookings
+ * 
+ * A reservation is written in the same transaction that assigns or
+ * reschedules a booking and removed when the booking is cancelled or
+ * completed. Overlap detection is the database exclusion constraint on
+ * provider_reservations: the upsert either succeeds or fails with
+ * SQLSTATE 23P01, so concurrent assignments of one provider cannot both
+ * commit and no lock is taken to get there.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@Component
+public class ProviderReservations {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ProviderReservations.class);
+    
+    /** PostgreSQL SQLSTATE for exclusion_violation */
+    static final String EXCLUSION_VIOLATION = "23P01";
+    
+    private static final int BATCH_SIZE = 500;
+    
+    /**
+     * Issued through JdbcTemplate rather than as a native repository query:
+     * Hibernate cannot tell which entities a native write touches, so it
+     * would evict every second-level cache region on each reservation
+     */
+    private static final String UPSERT =
+        "INSERT INTO provider_reservations (booking_id, provider_id, starts_at, ends_at, created_at) " +
+        "VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP) " +
+        "ON CONFLICT (booking_id) DO UPDATE SET provider_id = EXCLUDED.provider_id, " +
+        "starts_at = EXCLUDED.starts_at, ends_at = EXCLUDED.ends_at";
+    
+    @Autowired
+    private ProviderReservationRepository reservationRepository;
+    
+    @Autowired
+    private ServiceMetrics serviceMetrics;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Value("${app.booking.time-zone:Asia/Kolkata}")
+    private ZoneId zone;
+    
+    /**
+     * Reserve the booking's slot for a provider, replacing any reservation
+     * the booking already holds
+     * 
+     * @param booking the booking, with its scheduled date, time and duration set
+     * @param provider the provider to reserve
+     * @throws ReservationConflictException if the provider already holds an overlapping slot
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reserve(Booking booking, Provider provider) {
+        LocalDateTime start = booking.getScheduledDate().atTime(booking.getScheduledTime());
+        OffsetDateTime startsAt = start.atZone(zone).toOffsetDateTime();
+        OffsetDateTime endsAt = start.plusHours(booking.getDuration()).atZone(zone).toOffsetDateTime();
+        
+        try {
+            jdbcTemplate.update(UPSERT, booking.getId(), provider.getId(), startsAt, endsAt);
+        } catch (DataIntegrityViolationException e) {
+            if (!isExclusionViolation(e)) {
+                throw e;
+            }
+            serviceMetrics.increment("provider.reservations", "outcome", "conflict");
+            logger.debug("Provider {} already holds time overlapping booking {}", provider.getId(), booking.getId());
+            throw new ReservationConflictException(
+                "Time conflict! Provider " + provider.getName() + 
+                " already has a booking overlapping " + booking.getScheduledTime() + " to " + 
+                booking.getScheduledTime().plusHours(booking.getDuration()) + " on " + booking.getScheduledDate());
+        }
+        serviceMetrics.increment("provider.reservations", "outcome", "reserved");
+    }
+    
+    /**
+     * Reserve slots of the same length for many bookings of one provider,
+     * sent to the database as JDBC batches
+     * 
+     * @param provider the provider to reserve
+     * @param startsByBooking local start time per booking id
+     * @param durationHours length of every slot
+     * @throws ReservationConflictException if any slot overlaps time the provider already holds;
+     *         the caller's transaction must then roll back
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reserveAll(Provider provider, Map<UUID, LocalDateTime> startsByBooking, int durationHours) {
+        List<Object[]> rows = new ArrayList<>(startsByBooking.size());
+        for (Map.Entry<UUID, LocalDateTime> entry : startsByBooking.entrySet()) {
+            LocalDateTime start = entry.getValue();
+            rows.add(new Object[] {entry.getKey(), provider.getId(),
+                start.atZone(zone).toOffsetDateTime(), start.plusHours(durationHours).atZone(zone).toOffsetDateTime()});
+        }
+        
+        try {
+            jdbcTemplate.batchUpdate(UPSERT, rows, BATCH_SIZE, (statement, row) -> {
+                statement.setObject(1, row[0]);
+                statement.setObject(2, row[1]);
+                statement.setObject(3, row[2]);
+                statement.setObject(4, row[3]);
+            });
+        } catch (DataIntegrityViolationException e) {
+            if (!isExclusionViolation(e)) {
+                throw e;
+            }
+            serviceMetrics.increment("provider.reservations", "outcome", "conflict");
+            throw new ReservationConflictException(
+                "Time conflict! Provider " + provider.getName() + " already has a booking overlapping one of "
+                + rows.size() + " requested visits");
+        }
+        serviceMetrics.increment("provider.reservations", rows.size(), "outcome", "reserved");
+    }
+    
+    /**
+     * Release the provider time held by a booking, if any
+     * 
+     * @param bookingId the booking
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void release(UUID bookingId) {
+        if (reservationRepository.deleteByBookingId(bookingId) > 0) {
+            serviceMetrics.increment("provider.reservations", "outcome", "released");
+        }
+    }
+    
+    /**
+     * Release the provider time held by many bookings in one statement
+     * 
+     * @param bookingIds the bookings
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void releaseAll(Collection<UUID> bookingIds) {
+        if (bookingIds.isEmpty()) {
+            return;
+        }
+        int released = reservationRepository.deleteByBookingIdIn(bookingIds);
+        if (released > 0) {
+            serviceMetrics.increment("provider.reservations", released, "outcome", "released");
+        }
+    }
+    
+    /**
+     * Whether a booking in this status holds provider time; the same
+     * predicate V20 used to backfill provider_reservations
+     */
+    public static boolean holdsTime(BookingStatus status) {
+        return status != BookingStatus.COMPLETED && status != BookingStatus.CANCELLED;
+    }
+    
+    public ZoneId getZone() {
+        return zone;
+    }
+    
+    static boolean isExclusionViolation(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException) {
+                // A failed batch reports the statement's own error as the next exception
+                for (SQLException sql = (SQLException) cause; sql != null; sql = sql.getNextException()) {
+                    if (EXCLUSION_VIOLATION.equals(sql.getSQLState())) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+}
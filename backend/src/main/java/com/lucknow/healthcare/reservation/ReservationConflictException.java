@@ -0,0 +1,21 @@
+package com.lucknow.healthcare.reservation;
+
+/**
+ * Thrown when a provider reservation overlaps time the provider already
+ * holds
+ * 
+ * Extends IllegalStateException so callers that map business rule
+ * violations keep working; batch callers can catch it specifically to
+ * re-plan.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+public class ReservationConflictException extends IllegalStateException {
+    
+    private static final long serialVersionUID = 1L;
+    
+    public ReservationConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,114 @@
+package com.lucknow.healthcare.resilience;
+
+import com.lucknow.healthcare.metrics.ServiceMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Runs read-check-write operations in their own transaction and retries
+ * them when they lose an optimistic lock race
+ * 
+ * Each attempt is a fresh transaction, so the retry re-reads current state
+ * and re-applies its business checks; an operation whose precondition no
+ * longer holds (e.g. the booking was accepted by someone else) then fails
+ * with its normal error instead of overwriting the winner. Attempts are
+ * spaced by a small randomized backoff. When called inside an existing
+ * transaction the operation simply joins it and conflicts propagate to the
+ * owner of that transaction, since retrying inside it cannot succeed.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@Component
+public class OptimisticRetryExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(OptimisticRetryExecutor.class);
+
+    private final TransactionTemplate transactionTemplate;
+    private final ServiceMetrics serviceMetrics;
+    private final int maxAttempts;
+    private final long backoffMillis;
+
+    public OptimisticRetryExecutor(PlatformTransactionManager transactionManager,
+                                   ServiceMetrics serviceMetrics,
+                                   @Value("${app.booking.conflict-retry.max-attempts:4}") int maxAttempts,
+                                   @Value("${app.booking.conflict-retry.backoff-ms:15}") long backoffMillis) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.serviceMetrics = serviceMetrics;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffMillis = backoffMillis;
+    }
+
+    /**
+     * Execute an operation, retrying on optimistic lock conflicts
+     * 
+     * @param operation name used in metrics and logs, e.g. "booking.accept"
+     * @param action the transactional work
+     * @return the action result
+     * @throws IllegalStateException if every attempt conflicted
+     */
+    public <T> T execute(String operation, Supplier<T> action) {
+        return execute(operation, action, OptimisticLockingFailureException.class);
+    }
+
+    /**
+     * Execute an operation, retrying on optimistic lock conflicts and on
+     * another exception type that a fresh attempt can resolve, such as a
+     * plan built from state that changed before it was applied
+     * 
+     * @param operation name used in metrics and logs
+     * @param action the transactional work
+     * @param alsoRetryOn additional exception type to retry on
+     * @return the action result
+     * @throws IllegalStateException if every attempt conflicted
+     */
+    public <T> T execute(String operation, Supplier<T> action, Class<? extends RuntimeException> alsoRetryOn) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return action.get();
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                T result = transactionTemplate.execute(status -> action.get());
+                if (attempt > 1) {
+                    serviceMetrics.increment("optimistic.retry", "operation", operation, "outcome", "recovered");
+                }
+                return result;
+            } catch (RuntimeException e) {
+                if (!(e instanceof OptimisticLockingFailureException) && !alsoRetryOn.isInstance(e)) {
+                    throw e;
+                }
+                if (attempt >= maxAttempts) {
+                    serviceMetrics.increment("optimistic.retry", "operation", operation, "outcome", "exhausted");
+                    logger.warn("{} still conflicting after {} attempts", operation, attempt);
+                    throw new IllegalStateException(
+                        "The record was changed by another request at the same time. Please retry.", e);
+                }
+                serviceMetrics.increment("optimistic.retry", "operation", operation, "outcome", "conflict");
+                logger.debug("{} lost an optimistic lock race (attempt {}), retrying", operation, attempt);
+                backoff(attempt);
+            }
+        }
+    }
+
+    private void backoff(int attempt) {
+        long bound = backoffMillis * attempt;
+        if (bound <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(bound / 2, bound + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while retrying " + attempt, e);
+        }
+    }
+}
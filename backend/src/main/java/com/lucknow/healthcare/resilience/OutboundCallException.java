@@ -0,0 +1,40 @@
+package com.lucknow.healthcare.resilience;
+
+/**
+ * Raised when an outbound integration call does not produce a result
+ *
+ * The reason tells callers whether the remote side was actually reached
+ * (FAILED, TIMEOUT) or the call was refused locally (REJECTED, CIRCUIT_OPEN),
+ * so they can pick a sensible fallback.
+ *
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+public class OutboundCallException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public enum Reason {
+        REJECTED,       // Bulkhead full
+        CIRCUIT_OPEN,   // Circuit breaker not permitting calls
+        TIMEOUT,        // Call exceeded the configured timeout
+        FAILED          // Call threw an exception
+    }
+
+    private final String integration;
+    private final Reason reason;
+
+    public OutboundCallException(String integration, Reason reason, String message, Throwable cause) {
+        super("[" + integration + "] " + message, cause);
+        this.integration = integration;
+        this.reason = reason;
+    }
+
+    public String getIntegration() {
+        return integration;
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+}
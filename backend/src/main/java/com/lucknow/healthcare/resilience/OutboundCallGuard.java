@@ -0,0 +1,140 @@
+package com.lucknow.healthcare.resilience;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Isolation wrapper for one outbound integration
+ *
+ * Every call runs on the integration's own bounded executor (bulkhead),
+ * is cut off after the configured timeout and is reported to a circuit
+ * breaker. While the breaker is open calls fail fast; after the wait
+ * duration a limited number of half-open probes decide whether it closes.
+ * Latency is recorded per outcome in a percentile histogram.
+ *
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+public class OutboundCallGuard {
+
+    static final String TIMER_NAME = "outbound.calls";
+
+    private final String integration;
+    private final ThreadPoolExecutor executor;
+    private final CircuitBreaker circuitBreaker;
+    private final long timeoutNanos;
+    private final MeterRegistry meterRegistry;
+
+    public OutboundCallGuard(String integration, OutboundCallProperties.Integration config,
+                             CircuitBreaker circuitBreaker, ThreadFactory threadFactory,
+                             MeterRegistry meterRegistry) {
+        this.integration = integration;
+        this.circuitBreaker = circuitBreaker;
+        this.timeoutNanos = config.getTimeout().toNanos();
+        this.meterRegistry = meterRegistry;
+        this.executor = new ThreadPoolExecutor(
+            config.getMaxConcurrentCalls(),
+            config.getMaxConcurrentCalls(),
+            60, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(Math.max(1, config.getQueueCapacity())),
+            threadFactory,
+            new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+
+        Gauge.builder("outbound.bulkhead.active", executor, ThreadPoolExecutor::getActiveCount)
+            .tag("integration", integration)
+            .register(meterRegistry);
+        Gauge.builder("outbound.bulkhead.queued", executor, e -> e.getQueue().size())
+            .tag("integration", integration)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Execute a call through the bulkhead, timeout and circuit breaker
+     *
+     * @param call the blocking remote call
+     * @return the call result
+     * @throws OutboundCallException if the call was refused, timed out or failed
+     */
+    public <T> T execute(Callable<T> call) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            record("short_circuited", 0);
+            throw new OutboundCallException(integration, OutboundCallException.Reason.CIRCUIT_OPEN,
+                "Circuit breaker is " + circuitBreaker.getState(), null);
+        }
+
+        long start = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(call);
+        } catch (RejectedExecutionException e) {
+            circuitBreaker.releasePermission();
+            record("rejected", 0);
+            throw new OutboundCallException(integration, OutboundCallException.Reason.REJECTED,
+                "Bulkhead full", e);
+        }
+
+        try {
+            T result = future.get(timeoutNanos, TimeUnit.NANOSECONDS);
+            long elapsed = System.nanoTime() - start;
+            circuitBreaker.onSuccess(elapsed, TimeUnit.NANOSECONDS);
+            record("success", elapsed);
+            return result;
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            long elapsed = System.nanoTime() - start;
+            circuitBreaker.onError(elapsed, TimeUnit.NANOSECONDS, e);
+            record("timeout", elapsed);
+            throw new OutboundCallException(integration, OutboundCallException.Reason.TIMEOUT,
+                "Call timed out after " + TimeUnit.NANOSECONDS.toMillis(timeoutNanos) + "ms", e);
+        } catch (ExecutionException e) {
+            long elapsed = System.nanoTime() - start;
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            circuitBreaker.onError(elapsed, TimeUnit.NANOSECONDS, cause);
+            record("failure", elapsed);
+            throw new OutboundCallException(integration, OutboundCallException.Reason.FAILED,
+                "Call failed: " + cause.getMessage(), cause);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            circuitBreaker.releasePermission();
+            Thread.currentThread().interrupt();
+            throw new OutboundCallException(integration, OutboundCallException.Reason.FAILED,
+                "Interrupted while waiting for call", e);
+        }
+    }
+
+    private void record(String outcome, long elapsedNanos) {
+        Timer.builder(TIMER_NAME)
+            .description("Latency of outbound integration calls")
+            .tag("integration", integration)
+            .tag("outcome", outcome)
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .publishPercentileHistogram()
+            .register(meterRegistry)
+            .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public String getIntegration() {
+        return integration;
+    }
+
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,141 @@
+package com.lucknow.healthcare.resilience;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configuration for outbound integration calls
+ *
+ * Each named integration (paytm, twilio, ...) gets its own bulkhead size,
+ * call timeout and circuit breaker thresholds. Settings an integration
+ * leaves out, and integrations that are not listed, fall back to the
+ * defaults block, then to the built-in values below.
+ *
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@ConfigurationProperties(prefix = "resilience.outbound")
+public class OutboundCallProperties {
+
+    private Integration defaults = Integration.builtIn();
+
+    private Map<String, Integration> integrations = new HashMap<>();
+
+    /**
+     * Settings for one integration, merged field by field over the defaults
+     */
+    public Integration forIntegration(String name) {
+        Integration base = defaults.over(Integration.builtIn());
+        Integration integration = integrations.get(name);
+        return integration == null ? base : integration.over(base);
+    }
+
+    public Integration getDefaults() {
+        return defaults;
+    }
+
+    public void setDefaults(Integration defaults) {
+        this.defaults = defaults;
+    }
+
+    public Map<String, Integration> getIntegrations() {
+        return integrations;
+    }
+
+    public void setIntegrations(Map<String, Integration> integrations) {
+        this.integrations = integrations;
+    }
+
+    public static class Integration {
+
+        // Null means "not set here"; see forIntegration
+
+        private Integer maxConcurrentCalls;
+
+        private Integer queueCapacity;
+
+        private Duration timeout;
+
+        private Float failureRateThreshold;
+
+        private Duration slowCallThreshold;
+
+        private Float slowCallRateThreshold;
+
+        private Integer slidingWindowSize;
+
+        private Integer minimumNumberOfCalls;
+
+        private Duration waitDurationInOpenState;
+
+        private Integer permittedCallsInHalfOpenState;
+
+        static Integration builtIn() {
+            Integration integration = new Integration();
+            integration.maxConcurrentCalls = 10;
+            integration.queueCapacity = 20;
+            integration.timeout = Duration.ofSeconds(5);
+            integration.failureRateThreshold = 50f;
+            integration.slowCallThreshold = Duration.ofSeconds(3);
+            integration.slowCallRateThreshold = 80f;
+            integration.slidingWindowSize = 20;
+            integration.minimumNumberOfCalls = 10;
+            integration.waitDurationInOpenState = Duration.ofSeconds(30);
+            integration.permittedCallsInHalfOpenState = 3;
+            return integration;
+        }
+
+        /**
+         * A copy of these settings with the unset ones taken from {@code base}
+         */
+        Integration over(Integration base) {
+            Integration merged = new Integration();
+            merged.maxConcurrentCalls = maxConcurrentCalls != null ? maxConcurrentCalls : base.maxConcurrentCalls;
+            merged.queueCapacity = queueCapacity != null ? queueCapacity : base.queueCapacity;
+            merged.timeout = timeout != null ? timeout : base.timeout;
+            merged.failureRateThreshold = failureRateThreshold != null ? failureRateThreshold : base.failureRateThreshold;
+            merged.slowCallThreshold = slowCallThreshold != null ? slowCallThreshold : base.slowCallThreshold;
+            merged.slowCallRateThreshold = slowCallRateThreshold != null ? slowCallRateThreshold : base.slowCallRateThreshold;
+            merged.slidingWindowSize = slidingWindowSize != null ? slidingWindowSize : base.slidingWindowSize;
+            merged.minimumNumberOfCalls = minimumNumberOfCalls != null ? minimumNumberOfCalls : base.minimumNumberOfCalls;
+            merged.waitDurationInOpenState = waitDurationInOpenState != null
+                ? waitDurationInOpenState : base.waitDurationInOpenState;
+            merged.permittedCallsInHalfOpenState = permittedCallsInHalfOpenState != null
+                ? permittedCallsInHalfOpenState : base.permittedCallsInHalfOpenState;
+            return merged;
+        }
+
+        public Integer getMaxConcurrentCalls() { return maxConcurrentCalls; }
+        public void setMaxConcurrentCalls(Integer maxConcurrentCalls) { this.maxConcurrentCalls = maxConcurrentCalls; }
+
+        public Integer getQueueCapacity() { return queueCapacity; }
+        public void setQueueCapacity(Integer queueCapacity) { this.queueCapacity = queueCapacity; }
+
+        public Duration getTimeout() { return timeout; }
+        public void setTimeout(Duration timeout) { this.timeout = timeout; }
+
+        public Float getFailureRateThreshold() { return failureRateThreshold; }
+        public void setFailureRateThreshold(Float failureRateThreshold) { this.failureRateThreshold = failureRateThreshold; }
+
+        public Duration getSlowCallThreshold() { return slowCallThreshold; }
+        public void setSlowCallThreshold(Duration slowCallThreshold) { this.slowCallThreshold = slowCallThreshold; }
+
+        public Float getSlowCallRateThreshold() { return slowCallRateThreshold; }
+        public void setSlowCallRateThreshold(Float slowCallRateThreshold) { this.slowCallRateThreshold = slowCallRateThreshold; }
+
+        public Integer getSlidingWindowSize() { return slidingWindowSize; }
+        public void setSlidingWindowSize(Integer slidingWindowSize) { this.slidingWindowSize = slidingWindowSize; }
+
+        public Integer getMinimumNumberOfCalls() { return minimumNumberOfCalls; }
+        public void setMinimumNumberOfCalls(Integer minimumNumberOfCalls) { this.minimumNumberOfCalls = minimumNumberOfCalls; }
+
+        public Duration getWaitDurationInOpenState() { return waitDurationInOpenState; }
+        public void setWaitDurationInOpenState(Duration waitDurationInOpenState) { this.waitDurationInOpenState = waitDurationInOpenState; }
+
+        public Integer getPermittedCallsInHalfOpenState() { return permittedCallsInHalfOpenState; }
+        public void setPermittedCallsInHalfOpenState(Integer permittedCallsInHalfOpenState) { this.permittedCallsInHalfOpenState = permittedCallsInHalfOpenState; }
+    }
+}
@@ -0,0 +1,109 @@
+package com.lucknow.healthcare.resilience;
+
+import com.lucknow.healthcare.execution.ExecutionMode;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of outbound call guards, one per named integration
+ *
+ * Guards are created lazily from {@link OutboundCallProperties} the first
+ * time an integration is used, so adding a new integration only needs a
+ * name (and optionally a config block).
+ *
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@Component
+public class OutboundCallRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboundCallRegistry.class);
+
+    private final Map<String, OutboundCallGuard> guards = new ConcurrentHashMap<>();
+
+    private final OutboundCallProperties properties;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final MeterRegistry meterRegistry;
+    private final ExecutionMode executionMode;
+
+    public OutboundCallRegistry(OutboundCallProperties properties,
+                                CircuitBreakerRegistry circuitBreakerRegistry,
+                                MeterRegistry meterRegistry) {
+        this(properties, circuitBreakerRegistry, meterRegistry, ExecutionMode.PLATFORM);
+    }
+
+    /**
+     * @param executionMode thread model for call execution; with virtual threads a
+     *        call blocked on a slow gateway does not hold a platform thread, while
+     *        the bulkhead still caps concurrent calls per integration
+     */
+    @Autowired
+    public OutboundCallRegistry(OutboundCallProperties properties,
+                                CircuitBreakerRegistry circuitBreakerRegistry,
+                                MeterRegistry meterRegistry,
+                                ExecutionMode executionMode) {
+        this.properties = properties;
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.meterRegistry = meterRegistry;
+        this.executionMode = executionMode;
+    }
+
+    /**
+     * Execute a call for the given integration
+     *
+     * @param integration the integration name, e.g. "paytm"
+     * @param call the blocking remote call
+     * @return the call result
+     * @throws OutboundCallException if the call was refused, timed out or failed
+     */
+    public <T> T execute(String integration, Callable<T> call) {
+        return guard(integration).execute(call);
+    }
+
+    public OutboundCallGuard guard(String integration) {
+        return guards.computeIfAbsent(integration, this::createGuard);
+    }
+
+    private OutboundCallGuard createGuard(String integration) {
+        OutboundCallProperties.Integration config = properties.forIntegration(integration);
+
+        CircuitBreakerConfig breakerConfig = CircuitBreakerConfig.custom()
+            .failureRateThreshold(config.getFailureRateThreshold())
+            .slowCallDurationThreshold(config.getSlowCallThreshold())
+            .slowCallRateThreshold(config.getSlowCallRateThreshold())
+            .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+            .slidingWindowSize(config.getSlidingWindowSize())
+            .minimumNumberOfCalls(config.getMinimumNumberOfCalls())
+            .waitDurationInOpenState(config.getWaitDurationInOpenState())
+            .permittedNumberOfCallsInHalfOpenState(config.getPermittedCallsInHalfOpenState())
+            .automaticTransitionFromOpenToHalfOpenEnabled(false)
+            .build();
+
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(integration, breakerConfig);
+        circuitBreaker.getEventPublisher().onStateTransition(event ->
+            logger.warn("Circuit breaker for {} moved {}", integration, event.getStateTransition()));
+
+        logger.info("Outbound guard for {}: {} concurrent calls, queue {}, timeout {}, {} threads",
+                   integration, config.getMaxConcurrentCalls(), config.getQueueCapacity(), config.getTimeout(),
+                   executionMode.name().toLowerCase());
+
+        return new OutboundCallGuard(integration, config, circuitBreaker,
+                                     executionMode.threadFactory("outbound-" + integration), meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        guards.values().forEach(OutboundCallGuard::shutdown);
+    }
+}
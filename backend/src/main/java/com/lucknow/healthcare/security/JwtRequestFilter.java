@@ -1,10 +1,16 @@
 package com.lucknow.healthcare.security;
 
+import com.lucknow.healthcare.logging.LogMarkers;
+import com.lucknow.healthcare.metrics.ServiceMetrics;
 import com.lucknow.healthcare.service.interfaces.UserService;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.lang.NonNull;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -18,6 +24,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.UUID;
 
 /**
  * JWT Request Filter
@@ -30,56 +37,98 @@ import java.util.Collection;
 @Component
 public class JwtRequestFilter extends OncePerRequestFilter {
     
+    private static final Logger logger = LoggerFactory.getLogger(JwtRequestFilter.class);
+    
+    /**
+     * EventSource cannot set headers, so the event stream may pass its token as a query parameter
+     */
+    static final String EVENT_STREAM_PATH = "/events/stream";
+    static final String TOKEN_PARAMETER = "access_token";
+    
     @Autowired
     private UserService userService;
     
     @Autowired
     private JwtUtil jwtUtil;
     
+    @Autowired
+    private ServiceMetrics serviceMetrics;
+    
+    @Autowired
+    private PrincipalCache principalCache;
+    
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull FilterChain chain)
             throws ServletException, IOException {
         
+        Timer.Sample sample = serviceMetrics.start();
+        String outcome = "anonymous";
+        
         final String requestTokenHeader = request.getHeader("Authorization");
         
         String username = null;
+        Claims claims = null;
         String jwtToken = null;
         
         if (requestTokenHeader != null && requestTokenHeader.startsWith("Bearer ")) {
             jwtToken = requestTokenHeader.substring(7);
-            logger.info("JWT Token found: " + jwtToken.substring(0, Math.min(20, jwtToken.length())) + "...");
+        } else if (EVENT_STREAM_PATH.equals(request.getServletPath())) {
+            jwtToken = request.getParameter(TOKEN_PARAMETER);
+        }
+        
+        // Public endpoints are hit without a token all the time; that is not worth a log line
+        if (jwtToken != null) {
             try {
-                username = jwtUtil.getUsernameFromToken(jwtToken);
-                logger.info("Username extracted from token: " + username);
+                claims = jwtUtil.parseClaims(jwtToken);
+                username = claims.getSubject();
             } catch (Exception e) {
-                logger.error("Unable to get JWT Token or JWT Token has expired: " + e.getMessage());
+                logger.debug(LogMarkers.SAMPLED, "Rejected JWT token on {}: {}", request.getRequestURI(), e.getMessage());
+                outcome = "invalid";
             }
-        } else {
-            logger.warn("JWT Token does not begin with Bearer String. Header: " + requestTokenHeader);
         }
         
         if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            logger.info("Attempting to load user details for: " + username);
             try {
-                UserDetails userDetails = this.userService.loadUserByUsername(username);
+                UserPrincipal userDetails = resolvePrincipal(username, jwtUtil.getUserId(claims));
                 
-                if (jwtUtil.validateToken(jwtToken, userDetails)) {
-                    logger.info("JWT Token validated successfully for user: " + username);
-                    logger.info("User authorities: " + userDetails.getAuthorities());
+                if (jwtUtil.validateClaims(claims, userDetails)) {
                     UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken = 
                         new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
                     usernamePasswordAuthenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                     SecurityContextHolder.getContext().setAuthentication(usernamePasswordAuthenticationToken);
-                    logger.info("Authentication set in SecurityContext for user: " + username + " with authorities: " + userDetails.getAuthorities());
+                    outcome = "authenticated";
+                    logger.debug(LogMarkers.SAMPLED, "Authenticated {} with authorities {}", username, userDetails.getAuthorities());
                 } else {
-                    logger.warn("JWT Token validation failed for user: " + username);
+                    logger.debug(LogMarkers.SAMPLED, "JWT token validation failed for {}", username);
+                    outcome = "invalid";
                 }
             } catch (Exception e) {
-                logger.error("Error loading user details for: " + username + ", Error: " + e.getMessage());
+                logger.warn("Error loading user details for {}: {}", username, e.getMessage());
+                outcome = ServiceMetrics.OUTCOME_ERROR;
             }
-        } else {
-            logger.warn("Username is null or authentication already exists. Username: " + username + ", Existing auth: " + (SecurityContextHolder.getContext().getAuthentication() != null));
         }
+        serviceMetrics.stop(sample, "security.jwt.filter", outcome);
         chain.doFilter(request, response);
     }
+    
+    /**
+     * Resolve the principal from the cache, reloading it if the token names
+     * a different user ID than the cached entry (e.g. the email was reused)
+     */
+    private UserPrincipal resolvePrincipal(String username, UUID tokenUserId) {
+        UserPrincipal principal = principalCache.get(username, this::loadPrincipal);
+        if (tokenUserId != null && !tokenUserId.equals(principal.getId())) {
+            principalCache.invalidate(username);
+            principal = principalCache.get(username, this::loadPrincipal);
+        }
+        return principal;
+    }
+    
+    private UserPrincipal loadPrincipal(String username) {
+        UserDetails userDetails = userService.loadUserByUsername(username);
+        if (userDetails instanceof UserPrincipal principal) {
+            return principal;
+        }
+        throw new IllegalStateException("Unexpected principal type " + userDetails.getClass().getName());
+    }
 }
@@ -4,6 +4,8 @@ import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -17,6 +19,7 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 /**
@@ -31,6 +34,10 @@ import java.util.function.Function;
 @Component
 public class JwtUtil {
     
+    private static final Logger logger = LoggerFactory.getLogger(JwtUtil.class);
+    
+    public static final String USER_ID_CLAIM = "uid";
+    
     @Value("${jwt.secret:mySecretKey}")
     private String secret;
     
@@ -55,6 +62,32 @@ public class JwtUtil {
         return claimsResolver.apply(claims);
     }
     
+    /**
+     * Parse and verify a token once so callers can read several claims
+     * without re-checking the signature for each
+     * 
+     * @param token the JWT
+     * @return the verified claims
+     */
+    public Claims parseClaims(String token) {
+        return getAllClaimsFromToken(token);
+    }
+    
+    /**
+     * Get the user ID claim of already-parsed claims
+     * 
+     * @param claims the verified claims
+     * @return the user ID, or null for tokens issued without one
+     */
+    public UUID getUserId(Claims claims) {
+        String userId = claims.get(USER_ID_CLAIM, String.class);
+        return userId != null ? UUID.fromString(userId) : null;
+    }
+    
+    public Boolean validateClaims(Claims claims, UserDetails userDetails) {
+        return claims.getSubject().equals(userDetails.getUsername()) && !claims.getExpiration().before(new Date());
+    }
+    
     private Claims getAllClaimsFromToken(String token) {
         return Jwts.parserBuilder()
                 .setSigningKey(getSigningKey())
@@ -71,6 +104,9 @@ public class JwtUtil {
     public String generateToken(UserDetails userDetails) {
         Map<String, Object> claims = new HashMap<>();
         claims.put("authorities", userDetails.getAuthorities());
+        if (userDetails instanceof UserPrincipal principal) {
+            claims.put(USER_ID_CLAIM, principal.getId().toString());
+        }
         return createToken(claims, userDetails.getUsername());
     }
     
@@ -137,7 +173,7 @@ public class JwtUtil {
             
             return authorities;
         } catch (Exception e) {
-            System.err.println("Error extracting authorities from token: " + e.getMessage());
+            logger.debug("Error extracting authorities from token: {}", e.getMessage());
             return new ArrayList<>();
         }
     }
@@ -0,0 +1,91 @@
+package com.lucknow.healthcare.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Short-lived cache of authenticated principals keyed by email
+ * 
+ * Saves the user lookup the JWT filter would otherwise do on every request.
+ * Entries expire after a short TTL and the map is bounded; when it fills up
+ * expired entries are dropped first and, failing that, the whole map is
+ * cleared. Role, status and credential changes invalidate the affected
+ * entry immediately on this node; other nodes pick the change up within
+ * one TTL.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@Component
+public class PrincipalCache {
+    
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    
+    private final long ttlNanos;
+    private final int maxSize;
+    
+    public PrincipalCache(@Value("${security.principal-cache.ttl-seconds:60}") long ttlSeconds,
+                          @Value("${security.principal-cache.max-size:10000}") int maxSize) {
+        this.ttlNanos = ttlSeconds * 1_000_000_000L;
+        this.maxSize = maxSize;
+    }
+    
+    /**
+     * Get the cached principal for an email, loading it on a miss
+     * 
+     * @param email the user's email
+     * @param loader loads a fresh principal; exceptions propagate and nothing is cached
+     * @return the principal
+     */
+    public UserPrincipal get(String email, Function<String, UserPrincipal> loader) {
+        long now = System.nanoTime();
+        Entry entry = entries.get(email);
+        if (entry != null && now - entry.loadedAt < ttlNanos) {
+            return entry.principal;
+        }
+        
+        UserPrincipal principal = loader.apply(email);
+        if (entries.size() >= maxSize) {
+            entries.values().removeIf(e -> now - e.loadedAt >= ttlNanos);
+            if (entries.size() >= maxSize) {
+                entries.clear();
+            }
+        }
+        entries.put(email, new Entry(principal, now));
+        return principal;
+    }
+    
+    public void invalidate(String email) {
+        if (email != null) {
+            entries.remove(email);
+        }
+    }
+    
+    public void invalidate(UUID userId) {
+        entries.values().removeIf(e -> e.principal.getId().equals(userId));
+    }
+    
+    public void clear() {
+        entries.clear();
+    }
+    
+    int size() {
+        return entries.size();
+    }
+    
+    private static final class Entry {
+        
+        private final UserPrincipal principal;
+        private final long loadedAt;
+        
+        private Entry(UserPrincipal principal, long loadedAt) {
+            this.principal = principal;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
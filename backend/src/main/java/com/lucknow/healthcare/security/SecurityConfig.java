@@ -1,8 +1,10 @@
 package com.lucknow.healthcare.security;
 
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -56,7 +58,11 @@ public class SecurityConfig {
         http.cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .csrf(csrf -> csrf.disable())
             .authorizeHttpRequests(authz -> authz
-                .requestMatchers("/auth/**", "/actuator/**", "/health/**").permitAll()
+                // Async redispatches of an already authorized request (event streams) are not re-checked
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                .requestMatchers("/auth/**", "/actuator/health/**", "/actuator/info", "/health/**").permitAll()
+                // Metrics and the Prometheus scrape expose internals; scrapers authenticate as an admin
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
                 .requestMatchers("/users/register", "/users/authenticate", "/users/verify-email", 
                                "/users/reset-password-token", "/users/reset-password",
                                "/users/email-exists/**").permitAll()
@@ -77,9 +83,13 @@ public class SecurityConfig {
                 .requestMatchers("/providers/**").hasAnyRole("ADMIN", "PROVIDER")
                 .requestMatchers("/bookings/**").hasAnyRole("ADMIN", "USER", "PROVIDER", "CUSTOMER")
                 .requestMatchers("/booking-rejections/**").hasAnyRole("ADMIN", "PROVIDER")
+                // Providers see previews of their assigned patients' documents (checked in the service)
+                .requestMatchers(HttpMethod.GET, "/patients/*/documents/*/preview")
+                    .hasAnyRole("ADMIN", "USER", "CUSTOMER", "PROVIDER")
                 .requestMatchers("/patients/**").hasAnyRole("ADMIN", "USER", "CUSTOMER")
                 .requestMatchers("/consents/**").hasAnyRole("ADMIN", "USER", "CUSTOMER")
                 .requestMatchers("/payments/**").hasAnyRole("ADMIN", "USER", "PROVIDER", "CUSTOMER")
+                .requestMatchers("/events/**").authenticated()
                 .requestMatchers("/reviews/**").hasAnyRole("ADMIN", "USER", "PROVIDER", "CUSTOMER")
                 .anyRequest().authenticated()
             )
@@ -0,0 +1,99 @@
+package com.lucknow.healthcare.security;
+
+import com.lucknow.healthcare.entity.User;
+import com.lucknow.healthcare.enums.UserRole;
+import com.lucknow.healthcare.enums.UserStatus;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Authenticated principal
+ * 
+ * Immutable snapshot of the user fields needed for authentication and
+ * authorization. Carrying the user ID lets request handlers identify the
+ * caller without another user lookup.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+public final class UserPrincipal implements UserDetails {
+    
+    private static final long serialVersionUID = 1L;
+    
+    private final UUID id;
+    private final String email;
+    private final String password;
+    private final UserRole role;
+    private final UserStatus status;
+    private final List<GrantedAuthority> authorities;
+    
+    private UserPrincipal(UUID id, String email, String password, UserRole role, UserStatus status) {
+        this.id = id;
+        this.email = email;
+        this.password = password;
+        this.role = role;
+        this.status = status;
+        this.authorities = List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+    
+    public static UserPrincipal from(User user) {
+        return new UserPrincipal(user.getId(), user.getEmail(), user.getPassword(), user.getRole(), user.getStatus());
+    }
+    
+    public UUID getId() {
+        return id;
+    }
+    
+    public UserRole getRole() {
+        return role;
+    }
+    
+    public UserStatus getStatus() {
+        return status;
+    }
+    
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+    
+    @Override
+    public String getPassword() {
+        return password;
+    }
+    
+    @Override
+    public String getUsername() {
+        return email;
+    }
+    
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+    
+    @Override
+    public boolean isAccountNonLocked() {
+        return status != UserStatus.SUSPENDED;
+    }
+    
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+    
+    @Override
+    public boolean isEnabled() {
+        return status == UserStatus.ACTIVE;
+    }
+    
+    @Override
+    public String toString() {
+        return "UserPrincipal{id=" + id + ", role=" + role + ", status=" + status + "}";
+    }
+}
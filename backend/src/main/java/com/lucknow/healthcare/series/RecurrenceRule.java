@@ -0,0 +1,202 @@
+package com.lucknow.healthcare.series;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Parsed subset of an iCalendar RRULE
+ * 
+ * Supports FREQ=DAILY or WEEKLY, INTERVAL, BYDAY (weekly only) and one of
+ * COUNT or UNTIL, which covers the daily and weekday care schedules booked
+ * here. Weeks start on Monday. For example FREQ=WEEKLY;BYDAY=MO,WE,FR;COUNT=36
+ * is three visits a week for twelve weeks.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+public final class RecurrenceRule {
+    
+    public enum Frequency {
+        DAILY, WEEKLY
+    }
+    
+    private static final DateTimeFormatter UNTIL_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+    
+    private static final Map<String, DayOfWeek> DAYS = Map.of(
+        "MO", DayOfWeek.MONDAY, "TU", DayOfWeek.TUESDAY, "WE", DayOfWeek.WEDNESDAY,
+        "TH", DayOfWeek.THURSDAY, "FR", DayOfWeek.FRIDAY, "SA", DayOfWeek.SATURDAY, "SU", DayOfWeek.SUNDAY);
+    
+    private final Frequency frequency;
+    private final int interval;
+    private final Set<DayOfWeek> byDay;
+    private final Integer count;
+    private final LocalDate until;
+    
+    private RecurrenceRule(Frequency frequency, int interval, Set<DayOfWeek> byDay, Integer count, LocalDate until) {
+        this.frequency = frequency;
+        this.interval = interval;
+        this.byDay = byDay;
+        this.count = count;
+        this.until = until;
+    }
+    
+    /**
+     * Parse a rule such as FREQ=DAILY;INTERVAL=2;UNTIL=20250331
+     * 
+     * @param rule the rule text, with or without an RRULE: prefix
+     * @return the parsed rule
+     * @throws IllegalArgumentException if the rule is malformed or uses unsupported parts
+     */
+    public static RecurrenceRule parse(String rule) {
+        if (rule == null || rule.isBlank()) {
+            throw new IllegalArgumentException("Recurrence rule is required");
+        }
+        String text = rule.trim().toUpperCase(Locale.ROOT);
+        if (text.startsWith("RRULE:")) {
+            text = text.substring("RRULE:".length());
+        }
+        
+        Frequency frequency = null;
+        int interval = 1;
+        Set<DayOfWeek> byDay = EnumSet.noneOf(DayOfWeek.class);
+        Integer count = null;
+        LocalDate until = null;
+        for (String part : text.split(";")) {
+            String[] pair = part.split("=", 2);
+            if (pair.length != 2 || pair[1].isEmpty()) {
+                throw new IllegalArgumentException("Malformed recurrence rule part: " + part);
+            }
+            String value = pair[1];
+            try {
+                switch (pair[0]) {
+                    case "FREQ" -> frequency = Frequency.valueOf(value);
+                    case "INTERVAL" -> interval = Integer.parseInt(value);
+                    case "COUNT" -> count = Integer.parseInt(value);
+                    case "UNTIL" -> until = LocalDate.parse(value.length() > 8 ? value.substring(0, 8) : value, UNTIL_FORMAT);
+                    case "BYDAY" -> {
+                        for (String day : value.split(",")) {
+                            DayOfWeek dayOfWeek = DAYS.get(day);
+                            if (dayOfWeek == null) {
+                                throw new IllegalArgumentException("Unsupported BYDAY value: " + day);
+                            }
+                            byDay.add(dayOfWeek);
+                        }
+                    }
+                    default -> throw new IllegalArgumentException("Unsupported recurrence rule part: " + pair[0]);
+                }
+            } catch (NumberFormatException | DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid value in recurrence rule part: " + part);
+            }
+        }
+        
+        if (frequency == null) {
+            throw new IllegalArgumentException("Recurrence rule needs FREQ=DAILY or FREQ=WEEKLY");
+        }
+        if (interval < 1) {
+            throw new IllegalArgumentException("INTERVAL must be at least 1");
+        }
+        if ((count == null) == (until == null)) {
+            throw new IllegalArgumentException("Recurrence rule needs exactly one of COUNT or UNTIL");
+        }
+        if (count != null && count < 1) {
+            throw new IllegalArgumentException("COUNT must be at least 1");
+        }
+        if (frequency == Frequency.DAILY && !byDay.isEmpty()) {
+            throw new IllegalArgumentException("BYDAY is only supported with FREQ=WEEKLY");
+        }
+        return new RecurrenceRule(frequency, interval, byDay, count, until);
+    }
+    
+    /**
+     * Expand the rule into occurrence dates
+     * 
+     * The start date is the first candidate; for weekly rules with BYDAY it
+     * only counts as an occurrence if it falls on one of the listed days.
+     * 
+     * @param start first date of the series
+     * @param maxOccurrences upper bound on the number of dates
+     * @return occurrence dates in ascending order
+     * @throws IllegalArgumentException if the rule yields no dates or more than maxOccurrences
+     */
+    public List<LocalDate> expand(LocalDate start, int maxOccurrences) {
+        List<LocalDate> dates = new ArrayList<>();
+        if (frequency == Frequency.DAILY) {
+            for (LocalDate date = start; !isComplete(dates, date); date = date.plusDays(interval)) {
+                add(dates, date, maxOccurrences);
+            }
+        } else {
+            expandWeekly(dates, start, maxOccurrences);
+        }
+        if (dates.isEmpty()) {
+            throw new IllegalArgumentException("Recurrence rule yields no dates from " + start);
+        }
+        return dates;
+    }
+    
+    private void expandWeekly(List<LocalDate> dates, LocalDate start, int maxOccurrences) {
+        Set<DayOfWeek> days = byDay.isEmpty() ? EnumSet.of(start.getDayOfWeek()) : byDay;
+        for (LocalDate week = start.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)); ; week = week.plusWeeks(interval)) {
+            for (DayOfWeek day : days) {
+                LocalDate date = week.with(TemporalAdjusters.nextOrSame(day));
+                if (date.isBefore(start)) {
+                    continue;
+                }
+                if (isComplete(dates, date)) {
+                    return;
+                }
+                add(dates, date, maxOccurrences);
+            }
+        }
+    }
+    
+    private boolean isComplete(List<LocalDate> dates, LocalDate next) {
+        return count != null ? dates.size() >= count : next.isAfter(until);
+    }
+    
+    private static void add(List<LocalDate> dates, LocalDate date, int maxOccurrences) {
+        if (dates.size() == maxOccurrences) {
+            throw new IllegalArgumentException("Recurrence rule yields more than " + maxOccurrences + " occurrences");
+        }
+        dates.add(date);
+    }
+    
+    public Frequency getFrequency() {
+        return frequency;
+    }
+    
+    public int getInterval() {
+        return interval;
+    }
+    
+    /**
+     * @return the rule in canonical RRULE form
+     */
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder("FREQ=").append(frequency);
+        if (interval != 1) {
+            text.append(";INTERVAL=").append(interval);
+        }
+        if (!byDay.isEmpty()) {
+            text.append(";BYDAY=").append(byDay.stream()
+                .map(day -> day.name().substring(0, 2))
+                .collect(Collectors.joining(",")));
+        }
+        if (count != null) {
+            text.append(";COUNT=").append(count);
+        } else {
+            text.append(";UNTIL=").append(until.format(UNTIL_FORMAT));
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,32 @@
+package com.lucknow.healthcare.series;
+
+import com.lucknow.healthcare.reservation.ReservationConflictException;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Thrown when occurrences of a recurring series overlap time the provider
+ * already holds
+ * 
+ * Lists every conflicting date, so the whole series can be corrected in
+ * one go rather than one rejected visit at a time.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+public class SeriesConflictException extends ReservationConflictException {
+    
+    private static final long serialVersionUID = 1L;
+    
+    private final List<LocalDate> conflictingDates;
+    
+    public SeriesConflictException(String message, List<LocalDate> conflictingDates) {
+        super(message);
+        this.conflictingDates = List.copyOf(conflictingDates);
+    }
+    
+    public List<LocalDate> getConflictingDates() {
+        return conflictingDates;
+    }
+}
@@ -1,22 +1,30 @@
 package com.lucknow.healthcare.service;
 
+import com.lucknow.healthcare.metrics.ServiceMetrics;
+import com.lucknow.healthcare.resilience.OutboundCallException;
+import com.lucknow.healthcare.resilience.OutboundCallRegistry;
+import com.lucknow.healthcare.util.OtpGenerator;
 import com.twilio.Twilio;
 import com.twilio.rest.api.v2010.account.Message;
 import com.twilio.type.PhoneNumber;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
 
-import java.util.Random;
 import java.util.Map;
 import java.util.HashMap;
 import java.util.concurrent.TimeUnit;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PostConstruct;
 
 @Service
 public class TwilioService {
     
+    private static final Logger logger = LoggerFactory.getLogger(TwilioService.class);
+    
     @Value("${TWILIO_ACCOUNT_SID:}")
     private String accountSid;
     
@@ -32,22 +40,25 @@ public class TwilioService {
     @Autowired
     private RedisTemplate<String, String> redisTemplate;
     
+    @Autowired
+    private OutboundCallRegistry outboundCalls;
+    
+    @Autowired
+    private ServiceMetrics serviceMetrics;
+    
     @PostConstruct
     public void init() {
         // Initialize Twilio with credentials from .env file
         try {
             if (!isPlaceholderCredentials()) {
                 Twilio.init(accountSid, authToken);
-                System.out.println("✅ Twilio initialized successfully with credentials from .env file");
-                System.out.println("📱 Twilio Phone Number: " + twilioPhoneNumber);
-                System.out.println("🔧 Development Mode: " + developmentMode);
+                logger.info("Twilio initialized (phone number {}, development mode {})", twilioPhoneNumber, developmentMode);
             } else {
-                System.err.println("⚠️  Twilio credentials not configured - using development mode");
+                logger.warn("Twilio credentials not configured - using development mode");
                 developmentMode = true;
             }
         } catch (Exception e) {
-            System.err.println("❌ Failed to initialize Twilio: " + e.getMessage());
-            System.err.println("🔧 Falling back to development mode - OTP will be logged to console");
+            logger.warn("Failed to initialize Twilio, falling back to development mode: {}", e.getMessage());
             developmentMode = true;
         }
     }
@@ -59,56 +70,71 @@ public class TwilioService {
                authToken.trim().isEmpty();
     }
     
+    /**
+     * Send a new OTP by SMS, or log it in development mode
+     * 
+     * @param phoneNumber the phone number
+     * @throws IllegalStateException if the SMS could not be sent; the OTP is discarded
+     */
     public void sendOTP(String phoneNumber) {
+        Timer.Sample sample = serviceMetrics.start();
+        String outcome = ServiceMetrics.OUTCOME_ERROR;
+        try {
+            outcome = deliverOTP(phoneNumber);
+        } finally {
+            serviceMetrics.stop(sample, "otp.send", outcome);
+        }
+    }
+    
+    private String deliverOTP(String phoneNumber) {
         // Format phone number
         phoneNumber = formatPhoneNumber(phoneNumber);
         
         // Generate 6-digit OTP
-        String otp = generateOTP();
+        String otp = OtpGenerator.generate();
         
         // Store OTP in Redis with 5-minute expiration
         String otpKey = "otp:" + phoneNumber;
         try {
             redisTemplate.opsForValue().set(otpKey, otp, 5, TimeUnit.MINUTES);
-            System.out.println("✅ OTP stored in Redis for " + phoneNumber + " with 5-minute expiration");
+            logger.debug("OTP stored for {} with 5-minute expiration", phoneNumber);
         } catch (Exception e) {
-            System.err.println("❌ Failed to store OTP in Redis: " + e.getMessage());
+            logger.error("Failed to store OTP in Redis: {}", e.getMessage());
         }
         
         if (developmentMode) {
             // Development mode - just log the OTP
-            System.out.println("🔧 DEVELOPMENT MODE - OTP for " + phoneNumber + ": " + otp);
-            System.out.println("📱 In production, this would be sent via Twilio SMS");
-            return;
+            logger.info("DEVELOPMENT MODE - OTP for {}: {}", phoneNumber, otp);
+            return "development";
         }
         
         try {
             // Send SMS via Twilio
             String messageBody = "Your Lucknow Healthcare OTP is: " + otp + ". Valid for 5 minutes. Do not share this code.";
             
-            Message message = Message.creator(
-                new PhoneNumber(phoneNumber),
+            String recipient = phoneNumber;
+            Message message = outboundCalls.execute("twilio", () -> Message.creator(
+                new PhoneNumber(recipient),
                 new PhoneNumber(twilioPhoneNumber),
                 messageBody
-            ).create();
-            
-            System.out.println("✅ OTP sent successfully to " + phoneNumber + " via Twilio");
-            System.out.println("📱 Message SID: " + message.getSid());
+            ).create());
             
-        } catch (Exception e) {
-            System.err.println("❌ Failed to send OTP via Twilio: " + e.getMessage());
-            System.err.println("🔧 Falling back to development mode");
-            developmentMode = true;
-            System.out.println("🔧 DEVELOPMENT MODE - OTP for " + phoneNumber + ": " + otp);
+            logger.info("OTP sent to {} via Twilio (message SID {})", phoneNumber, message.getSid());
+            return "sent";
+        
+        } catch (OutboundCallException e) {
+            // Fail this request only: SMS stays on so the circuit breaker can
+            // recover, and the OTP never reaches the log
+            logger.warn("Failed to send OTP to {} via Twilio ({}): {}", phoneNumber, e.getReason(), e.getMessage());
+            try {
+                redisTemplate.delete(otpKey);
+            } catch (Exception redisError) {
+                logger.error("Failed to discard undelivered OTP: {}", redisError.getMessage());
+            }
+            throw new IllegalStateException("SMS delivery is temporarily unavailable, please try again shortly", e);
         }
     }
     
-    private String generateOTP() {
-        Random random = new Random();
-        int otp = 100000 + random.nextInt(900000); // Generate 6-digit OTP
-        return String.valueOf(otp);
-    }
-    
     private String formatPhoneNumber(String phoneNumber) {
         // Remove all non-digit characters
         phoneNumber = phoneNumber.replaceAll("[^0-9]", "");
@@ -134,7 +160,9 @@ public class TwilioService {
      * @return Map containing verification result
      */
     public Map<String, Object> verifyOTP(String phoneNumber, String otp) {
+        Timer.Sample sample = serviceMetrics.start();
         Map<String, Object> result = new HashMap<>();
+        String outcome = ServiceMetrics.OUTCOME_ERROR;
         
         // Format phone number
         phoneNumber = formatPhoneNumber(phoneNumber);
@@ -147,7 +175,8 @@ public class TwilioService {
             if (storedOTP == null) {
                 result.put("verified", false);
                 result.put("error", "OTP not found or expired. Please request a new OTP.");
-                System.out.println("❌ OTP verification failed for " + phoneNumber + " - OTP not found or expired");
+                logger.debug("OTP verification failed for {} - OTP not found or expired", phoneNumber);
+                serviceMetrics.stop(sample, "otp.verify", "expired");
                 return result;
             }
             
@@ -157,19 +186,22 @@ public class TwilioService {
                 redisTemplate.delete(otpKey);
                 result.put("verified", true);
                 result.put("message", "OTP verified successfully");
-                System.out.println("✅ OTP verification successful for " + phoneNumber);
+                logger.debug("OTP verification successful for {}", phoneNumber);
+                outcome = "verified";
             } else {
                 result.put("verified", false);
                 result.put("error", "Invalid OTP. Please check and try again.");
-                System.out.println("❌ OTP verification failed for " + phoneNumber + " - Invalid OTP");
+                logger.debug("OTP verification failed for {} - invalid OTP", phoneNumber);
+                outcome = "invalid";
             }
-            
+        
         } catch (Exception e) {
             result.put("verified", false);
             result.put("error", "OTP verification failed: " + e.getMessage());
-            System.err.println("❌ OTP verification error for " + phoneNumber + ": " + e.getMessage());
+            logger.error("OTP verification error for {}", phoneNumber, e);
         }
         
+        serviceMetrics.stop(sample, "otp.verify", outcome);
         return result;
     }
 }
@@ -6,12 +6,19 @@ import com.lucknow.healthcare.entity.Provider;
 import com.lucknow.healthcare.entity.User;
 import com.lucknow.healthcare.enums.BookingStatus;
 import com.lucknow.healthcare.enums.RequestStatus;
+import com.lucknow.healthcare.event.BookingDomainEvent;
+import com.lucknow.healthcare.event.DashboardEvent;
+import com.lucknow.healthcare.outbox.BookingOutbox;
 import com.lucknow.healthcare.repository.BookingRepository;
 import com.lucknow.healthcare.repository.BookingRejectionRequestRepository;
 import com.lucknow.healthcare.repository.ProviderRepository;
 import com.lucknow.healthcare.repository.UserRepository;
+import com.lucknow.healthcare.reservation.ProviderReservations;
+import com.lucknow.healthcare.resilience.OptimisticRetryExecutor;
 import com.lucknow.healthcare.service.interfaces.BookingRejectionService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -40,6 +47,18 @@ public class BookingRejectionServiceImpl implements BookingRejectionService {
     @Autowired
     private UserRepository userRepository;
     
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Autowired
+    private BookingOutbox bookingOutbox;
+    
+    @Autowired
+    private OptimisticRetryExecutor retryExecutor;
+    
+    @Autowired
+    private ProviderReservations providerReservations;
+    
     @Override
     public BookingRejectionRequest requestBookingRejection(UUID bookingId, UUID providerId, String reason) {
         // Validate booking
@@ -76,11 +95,19 @@ public class BookingRejectionServiceImpl implements BookingRejectionService {
         request.setRejectionReason(reason);
         request.setStatus(RequestStatus.PENDING);
         
-        return rejectionRepository.save(request);
+        BookingRejectionRequest saved = rejectionRepository.save(request);
+        publish(DashboardEvent.REJECTION_REQUESTED, saved);
+        return saved;
     }
     
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public BookingRejectionRequest approveRejection(UUID requestId, UUID adminId, String adminNotes) {
+        return retryExecutor.execute("booking.rejection.approve",
+                                     () -> doApproveRejection(requestId, adminId, adminNotes));
+    }
+    
+    private BookingRejectionRequest doApproveRejection(UUID requestId, UUID adminId, String adminNotes) {
         // Find request
         BookingRejectionRequest request = rejectionRepository.findById(requestId)
             .orElseThrow(() -> new IllegalArgumentException("Rejection request not found with ID: " + requestId));
@@ -99,13 +126,23 @@ public class BookingRejectionServiceImpl implements BookingRejectionService {
         
         // Cancel the booking and unassign provider
         Booking booking = request.getBooking();
+        if (booking.getStatus() == BookingStatus.COMPLETED || booking.getStatus() == BookingStatus.CANCELLED) {
+            throw new IllegalStateException("Booking is already " + booking.getStatus() + " and can no longer be released");
+        }
+        bookingOutbox.append(booking.getId(), BookingDomainEvent.Type.STATUS_CHANGED,
+            BookingDomainEvent.FROM_STATUS, booking.getStatus(),
+            BookingDomainEvent.TO_STATUS, BookingStatus.CANCELLED,
+            BookingDomainEvent.PROVIDER_ID, request.getProvider().getId());
         booking.setStatus(BookingStatus.CANCELLED);
         booking.setProvider(null); // Unassign so admin can reassign
+        providerReservations.release(booking.getId());
         booking.setNotes("Provider rejected - Reason: " + request.getRejectionReason());
         
         bookingRepository.save(booking);
         
-        return rejectionRepository.save(request);
+        BookingRejectionRequest saved = rejectionRepository.save(request);
+        publish(DashboardEvent.REJECTION_RESOLVED, saved);
+        return saved;
     }
     
     @Override
@@ -126,7 +163,9 @@ public class BookingRejectionServiceImpl implements BookingRejectionService {
         // Deny the rejection (provider must complete the booking)
         request.reject(admin, adminNotes);
         
-        return rejectionRepository.save(request);
+        BookingRejectionRequest saved = rejectionRepository.save(request);
+        publish(DashboardEvent.REJECTION_RESOLVED, saved);
+        return saved;
     }
     
     @Override
@@ -158,5 +197,15 @@ public class BookingRejectionServiceImpl implements BookingRejectionService {
     public long countPendingRequests() {
         return rejectionRepository.countByStatus(RequestStatus.PENDING);
     }
+    
+    private void publish(String type, BookingRejectionRequest request) {
+        eventPublisher.publishEvent(DashboardEvent.builder(type)
+            .data("requestId", request.getId())
+            .data("bookingId", request.getBooking().getId())
+            .data("status", request.getStatus().name())
+            .data("pendingCount", rejectionRepository.countByStatus(RequestStatus.PENDING))
+            .recipient(request.getProvider().getEmail())
+            .admins()
+            .build());
+    }
 }
-
@@ -0,0 +1,423 @@
+package com.lucknow.healthcare.service.impl;
+
+import com.lucknow.healthcare.dispatch.ProviderSchedule;
+import com.lucknow.healthcare.entity.Booking;
+import com.lucknow.healthcare.entity.BookingSeries;
+import com.lucknow.healthcare.entity.Patient;
+import com.lucknow.healthcare.entity.Provider;
+import com.lucknow.healthcare.entity.ProviderReservation;
+import com.lucknow.healthcare.entity.Service;
+import com.lucknow.healthcare.entity.User;
+import com.lucknow.healthcare.enums.AvailabilityStatus;
+import com.lucknow.healthcare.enums.BookingStatus;
+import com.lucknow.healthcare.event.BookingDomainEvent;
+import com.lucknow.healthcare.event.DashboardEvent;
+import com.lucknow.healthcare.metrics.ServiceMetrics;
+import com.lucknow.healthcare.outbox.BookingOutbox;
+import com.lucknow.healthcare.repository.BookingRepository;
+import com.lucknow.healthcare.repository.BookingSeriesRepository;
+import com.lucknow.healthcare.repository.PatientRepository;
+import com.lucknow.healthcare.repository.ProviderRepository;
+import com.lucknow.healthcare.repository.ProviderReservationRepository;
+import com.lucknow.healthcare.repository.ServiceRepository;
+import com.lucknow.healthcare.repository.UserRepository;
+import com.lucknow.healthcare.reservation.ProviderReservations;
+import com.lucknow.healthcare.series.RecurrenceRule;
+import com.lucknow.healthcare.series.SeriesConflictException;
+import com.lucknow.healthcare.series.SeriesOccurrenceWriter;
+import com.lucknow.healthcare.service.interfaces.BookingSeriesService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * Service implementation for recurring booking series
+ * 
+ * Creating a series validates the shared details once, including the
+ * checks a provider must pass to be assigned, expands the recurrence rule,
+ * checks the provider's time for every occurrence in a single pass over
+ * their reservations, then writes the occurrences and their reservations
+ * as JDBC batches in one transaction. Series-wide reschedule and cancel
+ * are bulk UPDATEs over the occurrences that are still pending or
+ * confirmed; visits already started, completed or cancelled are left
+ * alone. Occurrences can be assigned one at a time or
+ * by dispatch, so a reschedule moves each one's reservation under the
+ * provider that occurrence has rather than the series' provider.
+ * 
+ * Every affected occurrence gets its own outbox event, so subscribers see
+ * each visit change as they would for a single booking. The events carry
+ * the series id, and the first one also carries the number of occurrences
+ * affected; notifications are sent for that one only, so the customer gets
+ * one mail per series operation rather than one per visit.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@org.springframework.stereotype.Service
+@Transactional
+public class BookingSeriesServiceImpl implements BookingSeriesService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(BookingSeriesServiceImpl.class);
+    
+    @Autowired
+    private BookingSeriesRepository seriesRepository;
+    
+    @Autowired
+    private BookingRepository bookingRepository;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private ServiceRepository serviceRepository;
+    
+    @Autowired
+    private ProviderRepository providerRepository;
+    
+    @Autowired
+    private PatientRepository patientRepository;
+    
+    @Autowired
+    private ProviderReservationRepository reservationRepository;
+    
+    @Autowired
+    private ProviderReservations providerReservations;
+    
+    @Autowired
+    private SeriesOccurrenceWriter occurrenceWriter;
+    
+    @Autowired
+    private BookingOutbox bookingOutbox;
+    
+    @Autowired
+    private ServiceMetrics serviceMetrics;
+    
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Value("${app.booking.series.max-occurrences:366}")
+    private int maxOccurrences;
+    
+    @Override
+    public BookingSeries createSeries(BookingSeries series) {
+        return serviceMetrics.timed("booking.series.create", () -> doCreateSeries(series));
+    }
+    
+    private BookingSeries doCreateSeries(BookingSeries series) {
+        if (series.getUser() == null || series.getUser().getId() == null) {
+            throw new IllegalArgumentException("User is required for booking series");
+        }
+        User user = userRepository.findById(series.getUser().getId())
+            .orElseThrow(() -> new IllegalArgumentException("User not found with ID: " + series.getUser().getId()));
+        
+        if (series.getService() == null || series.getService().getId() == null) {
+            throw new IllegalArgumentException("Service is required for booking series");
+        }
+        Service service = serviceRepository.findById(series.getService().getId())
+            .orElseThrow(() -> new IllegalArgumentException("Service not found with ID: " + series.getService().getId()));
+        
+        Provider provider = null;
+        if (series.getProvider() != null && series.getProvider().getId() != null) {
+            provider = providerRepository.findById(series.getProvider().getId())
+                .orElseThrow(() -> new IllegalArgumentException("Provider not found with ID: " + series.getProvider().getId()));
+        }
+        
+        Patient patient = null;
+        if (series.getPatient() != null && series.getPatient().getId() != null) {
+            patient = patientRepository.findById(series.getPatient().getId())
+                .orElseThrow(() -> new IllegalArgumentException("Patient not found with ID: " + series.getPatient().getId()));
+            if (patient.getCustomer() == null || !patient.getCustomer().getId().equals(user.getId())) {
+                throw new IllegalArgumentException("Patient does not belong to user: " + user.getId());
+            }
+        }
+        
+        if (series.getStartDate() == null || series.getStartDate().isBefore(LocalDate.now())) {
+            throw new IllegalArgumentException("Start date must not be in the past");
+        }
+        if (series.getScheduledTime() == null) {
+            throw new IllegalArgumentException("Scheduled time is required");
+        }
+        if (series.getDuration() == null || series.getDuration() < 1) {
+            throw new IllegalArgumentException("Duration must be at least 1 hour");
+        }
+        if (series.getAmountPerVisit() == null || series.getAmountPerVisit().compareTo(BigDecimal.ZERO) <= 0) {
+            throw new IllegalArgumentException("Amount per visit must be greater than 0");
+        }
+        
+        RecurrenceRule rule = RecurrenceRule.parse(series.getRecurrenceRule());
+        List<LocalDate> dates = rule.expand(series.getStartDate(), maxOccurrences);
+        
+        if (provider != null) {
+            checkAssignable(provider, service);
+            List<LocalDate> conflicts = findConflicts(provider, dates, series.getScheduledTime(), series.getDuration());
+            if (!conflicts.isEmpty()) {
+                throw new SeriesConflictException("Provider " + provider.getName() + " is not free on "
+                    + conflicts.size() + " of " + dates.size() + " dates", conflicts);
+            }
+        }
+        
+        series.setUser(user);
+        series.setService(service);
+        series.setProvider(provider);
+        series.setPatient(patient);
+        series.setRecurrenceRule(rule.toString());
+        series.setEndDate(dates.get(dates.size() - 1));
+        series.setOccurrences(dates.size());
+        series.setStatus(BookingSeries.Status.ACTIVE);
+        // The occurrence rows reference the series, so it must be in the database first
+        BookingSeries saved = seriesRepository.saveAndFlush(series);
+        
+        Map<UUID, LocalDateTime> starts = occurrenceWriter.insert(saved, dates);
+        if (provider != null) {
+            providerReservations.reserveAll(provider, starts, saved.getDuration());
+        }
+        
+        boolean first = true;
+        for (UUID bookingId : starts.keySet()) {
+            bookingOutbox.append(bookingId, BookingDomainEvent.Type.CREATED,
+                BookingDomainEvent.TO_STATUS, BookingStatus.PENDING,
+                BookingDomainEvent.SERIES_ID, saved.getId(),
+                BookingDomainEvent.SERIES_OCCURRENCES, first ? dates.size() : null);
+            first = false;
+        }
+        if (provider != null) {
+            first = true;
+            for (UUID bookingId : starts.keySet()) {
+                bookingOutbox.append(bookingId, BookingDomainEvent.Type.PROVIDER_ASSIGNED,
+                    BookingDomainEvent.PROVIDER_ID, provider.getId(),
+                    BookingDomainEvent.SERIES_ID, saved.getId(),
+                    BookingDomainEvent.SERIES_OCCURRENCES, first ? dates.size() : null);
+                first = false;
+            }
+            eventPublisher.publishEvent(DashboardEvent.builder(DashboardEvent.BOOKING_ASSIGNED)
+                .data("bookingId", starts.keySet().iterator().next())
+                .data("seriesId", saved.getId())
+                .data("occurrences", dates.size())
+                .data("providerId", provider.getId())
+                .data("scheduledDate", saved.getStartDate())
+                .data("scheduledTime", saved.getScheduledTime())
+                .recipient(provider.getEmail())
+                .recipient(user.getEmail())
+                .admins()
+                .build());
+        }
+        serviceMetrics.increment("booking.series.occurrences", dates.size(), "operation", "create");
+        logger.info("Created booking series {} with {} occurrences from {} to {}",
+                   saved.getId(), dates.size(), saved.getStartDate(), saved.getEndDate());
+        return saved;
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<BookingSeries> findById(UUID id) {
+        return seriesRepository.findById(id);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<BookingSeries> getSeriesByUserId(UUID userId) {
+        return seriesRepository.findByUserIdOrderByStartDateDesc(userId);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<Booking> getOccurrences(UUID seriesId) {
+        return bookingRepository.findBySeriesIdOrderByScheduledDateAscScheduledTimeAsc(seriesId);
+    }
+    
+    @Override
+    public BookingSeries rescheduleSeries(UUID seriesId, LocalDate from, LocalTime newTime) {
+        return serviceMetrics.timed("booking.series.reschedule", () -> doRescheduleSeries(seriesId, from, newTime));
+    }
+    
+    private BookingSeries doRescheduleSeries(UUID seriesId, LocalDate from, LocalTime newTime) {
+        if (newTime == null) {
+            throw new IllegalArgumentException("New scheduled time is required");
+        }
+        BookingSeries series = findActiveSeries(seriesId);
+        LocalDate firstDate = effectiveFrom(from);
+        List<Object[]> open = bookingRepository.findOpenSeriesOccurrences(seriesId, firstDate);
+        if (open.isEmpty()) {
+            throw new IllegalArgumentException("Booking series has no open occurrences from " + firstDate);
+        }
+        
+        // Claim the series row first so a concurrent series-wide change fails fast
+        series.setScheduledTime(newTime);
+        BookingSeries saved = seriesRepository.saveAndFlush(series);
+        
+        List<UUID> ids = new ArrayList<>(open.size());
+        List<LocalDate> dates = new ArrayList<>(open.size());
+        for (Object[] row : open) {
+            ids.add((UUID) row[0]);
+            dates.add((LocalDate) row[1]);
+        }
+        
+        // Occurrences can be assigned one by one or by dispatch, so each one's
+        // reservation moves under its own provider, not the series'
+        Map<UUID, Map<UUID, LocalDateTime>> startsByProvider = new LinkedHashMap<>();
+        for (Object[] row : open) {
+            if (row[3] != null) {
+                startsByProvider.computeIfAbsent((UUID) row[3], providerId -> new LinkedHashMap<>())
+                    .put((UUID) row[0], ((LocalDate) row[1]).atTime(newTime));
+            }
+        }
+        if (!startsByProvider.isEmpty()) {
+            // The occurrences' own current slots must not count as conflicts
+            List<UUID> held = new ArrayList<>();
+            startsByProvider.values().forEach(starts -> held.addAll(starts.keySet()));
+            providerReservations.releaseAll(held);
+            
+            Map<UUID, Provider> providers = new HashMap<>();
+            providerRepository.findAllById(startsByProvider.keySet())
+                .forEach(provider -> providers.put(provider.getId(), provider));
+            Set<LocalDate> conflicts = new TreeSet<>();
+            List<String> busy = new ArrayList<>();
+            for (Map.Entry<UUID, Map<UUID, LocalDateTime>> entry : startsByProvider.entrySet()) {
+                Provider provider = providers.get(entry.getKey());
+                List<LocalDate> providerDates = entry.getValue().values().stream().map(LocalDateTime::toLocalDate).toList();
+                List<LocalDate> providerConflicts = findConflicts(provider, providerDates, newTime, saved.getDuration());
+                if (!providerConflicts.isEmpty()) {
+                    conflicts.addAll(providerConflicts);
+                    busy.add(provider.getName());
+                }
+            }
+            if (!conflicts.isEmpty()) {
+                throw new SeriesConflictException((busy.size() == 1 ? "Provider " : "Providers ") + String.join(", ", busy)
+                    + (busy.size() == 1 ? " is" : " are") + " not free at " + newTime
+                    + " on " + conflicts.size() + " of " + dates.size() + " dates", new ArrayList<>(conflicts));
+            }
+            for (Map.Entry<UUID, Map<UUID, LocalDateTime>> entry : startsByProvider.entrySet()) {
+                providerReservations.reserveAll(providers.get(entry.getKey()), entry.getValue(), saved.getDuration());
+            }
+        }
+        
+        int moved = bookingRepository.rescheduleOpenSeriesOccurrences(seriesId, firstDate, newTime, LocalDateTime.now());
+        for (int i = 0; i < ids.size(); i++) {
+            bookingOutbox.append(ids.get(i), BookingDomainEvent.Type.RESCHEDULED,
+                "scheduledDate", dates.get(i), "scheduledTime", newTime,
+                BookingDomainEvent.SERIES_ID, seriesId,
+                BookingDomainEvent.SERIES_OCCURRENCES, i == 0 ? moved : null);
+        }
+        serviceMetrics.increment("booking.series.occurrences", moved, "operation", "reschedule");
+        logger.info("Rescheduled {} occurrences of booking series {} to {} from {}", moved, seriesId, newTime, firstDate);
+        return saved;
+    }
+    
+    @Override
+    public BookingSeries cancelSeries(UUID seriesId, LocalDate from) {
+        return serviceMetrics.timed("booking.series.cancel", () -> doCancelSeries(seriesId, from));
+    }
+    
+    private BookingSeries doCancelSeries(UUID seriesId, LocalDate from) {
+        BookingSeries series = findActiveSeries(seriesId);
+        LocalDate firstDate = effectiveFrom(from);
+        List<Object[]> open = bookingRepository.findOpenSeriesOccurrences(seriesId, firstDate);
+        
+        series.setStatus(BookingSeries.Status.CANCELLED);
+        BookingSeries saved = seriesRepository.saveAndFlush(series);
+        if (open.isEmpty()) {
+            return saved;
+        }
+        
+        List<UUID> ids = new ArrayList<>(open.size());
+        for (Object[] row : open) {
+            ids.add((UUID) row[0]);
+        }
+        providerReservations.releaseAll(ids);
+        int cancelled = bookingRepository.cancelOpenSeriesOccurrences(seriesId, firstDate,
+            BookingStatus.CANCELLED, LocalDateTime.now());
+        
+        for (int i = 0; i < open.size(); i++) {
+            bookingOutbox.append(ids.get(i), BookingDomainEvent.Type.STATUS_CHANGED,
+                BookingDomainEvent.FROM_STATUS, open.get(i)[2],
+                BookingDomainEvent.TO_STATUS, BookingStatus.CANCELLED,
+                BookingDomainEvent.PROVIDER_ID, open.get(i)[3],
+                BookingDomainEvent.SERIES_ID, seriesId,
+                BookingDomainEvent.SERIES_OCCURRENCES, i == 0 ? cancelled : null);
+        }
+        serviceMetrics.increment("booking.series.occurrences", cancelled, "operation", "cancel");
+        logger.info("Cancelled {} occurrences of booking series {} from {}", cancelled, seriesId, firstDate);
+        return saved;
+    }
+    
+    private BookingSeries findActiveSeries(UUID seriesId) {
+        BookingSeries series = seriesRepository.findById(seriesId)
+            .orElseThrow(() -> new IllegalArgumentException("Booking series not found with ID: " + seriesId));
+        if (series.getStatus() != BookingSeries.Status.ACTIVE) {
+            throw new IllegalArgumentException("Booking series is " + series.getStatus());
+        }
+        return series;
+    }
+    
+    private LocalDate effectiveFrom(LocalDate from) {
+        LocalDate today = LocalDate.now();
+        return from == null || from.isBefore(today) ? today : from;
+    }
+    
+    /**
+     * The checks assignProvider makes before a provider takes a booking,
+     * plus those dispatch applies when choosing candidates: available,
+     * verified and offering the service
+     */
+    private void checkAssignable(Provider provider, Service service) {
+        if (provider.getAvailabilityStatus() != AvailabilityStatus.AVAILABLE) {
+            throw new IllegalStateException("Provider " + provider.getName() + " is currently "
+                + provider.getAvailabilityStatus() + ". Only AVAILABLE providers can be assigned.");
+        }
+        if (!Boolean.TRUE.equals(provider.getIsVerified())) {
+            throw new IllegalStateException("Provider " + provider.getName() + " is not verified");
+        }
+        if (provider.getServices() == null
+                || provider.getServices().stream().noneMatch(offered -> offered.getId().equals(service.getId()))) {
+            throw new IllegalArgumentException("Provider " + provider.getName() + " does not offer " + service.getName());
+        }
+    }
+    
+    /**
+     * Dates on which the provider already holds time overlapping the visit,
+     * found with one query for the whole date range
+     */
+    private List<LocalDate> findConflicts(Provider provider, List<LocalDate> dates, LocalTime time, int durationHours) {
+        ZoneId zone = providerReservations.getZone();
+        LocalDateTime firstStart = dates.get(0).atTime(time);
+        LocalDateTime lastEnd = dates.get(dates.size() - 1).atTime(time).plusHours(durationHours);
+        
+        ProviderSchedule schedule = new ProviderSchedule();
+        for (ProviderReservation reservation : reservationRepository.findOverlappingForProvider(provider.getId(),
+                firstStart.atZone(zone).toOffsetDateTime(), lastEnd.atZone(zone).toOffsetDateTime())) {
+            schedule.add(reservation.getStartsAt().toEpochSecond() / 60, reservation.getEndsAt().toEpochSecond() / 60);
+        }
+        
+        List<LocalDate> conflicts = new ArrayList<>();
+        for (LocalDate date : dates) {
+            LocalDateTime start = date.atTime(time);
+            long startMinute = start.atZone(zone).toEpochSecond() / 60;
+            long endMinute = start.plusHours(durationHours).atZone(zone).toEpochSecond() / 60;
+            if (schedule.isFree(startMinute, endMinute)) {
+                // Long visits on close dates can also overlap each other
+                schedule.add(startMinute, endMinute);
+            } else {
+                conflicts.add(date);
+            }
+        }
+        return conflicts;
+    }
+}
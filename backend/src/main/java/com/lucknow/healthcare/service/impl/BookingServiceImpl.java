@@ -6,14 +6,25 @@ import com.lucknow.healthcare.entity.Service;
 import com.lucknow.healthcare.entity.User;
 import com.lucknow.healthcare.enums.BookingStatus;
 import com.lucknow.healthcare.enums.PaymentStatus;
+import com.lucknow.healthcare.event.BookingDomainEvent;
+import com.lucknow.healthcare.event.DashboardEvent;
+import com.lucknow.healthcare.metrics.ServiceMetrics;
+import com.lucknow.healthcare.outbox.BookingOutbox;
+import com.lucknow.healthcare.partition.PartitionWindow;
 import com.lucknow.healthcare.repository.BookingRepository;
+import com.lucknow.healthcare.repository.ProviderRepository;
+import com.lucknow.healthcare.reservation.ProviderReservations;
+import com.lucknow.healthcare.resilience.OptimisticRetryExecutor;
 import com.lucknow.healthcare.service.interfaces.BookingService;
 import com.lucknow.healthcare.service.interfaces.UserService;
 import com.lucknow.healthcare.service.interfaces.ServiceService;
-import com.lucknow.healthcare.service.interfaces.ProviderService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
@@ -21,6 +32,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -30,6 +42,13 @@ import java.util.UUID;
  * Implements business logic for booking management including
  * CRUD operations, status updates, provider assignment, and search functionality.
  * 
+ * Status transitions and provider assignment are read-check-write on a
+ * versioned Booking. They run outside the class-level transaction and go
+ * through {@link OptimisticRetryExecutor}, which gives every attempt its own
+ * transaction and re-runs the checks when a concurrent writer won the race.
+ * Provider time is held in provider_reservations, whose exclusion
+ * constraint is the authority on overlapping assignments.
+ * 
  * @author Lucknow Healthcare Team
  * @version 1.0.0
  */
@@ -37,6 +56,8 @@ import java.util.UUID;
 @Transactional
 public class BookingServiceImpl implements BookingService {
     
+    private static final Logger logger = LoggerFactory.getLogger(BookingServiceImpl.class);
+    
     @Autowired
     private BookingRepository bookingRepository;
     
@@ -47,13 +68,32 @@ public class BookingServiceImpl implements BookingService {
     private ServiceService serviceService;
     
     @Autowired
-    private ProviderService providerService;
+    private ServiceMetrics serviceMetrics;
+    
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Autowired
+    private BookingOutbox bookingOutbox;
+    
+    @Autowired
+    private ProviderRepository providerRepository;
+    
+    @Autowired
+    private OptimisticRetryExecutor retryExecutor;
+    
+    @Autowired
+    private ProviderReservations providerReservations;
     
     @Autowired
-    private com.lucknow.healthcare.repository.ProviderRepository providerRepository;
+    private PartitionWindow partitionWindow;
     
     @Override
     public Booking createBooking(Booking booking) {
+        return serviceMetrics.timed("booking.create", () -> doCreateBooking(booking));
+    }
+    
+    private Booking doCreateBooking(Booking booking) {
         // Validate user exists
         if (booking.getUser() == null || booking.getUser().getId() == null) {
             throw new IllegalArgumentException("User is required for booking");
@@ -79,11 +119,16 @@ public class BookingServiceImpl implements BookingService {
             throw new IllegalArgumentException("Scheduled date must be in the future");
         }
         
-        // Set default values
+        // Set default values; a provider is only taken on through assignProvider,
+        // which checks availability and reserves the provider's time
         booking.setStatus(BookingStatus.PENDING);
         booking.setPaymentStatus(PaymentStatus.PENDING);
+        booking.setProvider(null);
         
-        return bookingRepository.save(booking);
+        Booking saved = bookingRepository.save(booking);
+        bookingOutbox.append(saved.getId(), BookingDomainEvent.Type.CREATED,
+            BookingDomainEvent.TO_STATUS, BookingStatus.PENDING);
+        return saved;
     }
     
     @Override
@@ -94,15 +139,45 @@ public class BookingServiceImpl implements BookingService {
     
     @Override
     public Booking updateBooking(Booking booking) {
-        if (!bookingRepository.existsById(booking.getId())) {
+        Optional<Booking> existing = bookingRepository.findById(booking.getId());
+        if (existing.isEmpty()) {
             throw new IllegalArgumentException("Booking not found with ID: " + booking.getId());
         }
         
+        // Callers that do not send a version keep last-write-wins semantics;
+        // a stale version is rejected by the optimistic lock on flush
+        Booking current = existing.get();
+        if (booking.getVersion() == null) {
+            booking.setVersion(current.getVersion());
+        }
+        
+        // Provider, schedule and status hold or free provider time, so they
+        // only change through assignProvider, rescheduleBooking and the
+        // status operations
+        booking.setProvider(current.getProvider());
+        booking.setScheduledDate(current.getScheduledDate());
+        booking.setScheduledTime(current.getScheduledTime());
+        booking.setStatus(current.getStatus());
+        
+        // A new duration moves the end of the reserved slot
+        if (current.getProvider() != null && ProviderReservations.holdsTime(current.getStatus())
+                && !Objects.equals(booking.getDuration(), current.getDuration())) {
+            providerReservations.reserve(booking, current.getProvider());
+        }
+        
         return bookingRepository.save(booking);
     }
     
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Booking updateBookingStatus(UUID id, BookingStatus status) {
+        return serviceMetrics.timed("booking.status.update",
+                                    () -> retryExecutor.execute("booking.status.update",
+                                                                () -> doUpdateBookingStatus(id, status)),
+                                    "status", status.name());
+    }
+    
+    private Booking doUpdateBookingStatus(UUID id, BookingStatus status) {
         Optional<Booking> bookingOpt = bookingRepository.findById(id);
         
         if (bookingOpt.isEmpty()) {
@@ -121,34 +196,8 @@ public class BookingServiceImpl implements BookingService {
         }
         
         booking.setStatus(status);
-        
-        // AUTO-UPDATE PROVIDER STATUS based on booking status
-        if (booking.getProvider() != null) {
-            Provider provider = booking.getProvider();
-            
-            // When service starts (IN_PROGRESS), set provider to BUSY
-            if (status == BookingStatus.IN_PROGRESS) {
-                provider.setAvailabilityStatus(com.lucknow.healthcare.enums.AvailabilityStatus.BUSY);
-                providerRepository.save(provider);
-                System.out.println("Provider " + provider.getName() + " auto-set to BUSY (booking started)");
-            }
-            
-            // When service completes or cancels, check if provider should return to AVAILABLE
-            if (status == BookingStatus.COMPLETED || status == BookingStatus.CANCELLED) {
-                // Check if provider has other IN_PROGRESS bookings
-                List<Booking> otherInProgressBookings = bookingRepository.findByProviderAndStatus(
-                    provider, 
-                    BookingStatus.IN_PROGRESS
-                );
-                
-                // If no other active bookings, set back to AVAILABLE
-                if (otherInProgressBookings.isEmpty()) {
-                    provider.setAvailabilityStatus(com.lucknow.healthcare.enums.AvailabilityStatus.AVAILABLE);
-                    providerRepository.save(provider);
-                    System.out.println("Provider " + provider.getName() + " auto-set to AVAILABLE (all bookings completed)");
-                }
-            }
-        }
+        // Provider availability follows from the outbox event (ProviderAvailabilitySubscriber)
+        recordTransition(booking, oldStatus, status);
         
         return bookingRepository.save(booking);
     }
@@ -168,7 +217,13 @@ public class BookingServiceImpl implements BookingService {
     }
     
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Booking assignProvider(UUID id, Provider provider) {
+        return serviceMetrics.timed("booking.assign",
+                                    () -> retryExecutor.execute("booking.assign", () -> doAssignProvider(id, provider)));
+    }
+    
+    private Booking doAssignProvider(UUID id, Provider provider) {
         Optional<Booking> bookingOpt = bookingRepository.findById(id);
         
         if (bookingOpt.isEmpty()) {
@@ -180,7 +235,7 @@ public class BookingServiceImpl implements BookingService {
             throw new IllegalArgumentException("Provider is required");
         }
         
-        Optional<Provider> providerOpt = providerService.findById(provider.getId());
+        Optional<Provider> providerOpt = providerRepository.findById(provider.getId());
         if (providerOpt.isEmpty()) {
             throw new IllegalArgumentException("Provider not found with ID: " + provider.getId());
         }
@@ -196,46 +251,42 @@ public class BookingServiceImpl implements BookingService {
             );
         }
         
-        // BUSINESS RULE 2: Check for time conflicts with existing bookings
-        LocalDate bookingDate = booking.getScheduledDate();
-        LocalTime bookingStartTime = booking.getScheduledTime();
-        LocalTime bookingEndTime = bookingStartTime.plusHours(booking.getDuration());
-        
-        // Get all CONFIRMED or IN_PROGRESS bookings for this provider on the same date
-        List<Booking> providerBookings = bookingRepository.findByProviderAndStatusIn(
-            actualProvider,
-            List.of(BookingStatus.CONFIRMED, BookingStatus.IN_PROGRESS)
-        ).stream()
-        .filter(b -> b.getScheduledDate().equals(bookingDate))
-        .toList();
-        
-        // Check for time overlap
-        for (Booking existingBooking : providerBookings) {
-            LocalTime existingStart = existingBooking.getScheduledTime();
-            LocalTime existingEnd = existingStart.plusHours(existingBooking.getDuration());
-            
-            // Check if times overlap
-            boolean overlap = !(bookingEndTime.isBefore(existingStart) || bookingStartTime.isAfter(existingEnd));
-            
-            if (overlap) {
-                throw new IllegalStateException(
-                    "Time conflict! Provider " + actualProvider.getName() + 
-                    " already has a booking from " + existingStart + " to " + existingEnd + 
-                    " on " + bookingDate
-                );
-            }
+        if (booking.getStatus() == BookingStatus.CANCELLED || booking.getStatus() == BookingStatus.COMPLETED) {
+            throw new IllegalStateException("Cannot assign a provider to a " + booking.getStatus() + " booking");
         }
         
+        // BUSINESS RULE 2: No overlapping bookings for the provider. The
+        // reservation insert fails on the exclusion constraint if there is one.
+        providerReservations.reserve(booking, actualProvider);
+        
         // All validations passed - assign provider
+        Provider previousProvider = booking.getProvider();
         booking.setProvider(actualProvider);
-        
-        System.out.println("Provider " + actualProvider.getName() + " assigned to booking " + booking.getId());
+        bookingOutbox.append(booking.getId(), BookingDomainEvent.Type.PROVIDER_ASSIGNED,
+            BookingDomainEvent.PROVIDER_ID, actualProvider.getId(),
+            BookingDomainEvent.PREVIOUS_PROVIDER_ID, previousProvider != null ? previousProvider.getId() : null);
+        
+        logger.info("Provider {} assigned to booking {}", actualProvider.getId(), booking.getId());
+        eventPublisher.publishEvent(DashboardEvent.builder(DashboardEvent.BOOKING_ASSIGNED)
+            .data("bookingId", booking.getId())
+            .data("providerId", actualProvider.getId())
+            .data("scheduledDate", booking.getScheduledDate())
+            .data("scheduledTime", booking.getScheduledTime())
+            .recipient(actualProvider.getEmail())
+            .recipient(booking.getUser() != null ? booking.getUser().getEmail() : null)
+            .admins()
+            .build());
         
         return bookingRepository.save(booking);
     }
     
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Booking cancelBooking(UUID id) {
+        return retryExecutor.execute("booking.cancel", () -> doCancelBooking(id));
+    }
+    
+    private Booking doCancelBooking(UUID id) {
         Optional<Booking> bookingOpt = bookingRepository.findById(id);
         
         if (bookingOpt.isEmpty()) {
@@ -248,6 +299,7 @@ public class BookingServiceImpl implements BookingService {
             throw new IllegalArgumentException("Booking cannot be cancelled in current status: " + booking.getStatus());
         }
         
+        recordTransition(booking, booking.getStatus(), BookingStatus.CANCELLED);
         booking.setStatus(BookingStatus.CANCELLED);
         
         return bookingRepository.save(booking);
@@ -273,6 +325,11 @@ public class BookingServiceImpl implements BookingService {
         
         booking.setScheduledDate(newDate);
         booking.setScheduledTime(newTime);
+        if (booking.getProvider() != null) {
+            providerReservations.reserve(booking, booking.getProvider());
+        }
+        bookingOutbox.append(booking.getId(), BookingDomainEvent.Type.RESCHEDULED,
+            "scheduledDate", newDate, "scheduledTime", newTime);
         
         return bookingRepository.save(booking);
     }
@@ -316,6 +373,9 @@ public class BookingServiceImpl implements BookingService {
     @Override
     @Transactional(readOnly = true)
     public List<Booking> getBookingsByStatus(BookingStatus status) {
+        if (PartitionWindow.isOpen(status)) {
+            return bookingRepository.findByStatusAndScheduledDateGreaterThanEqual(status, partitionWindow.openBookingsFrom());
+        }
         return bookingRepository.findByStatus(status);
     }
     
@@ -394,7 +454,7 @@ public class BookingServiceImpl implements BookingService {
     @Override
     @Transactional(readOnly = true)
     public List<Booking> getBookingsNeedingProviderAssignment() {
-        return bookingRepository.findBookingsNeedingProviderAssignment();
+        return bookingRepository.findBookingsNeedingProviderAssignmentFrom(partitionWindow.openBookingsFrom());
     }
     
     @Override
@@ -430,12 +490,18 @@ public class BookingServiceImpl implements BookingService {
     @Override
     @Transactional(readOnly = true)
     public Page<Booking> getBookingsByStatus(BookingStatus status, Pageable pageable) {
+        if (PartitionWindow.isOpen(status)) {
+            return bookingRepository.findByStatusAndScheduledDateGreaterThanEqual(status, partitionWindow.openBookingsFrom(), pageable);
+        }
         return bookingRepository.findByStatus(status, pageable);
     }
     
     @Override
     @Transactional(readOnly = true)
     public long countBookingsByStatus(BookingStatus status) {
+        if (PartitionWindow.isOpen(status)) {
+            return bookingRepository.countByStatusAndScheduledDateGreaterThanEqual(status, partitionWindow.openBookingsFrom());
+        }
         return bookingRepository.countByStatus(status);
     }
     
@@ -493,7 +559,7 @@ public class BookingServiceImpl implements BookingService {
     @Override
     @Transactional(readOnly = true)
     public List<Booking> findUnassignedBookings() {
-        return bookingRepository.findUnassignedBookings();
+        return bookingRepository.findUnassignedBookingsFrom(partitionWindow.openBookingsFrom());
     }
     
     @Override
@@ -505,11 +571,11 @@ public class BookingServiceImpl implements BookingService {
     @Override
     @Transactional(readOnly = true)
     public long countActiveBookings() {
-        return bookingRepository.countByStatusIn(List.of(
+        return bookingRepository.countByStatusInAndScheduledDateGreaterThanEqual(List.of(
             BookingStatus.PENDING, 
             BookingStatus.CONFIRMED, 
             BookingStatus.IN_PROGRESS
-        ));
+        ), partitionWindow.openBookingsFrom());
     }
     
     @Override
@@ -522,8 +588,12 @@ public class BookingServiceImpl implements BookingService {
     }
     
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Booking acceptBooking(UUID id) {
+        return retryExecutor.execute("booking.accept", () -> doAcceptBooking(id));
+    }
+    
+    private Booking doAcceptBooking(UUID id) {
         Optional<Booking> bookingOpt = bookingRepository.findById(id);
         if (bookingOpt.isEmpty()) {
             throw new IllegalArgumentException("Booking not found with ID: " + id);
@@ -534,14 +604,19 @@ public class BookingServiceImpl implements BookingService {
             throw new IllegalArgumentException("Only PENDING bookings can be accepted. Current status: " + booking.getStatus());
         }
         
+        recordTransition(booking, booking.getStatus(), BookingStatus.CONFIRMED);
         booking.setStatus(BookingStatus.CONFIRMED);
         booking.setUpdatedAt(LocalDateTime.now());
         return bookingRepository.save(booking);
     }
     
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Booking rejectBooking(UUID id, String reason) {
+        return retryExecutor.execute("booking.reject", () -> doRejectBooking(id, reason));
+    }
+    
+    private Booking doRejectBooking(UUID id, String reason) {
         Optional<Booking> bookingOpt = bookingRepository.findById(id);
         if (bookingOpt.isEmpty()) {
             throw new IllegalArgumentException("Booking not found with ID: " + id);
@@ -552,6 +627,7 @@ public class BookingServiceImpl implements BookingService {
             throw new IllegalArgumentException("Only PENDING bookings can be rejected. Current status: " + booking.getStatus());
         }
         
+        recordTransition(booking, booking.getStatus(), BookingStatus.CANCELLED);
         booking.setStatus(BookingStatus.CANCELLED);
         if (reason != null && !reason.isEmpty()) {
             String currentNotes = booking.getNotes() != null ? booking.getNotes() + "\n" : "";
@@ -562,8 +638,12 @@ public class BookingServiceImpl implements BookingService {
     }
     
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Booking startService(UUID id) {
+        return retryExecutor.execute("booking.start", () -> doStartService(id));
+    }
+    
+    private Booking doStartService(UUID id) {
         Optional<Booking> bookingOpt = bookingRepository.findById(id);
         if (bookingOpt.isEmpty()) {
             throw new IllegalArgumentException("Booking not found with ID: " + id);
@@ -574,14 +654,19 @@ public class BookingServiceImpl implements BookingService {
             throw new IllegalArgumentException("Only CONFIRMED bookings can be started. Current status: " + booking.getStatus());
         }
         
+        recordTransition(booking, booking.getStatus(), BookingStatus.IN_PROGRESS);
         booking.setStatus(BookingStatus.IN_PROGRESS);
         booking.setUpdatedAt(LocalDateTime.now());
         return bookingRepository.save(booking);
     }
     
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Booking completeService(UUID id, String notes) {
+        return retryExecutor.execute("booking.complete", () -> doCompleteService(id, notes));
+    }
+    
+    private Booking doCompleteService(UUID id, String notes) {
         Optional<Booking> bookingOpt = bookingRepository.findById(id);
         if (bookingOpt.isEmpty()) {
             throw new IllegalArgumentException("Booking not found with ID: " + id);
@@ -592,6 +677,7 @@ public class BookingServiceImpl implements BookingService {
             throw new IllegalArgumentException("Only IN_PROGRESS bookings can be completed. Current status: " + booking.getStatus());
         }
         
+        recordTransition(booking, booking.getStatus(), BookingStatus.COMPLETED);
         booking.setStatus(BookingStatus.COMPLETED);
         if (notes != null && !notes.isEmpty()) {
             String currentNotes = booking.getNotes() != null ? booking.getNotes() + "\n" : "";
@@ -600,4 +686,23 @@ public class BookingServiceImpl implements BookingService {
         booking.setUpdatedAt(LocalDateTime.now());
         return bookingRepository.save(booking);
     }
+    
+    private void recordTransition(Booking booking, BookingStatus from, BookingStatus to) {
+        if (to == BookingStatus.CANCELLED || to == BookingStatus.COMPLETED) {
+            providerReservations.release(booking.getId());
+        }
+        serviceMetrics.increment("booking.status.transitions", "from", from.name(), "to", to.name());
+        bookingOutbox.append(booking.getId(), BookingDomainEvent.Type.STATUS_CHANGED,
+            BookingDomainEvent.FROM_STATUS, from,
+            BookingDomainEvent.TO_STATUS, to,
+            BookingDomainEvent.PROVIDER_ID, booking.getProvider() != null ? booking.getProvider().getId() : null);
+        eventPublisher.publishEvent(DashboardEvent.builder(DashboardEvent.BOOKING_STATUS_CHANGED)
+            .data("bookingId", booking.getId())
+            .data("from", from.name())
+            .data("to", to.name())
+            .recipient(booking.getUser() != null ? booking.getUser().getEmail() : null)
+            .recipient(booking.getProvider() != null ? booking.getProvider().getEmail() : null)
+            .admins()
+            .build());
+    }
 }
@@ -0,0 +1,148 @@
+package com.lucknow.healthcare.service.impl;
+
+import com.lucknow.healthcare.bulk.BulkWriteResult;
+import com.lucknow.healthcare.bulk.BulkWriter;
+import com.lucknow.healthcare.entity.Booking;
+import com.lucknow.healthcare.entity.Patient;
+import com.lucknow.healthcare.entity.PatientMedication;
+import com.lucknow.healthcare.entity.Payment;
+import com.lucknow.healthcare.entity.Provider;
+import com.lucknow.healthcare.entity.Review;
+import com.lucknow.healthcare.entity.User;
+import com.lucknow.healthcare.enums.BookingStatus;
+import com.lucknow.healthcare.enums.PaymentStatus;
+import com.lucknow.healthcare.reservation.ProviderReservations;
+import com.lucknow.healthcare.service.interfaces.BulkImportService;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Service implementation for bulk imports
+ * 
+ * Every row is checked for its required references before anything is
+ * written, so a malformed request fails as a whole. Associations are then
+ * replaced by reference proxies, which keeps the import to INSERTs only;
+ * {@link BulkWriter} sends those in JDBC batches, one transaction per chunk.
+ * 
+ * Bookings skip the checks of createBooking (future date, provider
+ * availability) and write no outbox events, so imported rows trigger no
+ * mail, analytics or provider availability changes. Provider time is the
+ * exception: an assigned booking that is not completed or cancelled is
+ * reserved with its chunk, and an overlapping slot fails the chunk.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@org.springframework.stereotype.Service
+public class BulkImportServiceImpl implements BulkImportService {
+    
+    @Autowired
+    private BulkWriter bulkWriter;
+    
+    @Autowired
+    private ProviderReservations providerReservations;
+    
+    @Override
+    public BulkWriteResult importBookings(List<Booking> bookings) {
+        requireReferences(bookings, "user", Booking::getUser, User::getId);
+        requireReferences(bookings, "service", Booking::getService, com.lucknow.healthcare.entity.Service::getId);
+        
+        return bulkWriter.write("bookings", bookings, booking -> {
+            booking.setId(null);
+            booking.setVersion(null);
+            booking.setReview(null);
+            booking.setUser(bulkWriter.reference(User.class, booking.getUser().getId()));
+            booking.setService(bulkWriter.reference(com.lucknow.healthcare.entity.Service.class, booking.getService().getId()));
+            if (booking.getProvider() != null) {
+                booking.setProvider(bulkWriter.reference(Provider.class, booking.getProvider().getId()));
+            }
+            if (booking.getPatient() != null) {
+                booking.setPatient(bulkWriter.reference(Patient.class, booking.getPatient().getId()));
+            }
+            if (booking.getStatus() == null) {
+                booking.setStatus(BookingStatus.PENDING);
+            }
+            if (booking.getPaymentStatus() == null) {
+                booking.setPaymentStatus(PaymentStatus.PENDING);
+            }
+        }, this::reserveProviders);
+    }
+    
+    @Override
+    public BulkWriteResult importPayments(List<Payment> payments) {
+        requireReferences(payments, "booking", Payment::getBooking, Booking::getId);
+        requireReferences(payments, "customer", Payment::getCustomer, User::getId);
+        
+        return bulkWriter.write("payments", payments, payment -> {
+            payment.setId(null);
+            payment.setBooking(bulkWriter.reference(Booking.class, payment.getBooking().getId()));
+            payment.setCustomer(bulkWriter.reference(User.class, payment.getCustomer().getId()));
+            if (payment.getPaymentStatus() == null) {
+                payment.setPaymentStatus(Payment.PaymentStatus.PENDING);
+            }
+        }, null);
+    }
+    
+    @Override
+    public BulkWriteResult importReviews(List<Review> reviews) {
+        requireReferences(reviews, "booking", Review::getBooking, Booking::getId);
+        requireReferences(reviews, "user", Review::getUser, User::getId);
+        requireReferences(reviews, "provider", Review::getProvider, Provider::getId);
+        
+        return bulkWriter.write("reviews", reviews, review -> {
+            review.setId(null);
+            review.setBooking(bulkWriter.reference(Booking.class, review.getBooking().getId()));
+            review.setUser(bulkWriter.reference(User.class, review.getUser().getId()));
+            review.setProvider(bulkWriter.reference(Provider.class, review.getProvider().getId()));
+        }, null);
+    }
+    
+    @Override
+    public BulkWriteResult importMedications(List<PatientMedication> medications) {
+        requireReferences(medications, "patient", PatientMedication::getPatient, Patient::getId);
+        
+        return bulkWriter.write("medications", medications, medication -> {
+            medication.setId(null);
+            medication.setPatient(bulkWriter.reference(Patient.class, medication.getPatient().getId()));
+        }, null);
+    }
+    
+    /**
+     * Reserve provider time for the unfinished bookings of a flushed chunk,
+     * one batch per provider and duration
+     */
+    private void reserveProviders(List<Booking> chunk) {
+        Map<String, Map<UUID, LocalDateTime>> startsByProvider = new LinkedHashMap<>();
+        Map<String, Booking> firstByProvider = new LinkedHashMap<>();
+        for (Booking booking : chunk) {
+            if (booking.getProvider() == null || !ProviderReservations.holdsTime(booking.getStatus())) {
+                continue;
+            }
+            String key = booking.getProvider().getId() + "/" + booking.getDuration();
+            startsByProvider.computeIfAbsent(key, k -> new LinkedHashMap<>())
+                .put(booking.getId(), LocalDateTime.of(booking.getScheduledDate(), booking.getScheduledTime()));
+            firstByProvider.putIfAbsent(key, booking);
+        }
+        
+        for (Map.Entry<String, Map<UUID, LocalDateTime>> entry : startsByProvider.entrySet()) {
+            Booking first = firstByProvider.get(entry.getKey());
+            providerReservations.reserveAll(first.getProvider(), entry.getValue(), first.getDuration());
+        }
+    }
+    
+    private static <T, A> void requireReferences(List<T> rows, String name, Function<T, A> association,
+                                                 Function<A, UUID> id) {
+        for (int i = 0; i < rows.size(); i++) {
+            A value = association.apply(rows.get(i));
+            if (value == null || id.apply(value) == null) {
+                throw new IllegalArgumentException("Row " + i + " has no " + name + " id");
+            }
+        }
+    }
+}
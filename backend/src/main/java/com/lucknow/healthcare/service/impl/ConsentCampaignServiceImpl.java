@@ -0,0 +1,300 @@
+package com.lucknow.healthcare.service.impl;
+
+import com.lucknow.healthcare.entity.ConsentCampaign;
+import com.lucknow.healthcare.entity.ConsentRecord;
+import com.lucknow.healthcare.entity.User;
+import com.lucknow.healthcare.enums.UserStatus;
+import com.lucknow.healthcare.metrics.ServiceMetrics;
+import com.lucknow.healthcare.repository.ConsentCampaignRepository;
+import com.lucknow.healthcare.repository.ConsentRecordRepository;
+import com.lucknow.healthcare.repository.UserRepository;
+import com.lucknow.healthcare.service.interfaces.ConsentCampaignService;
+import com.lucknow.healthcare.service.interfaces.ConsentService;
+import com.lucknow.healthcare.service.interfaces.EmailNotificationService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Service implementation for bulk re-consent campaigns
+ * 
+ * A campaign walks the affected users in keyset-ordered chunks, so memory
+ * stays flat however many users are affected. Each chunk's users are loaded
+ * with one query and notified on a bounded worker pool; the caller runs the
+ * task itself when the queue is full, which throttles the scan to the speed
+ * of delivery. After a chunk completes the cursor and counters are written
+ * to the campaign row and the node's lease is renewed. If the node dies,
+ * another node (or this one after restart) claims the expired lease and
+ * continues from the last checkpoint, so delivery is at-least-once per user.
+ * 
+ * Campaign rows are also the durable record of consent versions: the newest
+ * campaign of a type holds its current version. Every node syncs its
+ * in-memory versions from them on startup and on each resume pass, and a
+ * campaign is superseded exactly when a newer campaign row exists, whichever
+ * node started it.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@Service
+public class ConsentCampaignServiceImpl implements ConsentCampaignService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ConsentCampaignServiceImpl.class);
+    
+    // Lowest UUID in PostgreSQL ordering; cursor for the first chunk
+    private static final UUID FIRST_CURSOR = new UUID(0L, 0L);
+    
+    @Autowired
+    private ConsentCampaignRepository campaignRepository;
+    
+    @Autowired
+    private ConsentRecordRepository consentRepository;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private ConsentService consentService;
+    
+    @Autowired
+    private EmailNotificationService emailNotificationService;
+    
+    @Autowired
+    private ServiceMetrics serviceMetrics;
+    
+    @Value("${consent.campaign.chunk-size:500}")
+    private int chunkSize;
+    
+    @Value("${consent.campaign.concurrency:8}")
+    private int concurrency;
+    
+    @Value("${consent.campaign.lease-seconds:120}")
+    private long leaseSeconds;
+    
+    private final String nodeId = resolveNodeId();
+    private final Set<UUID> activeCampaigns = ConcurrentHashMap.newKeySet();
+    
+    private ExecutorService campaignRunner;
+    private ThreadPoolExecutor notificationWorkers;
+    
+    @PostConstruct
+    public void init() {
+        campaignRunner = Executors.newFixedThreadPool(2, threadFactory("consent-campaign"));
+        notificationWorkers = new ThreadPoolExecutor(
+            concurrency, concurrency,
+            60, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(Math.max(1, chunkSize)),
+            threadFactory("consent-notify"),
+            new ThreadPoolExecutor.CallerRunsPolicy());
+        notificationWorkers.allowCoreThreadTimeOut(true);
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        // Unfinished campaigns keep their checkpoint and are resumed once the lease expires
+        campaignRunner.shutdownNow();
+        notificationWorkers.shutdownNow();
+    }
+    
+    @Override
+    public ConsentCampaign startCampaign(ConsentRecord.ConsentType consentType, String consentVersion) {
+        ConsentCampaign campaign = new ConsentCampaign(consentType, consentVersion);
+        campaign.setLeaseOwner(nodeId);
+        campaign.setLeaseUntil(leaseUntil());
+        ConsentCampaign saved = campaignRepository.save(campaign);
+        consentService.updateConsentVersion(consentType, consentVersion);
+        
+        logger.info("Starting consent campaign {} for {} version {}", saved.getId(), consentType, consentVersion);
+        campaignRunner.execute(() -> run(saved.getId()));
+        return saved;
+    }
+    
+    @Override
+    public Optional<ConsentCampaign> getCampaign(UUID id) {
+        return campaignRepository.findById(id);
+    }
+    
+    @Override
+    public List<ConsentCampaign> getCampaigns() {
+        return campaignRepository.findAllByOrderByCreatedAtDesc();
+    }
+    
+    /**
+     * Resume any campaign left running by a previous process
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        resumeCampaigns();
+    }
+    
+    @Override
+    @Scheduled(fixedDelayString = "${consent.campaign.resume-interval-ms:60000}",
+               initialDelayString = "${consent.campaign.resume-interval-ms:60000}")
+    public void resumeCampaigns() {
+        syncConsentVersions();
+        LocalDateTime now = LocalDateTime.now();
+        for (ConsentCampaign campaign : campaignRepository.findByStatusOrderByCreatedAtDesc(ConsentCampaign.Status.RUNNING)) {
+            if (activeCampaigns.contains(campaign.getId())) {
+                continue;
+            }
+            if (campaignRepository.claimLease(campaign.getId(), nodeId, leaseUntil(), now) == 1) {
+                logger.info("Resuming consent campaign {} after user {}", campaign.getId(), campaign.getLastUserId());
+                campaignRunner.execute(() -> run(campaign.getId()));
+            }
+        }
+    }
+    
+    private void run(UUID campaignId) {
+        if (!activeCampaigns.add(campaignId)) {
+            return;
+        }
+        try {
+            ConsentCampaign campaign = campaignRepository.findById(campaignId)
+                .orElseThrow(() -> new IllegalStateException("Campaign not found: " + campaignId));
+            ConsentRecord.ConsentType type = campaign.getConsentType();
+            String version = campaign.getConsentVersion();
+            UUID cursor = campaign.getLastUserId() != null ? campaign.getLastUserId() : FIRST_CURSOR;
+            
+            while (!Thread.currentThread().isInterrupted()) {
+                ConsentCampaign newest = campaignRepository.findFirstByConsentTypeOrderByCreatedAtDesc(type)
+                    .orElse(campaign);
+                if (!newest.getId().equals(campaignId)) {
+                    finish(campaignId, ConsentCampaign.Status.COMPLETED,
+                        "Superseded by version " + newest.getConsentVersion());
+                    return;
+                }
+                
+                List<UUID> userIds = consentRepository.findUsersRequiringConsentUpdateAfter(
+                    type, version, cursor, PageRequest.of(0, chunkSize));
+                if (userIds.isEmpty()) {
+                    finish(campaignId, ConsentCampaign.Status.COMPLETED, null);
+                    logger.info("Consent campaign {} completed", campaignId);
+                    return;
+                }
+                
+                int failed = notifyChunk(userIds, type);
+                cursor = userIds.get(userIds.size() - 1);
+                
+                int updated = campaignRepository.checkpoint(campaignId, nodeId, cursor,
+                    userIds.size() - failed, failed, leaseUntil(), LocalDateTime.now());
+                if (updated == 0) {
+                    logger.warn("Lost lease on consent campaign {}; stopping", campaignId);
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            logger.error("Consent campaign {} failed", campaignId, e);
+            finish(campaignId, ConsentCampaign.Status.FAILED, e.getMessage());
+        } finally {
+            activeCampaigns.remove(campaignId);
+        }
+    }
+    
+    /**
+     * Notify one chunk of users and wait for every delivery to finish
+     * 
+     * @return number of failed deliveries
+     */
+    private int notifyChunk(List<UUID> userIds, ConsentRecord.ConsentType type) throws InterruptedException {
+        List<Future<?>> deliveries = new ArrayList<>(userIds.size());
+        for (User user : userRepository.findAllById(userIds)) {
+            if (user.getStatus() != UserStatus.ACTIVE) {
+                continue;
+            }
+            deliveries.add(notificationWorkers.submit(() -> sendReconsentNotice(user, type)));
+        }
+        
+        int failed = 0;
+        for (Future<?> delivery : deliveries) {
+            try {
+                delivery.get();
+            } catch (ExecutionException e) {
+                failed++;
+                logger.debug("Re-consent notification failed: {}", e.getCause().getMessage());
+            }
+        }
+        serviceMetrics.increment("consent.campaign.notifications", deliveries.size() - failed,
+            "outcome", ServiceMetrics.OUTCOME_SUCCESS);
+        serviceMetrics.increment("consent.campaign.notifications", failed,
+            "outcome", ServiceMetrics.OUTCOME_ERROR);
+        return failed;
+    }
+    
+    private void sendReconsentNotice(User user, ConsentRecord.ConsentType type) {
+        String document = type.name().replace('_', ' ').toLowerCase();
+        emailNotificationService.sendSystemNotification(
+            user.getEmail(),
+            "Please review our updated " + document,
+            "Dear " + user.getName() + ",\n\n"
+                + "We have updated our " + document + ". Please sign in to Lucknow Healthcare "
+                + "and review and accept the new version to continue booking services.\n\n"
+                + "Thank you,\nLucknow Healthcare Team");
+    }
+    
+    /**
+     * Adopt the versions of the newest campaign of each type, which may have
+     * been started on another node
+     */
+    private void syncConsentVersions() {
+        Set<ConsentRecord.ConsentType> synced = EnumSet.noneOf(ConsentRecord.ConsentType.class);
+        for (ConsentCampaign campaign : campaignRepository.findAllByOrderByCreatedAtDesc()) {
+            if (synced.add(campaign.getConsentType())) {
+                consentService.updateConsentVersion(campaign.getConsentType(), campaign.getConsentVersion());
+            }
+        }
+    }
+    
+    private void finish(UUID campaignId, ConsentCampaign.Status status, String message) {
+        campaignRepository.finish(campaignId, nodeId, status, message, LocalDateTime.now());
+    }
+    
+    private LocalDateTime leaseUntil() {
+        return LocalDateTime.now().plusSeconds(leaseSeconds);
+    }
+    
+    private static String resolveNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "unknown";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+    
+    private static ThreadFactory threadFactory(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -1,5 +1,6 @@
 package com.lucknow.healthcare.service.impl;
 
+import com.lucknow.healthcare.cache.ConsentStateCache;
 import com.lucknow.healthcare.entity.ConsentRecord;
 import com.lucknow.healthcare.entity.Patient;
 import com.lucknow.healthcare.entity.User;
@@ -12,13 +13,15 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Service implementation for Consent management
@@ -32,8 +35,8 @@ public class ConsentServiceImpl implements ConsentService {
     
     private static final Logger logger = LoggerFactory.getLogger(ConsentServiceImpl.class);
     
-    // Current consent versions
-    private static final Map<ConsentRecord.ConsentType, String> CONSENT_VERSIONS = new HashMap<>();
+    // Current consent versions; updated at runtime through updateConsentVersion
+    private static final Map<ConsentRecord.ConsentType, String> CONSENT_VERSIONS = new ConcurrentHashMap<>();
     
     static {
         CONSENT_VERSIONS.put(ConsentRecord.ConsentType.TERMS_AND_CONDITIONS, "1.0");
@@ -53,6 +56,9 @@ public class ConsentServiceImpl implements ConsentService {
     @Autowired
     private PatientRepository patientRepository;
     
+    @Autowired
+    private ConsentStateCache consentStateCache;
+    
     @Override
     public ConsentRecord acceptConsent(UUID userId, ConsentRecord.ConsentType consentType, 
                                       String consentVersion, String ipAddress, String userAgent) {
@@ -73,6 +79,7 @@ public class ConsentServiceImpl implements ConsentService {
             }
             // Re-accept if previously revoked
             consent.accept(ipAddress, userAgent);
+            invalidateAfterCommit(userId);
             return consentRepository.save(consent);
         }
         
@@ -81,6 +88,7 @@ public class ConsentServiceImpl implements ConsentService {
         consent.accept(ipAddress, userAgent);
         
         ConsentRecord saved = consentRepository.save(consent);
+        invalidateAfterCommit(userId);
         logger.info("Consent recorded successfully with ID: {}", saved.getId());
         
         return saved;
@@ -109,6 +117,7 @@ public class ConsentServiceImpl implements ConsentService {
                 return consent;
             }
             consent.accept(ipAddress, userAgent);
+            invalidateAfterCommit(userId);
             return consentRepository.save(consent);
         }
         
@@ -117,6 +126,7 @@ public class ConsentServiceImpl implements ConsentService {
         consent.accept(ipAddress, userAgent);
         
         ConsentRecord saved = consentRepository.save(consent);
+        invalidateAfterCommit(userId);
         logger.info("Patient consent recorded successfully with ID: {}", saved.getId());
         
         return saved;
@@ -137,6 +147,7 @@ public class ConsentServiceImpl implements ConsentService {
         consent.revoke(reason);
         
         ConsentRecord revoked = consentRepository.save(consent);
+        invalidateAfterCommit(userId);
         logger.info("Consent revoked successfully: {}", consentId);
         
         return revoked;
@@ -182,7 +193,7 @@ public class ConsentServiceImpl implements ConsentService {
     private void addRequiredConsent(List<RequiredConsent> list, UUID userId, 
                                    ConsentRecord.ConsentType type, String title, String description) {
         String latestVersion = getLatestConsentVersion(type);
-        boolean isAccepted = hasValidConsentVersion(userId, type, latestVersion);
+        boolean isAccepted = consentStateCache.hasCurrentVersion(userId, type, this::loadConsentState);
         
         list.add(new RequiredConsent(type, latestVersion, isAccepted, title, description));
     }
@@ -190,12 +201,16 @@ public class ConsentServiceImpl implements ConsentService {
     @Override
     @Transactional(readOnly = true)
     public boolean hasValidConsent(UUID userId, ConsentRecord.ConsentType consentType) {
-        return consentRepository.hasValidConsent(userId, consentType);
+        return consentStateCache.hasAnyVersion(userId, consentType, this::loadConsentState);
     }
     
     @Override
     @Transactional(readOnly = true)
     public boolean hasValidConsentVersion(UUID userId, ConsentRecord.ConsentType consentType, String version) {
+        // Only the current version is tracked in the bitset; older versions are rare audit lookups
+        if (version.equals(getLatestConsentVersion(consentType))) {
+            return consentStateCache.hasCurrentVersion(userId, consentType, this::loadConsentState);
+        }
         return consentRepository.hasValidConsentVersion(userId, consentType, version);
     }
     
@@ -203,5 +218,46 @@ public class ConsentServiceImpl implements ConsentService {
     public String getLatestConsentVersion(ConsentRecord.ConsentType consentType) {
         return CONSENT_VERSIONS.getOrDefault(consentType, "1.0");
     }
+    
+    @Override
+    public void updateConsentVersion(ConsentRecord.ConsentType consentType, String version) {
+        String previous = CONSENT_VERSIONS.put(consentType, version);
+        if (!version.equals(previous)) {
+            consentStateCache.bumpEpoch();
+            logger.info("Consent version for {} changed from {} to {}", consentType, previous, version);
+        }
+    }
+    
+    /**
+     * Build a user's consent bitset from one grouped query
+     */
+    private long loadConsentState(UUID userId) {
+        long bits = 0;
+        for (Object[] row : consentRepository.findValidConsentTypeVersions(userId)) {
+            ConsentRecord.ConsentType type = (ConsentRecord.ConsentType) row[0];
+            String version = (String) row[1];
+            bits |= ConsentStateCache.anyVersionBit(type);
+            if (version.equals(getLatestConsentVersion(type))) {
+                bits |= ConsentStateCache.currentVersionBit(type);
+            }
+        }
+        return bits;
+    }
+    
+    /**
+     * Invalidate cached consent state once the change is visible to other readers
+     */
+    private void invalidateAfterCommit(UUID userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    consentStateCache.invalidate(userId);
+                }
+            });
+        } else {
+            consentStateCache.invalidate(userId);
+        }
+    }
 }
 
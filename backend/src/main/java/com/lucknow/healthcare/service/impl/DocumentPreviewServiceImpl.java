@@ -0,0 +1,254 @@
+package com.lucknow.healthcare.service.impl;
+
+import com.lucknow.healthcare.event.DocumentUploadedEvent;
+import com.lucknow.healthcare.metrics.ServiceMetrics;
+import com.lucknow.healthcare.preview.PreviewDiskCache;
+import com.lucknow.healthcare.preview.PreviewRenderer;
+import com.lucknow.healthcare.preview.PreviewVariant;
+import com.lucknow.healthcare.service.interfaces.DocumentPreviewService;
+import com.lucknow.healthcare.storage.DocumentStorage;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Service implementation for patient document previews
+ * 
+ * New uploads queue their previews on a bounded worker pool. When the
+ * queue is full the task is dropped and the preview is generated on first
+ * request instead. Concurrent requests for the same preview share one
+ * generation. Results are kept in a size-capped LRU disk cache.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@Service
+public class DocumentPreviewServiceImpl implements DocumentPreviewService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(DocumentPreviewServiceImpl.class);
+    
+    @Autowired
+    private DocumentStorage documentStorage;
+    
+    @Autowired
+    private ServiceMetrics serviceMetrics;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @Value("${app.upload.dir:./uploads}")
+    private String uploadDir;
+    
+    @Value("${app.preview.workers:2}")
+    private int workers;
+    
+    @Value("${app.preview.queue-capacity:200}")
+    private int queueCapacity;
+    
+    @Value("${app.preview.cache-max-bytes:536870912}")
+    private long cacheMaxBytes;
+    
+    @Value("${app.preview.request-timeout-ms:10000}")
+    private long requestTimeoutMs;
+    
+    @Value("${app.preview.max-source-pixels:60000000}")
+    private long maxSourcePixels;
+    
+    private final Map<String, CompletableFuture<Path>> inFlight = new ConcurrentHashMap<>();
+    
+    private PreviewDiskCache cache;
+    private PreviewRenderer renderer;
+    private ThreadPoolExecutor previewWorkers;
+    
+    @PostConstruct
+    public void init() throws IOException {
+        cache = new PreviewDiskCache(Path.of(uploadDir, "previews"), cacheMaxBytes);
+        renderer = new PreviewRenderer(maxSourcePixels);
+        previewWorkers = new ThreadPoolExecutor(
+            workers, workers,
+            60, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+            threadFactory("document-preview"),
+            new ThreadPoolExecutor.AbortPolicy());
+        previewWorkers.allowCoreThreadTimeOut(true);
+        
+        Gauge.builder("document.preview.cache.bytes", cache, PreviewDiskCache::getTotalBytes)
+            .description("Bytes held in the document preview disk cache")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        Gauge.builder("document.preview.queue", previewWorkers, e -> e.getQueue().size())
+            .description("Preview generation tasks waiting for a worker")
+            .register(meterRegistry);
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        previewWorkers.shutdownNow();
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDocumentUploaded(DocumentUploadedEvent event) {
+        generatePreviews(event.getContentHash(), event.getMimeType());
+    }
+    
+    @Override
+    public void generatePreviews(String contentHash, String mimeType) {
+        if (contentHash == null || !PreviewRenderer.supports(mimeType)) {
+            return;
+        }
+        for (PreviewVariant variant : PreviewVariant.values()) {
+            if (cache.get(cacheKey(contentHash, variant)).isEmpty()) {
+                submit(contentHash, mimeType, variant);
+            }
+        }
+    }
+    
+    @Override
+    public Optional<Path> getPreview(String contentHash, String mimeType, PreviewVariant variant) {
+        if (!PreviewRenderer.supports(mimeType)) {
+            throw new IllegalArgumentException("Previews are not available for " + mimeType);
+        }
+        
+        Optional<Path> cached = cache.get(cacheKey(contentHash, variant));
+        serviceMetrics.increment("document.preview.requests", "result", cached.isPresent() ? "hit" : "miss");
+        if (cached.isPresent()) {
+            return cached;
+        }
+        
+        try {
+            return Optional.of(submit(contentHash, mimeType, variant).get(requestTimeoutMs, TimeUnit.MILLISECONDS));
+        } catch (TimeoutException e) {
+            return Optional.empty();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RejectedExecutionException) {
+                return Optional.empty();
+            }
+            throw new IllegalStateException("Preview generation failed: " + e.getCause().getMessage(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        }
+    }
+    
+    @Override
+    public void evict(String contentHash) {
+        for (PreviewVariant variant : PreviewVariant.values()) {
+            String key = cacheKey(contentHash, variant);
+            try {
+                if (cache.remove(key)) {
+                    serviceMetrics.increment("document.preview.evictions");
+                }
+            } catch (IOException e) {
+                logger.warn("Could not evict preview {}: {}", key, e.getMessage());
+            }
+        }
+    }
+    
+    /**
+     * Start generating a preview, or join a generation already in progress
+     */
+    private CompletableFuture<Path> submit(String contentHash, String mimeType, PreviewVariant variant) {
+        String key = cacheKey(contentHash, variant);
+        CompletableFuture<Path> future = new CompletableFuture<>();
+        CompletableFuture<Path> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            return existing;
+        }
+        
+        try {
+            previewWorkers.execute(() -> {
+                try {
+                    future.complete(generate(key, contentHash, mimeType, variant));
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                } finally {
+                    inFlight.remove(key, future);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(key, future);
+            future.completeExceptionally(e);
+            logger.debug("Preview queue full, {} will be generated on request", key);
+        }
+        return future;
+    }
+    
+    private Path generate(String key, String contentHash, String mimeType, PreviewVariant variant) throws IOException {
+        Optional<Path> cached = cache.get(key);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        
+        Timer.Sample sample = serviceMetrics.start();
+        String outcome = ServiceMetrics.OUTCOME_ERROR;
+        Path localCopy = null;
+        try {
+            Path source = documentStorage.localPath(contentHash).orElse(null);
+            if (source == null) {
+                localCopy = copyToTempFile(contentHash);
+                source = localCopy;
+            }
+            Path sourcePath = source;
+            Path preview = cache.put(key, out -> renderer.render(sourcePath, mimeType, variant, out));
+            outcome = ServiceMetrics.OUTCOME_SUCCESS;
+            return preview;
+        } catch (IOException e) {
+            logger.warn("Could not generate {} preview for {}: {}", variant, contentHash, e.getMessage());
+            throw e;
+        } finally {
+            serviceMetrics.stop(sample, "document.preview.generate", outcome,
+                "variant", variant.name().toLowerCase(Locale.ROOT));
+            if (localCopy != null) {
+                Files.deleteIfExists(localCopy);
+            }
+        }
+    }
+    
+    private Path copyToTempFile(String contentHash) throws IOException {
+        Path tmp = Files.createTempFile("document-preview-", ".src");
+        try (FileChannel out = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+            documentStorage.transferTo(contentHash, 0, documentStorage.size(contentHash), out);
+        }
+        return tmp;
+    }
+    
+    private static String cacheKey(String contentHash, PreviewVariant variant) {
+        return contentHash + "-" + variant.name().toLowerCase(Locale.ROOT) + ".jpg";
+    }
+    
+    private static ThreadFactory threadFactory(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -5,6 +5,8 @@ import com.lucknow.healthcare.entity.User;
 import com.lucknow.healthcare.entity.Provider;
 import com.lucknow.healthcare.enums.UserRole;
 import com.lucknow.healthcare.service.interfaces.EmailNotificationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
@@ -33,6 +35,8 @@ import java.util.Map;
 @Service
 public class EmailNotificationServiceImpl implements EmailNotificationService {
     
+    private static final Logger logger = LoggerFactory.getLogger(EmailNotificationServiceImpl.class);
+    
     @Autowired
     private JavaMailSender mailSender;
     
@@ -62,7 +66,7 @@ public class EmailNotificationServiceImpl implements EmailNotificationService {
             );
         } catch (Exception e) {
             // Log error but don't throw to avoid breaking the booking flow
-            System.err.println("Failed to send booking confirmation email: " + e.getMessage());
+            logger.warn("Failed to send booking confirmation email: {}", e.getMessage());
         }
     }
     
@@ -88,7 +92,7 @@ public class EmailNotificationServiceImpl implements EmailNotificationService {
                 templateData
             );
         } catch (Exception e) {
-            System.err.println("Failed to send booking status update email: " + e.getMessage());
+            logger.warn("Failed to send booking status update email: {}", e.getMessage());
         }
     }
     
@@ -131,7 +135,7 @@ public class EmailNotificationServiceImpl implements EmailNotificationService {
                 providerData
             );
         } catch (Exception e) {
-            System.err.println("Failed to send provider assignment emails: " + e.getMessage());
+            logger.warn("Failed to send provider assignment emails: {}", e.getMessage());
         }
     }
     
@@ -153,7 +157,7 @@ public class EmailNotificationServiceImpl implements EmailNotificationService {
                 templateData
             );
         } catch (Exception e) {
-            System.err.println("Failed to send booking reminder email: " + e.getMessage());
+            logger.warn("Failed to send booking reminder email: {}", e.getMessage());
         }
     }
     
@@ -173,7 +177,7 @@ public class EmailNotificationServiceImpl implements EmailNotificationService {
                 templateData
             );
         } catch (Exception e) {
-            System.err.println("Failed to send password reset email: " + e.getMessage());
+            logger.warn("Failed to send password reset email: {}", e.getMessage());
         }
     }
     
@@ -193,7 +197,7 @@ public class EmailNotificationServiceImpl implements EmailNotificationService {
                 templateData
             );
         } catch (Exception e) {
-            System.err.println("Failed to send welcome email: " + e.getMessage());
+            logger.warn("Failed to send welcome email: {}", e.getMessage());
         }
     }
     
@@ -208,7 +212,7 @@ public class EmailNotificationServiceImpl implements EmailNotificationService {
             
             mailSender.send(mailMessage);
         } catch (Exception e) {
-            System.err.println("Failed to send system notification: " + e.getMessage());
+            logger.warn("Failed to send system notification: {}", e.getMessage());
         }
     }
     
@@ -0,0 +1,263 @@
+package com.lucknow.healthcare.service.impl;
+
+import com.lucknow.healthcare.entity.Patient;
+import com.lucknow.healthcare.entity.PatientDocument;
+import com.lucknow.healthcare.enums.BookingStatus;
+import com.lucknow.healthcare.event.DocumentUploadedEvent;
+import com.lucknow.healthcare.metrics.ServiceMetrics;
+import com.lucknow.healthcare.repository.BookingRepository;
+import com.lucknow.healthcare.repository.PatientDocumentRepository;
+import com.lucknow.healthcare.repository.PatientRepository;
+import com.lucknow.healthcare.repository.ProviderRepository;
+import com.lucknow.healthcare.repository.UserRepository;
+import com.lucknow.healthcare.service.interfaces.DocumentPreviewService;
+import com.lucknow.healthcare.service.interfaces.PatientDocumentService;
+import com.lucknow.healthcare.storage.DocumentStorage;
+import com.lucknow.healthcare.storage.StoredContent;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Service implementation for PatientDocument management
+ * 
+ * Uploads are streamed into DocumentStorage before the row is written, so
+ * no database connection is held while the body is being received. A
+ * DocumentUploadedEvent is published for each saved document.
+ * 
+ * Deleting the last document that uses some content removes it from
+ * storage after commit. Storage keeps recently re-referenced content for a
+ * grace period, so those deletes, and any that fail, are left to a
+ * scheduled sweep of unreferenced content.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@Service
+public class PatientDocumentServiceImpl implements PatientDocumentService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(PatientDocumentServiceImpl.class);
+    
+    @Autowired
+    private PatientDocumentRepository documentRepository;
+    
+    @Autowired
+    private BookingRepository bookingRepository;
+    
+    @Autowired
+    private ProviderRepository providerRepository;
+    
+    @Autowired
+    private PatientRepository patientRepository;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private DocumentStorage documentStorage;
+    
+    @Autowired
+    private DocumentPreviewService previewService;
+    
+    @Autowired
+    private ServiceMetrics serviceMetrics;
+    
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Value("${app.upload.max-file-size:10485760}")
+    private long maxFileSize;
+    
+    @Value("${app.upload.allowed-types:image/jpeg,image/png,application/pdf}")
+    private List<String> allowedTypes;
+    
+    @Value("${app.storage.sweep-batch-size:500}")
+    private int sweepBatchSize;
+    
+    @Override
+    public PatientDocument uploadDocument(UUID patientId, PatientDocument document, InputStream content, UUID customerId)
+            throws IOException {
+        logger.info("Uploading document for patient: {}", patientId);
+        
+        // Verify patient ownership
+        Patient patient = patientRepository.findByIdAndCustomerId(patientId, customerId)
+            .orElseThrow(() -> new IllegalArgumentException("Patient not found or access denied"));
+        
+        String mimeType = normalizeMimeType(document.getMimeType());
+        if (mimeType == null || !allowedTypes.contains(mimeType)) {
+            throw new IllegalArgumentException("Unsupported file type: " + document.getMimeType());
+        }
+        
+        Timer.Sample sample = serviceMetrics.start();
+        String outcome = ServiceMetrics.OUTCOME_ERROR;
+        StoredContent stored;
+        try {
+            stored = documentStorage.store(content, maxFileSize);
+            outcome = ServiceMetrics.OUTCOME_SUCCESS;
+        } catch (IllegalArgumentException e) {
+            outcome = ServiceMetrics.OUTCOME_REJECTED;
+            throw e;
+        } finally {
+            serviceMetrics.stop(sample, "document.upload", outcome);
+        }
+        serviceMetrics.increment("document.upload.bytes", stored.getSize());
+        if (stored.isDeduplicated()) {
+            serviceMetrics.increment("document.upload.deduplicated");
+        }
+        
+        document.setPatient(patient);
+        document.setMimeType(mimeType);
+        document.setContentHash(stored.getSha256());
+        document.setFilePath(stored.getLocation());
+        document.setFileSize(stored.getSize());
+        document.setUploadedBy(userRepository.getReferenceById(customerId));
+        
+        PatientDocument saved = documentRepository.save(document);
+        logger.info("Document uploaded successfully with ID: {} ({} bytes, deduplicated: {})",
+            saved.getId(), stored.getSize(), stored.isDeduplicated());
+        eventPublisher.publishEvent(new DocumentUploadedEvent(saved.getId(), saved.getContentHash(), mimeType));
+        
+        return saved;
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<PatientDocument> getDocumentById(UUID documentId, UUID patientId, UUID customerId) {
+        return documentRepository.findByIdAndPatientIdAndCustomerId(documentId, patientId, customerId);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<PatientDocument> getDocumentForProvider(UUID documentId, UUID patientId, String providerEmail) {
+        return providerRepository.findByEmail(providerEmail)
+            .filter(provider -> bookingRepository.existsByProviderIdAndPatientIdAndStatusNot(
+                provider.getId(), patientId, BookingStatus.CANCELLED))
+            .flatMap(provider -> documentRepository.findByIdAndPatientId(documentId, patientId));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<PatientDocument> getPatientDocuments(UUID patientId, UUID customerId) {
+        // Verify patient ownership
+        if (!patientRepository.existsByIdAndCustomerId(patientId, customerId)) {
+            throw new IllegalArgumentException("Patient not found or access denied");
+        }
+        
+        return documentRepository.findByPatientIdOrderByUploadedAtDesc(patientId);
+    }
+    
+    @Override
+    @Transactional
+    public boolean deleteDocument(UUID documentId, UUID patientId, UUID customerId) {
+        logger.info("Deleting document: {} for patient: {}", documentId, patientId);
+        
+        Optional<PatientDocument> document = documentRepository
+            .findByIdAndPatientIdAndCustomerId(documentId, patientId, customerId);
+        if (document.isEmpty()) {
+            return false;
+        }
+        
+        String contentHash = document.get().getContentHash();
+        documentRepository.delete(document.get());
+        if (contentHash != null) {
+            releaseContentAfterCommit(contentHash);
+        }
+        
+        logger.info("Document deleted successfully: {}", documentId);
+        return true;
+    }
+    
+    /**
+     * Remove stored content and its previews once the deleting transaction
+     * has committed and no remaining document references it
+     */
+    private void releaseContentAfterCommit(String contentHash) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    if (documentRepository.countByContentHash(contentHash) == 0) {
+                        previewService.evict(contentHash);
+                        documentStorage.delete(contentHash);
+                    }
+                } catch (Exception e) {
+                    // Left for sweepOrphanedContent
+                    logger.warn("Could not release stored content {}: {}", contentHash, e.getMessage());
+                }
+            }
+        });
+    }
+    
+    @Override
+    @Scheduled(cron = "${app.storage.sweep-cron:0 45 3 * * *}")
+    public int sweepOrphanedContent() throws IOException {
+        int removed = 0;
+        List<String> batch = new ArrayList<>(sweepBatchSize);
+        try (Stream<String> digests = documentStorage.digests()) {
+            Iterator<String> iterator = digests.iterator();
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() == sweepBatchSize || !iterator.hasNext()) {
+                    removed += deleteUnreferenced(batch);
+                    batch.clear();
+                }
+            }
+        }
+        if (removed > 0) {
+            logger.info("Removed {} unreferenced document objects from storage", removed);
+            serviceMetrics.increment("document.storage.orphans.removed", removed);
+        }
+        return removed;
+    }
+    
+    /**
+     * Delete the digests of one batch that no document references; storage
+     * still keeps anything stored or re-referenced within its grace period
+     */
+    private int deleteUnreferenced(List<String> digests) {
+        Set<String> referenced = documentRepository.findReferencedContentHashes(digests);
+        int removed = 0;
+        for (String digest : digests) {
+            if (referenced.contains(digest)) {
+                continue;
+            }
+            try {
+                if (documentStorage.delete(digest)) {
+                    previewService.evict(digest);
+                    removed++;
+                }
+            } catch (IOException e) {
+                logger.warn("Could not remove unreferenced content {}: {}", digest, e.getMessage());
+            }
+        }
+        return removed;
+    }
+    
+    private static String normalizeMimeType(String mimeType) {
+        if (mimeType == null) {
+            return null;
+        }
+        int separator = mimeType.indexOf(';');
+        String type = separator >= 0 ? mimeType.substring(0, separator) : mimeType;
+        return type.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,166 @@
+package com.lucknow.healthcare.service.impl;
+
+import com.lucknow.healthcare.dispatch.DispatchPlan;
+import com.lucknow.healthcare.dispatch.DispatchPlanner;
+import com.lucknow.healthcare.dispatch.DispatchProperties;
+import com.lucknow.healthcare.dispatch.ProviderSchedule;
+import com.lucknow.healthcare.entity.Booking;
+import com.lucknow.healthcare.entity.Provider;
+import com.lucknow.healthcare.entity.ProviderReservation;
+import com.lucknow.healthcare.event.BookingDomainEvent;
+import com.lucknow.healthcare.event.DashboardEvent;
+import com.lucknow.healthcare.metrics.ServiceMetrics;
+import com.lucknow.healthcare.outbox.BookingOutbox;
+import com.lucknow.healthcare.repository.BookingRepository;
+import com.lucknow.healthcare.repository.ProviderRepository;
+import com.lucknow.healthcare.repository.ProviderReservationRepository;
+import com.lucknow.healthcare.reservation.ProviderReservations;
+import com.lucknow.healthcare.reservation.ReservationConflictException;
+import com.lucknow.healthcare.resilience.OptimisticRetryExecutor;
+import com.lucknow.healthcare.service.interfaces.ProviderDispatchService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Service implementation for batch provider dispatch
+ * 
+ * One run loads the window's unassigned bookings, the eligible providers
+ * per service and the provider reservations overlapping the window, plans
+ * all assignments in memory and saves them in a single transaction. If a
+ * reservation conflicts with an assignment made concurrently (for example
+ * a manual one) the transaction rolls back and the run is planned again
+ * from fresh state.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@org.springframework.stereotype.Service
+public class ProviderDispatchServiceImpl implements ProviderDispatchService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ProviderDispatchServiceImpl.class);
+    
+    @Autowired
+    private BookingRepository bookingRepository;
+    
+    @Autowired
+    private ProviderRepository providerRepository;
+    
+    @Autowired
+    private ProviderReservationRepository reservationRepository;
+    
+    @Autowired
+    private ProviderReservations providerReservations;
+    
+    @Autowired
+    private BookingOutbox bookingOutbox;
+    
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Autowired
+    private OptimisticRetryExecutor retryExecutor;
+    
+    @Autowired
+    private ServiceMetrics serviceMetrics;
+    
+    @Autowired
+    private DispatchPlanner planner;
+    
+    @Autowired
+    private DispatchProperties properties;
+    
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public DispatchPlan dispatch(LocalDate from, LocalDate to, boolean dryRun) {
+        if (from == null || to == null || to.isBefore(from)) {
+            throw new IllegalArgumentException("Dispatch window must have a start date on or before its end date");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= properties.getMaxWindowDays()) {
+            throw new IllegalArgumentException(
+                "Dispatch window cannot exceed " + properties.getMaxWindowDays() + " days");
+        }
+        
+        DispatchPlan plan = serviceMetrics.timed("booking.dispatch",
+            () -> retryExecutor.execute("booking.dispatch", () -> doDispatch(from, to, dryRun),
+                                        ReservationConflictException.class),
+            "dry_run", String.valueOf(dryRun));
+        if (plan.isCommitted()) {
+            serviceMetrics.increment("booking.dispatch.bookings", plan.getAssignments().size(), "outcome", "assigned");
+            serviceMetrics.increment("booking.dispatch.bookings", plan.getUnassigned().size(), "outcome", "unassigned");
+        }
+        return plan;
+    }
+    
+    private DispatchPlan doDispatch(LocalDate from, LocalDate to, boolean dryRun) {
+        List<Booking> bookings = bookingRepository.findBookingsNeedingProviderAssignmentBetween(from, to);
+        
+        Map<UUID, List<Provider>> candidatesByService = new HashMap<>();
+        Map<UUID, Provider> providersById = new HashMap<>();
+        for (Booking booking : bookings) {
+            UUID serviceId = booking.getService().getId();
+            if (!candidatesByService.containsKey(serviceId)) {
+                List<Provider> candidates = providerRepository.findAvailableVerifiedProvidersByService(serviceId);
+                candidatesByService.put(serviceId, candidates);
+                candidates.forEach(provider -> providersById.put(provider.getId(), provider));
+            }
+        }
+        
+        // A day of margin on each side catches visits that cross midnight into the window
+        ZoneId zone = providerReservations.getZone();
+        OffsetDateTime windowStart = from.minusDays(1).atStartOfDay(zone).toOffsetDateTime();
+        OffsetDateTime windowEnd = to.plusDays(2).atStartOfDay(zone).toOffsetDateTime();
+        Map<UUID, ProviderSchedule> schedules = new HashMap<>();
+        for (ProviderReservation reservation : reservationRepository.findOverlapping(windowStart, windowEnd)) {
+            schedules.computeIfAbsent(reservation.getProviderId(), id -> new ProviderSchedule())
+                .add(reservation.getStartsAt().toEpochSecond() / 60, reservation.getEndsAt().toEpochSecond() / 60);
+        }
+        
+        DispatchPlan plan = planner.plan(bookings, candidatesByService, schedules);
+        logger.info("Dispatch {} to {}: {} bookings, {} assigned, {} unassigned, solved in {} ms{}",
+                   from, to, bookings.size(), plan.getAssignments().size(), plan.getUnassigned().size(),
+                   plan.getSolveMillis(), dryRun ? " (dry run)" : "");
+        if (dryRun || plan.getAssignments().isEmpty()) {
+            return plan;
+        }
+        
+        Map<UUID, Booking> bookingsById = new HashMap<>();
+        bookings.forEach(booking -> bookingsById.put(booking.getId(), booking));
+        List<Booking> assigned = new ArrayList<>(plan.getAssignments().size());
+        for (DispatchPlan.Assignment assignment : plan.getAssignments()) {
+            Booking booking = bookingsById.get(assignment.getBookingId());
+            Provider provider = providersById.get(assignment.getProviderId());
+            
+            providerReservations.reserve(booking, provider);
+            booking.setProvider(provider);
+            bookingOutbox.append(booking.getId(), BookingDomainEvent.Type.PROVIDER_ASSIGNED,
+                BookingDomainEvent.PROVIDER_ID, provider.getId());
+            eventPublisher.publishEvent(DashboardEvent.builder(DashboardEvent.BOOKING_ASSIGNED)
+                .data("bookingId", booking.getId())
+                .data("providerId", provider.getId())
+                .data("scheduledDate", booking.getScheduledDate())
+                .data("scheduledTime", booking.getScheduledTime())
+                .recipient(provider.getEmail())
+                .recipient(booking.getUser() != null ? booking.getUser().getEmail() : null)
+                .admins()
+                .build());
+            assigned.add(booking);
+        }
+        bookingRepository.saveAll(assigned);
+        plan.setCommitted(true);
+        return plan;
+    }
+}
@@ -0,0 +1,158 @@
+package com.lucknow.healthcare.service.impl;
+
+import com.lucknow.healthcare.entity.Booking;
+import com.lucknow.healthcare.entity.Provider;
+import com.lucknow.healthcare.entity.ProviderReservation;
+import com.lucknow.healthcare.entity.User;
+import com.lucknow.healthcare.enums.AvailabilityStatus;
+import com.lucknow.healthcare.geo.Gazetteer;
+import com.lucknow.healthcare.geo.GeoGrid;
+import com.lucknow.healthcare.geo.GeoPoint;
+import com.lucknow.healthcare.geo.NearbyProvider;
+import com.lucknow.healthcare.geo.ProviderGeoIndex;
+import com.lucknow.healthcare.metrics.ServiceMetrics;
+import com.lucknow.healthcare.repository.BookingRepository;
+import com.lucknow.healthcare.repository.ProviderRepository;
+import com.lucknow.healthcare.repository.ProviderReservationRepository;
+import com.lucknow.healthcare.reservation.ProviderReservations;
+import com.lucknow.healthcare.service.interfaces.ProviderProximityService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Service implementation for finding providers near a location
+ * 
+ * Candidates come from the in-memory {@link ProviderGeoIndex}; only their
+ * rows are then loaded, so a search costs one primary-key query however many
+ * providers are registered. The index is refreshed periodically, so each
+ * candidate's availability and verification are checked again against the
+ * loaded row.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@Service
+@Transactional(readOnly = true)
+public class ProviderProximityServiceImpl implements ProviderProximityService {
+    
+    /**
+     * Extra candidates fetched per requested provider, to make up for ones
+     * dropped after loading
+     */
+    private static final int OVERFETCH = 2;
+    
+    private static final int MAX_LIMIT = 100;
+    
+    @Autowired
+    private ProviderGeoIndex providerGeoIndex;
+    
+    @Autowired
+    private Gazetteer gazetteer;
+    
+    @Autowired
+    private ProviderRepository providerRepository;
+    
+    @Autowired
+    private BookingRepository bookingRepository;
+    
+    @Autowired
+    private ProviderReservationRepository reservationRepository;
+    
+    @Autowired
+    private ProviderReservations providerReservations;
+    
+    @Autowired
+    private ServiceMetrics serviceMetrics;
+    
+    @Override
+    public List<NearbyProvider> findNearest(GeoPoint origin, UUID serviceId, int limit) {
+        return serviceMetrics.timed("provider.proximity",
+            () -> nearest(origin, serviceId, limit, Collections.emptySet()), "source", "point");
+    }
+    
+    @Override
+    public List<NearbyProvider> findNearest(String address, UUID serviceId, int limit) {
+        GeoPoint origin = gazetteer.geocode(address)
+            .orElseThrow(() -> new IllegalArgumentException("Cannot locate address: " + address));
+        return serviceMetrics.timed("provider.proximity",
+            () -> nearest(origin, serviceId, limit, Collections.emptySet()), "source", "address");
+    }
+    
+    @Override
+    public List<NearbyProvider> findNearestForBooking(UUID bookingId, int limit) {
+        Booking booking = bookingRepository.findById(bookingId)
+            .orElseThrow(() -> new IllegalArgumentException("Booking not found with ID: " + bookingId));
+        GeoPoint origin = locate(booking.getUser());
+        
+        // Providers already reserved for an overlapping visit cannot take this one
+        LocalDateTime start = LocalDateTime.of(booking.getScheduledDate(), booking.getScheduledTime());
+        OffsetDateTime from = start.atZone(providerReservations.getZone()).toOffsetDateTime();
+        OffsetDateTime to = start.plusHours(booking.getDuration()).atZone(providerReservations.getZone()).toOffsetDateTime();
+        Set<UUID> busy = new HashSet<>();
+        for (ProviderReservation reservation : reservationRepository.findOverlapping(from, to)) {
+            if (!reservation.getBookingId().equals(bookingId)) {
+                busy.add(reservation.getProviderId());
+            }
+        }
+        
+        return serviceMetrics.timed("provider.proximity",
+            () -> nearest(origin, booking.getService().getId(), limit, busy), "source", "booking");
+    }
+    
+    private List<NearbyProvider> nearest(GeoPoint origin, UUID serviceId, int limit, Set<UUID> excluded) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        
+        List<GeoGrid.Match> matches = providerGeoIndex.nearest(origin, limit * OVERFETCH + excluded.size(), serviceId);
+        List<UUID> ids = new ArrayList<>(matches.size());
+        for (GeoGrid.Match match : matches) {
+            if (!excluded.contains(match.getProviderId())) {
+                ids.add(match.getProviderId());
+            }
+        }
+        
+        Map<UUID, Provider> providers = new HashMap<>();
+        for (Provider provider : providerRepository.findAllById(ids)) {
+            providers.put(provider.getId(), provider);
+        }
+        
+        List<NearbyProvider> nearby = new ArrayList<>(limit);
+        for (GeoGrid.Match match : matches) {
+            Provider provider = providers.get(match.getProviderId());
+            if (provider != null && isBookable(provider)) {
+                nearby.add(new NearbyProvider(provider, match.getDistanceKm()));
+                if (nearby.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return nearby;
+    }
+    
+    private boolean isBookable(Provider provider) {
+        return provider.getAvailabilityStatus() == AvailabilityStatus.AVAILABLE
+            && Boolean.TRUE.equals(provider.getIsVerified());
+    }
+    
+    private GeoPoint locate(User user) {
+        GeoPoint point = GeoPoint.ofNullable(user.getLatitude(), user.getLongitude());
+        if (point != null) {
+            return point;
+        }
+        return gazetteer.geocode(user.getAddress())
+            .orElseThrow(() -> new IllegalArgumentException("Cannot locate customer address for user: " + user.getId()));
+    }
+}
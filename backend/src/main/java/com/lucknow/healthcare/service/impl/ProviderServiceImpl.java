@@ -5,9 +5,12 @@ import com.lucknow.healthcare.entity.Booking;
 import com.lucknow.healthcare.entity.User;
 import com.lucknow.healthcare.enums.AvailabilityStatus;
 import com.lucknow.healthcare.enums.BookingStatus;
+import com.lucknow.healthcare.geo.Gazetteer;
 import com.lucknow.healthcare.repository.ProviderRepository;
 import com.lucknow.healthcare.repository.BookingRepository;
 import com.lucknow.healthcare.service.interfaces.ProviderService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -17,6 +20,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -33,6 +37,8 @@ import java.util.UUID;
 @Transactional
 public class ProviderServiceImpl implements ProviderService {
     
+    private static final Logger logger = LoggerFactory.getLogger(ProviderServiceImpl.class);
+    
     @Autowired
     private ProviderRepository providerRepository;
     
@@ -42,6 +48,9 @@ public class ProviderServiceImpl implements ProviderService {
     @Autowired
     private com.lucknow.healthcare.repository.ServiceRepository serviceRepository;
     
+    @Autowired
+    private Gazetteer gazetteer;
+    
     @Override
     public Provider createProvider(Provider provider) {
         // Check if email already exists
@@ -55,6 +64,7 @@ public class ProviderServiceImpl implements ProviderService {
         provider.setTotalRatings(0);
         provider.setIsVerified(false);
         
+        locate(provider);
         return providerRepository.save(provider);
     }
     
@@ -76,6 +86,7 @@ public class ProviderServiceImpl implements ProviderService {
         // Note: This assumes the Provider entity has a user field or relationship
         // If not, you may need to add this relationship to the Provider entity
         
+        locate(provider);
         return providerRepository.save(provider);
     }
     
@@ -93,13 +104,44 @@ public class ProviderServiceImpl implements ProviderService {
     
     @Override
     public Provider updateProvider(Provider provider) {
-        if (!providerRepository.existsById(provider.getId())) {
+        Optional<Provider> existing = providerRepository.findById(provider.getId());
+        if (existing.isEmpty()) {
             throw new IllegalArgumentException("Provider not found with ID: " + provider.getId());
         }
         
+        // Keep last-write-wins for callers that do not send a version
+        if (provider.getVersion() == null) {
+            provider.setVersion(existing.get().getVersion());
+        }
+        
+        // A changed address with untouched coordinates means the old location is stale
+        Provider previous = existing.get();
+        if (!Objects.equals(provider.getAddress(), previous.getAddress())
+                && Objects.equals(provider.getLatitude(), previous.getLatitude())
+                && Objects.equals(provider.getLongitude(), previous.getLongitude())) {
+            provider.setLatitude(null);
+            provider.setLongitude(null);
+        }
+        locate(provider);
+        
         return providerRepository.save(provider);
     }
     
+    /**
+     * Fill in coordinates from the address when the caller did not supply them
+     * 
+     * @param provider the provider about to be saved
+     */
+    private void locate(Provider provider) {
+        if (provider.getLatitude() != null || provider.getLongitude() != null || provider.getAddress() == null) {
+            return;
+        }
+        gazetteer.geocode(provider.getAddress()).ifPresent(point -> {
+            provider.setLatitude(point.getLatitude());
+            provider.setLongitude(point.getLongitude());
+        });
+    }
+    
     @Override
     public Provider updateProviderAvailability(UUID id, AvailabilityStatus availabilityStatus) {
         Optional<Provider> providerOpt = providerRepository.findById(id);
@@ -138,7 +180,7 @@ public class ProviderServiceImpl implements ProviderService {
         if (!inProgressBookings.isEmpty()) {
             // Provider has active service in progress - must be BUSY
             provider.setAvailabilityStatus(AvailabilityStatus.BUSY);
-            System.out.println("Provider " + provider.getName() + " auto-set to BUSY due to IN_PROGRESS booking");
+            logger.info("Provider {} auto-set to BUSY due to IN_PROGRESS booking", provider.getId());
         } else {
             provider.setAvailabilityStatus(availabilityStatus);
         }
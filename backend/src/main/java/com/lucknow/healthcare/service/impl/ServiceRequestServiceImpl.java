@@ -6,6 +6,7 @@ import com.lucknow.healthcare.entity.User;
 import com.lucknow.healthcare.enums.RequestStatus;
 import com.lucknow.healthcare.enums.RequestType;
 import com.lucknow.healthcare.enums.Requester;
+import com.lucknow.healthcare.event.DashboardEvent;
 import com.lucknow.healthcare.repository.ProviderRepository;
 import com.lucknow.healthcare.repository.ServiceRepository;
 import com.lucknow.healthcare.repository.ServiceRequestRepository;
@@ -13,6 +14,7 @@ import com.lucknow.healthcare.repository.UserRepository;
 import com.lucknow.healthcare.service.interfaces.ProviderService;
 import com.lucknow.healthcare.service.interfaces.ServiceRequestService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -47,6 +49,9 @@ public class ServiceRequestServiceImpl implements ServiceRequestService {
     @Autowired
     private ProviderService providerService;
     
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
     @Override
     public ServiceRequest requestServiceAddition(UUID providerId, UUID serviceId, String notes) {
         // Validate provider and service
@@ -79,7 +84,9 @@ public class ServiceRequestServiceImpl implements ServiceRequestService {
         request.setStatus(RequestStatus.PENDING);
         request.setNotes(notes);
         
-        return serviceRequestRepository.save(request);
+        ServiceRequest saved = serviceRequestRepository.save(request);
+        publish(DashboardEvent.SERVICE_REQUEST_CREATED, saved);
+        return saved;
     }
     
     @Override
@@ -114,7 +121,9 @@ public class ServiceRequestServiceImpl implements ServiceRequestService {
         request.setStatus(RequestStatus.PENDING);
         request.setNotes(notes);
         
-        return serviceRequestRepository.save(request);
+        ServiceRequest saved = serviceRequestRepository.save(request);
+        publish(DashboardEvent.SERVICE_REQUEST_CREATED, saved);
+        return saved;
     }
     
     @Override
@@ -152,7 +161,9 @@ public class ServiceRequestServiceImpl implements ServiceRequestService {
         // Update request status
         request.approve(admin);
         
-        return serviceRequestRepository.save(request);
+        ServiceRequest saved = serviceRequestRepository.save(request);
+        publish(DashboardEvent.SERVICE_REQUEST_RESOLVED, saved);
+        return saved;
     }
     
     @Override
@@ -173,7 +184,9 @@ public class ServiceRequestServiceImpl implements ServiceRequestService {
         // Update request status
         request.reject(admin, reason);
         
-        return serviceRequestRepository.save(request);
+        ServiceRequest saved = serviceRequestRepository.save(request);
+        publish(DashboardEvent.SERVICE_REQUEST_RESOLVED, saved);
+        return saved;
     }
     
     @Override
@@ -211,5 +224,16 @@ public class ServiceRequestServiceImpl implements ServiceRequestService {
     public long countPendingRequestsByProvider(UUID providerId) {
         return serviceRequestRepository.countByProviderIdAndStatus(providerId, RequestStatus.PENDING);
     }
+    
+    private void publish(String type, ServiceRequest request) {
+        eventPublisher.publishEvent(DashboardEvent.builder(type)
+            .data("requestId", request.getId())
+            .data("requestType", request.getRequestType().name())
+            .data("serviceId", request.getService().getId())
+            .data("status", request.getStatus().name())
+            .data("pendingCount", serviceRequestRepository.countByStatus(RequestStatus.PENDING))
+            .recipient(request.getProvider().getEmail())
+            .admins()
+            .build());
+    }
 }
-
@@ -3,13 +3,14 @@ package com.lucknow.healthcare.service.impl;
 import com.lucknow.healthcare.entity.User;
 import com.lucknow.healthcare.enums.UserRole;
 import com.lucknow.healthcare.enums.UserStatus;
+import com.lucknow.healthcare.geo.Gazetteer;
 import com.lucknow.healthcare.repository.UserRepository;
+import com.lucknow.healthcare.security.PrincipalCache;
+import com.lucknow.healthcare.security.UserPrincipal;
 import com.lucknow.healthcare.service.interfaces.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -17,8 +18,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -42,6 +41,12 @@ public class UserServiceImpl implements UserService {
     @Autowired
     private PasswordEncoder passwordEncoder;
     
+    @Autowired
+    private PrincipalCache principalCache;
+    
+    @Autowired
+    private Gazetteer gazetteer;
+    
     @Override
     public User registerUser(User user) {
         // Check if email already exists
@@ -62,6 +67,7 @@ public class UserServiceImpl implements UserService {
             user.setRole(UserRole.CUSTOMER);
         }
         
+        locate(user);
         return userRepository.save(user);
     }
     
@@ -104,7 +110,10 @@ public class UserServiceImpl implements UserService {
             throw new IllegalArgumentException("User not found with ID: " + user.getId());
         }
         
-        return userRepository.save(user);
+        locate(user);
+        User saved = userRepository.save(user);
+        principalCache.invalidate(saved.getId());
+        return saved;
     }
     
     @Override
@@ -121,6 +130,7 @@ public class UserServiceImpl implements UserService {
         user.setPasswordResetExpires(null);
         
         userRepository.save(user);
+        principalCache.invalidate(user.getEmail());
         return true;
     }
     
@@ -135,7 +145,9 @@ public class UserServiceImpl implements UserService {
         User user = userOpt.get();
         user.setStatus(status);
         
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        principalCache.invalidate(userId);
+        return saved;
     }
     
     @Override
@@ -149,7 +161,9 @@ public class UserServiceImpl implements UserService {
         User user = userOpt.get();
         user.setRole(role);
         
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        principalCache.invalidate(userId);
+        return saved;
     }
     
     @Override
@@ -204,6 +218,7 @@ public class UserServiceImpl implements UserService {
         user.setPasswordResetExpires(null);
         
         userRepository.save(user);
+        principalCache.invalidate(user.getEmail());
         return true;
     }
     
@@ -279,6 +294,7 @@ public class UserServiceImpl implements UserService {
         user.setStatus(UserStatus.INACTIVE);
         
         userRepository.save(user);
+        principalCache.invalidate(userId);
         return true;
     }
     
@@ -290,45 +306,7 @@ public class UserServiceImpl implements UserService {
             throw new UsernameNotFoundException("User not found with email: " + username);
         }
         
-        User user = userOpt.get();
-        return new UserDetails() {
-            @Override
-            public Collection<? extends GrantedAuthority> getAuthorities() {
-                List<GrantedAuthority> authorities = new ArrayList<>();
-                authorities.add(new SimpleGrantedAuthority("ROLE_" + user.getRole().name()));
-                return authorities;
-            }
-            
-            @Override
-            public String getPassword() {
-                return user.getPassword();
-            }
-            
-            @Override
-            public String getUsername() {
-                return user.getEmail();
-            }
-            
-            @Override
-            public boolean isAccountNonExpired() {
-                return true;
-            }
-            
-            @Override
-            public boolean isAccountNonLocked() {
-                return user.getStatus() != UserStatus.SUSPENDED;
-            }
-            
-            @Override
-            public boolean isCredentialsNonExpired() {
-                return true;
-            }
-            
-            @Override
-            public boolean isEnabled() {
-                return user.getStatus() == UserStatus.ACTIVE;
-            }
-        };
+        return UserPrincipal.from(userOpt.get());
     }
     
     /**
@@ -340,6 +318,21 @@ public class UserServiceImpl implements UserService {
         return UUID.randomUUID().toString().replace("-", "");
     }
     
+    /**
+     * Fill in coordinates from the address when the caller did not supply them
+     * 
+     * @param user the user about to be saved
+     */
+    private void locate(User user) {
+        if (user.getLatitude() != null || user.getLongitude() != null || user.getAddress() == null) {
+            return;
+        }
+        gazetteer.geocode(user.getAddress()).ifPresent(point -> {
+            user.setLatitude(point.getLatitude());
+            user.setLongitude(point.getLongitude());
+        });
+    }
+    
     @Override
     public List<User> findAllUsers() {
         return userRepository.findAll();
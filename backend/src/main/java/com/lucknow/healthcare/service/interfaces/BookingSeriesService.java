@@ -0,0 +1,63 @@
+package com.lucknow.healthcare.service.interfaces;
+
+import com.lucknow.healthcare.entity.Booking;
+import com.lucknow.healthcare.entity.BookingSeries;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Service interface for recurring booking series
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+public interface BookingSeriesService {
+    
+    /**
+     * Create a series and all of its occurrences
+     * 
+     * @param series the series, with user, service, recurrence rule, start date, time,
+     *               duration and amount per visit set; provider and patient are optional
+     * @return the saved series
+     * @throws IllegalArgumentException if the series is invalid or the provider does not offer the service
+     * @throws IllegalStateException if the provider is not available or not verified
+     * @throws com.lucknow.healthcare.series.SeriesConflictException if the provider is not free for every occurrence
+     */
+    BookingSeries createSeries(BookingSeries series);
+    
+    Optional<BookingSeries> findById(UUID id);
+    
+    List<BookingSeries> getSeriesByUserId(UUID userId);
+    
+    /**
+     * @param seriesId the series ID
+     * @return the series' bookings in date order
+     */
+    List<Booking> getOccurrences(UUID seriesId);
+    
+    /**
+     * Move every open occurrence from a date on to a new time of day
+     * 
+     * @param seriesId the series ID
+     * @param from first date to change; null means today
+     * @param newTime the new time of day
+     * @return the updated series
+     * @throws IllegalArgumentException if the series does not exist, is cancelled or has no open occurrences
+     * @throws com.lucknow.healthcare.series.SeriesConflictException if the provider is not free at the new time
+     */
+    BookingSeries rescheduleSeries(UUID seriesId, LocalDate from, LocalTime newTime);
+    
+    /**
+     * Cancel every open occurrence from a date on and end the series
+     * 
+     * @param seriesId the series ID
+     * @param from first date to cancel; null means today
+     * @return the cancelled series
+     * @throws IllegalArgumentException if the series does not exist or is already cancelled
+     */
+    BookingSeries cancelSeries(UUID seriesId, LocalDate from);
+}
@@ -31,6 +31,9 @@ public interface BookingService {
     /**
      * Create a new booking
      * 
+     * The booking starts PENDING without a provider; providers are assigned
+     * through {@link #assignProvider(UUID, Provider)}, which reserves their time.
+     * 
      * @param booking the booking to create
      * @return the created booking
      * @throws IllegalArgumentException if user, service, or scheduling conflicts exist
@@ -48,6 +51,10 @@ public interface BookingService {
     /**
      * Update booking
      * 
+     * Provider, schedule and status are kept from the stored booking; they
+     * change only through assignProvider, rescheduleBooking and the status
+     * operations, which keep provider reservations in step.
+     * 
      * @param booking the booking with updated information
      * @return the updated booking
      * @throws IllegalArgumentException if booking not found
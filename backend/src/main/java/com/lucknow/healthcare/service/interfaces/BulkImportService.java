@@ -0,0 +1,63 @@
+package com.lucknow.healthcare.service.interfaces;
+
+import com.lucknow.healthcare.bulk.BulkWriteResult;
+import com.lucknow.healthcare.entity.Booking;
+import com.lucknow.healthcare.entity.PatientMedication;
+import com.lucknow.healthcare.entity.Payment;
+import com.lucknow.healthcare.entity.Review;
+
+import java.util.List;
+
+/**
+ * Service interface for bulk imports of historical or migrated records
+ * 
+ * Rows are inserted as they are, without the notifications, outbox events
+ * and status checks of the single-record APIs. Associations only need their
+ * ids set. Rows are committed in chunks; see {@link BulkWriteResult}.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+public interface BulkImportService {
+    
+    /**
+     * Import bookings; assigned bookings that are not completed or cancelled
+     * also reserve their provider's time
+     * 
+     * Scheduled dates may be in the past and provider availability is not
+     * checked. No outbox events are written, so no mail is sent and
+     * provider availability is not switched for imported IN_PROGRESS rows.
+     * 
+     * @param bookings bookings with user and service ids set
+     * @return how many rows were written
+     * @throws IllegalArgumentException if a row is missing a required reference
+     */
+    BulkWriteResult importBookings(List<Booking> bookings);
+    
+    /**
+     * Import payments
+     * 
+     * @param payments payments with booking and customer ids set
+     * @return how many rows were written
+     * @throws IllegalArgumentException if a row is missing a required reference
+     */
+    BulkWriteResult importPayments(List<Payment> payments);
+    
+    /**
+     * Import reviews
+     * 
+     * @param reviews reviews with booking, user and provider ids set
+     * @return how many rows were written
+     * @throws IllegalArgumentException if a row is missing a required reference
+     */
+    BulkWriteResult importReviews(List<Review> reviews);
+    
+    /**
+     * Import patient medications
+     * 
+     * @param medications medications with patient ids set
+     * @return how many rows were written
+     * @throws IllegalArgumentException if a row is missing a required reference
+     */
+    BulkWriteResult importMedications(List<PatientMedication> medications);
+}
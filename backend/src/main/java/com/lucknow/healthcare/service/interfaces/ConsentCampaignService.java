@@ -0,0 +1,40 @@
+package com.lucknow.healthcare.service.interfaces;
+
+import com.lucknow.healthcare.entity.ConsentCampaign;
+import com.lucknow.healthcare.entity.ConsentRecord;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Service interface for bulk re-consent campaigns
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+public interface ConsentCampaignService {
+    
+    /**
+     * Start notifying every user who accepted an older version of a consent
+     * type and has not accepted the given version yet, and make that version
+     * current. Runs in the background; progress is checkpointed per chunk.
+     */
+    ConsentCampaign startCampaign(ConsentRecord.ConsentType consentType, String consentVersion);
+    
+    /**
+     * Get a campaign with its current progress
+     */
+    Optional<ConsentCampaign> getCampaign(UUID id);
+    
+    /**
+     * Get all campaigns, newest first
+     */
+    List<ConsentCampaign> getCampaigns();
+    
+    /**
+     * Pick up running campaigns whose owner stopped renewing its lease
+     * (e.g. after a crash) and continue them from their checkpoint
+     */
+    void resumeCampaigns();
+}
@@ -61,6 +61,12 @@ public interface ConsentService {
      */
     String getLatestConsentVersion(ConsentRecord.ConsentType consentType);
     
+    /**
+     * Set the current version of a consent type; every user's cached
+     * consent state is invalidated when the version changes
+     */
+    void updateConsentVersion(ConsentRecord.ConsentType consentType, String version);
+    
     /**
      * DTO for required consents
      */
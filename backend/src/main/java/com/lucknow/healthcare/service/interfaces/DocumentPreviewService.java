@@ -0,0 +1,37 @@
+package com.lucknow.healthcare.service.interfaces;
+
+import com.lucknow.healthcare.preview.PreviewVariant;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Service interface for patient document thumbnails and previews
+ * 
+ * Previews are derived from document content and keyed by its SHA-256,
+ * so documents sharing content share previews.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+public interface DocumentPreviewService {
+    
+    /**
+     * Queue generation of every preview variant in the background
+     */
+    void generatePreviews(String contentHash, String mimeType);
+    
+    /**
+     * Get a preview, generating it if needed
+     * 
+     * @return the preview file, or empty if it could not be produced within
+     *         the request timeout (for example while the workers are busy)
+     * @throws IllegalArgumentException if previews are not supported for the MIME type
+     */
+    Optional<Path> getPreview(String contentHash, String mimeType, PreviewVariant variant);
+    
+    /**
+     * Delete every cached preview of some content, once no document uses it
+     */
+    void evict(String contentHash);
+}
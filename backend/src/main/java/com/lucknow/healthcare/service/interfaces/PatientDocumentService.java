@@ -0,0 +1,58 @@
+package com.lucknow.healthcare.service.interfaces;
+
+import com.lucknow.healthcare.entity.PatientDocument;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Service interface for PatientDocument management
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+public interface PatientDocumentService {
+    
+    /**
+     * Upload a document for a patient
+     * 
+     * The content is streamed into document storage; document carries the
+     * metadata (type, file name, MIME type, description, document date).
+     */
+    PatientDocument uploadDocument(UUID patientId, PatientDocument document, InputStream content, UUID customerId)
+            throws IOException;
+    
+    /**
+     * Get document by ID
+     */
+    Optional<PatientDocument> getDocumentById(UUID documentId, UUID patientId, UUID customerId);
+    
+    /**
+     * Get a document for the provider signed in with this email, if they are
+     * assigned to a booking for the patient that is not cancelled
+     */
+    Optional<PatientDocument> getDocumentForProvider(UUID documentId, UUID patientId, String providerEmail);
+    
+    /**
+     * Get all documents for a patient
+     */
+    List<PatientDocument> getPatientDocuments(UUID patientId, UUID customerId);
+    
+    /**
+     * Delete document, and its stored content once no other document uses it
+     */
+    boolean deleteDocument(UUID documentId, UUID patientId, UUID customerId);
+    
+    /**
+     * Delete stored content that no document references any more
+     * 
+     * Catches content whose delete was deferred (referenced again within the
+     * storage grace period) or failed.
+     * 
+     * @return number of stored objects removed
+     */
+    int sweepOrphanedContent() throws IOException;
+}
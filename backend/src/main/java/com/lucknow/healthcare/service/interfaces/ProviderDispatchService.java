@@ -0,0 +1,24 @@
+package com.lucknow.healthcare.service.interfaces;
+
+import com.lucknow.healthcare.dispatch.DispatchPlan;
+
+import java.time.LocalDate;
+
+/**
+ * Service interface for batch provider dispatch
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+public interface ProviderDispatchService {
+    
+    /**
+     * Assign providers to all unassigned pending bookings in a date window
+     * 
+     * @param from first scheduled date, inclusive
+     * @param to last scheduled date, inclusive
+     * @param dryRun plan only, without saving any assignment
+     * @return the plan, marked committed when the assignments were saved
+     */
+    DispatchPlan dispatch(LocalDate from, LocalDate to, boolean dryRun);
+}
@@ -0,0 +1,48 @@
+package com.lucknow.healthcare.service.interfaces;
+
+import com.lucknow.healthcare.geo.GeoPoint;
+import com.lucknow.healthcare.geo.NearbyProvider;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service interface for finding providers near a location
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+public interface ProviderProximityService {
+    
+    /**
+     * Nearest available, verified providers to a point
+     * 
+     * @param origin the search origin
+     * @param serviceId only providers offering this service, or null for any
+     * @param limit maximum number of providers
+     * @return providers ordered by increasing distance
+     */
+    List<NearbyProvider> findNearest(GeoPoint origin, UUID serviceId, int limit);
+    
+    /**
+     * Nearest available, verified providers to an address
+     * 
+     * @param address free-text address
+     * @param serviceId only providers offering this service, or null for any
+     * @param limit maximum number of providers
+     * @return providers ordered by increasing distance
+     * @throws IllegalArgumentException if the address cannot be located
+     */
+    List<NearbyProvider> findNearest(String address, UUID serviceId, int limit);
+    
+    /**
+     * Nearest providers who offer a booking's service and are free at its time,
+     * measured from the customer's location
+     * 
+     * @param bookingId the booking ID
+     * @param limit maximum number of providers
+     * @return providers ordered by increasing distance
+     * @throws IllegalArgumentException if the booking does not exist or its customer cannot be located
+     */
+    List<NearbyProvider> findNearestForBooking(UUID bookingId, int limit);
+}
@@ -0,0 +1,73 @@
+package com.lucknow.healthcare.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Storage backend for patient document content
+ * 
+ * Content is addressed by its SHA-256 digest: identical uploads map to the
+ * same object and are stored once. Implementations must stream both ways
+ * and never hold a whole document in memory.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+public interface DocumentStorage {
+    
+    /**
+     * Stream content into the store
+     * 
+     * @param content the upload body, read until end of stream
+     * @param maxBytes largest accepted size; larger uploads are rejected
+     * @return digest, size and location of the stored object
+     * @throws IllegalArgumentException if the content exceeds maxBytes
+     */
+    StoredContent store(InputStream content, long maxBytes) throws IOException;
+    
+    /**
+     * Check whether an object exists for a digest
+     */
+    boolean exists(String sha256);
+    
+    /**
+     * Size in bytes of a stored object
+     */
+    long size(String sha256) throws IOException;
+    
+    /**
+     * Copy a byte range of a stored object to a channel
+     * 
+     * @return number of bytes written
+     */
+    long transferTo(String sha256, long position, long count, WritableByteChannel target) throws IOException;
+    
+    /**
+     * Local file backing an object, if the backend keeps one
+     * 
+     * Lets the web layer hand the file to the container's sendfile support.
+     */
+    Optional<Path> localPath(String sha256);
+    
+    /**
+     * Delete a stored object
+     * 
+     * Callers delete only once no document references the digest. A store of
+     * the same content can race with that check, so backends may keep objects
+     * that were written or re-referenced very recently.
+     * 
+     * @return true if an object was removed
+     */
+    boolean delete(String sha256) throws IOException;
+    
+    /**
+     * Digests of every stored object, for the orphan sweep
+     * 
+     * The stream is read lazily and must be closed by the caller.
+     */
+    Stream<String> digests() throws IOException;
+}
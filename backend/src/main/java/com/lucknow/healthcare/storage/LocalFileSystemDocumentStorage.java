@@ -0,0 +1,175 @@
+package com.lucknow.healthcare.storage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Document storage on the local file system
+ * 
+ * Uploads are streamed through a fixed-size buffer into a temporary file
+ * while the SHA-256 digest is computed, then moved atomically to
+ * {@code <root>/<aa>/<bb>/<digest>}. If that file already exists the
+ * temporary copy is discarded, so identical documents share one file.
+ * Reads use {@link FileChannel#transferTo}, which lets the kernel copy
+ * straight from the page cache when the target is a socket or file.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+public class LocalFileSystemDocumentStorage implements DocumentStorage {
+    
+    private static final Logger logger = LoggerFactory.getLogger(LocalFileSystemDocumentStorage.class);
+    
+    private static final Pattern SHA256_HEX = Pattern.compile("[0-9a-f]{64}");
+    private static final HexFormat HEX = HexFormat.of();
+    
+    private final Path root;
+    private final Path tmpDir;
+    private final int bufferSize;
+    private final Duration deleteGrace;
+    
+    public LocalFileSystemDocumentStorage(Path root, int bufferSize, Duration deleteGrace) throws IOException {
+        this.root = root.toAbsolutePath().normalize();
+        this.tmpDir = this.root.resolve("tmp");
+        this.bufferSize = bufferSize;
+        this.deleteGrace = deleteGrace;
+        Files.createDirectories(tmpDir);
+    }
+    
+    @Override
+    public StoredContent store(InputStream content, long maxBytes) throws IOException {
+        MessageDigest digest = sha256();
+        ByteBuffer buffer = ByteBuffer.allocate(bufferSize);
+        Path tmp = Files.createTempFile(tmpDir, "upload-", ".part");
+        long total = 0;
+        try {
+            ReadableByteChannel in = Channels.newChannel(content);
+            try (FileChannel out = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+                while (in.read(buffer) != -1) {
+                    buffer.flip();
+                    total += buffer.remaining();
+                    if (total > maxBytes) {
+                        throw new IllegalArgumentException("File exceeds maximum size of " + maxBytes + " bytes");
+                    }
+                    digest.update(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+                    while (buffer.hasRemaining()) {
+                        out.write(buffer);
+                    }
+                    buffer.clear();
+                }
+                out.force(false);
+            }
+            
+            String sha256 = HEX.formatHex(digest.digest());
+            Path target = resolve(sha256);
+            if (Files.exists(target)) {
+                // Refresh the timestamp so a concurrent delete of the last reference keeps the file
+                Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+                return new StoredContent(sha256, total, root.relativize(target).toString(), true);
+            }
+            
+            Files.createDirectories(target.getParent());
+            try {
+                Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            logger.debug("Stored {} bytes as {}", total, sha256);
+            return new StoredContent(sha256, total, root.relativize(target).toString(), false);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+    
+    @Override
+    public boolean exists(String sha256) {
+        return Files.isRegularFile(resolve(sha256));
+    }
+    
+    @Override
+    public long size(String sha256) throws IOException {
+        return Files.size(resolve(sha256));
+    }
+    
+    @Override
+    public long transferTo(String sha256, long position, long count, WritableByteChannel target) throws IOException {
+        try (FileChannel channel = FileChannel.open(resolve(sha256), StandardOpenOption.READ)) {
+            long end = Math.min(channel.size(), position + count);
+            long written = 0;
+            while (position + written < end) {
+                long n = channel.transferTo(position + written, end - position - written, target);
+                if (n <= 0) {
+                    break;
+                }
+                written += n;
+            }
+            return written;
+        }
+    }
+    
+    @Override
+    public Optional<Path> localPath(String sha256) {
+        Path path = resolve(sha256);
+        return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+    }
+    
+    @Override
+    public boolean delete(String sha256) throws IOException {
+        Path path = resolve(sha256);
+        if (!Files.exists(path)) {
+            return false;
+        }
+        Instant modified = Files.getLastModifiedTime(path).toInstant();
+        if (modified.isAfter(Instant.now().minus(deleteGrace))) {
+            logger.debug("Keeping recently referenced object {}", sha256);
+            return false;
+        }
+        return Files.deleteIfExists(path);
+    }
+    
+    @Override
+    public Stream<String> digests() throws IOException {
+        // <root>/<aa>/<bb>/<digest>; tmp/ holds uploads in progress and is skipped
+        return Files.find(root, 3, (path, attributes) -> attributes.isRegularFile()
+                && !path.startsWith(tmpDir)
+                && SHA256_HEX.matcher(path.getFileName().toString()).matches())
+            .map(path -> path.getFileName().toString());
+    }
+    
+    private Path resolve(String sha256) {
+        if (sha256 == null || !SHA256_HEX.matcher(sha256).matches()) {
+            throw new IllegalArgumentException("Invalid content digest");
+        }
+        return root.resolve(sha256.substring(0, 2)).resolve(sha256.substring(2, 4)).resolve(sha256);
+    }
+    
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.lucknow.healthcare.storage;
+
+/**
+ * Result of storing document content
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+public class StoredContent {
+    
+    private final String sha256;
+    private final long size;
+    private final String location;
+    private final boolean deduplicated;
+    
+    public StoredContent(String sha256, long size, String location, boolean deduplicated) {
+        this.sha256 = sha256;
+        this.size = size;
+        this.location = location;
+        this.deduplicated = deduplicated;
+    }
+    
+    public String getSha256() {
+        return sha256;
+    }
+    
+    public long getSize() {
+        return size;
+    }
+    
+    /**
+     * Backend-specific location, recorded as the document's file path
+     */
+    public String getLocation() {
+        return location;
+    }
+    
+    /**
+     * True if identical content was already stored and no new object was written
+     */
+    public boolean isDeduplicated() {
+        return deduplicated;
+    }
+}
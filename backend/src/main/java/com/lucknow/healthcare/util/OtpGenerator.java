@@ -0,0 +1,29 @@
+package com.lucknow.healthcare.util;
+
+import java.security.SecureRandom;
+
+/**
+ * One-time password generator
+ * 
+ * Uses a single shared SecureRandom (thread-safe) instead of seeding a new
+ * java.util.Random per call, which was both slower and predictable.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+public final class OtpGenerator {
+    
+    private static final SecureRandom RANDOM = new SecureRandom();
+    
+    private OtpGenerator() {
+    }
+    
+    /**
+     * Generate a 6-digit OTP
+     * 
+     * @return OTP in the range 100000-999999
+     */
+    public static String generate() {
+        return String.valueOf(100000 + RANDOM.nextInt(900000));
+    }
+}
@@ -0,0 +1,49 @@
+package com.lucknow.healthcare.util;
+
+import com.lucknow.healthcare.entity.Booking;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Time-overlap checks between a booking slot and a provider's schedule
+ * 
+ * Two slots conflict when they are on the same date and their time ranges
+ * overlap; ranges that only touch at an end point also count as a
+ * conflict, leaving no zero-gap back-to-back visits.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+public final class ScheduleConflicts {
+    
+    private ScheduleConflicts() {
+    }
+    
+    /**
+     * Find the first existing booking that conflicts with a slot
+     * 
+     * @param date the slot date
+     * @param start the slot start time
+     * @param durationHours the slot length in hours
+     * @param existing the provider's active bookings (any date)
+     * @return the first conflicting booking, if any
+     */
+    public static Optional<Booking> findConflict(LocalDate date, LocalTime start, int durationHours,
+                                                 List<Booking> existing) {
+        LocalTime end = start.plusHours(durationHours);
+        for (Booking booking : existing) {
+            if (!date.equals(booking.getScheduledDate())) {
+                continue;
+            }
+            LocalTime existingStart = booking.getScheduledTime();
+            LocalTime existingEnd = existingStart.plusHours(booking.getDuration());
+            if (!(end.isBefore(existingStart) || start.isAfter(existingEnd))) {
+                return Optional.of(booking);
+            }
+        }
+        return Optional.empty();
+    }
+}
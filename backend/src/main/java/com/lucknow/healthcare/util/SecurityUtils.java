@@ -2,10 +2,13 @@ package com.lucknow.healthcare.util;
 
 import com.lucknow.healthcare.entity.User;
 import com.lucknow.healthcare.repository.UserRepository;
+import com.lucknow.healthcare.security.UserPrincipal;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 import java.util.UUID;
 
@@ -18,6 +21,8 @@ import java.util.UUID;
 @Component
 public class SecurityUtils {
     
+    private static final String CURRENT_USER_ATTRIBUTE = SecurityUtils.class.getName() + ".currentUser";
+    
     private static UserRepository userRepository;
     
     @Autowired
@@ -28,6 +33,10 @@ public class SecurityUtils {
     /**
      * Get the current authenticated user's ID
      * 
+     * Resolved from the authenticated principal when it carries the ID
+     * (the JWT filter path), otherwise looked up once and remembered for
+     * the rest of the request.
+     * 
      * @return UUID of current user
      * @throws SecurityException if user is not authenticated
      */
@@ -38,12 +47,11 @@ public class SecurityUtils {
             throw new SecurityException("User not authenticated");
         }
         
-        String email = authentication.getName();
-        
-        User user = userRepository.findByEmail(email)
-            .orElseThrow(() -> new SecurityException("User not found: " + email));
+        if (authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal.getId();
+        }
         
-        return user.getId();
+        return getCurrentUser().getId();
     }
     
     /**
@@ -71,8 +79,20 @@ public class SecurityUtils {
     public static User getCurrentUser() {
         String email = getCurrentUserEmail();
         
-        return userRepository.findByEmail(email)
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request != null) {
+            Object cached = request.getAttribute(CURRENT_USER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+            if (cached instanceof User user && email.equals(user.getEmail())) {
+                return user;
+            }
+        }
+        
+        User user = userRepository.findByEmail(email)
             .orElseThrow(() -> new SecurityException("User not found: " + email));
+        if (request != null) {
+            request.setAttribute(CURRENT_USER_ATTRIBUTE, user, RequestAttributes.SCOPE_REQUEST);
+        }
+        return user;
     }
     
     /**
@@ -0,0 +1,30 @@
+-- V16: Re-consent campaigns
+-- One row per consent version bump. The row doubles as the checkpoint for the
+-- campaign worker: last_user_id is the keyset cursor of the last fully
+-- processed chunk, so a crashed campaign resumes where it stopped.
+
+CREATE TABLE IF NOT EXISTS consent_campaigns (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    consent_type VARCHAR(50) NOT NULL,
+    consent_version VARCHAR(20) NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'RUNNING' CHECK (status IN ('RUNNING', 'COMPLETED', 'FAILED')),
+    last_user_id UUID,
+    processed_count BIGINT NOT NULL DEFAULT 0,
+    failed_count BIGINT NOT NULL DEFAULT 0,
+    lease_owner VARCHAR(100),
+    lease_until TIMESTAMP,
+    last_error TEXT,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    completed_at TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_consent_campaigns_status ON consent_campaigns(status);
+
+-- Keyset scan of accepted consents by type, ordered by user
+CREATE INDEX IF NOT EXISTS idx_consent_records_type_user ON consent_records(consent_type, user_id)
+    WHERE is_accepted = TRUE AND revoked_at IS NULL;
+
+COMMENT ON TABLE consent_campaigns IS 'Bulk re-consent notification runs, checkpointed per chunk';
+COMMENT ON COLUMN consent_campaigns.last_user_id IS 'Keyset cursor: highest user ID whose chunk has been fully processed';
+COMMENT ON COLUMN consent_campaigns.lease_until IS 'Node holding the campaign must renew before this time or another node may take over';
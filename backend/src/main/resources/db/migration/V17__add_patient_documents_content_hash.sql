@@ -0,0 +1,11 @@
+-- V17: Content-addressed storage for patient documents
+-- content_hash is the SHA-256 of the file and the key into document storage.
+-- Identical uploads share one stored object; the index backs the reference
+-- count taken before an object is deleted.
+
+ALTER TABLE patient_documents ADD COLUMN IF NOT EXISTS content_hash VARCHAR(64);
+
+CREATE INDEX IF NOT EXISTS idx_patient_documents_content_hash ON patient_documents(content_hash);
+
+COMMENT ON COLUMN patient_documents.content_hash IS 'SHA-256 of the file content, used as the storage key';
+COMMENT ON COLUMN patient_documents.file_path IS 'Backend-specific storage location of the content';
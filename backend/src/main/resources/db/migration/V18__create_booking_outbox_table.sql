@@ -0,0 +1,23 @@
+-- V18: Transactional outbox for booking lifecycle events
+-- Rows are inserted in the same transaction as the booking change and relayed
+-- to in-process subscribers afterwards. The BIGSERIAL id is the relay order,
+-- which keeps events for the same booking in commit order.
+
+CREATE TABLE IF NOT EXISTS booking_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    booking_id UUID NOT NULL,
+    event_type VARCHAR(30) NOT NULL,
+    payload TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    published_at TIMESTAMP,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    last_error TEXT
+);
+
+-- The relay only ever scans the unpublished head of the table
+CREATE INDEX IF NOT EXISTS idx_booking_outbox_unpublished ON booking_outbox(id) WHERE published_at IS NULL;
+CREATE INDEX IF NOT EXISTS idx_booking_outbox_published_at ON booking_outbox(published_at) WHERE published_at IS NOT NULL;
+
+COMMENT ON TABLE booking_outbox IS 'Booking domain events awaiting (or retained after) relay to subscribers';
+COMMENT ON COLUMN booking_outbox.payload IS 'JSON object with the event attributes';
+COMMENT ON COLUMN booking_outbox.last_error IS 'Last delivery failure; set with published_at when the event was dead-lettered';
@@ -0,0 +1,11 @@
+-- V19: Optimistic locking for bookings and providers
+-- Every update checks and increments version, so concurrent state transitions
+-- on the same row conflict instead of silently overwriting each other.
+-- Assigning a provider also increments the provider's version, which
+-- serializes concurrent assignments to one provider.
+
+ALTER TABLE bookings ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE providers ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+COMMENT ON COLUMN bookings.version IS 'Optimistic lock version, incremented on every update';
+COMMENT ON COLUMN providers.version IS 'Optimistic lock version, incremented on every update and on booking assignment';
@@ -0,0 +1,39 @@
+-- V20: Provider time reservations
+-- One row per booking that holds a provider's time. The GiST exclusion
+-- constraint rejects overlapping slots for the same provider, so conflict
+-- detection is a single index-backed insert instead of a read-then-check
+-- in the application. btree_gist supplies the equality operator class for
+-- provider_id inside the GiST index.
+
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+CREATE TABLE IF NOT EXISTS provider_reservations (
+    booking_id UUID PRIMARY KEY REFERENCES bookings(id) ON DELETE CASCADE,
+    provider_id UUID NOT NULL REFERENCES providers(id) ON DELETE CASCADE,
+    starts_at TIMESTAMPTZ NOT NULL,
+    ends_at TIMESTAMPTZ NOT NULL,
+    -- Closed range: slots that only touch at an end point still conflict,
+    -- as in ScheduleConflicts (no zero-gap back-to-back visits)
+    slot TSTZRANGE GENERATED ALWAYS AS (tstzrange(starts_at, ends_at, '[]')) STORED,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT chk_provider_reservation_slot CHECK (ends_at > starts_at),
+    CONSTRAINT excl_provider_reservation_overlap EXCLUDE USING gist (provider_id WITH =, slot WITH &&)
+);
+
+-- Backfill from bookings that currently hold a provider. Booking times are
+-- local to the service area (IST). Historical overlaps cannot be represented;
+-- the earliest created booking keeps the reservation.
+INSERT INTO provider_reservations (booking_id, provider_id, starts_at, ends_at)
+SELECT b.id,
+       b.provider_id,
+       (b.scheduled_date + b.scheduled_time) AT TIME ZONE 'Asia/Kolkata',
+       (b.scheduled_date + b.scheduled_time + make_interval(hours => b.duration)) AT TIME ZONE 'Asia/Kolkata'
+FROM bookings b
+WHERE b.provider_id IS NOT NULL
+  AND b.status NOT IN ('COMPLETED', 'CANCELLED')
+  AND b.duration > 0
+ORDER BY b.created_at
+ON CONFLICT DO NOTHING;
+
+COMMENT ON TABLE provider_reservations IS 'Provider time held by assigned, unfinished bookings';
+COMMENT ON CONSTRAINT excl_provider_reservation_overlap ON provider_reservations IS 'A provider cannot hold two overlapping slots';
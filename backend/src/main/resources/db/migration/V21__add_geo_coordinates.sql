@@ -0,0 +1,26 @@
+-- V21: Coordinates for customers and providers
+-- Customers are located from their address; providers get a base address
+-- of their own. Coordinates are WGS84 decimal degrees and are either both
+-- set or both null. Existing rows are geocoded by the application on
+-- startup (GeocodingBackfill), not here.
+
+ALTER TABLE users ADD COLUMN IF NOT EXISTS latitude DOUBLE PRECISION;
+ALTER TABLE users ADD COLUMN IF NOT EXISTS longitude DOUBLE PRECISION;
+ALTER TABLE users ADD CONSTRAINT chk_users_coordinates CHECK (
+    (latitude IS NULL AND longitude IS NULL) OR
+    (latitude BETWEEN -90 AND 90 AND longitude BETWEEN -180 AND 180));
+
+ALTER TABLE providers ADD COLUMN IF NOT EXISTS address TEXT;
+ALTER TABLE providers ADD COLUMN IF NOT EXISTS latitude DOUBLE PRECISION;
+ALTER TABLE providers ADD COLUMN IF NOT EXISTS longitude DOUBLE PRECISION;
+ALTER TABLE providers ADD CONSTRAINT chk_providers_coordinates CHECK (
+    (latitude IS NULL AND longitude IS NULL) OR
+    (latitude BETWEEN -90 AND 90 AND longitude BETWEEN -180 AND 180));
+
+-- Backfill scans for addresses that still need geocoding
+CREATE INDEX IF NOT EXISTS idx_users_missing_coordinates ON users(id) WHERE latitude IS NULL AND address IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_providers_missing_coordinates ON providers(id) WHERE latitude IS NULL AND address IS NOT NULL;
+
+COMMENT ON COLUMN users.latitude IS 'Home visit location, geocoded from address unless set explicitly';
+COMMENT ON COLUMN providers.address IS 'Base location the provider travels from';
+COMMENT ON COLUMN providers.latitude IS 'Base location, geocoded from address unless set explicitly';
@@ -0,0 +1,44 @@
+-- V22: Recurring booking series
+-- A series holds the recurrence rule and the per-visit details. Its
+-- occurrences are ordinary bookings tagged with series_id, so every existing
+-- booking path (status transitions, payments, reviews) works on them
+-- unchanged, and series-wide reschedule or cancel is one UPDATE over the
+-- (series_id, scheduled_date) index.
+
+CREATE TABLE IF NOT EXISTS booking_series (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    version BIGINT NOT NULL DEFAULT 0,
+    user_id UUID NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    service_id UUID NOT NULL REFERENCES services(id) ON DELETE RESTRICT,
+    provider_id UUID REFERENCES providers(id) ON DELETE SET NULL,
+    patient_id UUID REFERENCES patients(id) ON DELETE SET NULL,
+    recurrence_rule VARCHAR(200) NOT NULL,
+    start_date DATE NOT NULL,
+    end_date DATE NOT NULL,
+    scheduled_time TIME NOT NULL,
+    duration INTEGER NOT NULL,
+    amount_per_visit DECIMAL(10,2) NOT NULL,
+    occurrences INTEGER NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'ACTIVE' CHECK (status IN ('ACTIVE', 'CANCELLED')),
+    special_instructions TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT chk_booking_series_dates CHECK (end_date >= start_date)
+);
+
+CREATE INDEX IF NOT EXISTS idx_booking_series_user_id ON booking_series(user_id);
+CREATE INDEX IF NOT EXISTS idx_booking_series_provider_id ON booking_series(provider_id);
+
+ALTER TABLE bookings ADD COLUMN IF NOT EXISTS series_id UUID REFERENCES booking_series(id) ON DELETE SET NULL;
+
+-- Only series occurrences carry series_id
+CREATE INDEX IF NOT EXISTS idx_booking_series_date ON bookings(series_id, scheduled_date) WHERE series_id IS NOT NULL;
+
+CREATE TRIGGER update_booking_series_updated_at
+    BEFORE UPDATE ON booking_series
+    FOR EACH ROW
+    EXECUTE FUNCTION update_updated_at_column();
+
+COMMENT ON TABLE booking_series IS 'Recurring bookings; occurrences are rows in bookings with series_id set';
+COMMENT ON COLUMN booking_series.recurrence_rule IS 'RRULE subset: FREQ=DAILY|WEEKLY, INTERVAL, BYDAY, COUNT, UNTIL';
+COMMENT ON COLUMN booking_series.end_date IS 'Date of the last generated occurrence';
@@ -0,0 +1,306 @@
+-- V23: Monthly range partitioning of bookings (by scheduled_date) and payments (by created_at)
+-- Queries that filter on the partition key only touch the matching months.
+-- Each table gets a DEFAULT partition as a safety net for rows outside the
+-- pre-created months; creating a month later moves its rows out of it.
+-- Requires PostgreSQL 13+ (row triggers on partitioned tables).
+--
+-- A unique key on a partitioned table must include the partition key, so
+-- bookings(id) can no longer be the target of a foreign key. References to
+-- bookings from payments, reviews, provider_reservations and
+-- booking_rejection_requests are enforced by triggers instead (existence
+-- check with FOR KEY SHARE, cascading delete), and the unique invoice and
+-- gateway transaction numbers of payments are claimed in payment_unique_keys.
+
+-- Part 1: Partition maintenance functions (also called by PartitionMaintenance)
+
+CREATE SCHEMA IF NOT EXISTS archive;
+
+CREATE OR REPLACE FUNCTION create_monthly_partition(parent TEXT, month_start DATE)
+RETURNS BOOLEAN
+LANGUAGE plpgsql AS $$
+DECLARE
+    lower_bound DATE := date_trunc('month', month_start)::date;
+    upper_bound DATE := (date_trunc('month', month_start) + INTERVAL '1 month')::date;
+    partition_name TEXT := parent || to_char(lower_bound, '"_y"YYYY"m"MM');
+    key_column TEXT;
+BEGIN
+    -- Archived months live in the archive schema but stay attached
+    IF EXISTS (SELECT 1 FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid
+               WHERE i.inhparent = parent::regclass AND c.relname = partition_name) THEN
+        RETURN FALSE;
+    END IF;
+
+    SELECT a.attname INTO key_column
+    FROM pg_partitioned_table p
+    JOIN pg_attribute a ON a.attrelid = p.partrelid AND a.attnum = p.partattrs[0]
+    WHERE p.partrelid = parent::regclass;
+
+    EXECUTE format('CREATE TABLE %I (LIKE %I INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', partition_name, parent);
+
+    -- Rows for this month that went to the default partition move over first;
+    -- the flag keeps the booking delete cascade and the payment key release
+    -- from firing on the move (the new table has no triggers until attached,
+    -- so nothing would re-claim the keys)
+    PERFORM set_config('app.partition_maintenance', 'on', true);
+    EXECUTE format('WITH moved AS (DELETE FROM %I WHERE %I >= $1 AND %I < $2 RETURNING *) INSERT INTO %I SELECT * FROM moved',
+                   parent || '_default', key_column, key_column, partition_name)
+        USING lower_bound, upper_bound;
+    PERFORM set_config('app.partition_maintenance', 'off', true);
+
+    EXECUTE format('ALTER TABLE %I ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                   parent, partition_name, lower_bound, upper_bound);
+    RETURN TRUE;
+END $$;
+
+CREATE OR REPLACE FUNCTION ensure_monthly_partitions(parent TEXT, from_month DATE, to_month DATE)
+RETURNS INTEGER
+LANGUAGE plpgsql AS $$
+DECLARE
+    month_start DATE := date_trunc('month', from_month)::date;
+    created INTEGER := 0;
+BEGIN
+    WHILE month_start <= to_month LOOP
+        IF create_monthly_partition(parent, month_start) THEN
+            created := created + 1;
+        END IF;
+        month_start := (month_start + INTERVAL '1 month')::date;
+    END LOOP;
+    RETURN created;
+END $$;
+
+-- Moves months that ended before before_month and have no rows matching
+-- open_rows into the archive schema, and onto cold_tablespace when given.
+-- Archived months stay attached, so they are still readable; queries that
+-- carry a recent partition key bound never scan them.
+CREATE OR REPLACE FUNCTION archive_monthly_partitions(parent TEXT, before_month DATE, open_rows TEXT, cold_tablespace TEXT)
+RETURNS INTEGER
+LANGUAGE plpgsql AS $$
+DECLARE
+    part RECORD;
+    idx RECORD;
+    has_open BOOLEAN;
+    archived INTEGER := 0;
+BEGIN
+    FOR part IN
+        SELECT c.oid::regclass AS relation, c.relname
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        JOIN pg_namespace n ON n.oid = c.relnamespace
+        WHERE i.inhparent = parent::regclass
+          AND n.nspname <> 'archive'
+          AND c.relname ~ ('^' || parent || '_y[0-9]{4}m[0-9]{2}$')
+        ORDER BY c.relname
+    LOOP
+        CONTINUE WHEN to_date(right(part.relname, 7), 'YYYY"m"MM') + INTERVAL '1 month' > before_month;
+
+        EXECUTE format('SELECT EXISTS (SELECT 1 FROM %s WHERE %s)', part.relation, open_rows) INTO has_open;
+        CONTINUE WHEN has_open;
+
+        EXECUTE format('ALTER TABLE %s SET SCHEMA archive', part.relation);
+        IF coalesce(cold_tablespace, '') <> '' THEN
+            EXECUTE format('ALTER TABLE %s SET TABLESPACE %I', part.relation, cold_tablespace);
+            FOR idx IN SELECT indexrelid::regclass AS relation FROM pg_index WHERE indrelid = part.relation LOOP
+                EXECUTE format('ALTER INDEX %s SET TABLESPACE %I', idx.relation, cold_tablespace);
+            END LOOP;
+        END IF;
+        archived := archived + 1;
+    END LOOP;
+    RETURN archived;
+END $$;
+
+-- Part 2: Rebuild bookings as a partitioned table
+
+DO $$
+DECLARE
+    fk RECORD;
+BEGIN
+    FOR fk IN SELECT conrelid::regclass AS relation, conname FROM pg_constraint
+              WHERE contype = 'f' AND confrelid IN ('bookings'::regclass, 'payments'::regclass) LOOP
+        EXECUTE format('ALTER TABLE %s DROP CONSTRAINT %I', fk.relation, fk.conname);
+    END LOOP;
+END $$;
+
+ALTER TABLE bookings RENAME TO bookings_unpartitioned;
+
+CREATE TABLE bookings (LIKE bookings_unpartitioned INCLUDING DEFAULTS INCLUDING CONSTRAINTS INCLUDING COMMENTS)
+    PARTITION BY RANGE (scheduled_date);
+CREATE TABLE bookings_default PARTITION OF bookings DEFAULT;
+
+-- Months with existing bookings (at most ten years back) through a year ahead
+SELECT ensure_monthly_partitions('bookings',
+    greatest(least(coalesce((SELECT min(scheduled_date) FROM bookings_unpartitioned), current_date), current_date),
+             (current_date - INTERVAL '10 years')::date),
+    (current_date + INTERVAL '12 months')::date);
+
+INSERT INTO bookings SELECT * FROM bookings_unpartitioned;
+DROP TABLE bookings_unpartitioned;
+
+ALTER TABLE bookings ADD CONSTRAINT bookings_pkey PRIMARY KEY (id, scheduled_date);
+ALTER TABLE bookings ADD CONSTRAINT fk_booking_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE;
+ALTER TABLE bookings ADD CONSTRAINT fk_booking_service FOREIGN KEY (service_id) REFERENCES services(id) ON DELETE RESTRICT;
+ALTER TABLE bookings ADD CONSTRAINT fk_booking_provider FOREIGN KEY (provider_id) REFERENCES providers(id) ON DELETE SET NULL;
+ALTER TABLE bookings ADD CONSTRAINT fk_booking_patient FOREIGN KEY (patient_id) REFERENCES patients(id) ON DELETE SET NULL;
+ALTER TABLE bookings ADD CONSTRAINT fk_booking_series FOREIGN KEY (series_id) REFERENCES booking_series(id) ON DELETE SET NULL;
+
+CREATE INDEX idx_booking_user_id ON bookings(user_id);
+CREATE INDEX idx_booking_service_id ON bookings(service_id);
+CREATE INDEX idx_booking_provider_id ON bookings(provider_id);
+CREATE INDEX idx_booking_status ON bookings(status);
+CREATE INDEX idx_booking_scheduled_date ON bookings(scheduled_date);
+CREATE INDEX idx_booking_payment_status ON bookings(payment_status);
+CREATE INDEX idx_booking_created_at ON bookings(created_at);
+CREATE INDEX idx_booking_user_status ON bookings(user_id, status);
+CREATE INDEX idx_booking_provider_status ON bookings(provider_id, status);
+CREATE INDEX idx_booking_date_status ON bookings(scheduled_date, status);
+CREATE INDEX idx_booking_series_date ON bookings(series_id, scheduled_date) WHERE series_id IS NOT NULL;
+CREATE INDEX idx_bookings_patient_id ON bookings(patient_id);
+CREATE INDEX idx_bookings_payment_method ON bookings(payment_method);
+CREATE INDEX idx_bookings_payment_timing ON bookings(payment_timing);
+CREATE INDEX idx_bookings_refund_status ON bookings(refund_status);
+CREATE INDEX idx_bookings_cancelled_at ON bookings(cancelled_at);
+CREATE INDEX idx_bookings_estimated_arrival ON bookings(estimated_arrival_time);
+
+CREATE TRIGGER update_bookings_updated_at
+    BEFORE UPDATE ON bookings
+    FOR EACH ROW
+    EXECUTE FUNCTION update_updated_at_column();
+
+-- Part 3: Rebuild payments as a partitioned table
+
+ALTER TABLE payments RENAME TO payments_unpartitioned;
+
+CREATE TABLE payments (LIKE payments_unpartitioned INCLUDING DEFAULTS INCLUDING CONSTRAINTS INCLUDING COMMENTS)
+    PARTITION BY RANGE (created_at);
+CREATE TABLE payments_default PARTITION OF payments DEFAULT;
+
+SELECT ensure_monthly_partitions('payments',
+    greatest(least(coalesce((SELECT min(created_at)::date FROM payments_unpartitioned), current_date), current_date),
+             (current_date - INTERVAL '10 years')::date),
+    (current_date + INTERVAL '12 months')::date);
+
+INSERT INTO payments SELECT * FROM payments_unpartitioned;
+DROP TABLE payments_unpartitioned;
+
+ALTER TABLE payments ADD CONSTRAINT payments_pkey PRIMARY KEY (id, created_at);
+ALTER TABLE payments ADD CONSTRAINT fk_payment_customer FOREIGN KEY (customer_id) REFERENCES users(id) ON DELETE CASCADE;
+
+CREATE INDEX idx_payments_booking_id ON payments(booking_id);
+CREATE INDEX idx_payments_customer_id ON payments(customer_id);
+CREATE INDEX idx_payments_payment_status ON payments(payment_status);
+CREATE INDEX idx_payments_transaction_id ON payments(transaction_id);
+CREATE INDEX idx_payments_invoice_number ON payments(invoice_number) WHERE invoice_number IS NOT NULL;
+CREATE INDEX idx_payments_created_at ON payments(created_at);
+CREATE INDEX idx_payments_customer_status ON payments(customer_id, payment_status);
+CREATE INDEX idx_payments_gateway_order_id ON payments(gateway_order_id);
+CREATE INDEX idx_payments_paid_at ON payments(paid_at);
+
+-- Invoice numbers and gateway transaction ids stay unique across partitions
+CREATE TABLE payment_unique_keys (
+    key_type VARCHAR(20) NOT NULL,
+    key_value VARCHAR(255) NOT NULL,
+    payment_id UUID NOT NULL,
+    CONSTRAINT pk_payment_unique_keys PRIMARY KEY (key_type, key_value)
+);
+CREATE INDEX idx_payment_unique_keys_payment ON payment_unique_keys(payment_id);
+
+INSERT INTO payment_unique_keys (key_type, key_value, payment_id)
+SELECT 'INVOICE_NUMBER', invoice_number, id FROM payments WHERE invoice_number IS NOT NULL
+UNION ALL
+SELECT 'TRANSACTION_ID', transaction_id, id FROM payments WHERE transaction_id IS NOT NULL;
+
+CREATE OR REPLACE FUNCTION claim_payment_unique_keys()
+RETURNS TRIGGER
+LANGUAGE plpgsql AS $$
+BEGIN
+    -- create_monthly_partition moving the row out of the default partition
+    IF TG_OP = 'DELETE' AND current_setting('app.partition_maintenance', true) = 'on' THEN
+        RETURN OLD;
+    END IF;
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        DELETE FROM payment_unique_keys WHERE payment_id = OLD.id;
+    END IF;
+    IF TG_OP = 'DELETE' THEN
+        RETURN OLD;
+    END IF;
+    IF NEW.invoice_number IS NOT NULL THEN
+        INSERT INTO payment_unique_keys (key_type, key_value, payment_id) VALUES ('INVOICE_NUMBER', NEW.invoice_number, NEW.id);
+    END IF;
+    IF NEW.transaction_id IS NOT NULL THEN
+        INSERT INTO payment_unique_keys (key_type, key_value, payment_id) VALUES ('TRANSACTION_ID', NEW.transaction_id, NEW.id);
+    END IF;
+    RETURN NEW;
+END $$;
+
+CREATE TRIGGER payments_claim_keys_on_insert
+    AFTER INSERT ON payments
+    FOR EACH ROW
+    EXECUTE FUNCTION claim_payment_unique_keys();
+
+CREATE TRIGGER payments_claim_keys_on_update
+    AFTER UPDATE OF invoice_number, transaction_id ON payments
+    FOR EACH ROW
+    WHEN (OLD.invoice_number IS DISTINCT FROM NEW.invoice_number OR OLD.transaction_id IS DISTINCT FROM NEW.transaction_id)
+    EXECUTE FUNCTION claim_payment_unique_keys();
+
+CREATE TRIGGER payments_release_keys_on_delete
+    AFTER DELETE ON payments
+    FOR EACH ROW
+    EXECUTE FUNCTION claim_payment_unique_keys();
+
+-- Part 4: Booking references enforced by triggers
+
+CREATE OR REPLACE FUNCTION check_booking_reference()
+RETURNS TRIGGER
+LANGUAGE plpgsql AS $$
+BEGIN
+    -- KEY SHARE blocks a concurrent delete of the booking, as a foreign key would
+    PERFORM 1 FROM bookings WHERE id = NEW.booking_id FOR KEY SHARE;
+    IF NOT FOUND THEN
+        RAISE foreign_key_violation USING
+            MESSAGE = format('insert or update on table "%s" references missing booking %s', TG_TABLE_NAME, NEW.booking_id);
+    END IF;
+    RETURN NEW;
+END $$;
+
+CREATE TRIGGER payments_booking_reference
+    BEFORE INSERT OR UPDATE OF booking_id ON payments
+    FOR EACH ROW EXECUTE FUNCTION check_booking_reference();
+
+CREATE TRIGGER reviews_booking_reference
+    BEFORE INSERT OR UPDATE OF booking_id ON reviews
+    FOR EACH ROW EXECUTE FUNCTION check_booking_reference();
+
+CREATE TRIGGER provider_reservations_booking_reference
+    BEFORE INSERT OR UPDATE OF booking_id ON provider_reservations
+    FOR EACH ROW EXECUTE FUNCTION check_booking_reference();
+
+CREATE TRIGGER booking_rejection_requests_booking_reference
+    BEFORE INSERT OR UPDATE OF booking_id ON booking_rejection_requests
+    FOR EACH ROW EXECUTE FUNCTION check_booking_reference();
+
+CREATE OR REPLACE FUNCTION cascade_booking_delete()
+RETURNS TRIGGER
+LANGUAGE plpgsql AS $$
+BEGIN
+    IF current_setting('app.partition_maintenance', true) = 'on' THEN
+        RETURN NULL;
+    END IF;
+    -- Rescheduling into another month moves the row: a delete plus an insert
+    IF EXISTS (SELECT 1 FROM bookings WHERE id = OLD.id) THEN
+        RETURN NULL;
+    END IF;
+    DELETE FROM payments WHERE booking_id = OLD.id;
+    DELETE FROM reviews WHERE booking_id = OLD.id;
+    DELETE FROM provider_reservations WHERE booking_id = OLD.id;
+    DELETE FROM booking_rejection_requests WHERE booking_id = OLD.id;
+    RETURN NULL;
+END $$;
+
+CREATE TRIGGER bookings_cascade_delete
+    AFTER DELETE ON bookings
+    FOR EACH ROW
+    EXECUTE FUNCTION cascade_booking_delete();
+
+COMMENT ON TABLE bookings IS 'Service bookings, partitioned by month of scheduled_date';
+COMMENT ON TABLE payments IS 'Payment transactions for healthcare service bookings, partitioned by month of created_at';
+COMMENT ON TABLE payment_unique_keys IS 'Invoice numbers and gateway transaction ids claimed by payments, unique across partitions';
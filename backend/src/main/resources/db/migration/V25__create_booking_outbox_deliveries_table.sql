@@ -0,0 +1,16 @@
+-- V25: Per-subscriber delivery records for the booking outbox
+-- Each subscriber handles an event in its own transaction and records its
+-- delivery here in the same transaction. When one subscriber fails, the relay
+-- retries the event for that subscriber only; the others are not re-run (and
+-- notification mail is not sent again).
+
+CREATE TABLE IF NOT EXISTS booking_outbox_deliveries (
+    id BIGSERIAL PRIMARY KEY,
+    event_id BIGINT NOT NULL REFERENCES booking_outbox(id) ON DELETE CASCADE,
+    subscriber VARCHAR(50) NOT NULL,
+    delivered_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_booking_outbox_delivery UNIQUE (event_id, subscriber)
+);
+
+COMMENT ON TABLE booking_outbox_deliveries IS 'Subscribers that have handled a booking outbox event; rows go with the event on purge';
+COMMENT ON COLUMN booking_outbox_deliveries.subscriber IS 'BookingEventSubscriber name';
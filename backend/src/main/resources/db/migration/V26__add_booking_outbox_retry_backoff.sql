@@ -0,0 +1,12 @@
+-- V26: Retry backoff for the booking outbox
+-- A failed delivery is retried after an exponentially growing delay instead
+-- of on every relay pass, so a subscriber outage of minutes (SMTP, Redis)
+-- does not use up all attempts and dead-letter the event. NULL means due now.
+
+ALTER TABLE booking_outbox ADD COLUMN IF NOT EXISTS next_attempt_at TIMESTAMP;
+
+-- The relay skips a booking's events while its oldest unpublished one is backing off
+CREATE INDEX IF NOT EXISTS idx_booking_outbox_backing_off ON booking_outbox(booking_id, id)
+    WHERE published_at IS NULL AND next_attempt_at IS NOT NULL;
+
+COMMENT ON COLUMN booking_outbox.next_attempt_at IS 'Earliest time of the next delivery attempt after a failure; NULL when due';
@@ -0,0 +1,143 @@
+package com.lucknow.healthcare.bulk;
+
+import com.lucknow.healthcare.metrics.ServiceMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for BulkWriter
+ * 
+ * Runs writes against a mocked EntityManager to check chunking, the
+ * per-chunk flush/clear cycle and how a failing chunk stops the write.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+class BulkWriterTest {
+    
+    @Mock
+    private EntityManager entityManager;
+    
+    private RecordingTransactionManager transactionManager;
+    private BulkWriter writer;
+    
+    @BeforeEach
+    void setUp() {
+        transactionManager = new RecordingTransactionManager();
+        writer = new BulkWriter(entityManager, transactionManager, new ServiceMetrics(new SimpleMeterRegistry()), 2);
+    }
+    
+    @Test
+    void write_SplitsRowsIntoChunksWithOwnTransactions() {
+        List<String> rows = List.of("a", "b", "c", "d", "e");
+        List<String> prepared = new ArrayList<>();
+        List<List<String>> chunks = new ArrayList<>();
+        
+        BulkWriteResult result = writer.write("letters", rows, prepared::add, chunk -> chunks.add(List.copyOf(chunk)));
+        
+        assertTrue(result.isComplete());
+        assertEquals(5, result.getSubmitted());
+        assertEquals(5, result.getWritten());
+        assertEquals(3, result.getChunks());
+        assertEquals(rows, prepared);
+        assertEquals(List.of(List.of("a", "b"), List.of("c", "d"), List.of("e")), chunks);
+        assertEquals(3, transactionManager.commits);
+        verify(entityManager, times(5)).persist(any());
+        verify(entityManager, times(3)).flush();
+        verify(entityManager, times(3)).clear();
+    }
+    
+    @Test
+    void write_FailingChunk_RollsBackAndStops() {
+        doNothing().doThrow(new PersistenceException("flush failed",
+                new SQLException("insert or update on table \"bookings\" violates foreign key constraint")))
+            .when(entityManager).flush();
+        List<List<String>> chunks = new ArrayList<>();
+        
+        BulkWriteResult result = writer.write("letters", List.of("a", "b", "c", "d", "e"), row -> {},
+            chunk -> chunks.add(List.copyOf(chunk)));
+        
+        assertFalse(result.isComplete());
+        assertEquals(2, result.getWritten());
+        assertEquals(1, result.getChunks());
+        assertEquals("Rows 2 to 3: insert or update on table \"bookings\" violates foreign key constraint",
+                     result.getError());
+        assertEquals(List.of(List.of("a", "b")), chunks);
+        assertEquals(1, transactionManager.commits);
+        assertEquals(1, transactionManager.rollbacks);
+    }
+    
+    @Test
+    void write_AfterChunkFails_RollsBackThatChunk() {
+        BulkWriteResult result = writer.write("letters", List.of("a", "b", "c"), row -> {}, chunk -> {
+            if (chunk.contains("c")) {
+                throw new IllegalStateException("Time conflict");
+            }
+        });
+        
+        assertEquals(2, result.getWritten());
+        assertEquals("Rows 2 to 2: Time conflict", result.getError());
+        assertEquals(1, transactionManager.rollbacks);
+    }
+    
+    @Test
+    void write_NoRows_WritesNothing() {
+        BulkWriteResult result = writer.write("letters", List.<String>of(), row -> {}, null);
+        
+        assertTrue(result.isComplete());
+        assertEquals(0, result.getChunks());
+        verifyNoInteractions(entityManager);
+    }
+    
+    @Test
+    void constructor_NonPositiveChunkSize_Throws() {
+        assertThrows(IllegalArgumentException.class, () ->
+            new BulkWriter(entityManager, transactionManager, new ServiceMetrics(new SimpleMeterRegistry()), 0));
+    }
+    
+    /**
+     * Transaction manager that counts commits and rollbacks without a database
+     */
+    private static class RecordingTransactionManager extends AbstractPlatformTransactionManager {
+        
+        private int commits;
+        private int rollbacks;
+        
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+        
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+        
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            commits++;
+        }
+        
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+            rollbacks++;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.lucknow.healthcare.cache;
+
+import com.lucknow.healthcare.entity.ConsentRecord.ConsentType;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ConsentStateCache
+ *
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+class ConsentStateCacheTest {
+
+    private final UUID userId = UUID.randomUUID();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final ConsentStateCache cache = new ConsentStateCache(300, 100);
+
+    private long load(UUID id) {
+        loads.incrementAndGet();
+        return ConsentStateCache.currentVersionBit(ConsentType.PRIVACY_POLICY)
+            | ConsentStateCache.anyVersionBit(ConsentType.PRIVACY_POLICY)
+            | ConsentStateCache.anyVersionBit(ConsentType.TERMS_AND_CONDITIONS);
+    }
+
+    @Test
+    void hasCurrentVersion_ChecksBitsAndLoadsOnce() {
+        assertTrue(cache.hasCurrentVersion(userId, ConsentType.PRIVACY_POLICY, this::load));
+        assertFalse(cache.hasCurrentVersion(userId, ConsentType.TERMS_AND_CONDITIONS, this::load));
+        assertTrue(cache.hasAnyVersion(userId, ConsentType.TERMS_AND_CONDITIONS, this::load));
+        assertFalse(cache.hasAnyVersion(userId, ConsentType.HIPAA_COMPLIANCE, this::load));
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void invalidate_ForcesReload() {
+        cache.get(userId, this::load);
+        cache.invalidate(userId);
+        cache.get(userId, this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void bumpEpoch_MakesAllEntriesStale() {
+        UUID other = UUID.randomUUID();
+        cache.get(userId, this::load);
+        cache.get(other, this::load);
+
+        cache.bumpEpoch();
+        cache.get(userId, this::load);
+        cache.get(other, this::load);
+
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void get_InvalidationDuringLoad_DoesNotCacheStaleState() {
+        cache.get(userId, id -> {
+            cache.invalidate(id);
+            return 0L;
+        });
+
+        assertEquals(0, cache.size());
+    }
+}
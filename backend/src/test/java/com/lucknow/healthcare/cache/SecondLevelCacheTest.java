@@ -0,0 +1,150 @@
+package com.lucknow.healthcare.cache;
+
+import com.lucknow.healthcare.dataset.DatasetContainer;
+import com.lucknow.healthcare.dataset.DatasetSpec;
+import com.lucknow.healthcare.entity.Provider;
+import com.lucknow.healthcare.repository.BookingRepository;
+import com.lucknow.healthcare.repository.ProviderRepository;
+import com.lucknow.healthcare.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Second-level cache behaviour of the booking read paths
+ *
+ * Runs against a copy of the generated SMALL dataset. Each path is run
+ * twice, each time in its own transaction: once with the cache empty and
+ * once with it warm. The warm run must issue fewer statements, because
+ * services, categories and providers come from the cache. Skipped when
+ * Docker is not available.
+ *
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+class SecondLevelCacheTest {
+
+    private static String datasetUrl;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", SecondLevelCacheTest::datasetUrl);
+        registry.add("spring.datasource.username", () -> DatasetContainer.get().getUsername());
+        registry.add("spring.datasource.password", () -> DatasetContainer.get().getPassword());
+        registry.add("spring.jpa.show-sql", () -> false);
+        registry.add("spring.flyway.enabled", () -> true);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.jpa.properties.hibernate.generate_statistics", () -> true);
+    }
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private ProviderRepository providerRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SecondLevelCacheInvalidator invalidator;
+
+    private SessionFactoryImplementor sessionFactory;
+    private Statistics statistics;
+
+    private static synchronized String datasetUrl() {
+        if (datasetUrl == null) {
+            datasetUrl = DatasetContainer.cloneTo(DatasetSpec.SMALL, "second_level_cache");
+        }
+        return datasetUrl;
+    }
+
+    @BeforeEach
+    void emptyCache() {
+        sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        statistics = sessionFactory.getStatistics();
+        sessionFactory.getCache().evictAllRegions();
+    }
+
+    @Test
+    void bookingListTakesReferenceDataFromCache() {
+        UUID userId = jdbcTemplate.queryForObject(
+            "SELECT user_id FROM bookings GROUP BY user_id ORDER BY count(*) DESC LIMIT 1", UUID.class);
+
+        long cold = statements(() -> bookingRepository.findByUser(userRepository.findById(userId).orElseThrow()));
+        long hitsBefore = statistics.getSecondLevelCacheHitCount();
+        long warm = statements(() -> bookingRepository.findByUser(userRepository.findById(userId).orElseThrow()));
+
+        assertTrue(warm < cold, "warm list issued " + warm + " statements, cold " + cold);
+        assertTrue(statistics.getSecondLevelCacheHitCount() > hitsBefore);
+    }
+
+    @Test
+    void bookingDetailTakesReferenceDataFromCache() {
+        UUID bookingId = jdbcTemplate.queryForObject(
+            "SELECT id FROM bookings WHERE provider_id IS NOT NULL LIMIT 1", UUID.class);
+
+        long cold = statements(() -> bookingRepository.findById(bookingId).orElseThrow());
+        long warm = statements(() -> bookingRepository.findById(bookingId).orElseThrow());
+
+        assertTrue(warm < cold, "warm detail issued " + warm + " statements, cold " + cold);
+    }
+
+    @Test
+    void providerServicesCollectionIsCached() {
+        UUID providerId = jdbcTemplate.queryForObject("SELECT provider_id FROM provider_services LIMIT 1", UUID.class);
+
+        statements(() -> providerRepository.findById(providerId).orElseThrow().getServices().size());
+        long warm = statements(() -> providerRepository.findById(providerId).orElseThrow().getServices().size());
+
+        assertEquals(0, warm);
+    }
+
+    @Test
+    void invalidationFromAnotherNodeEvictsProvider() {
+        UUID providerId = jdbcTemplate.queryForObject("SELECT provider_id FROM provider_services LIMIT 1", UUID.class);
+        statements(() -> providerRepository.findById(providerId).orElseThrow().getServices().size());
+        assertTrue(sessionFactory.getCache().containsEntity(Provider.class, providerId));
+        assertTrue(sessionFactory.getCache().containsCollection(Provider.class.getName() + ".services", providerId));
+
+        invalidator.handle("another-node " + Provider.class.getName() + " " + providerId);
+
+        assertFalse(sessionFactory.getCache().containsEntity(Provider.class, providerId));
+        assertFalse(sessionFactory.getCache().containsCollection(Provider.class.getName() + ".services", providerId));
+    }
+
+    /**
+     * Statements prepared while running the work in a new transaction
+     */
+    private long statements(Runnable work) {
+        long before = statistics.getPrepareStatementCount();
+        transactionTemplate.executeWithoutResult(status -> work.run());
+        return statistics.getPrepareStatementCount() - before;
+    }
+}
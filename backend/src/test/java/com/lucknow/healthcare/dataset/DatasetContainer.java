@@ -0,0 +1,52 @@
+package com.lucknow.healthcare.dataset;
+
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.sql.SQLException;
+
+/**
+ * One PostgreSQL container per test JVM holding dataset snapshots
+ *
+ * Started on first use and shared by every test class that asks for a
+ * dataset, so a snapshot is generated once per run. The container is
+ * marked reusable: with testcontainers.reuse.enable=true in
+ * ~/.testcontainers.properties it survives between runs and the snapshots
+ * with it, so only the first run after a schema or generator change pays
+ * for generation.
+ *
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+public final class DatasetContainer {
+
+    private static PostgreSQLContainer<?> postgres;
+
+    private DatasetContainer() {
+    }
+
+    /**
+     * Fresh copy of the spec's dataset in a database named {@code target}
+     *
+     * @return JDBC URL of the copy; the username and password are those of
+     *         {@link #get()}
+     */
+    public static String cloneTo(DatasetSpec spec, String target) {
+        PostgreSQLContainer<?> container = get();
+        try {
+            return new DatasetSnapshot(container.getJdbcUrl(), container.getUsername(), container.getPassword())
+                .cloneTo(spec, target);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not prepare dataset " + spec, e);
+        }
+    }
+
+    public static synchronized PostgreSQLContainer<?> get() {
+        if (postgres == null) {
+            postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+                .withReuse(true)
+                .withCommand("postgres", "-c", "fsync=off", "-c", "max_wal_size=4GB");
+            postgres.start();
+        }
+        return postgres;
+    }
+}
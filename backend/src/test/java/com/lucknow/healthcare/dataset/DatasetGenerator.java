@@ -0,0 +1,729 @@
+package com.lucknow.healthcare.dataset;
+
+import com.lucknow.healthcare.dispatch.ProviderSchedule;
+import com.lucknow.healthcare.entity.ConsentRecord;
+import com.lucknow.healthcare.entity.Patient;
+import com.lucknow.healthcare.entity.Payment;
+import com.lucknow.healthcare.enums.AvailabilityStatus;
+import com.lucknow.healthcare.enums.BookingStatus;
+import com.lucknow.healthcare.enums.PaymentMethod;
+import com.lucknow.healthcare.enums.PaymentStatus;
+import com.lucknow.healthcare.enums.UserRole;
+import com.lucknow.healthcare.enums.UserStatus;
+import com.lucknow.healthcare.reservation.ProviderReservations;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Deterministic synthetic data for load and performance tests
+ *
+ * Writes customers, providers (each with a login), patients, bookings,
+ * payments, reviews and consents into a migrated database through COPY.
+ * Every row is derived from the seed, its table and its index alone, so a
+ * payment or review can re-derive the booking it belongs to without
+ * keeping a million bookings in memory, and two runs with the same spec
+ * produce the same rows. Service ids come from the catalogue seeded by the
+ * migrations and are the only values that differ between databases.
+ *
+ * Distributions follow production: a minority of customers and providers
+ * take most of the bookings, bookings grow towards the present and peak in
+ * the morning, past months are mostly completed, future months mostly
+ * open, and ratings lean towards four and five stars.
+ *
+ * Assigned bookings that are not completed or cancelled hold their
+ * provider's time in provider_reservations, as the application keeps it.
+ * Before loading, one pass over the bookings places those slots: a slot
+ * that meets one the provider already holds moves later the same day, and
+ * goes back to the unassigned PENDING queue if the day is full. The moves
+ * are the only booking state kept in memory.
+ *
+ * Triggers and foreign keys are switched off for the load
+ * (session_replication_role = replica, which needs a superuser); the
+ * generator keeps the references consistent itself.
+ *
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+public class DatasetGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(DatasetGenerator.class);
+
+    /** BCrypt of password123, the password used by data.sql */
+    static final String PASSWORD_HASH = "$2a$10$WiO.0eFZgQw4OXuoLKAaheF/EbVED8ULOAmegrjqhoiYgHbFkZ3UO";
+
+    private static final int CUSTOMER = 1;
+    private static final int PROVIDER = 2;
+    private static final int PROVIDER_USER = 3;
+    private static final int PATIENT = 4;
+    private static final int BOOKING = 5;
+    private static final int PAYMENT = 6;
+    private static final int FAILED_PAYMENT = 7;
+    private static final int REVIEW = 8;
+    private static final int CONSENT = 9;
+    private static final int ADMIN = 10;
+
+    private static final int COPY_BUFFER = 1 << 20;
+
+    /** Time zone of booking dates and times, as app.booking.time-zone */
+    private static final ZoneId BOOKING_ZONE = ZoneId.of("Asia/Kolkata");
+    private static final LocalTime LAST_START = LocalTime.of(20, 0);
+
+    private static final String[] FIRST_NAMES = {
+        "Aarav", "Aditi", "Akash", "Ananya", "Arjun", "Deepika", "Divya", "Gaurav", "Ishaan", "Kavya",
+        "Manish", "Meera", "Neha", "Nikhil", "Pooja", "Priya", "Rahul", "Ritu", "Rohit", "Sakshi",
+        "Sanjay", "Shreya", "Sunita", "Tanvi", "Varun", "Vikram", "Yash", "Zoya", "Farhan", "Ayesha"
+    };
+    private static final String[] LAST_NAMES = {
+        "Agarwal", "Bajpai", "Chaturvedi", "Dixit", "Gupta", "Khan", "Kumar", "Mishra", "Pandey", "Rastogi",
+        "Saxena", "Shukla", "Singh", "Srivastava", "Tiwari", "Tripathi", "Verma", "Yadav", "Siddiqui", "Awasthi"
+    };
+    private static final String[] LOCALITIES = {
+        "Gomti Nagar", "Hazratganj", "Aliganj", "Indira Nagar", "Alambagh",
+        "Jankipuram", "Mahanagar", "Chinhat", "Vikas Nagar", "Rajajipuram"
+    };
+    private static final double[][] LOCALITY_COORDINATES = {
+        {26.8530, 81.0030}, {26.8500, 80.9470}, {26.8950, 80.9400}, {26.8830, 80.9990}, {26.8130, 80.9030},
+        {26.9250, 80.9420}, {26.8730, 80.9600}, {26.8790, 81.0550}, {26.8950, 80.9560}, {26.8440, 80.8820}
+    };
+    private static final String[] QUALIFICATIONS = {
+        "GNM", "ANM", "B.Sc Nursing", "M.Sc Nursing", "BPT", "MPT", "EMT", "Certified Caregiver"
+    };
+    private static final String[] BLOOD_GROUPS = {"A+", "A-", "B+", "B-", "AB+", "AB-", "O+", "O-", "UNKNOWN"};
+    private static final Patient.Relationship[] FAMILY = {
+        Patient.Relationship.PARENT, Patient.Relationship.SPOUSE, Patient.Relationship.CHILD,
+        Patient.Relationship.GRANDPARENT, Patient.Relationship.SIBLING
+    };
+    private static final String[] REVIEW_COMMENTS = {
+        "Very professional and caring.", "Arrived on time and explained everything.",
+        "Good service, would book again.", "Helpful but arrived a little late.",
+        "Excellent care for my father.", "Average experience.", "Not satisfied with the visit."
+    };
+
+    private final DatasetSpec spec;
+    private final long seed;
+    private final LocalDate today;
+    private final LocalDate firstDay;
+    private final LocalDate endDay;
+    private final long totalDays;
+
+    private List<ServiceRow> services;
+    private final Map<Integer, LocalTime> movedSlots = new HashMap<>();
+    private final BitSet unassignedForConflict = new BitSet();
+
+    public DatasetGenerator(DatasetSpec spec) {
+        this.spec = spec;
+        this.seed = spec.getSeed();
+        this.today = spec.getAnchor().atDay(1);
+        this.firstDay = today.minusMonths(DatasetSpec.MONTHS_BACK);
+        this.endDay = today.plusMonths(DatasetSpec.MONTHS_AHEAD);
+        this.totalDays = ChronoUnit.DAYS.between(firstDay, endDay);
+    }
+
+    /**
+     * Loads the dataset into an empty, migrated database
+     */
+    public void generate(Connection connection) throws SQLException {
+        long started = System.nanoTime();
+        services = loadServices(connection);
+        if (services.isEmpty()) {
+            throw new IllegalStateException("No active services; run the migrations first");
+        }
+        planReservations();
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SELECT ensure_monthly_partitions('bookings', DATE '" + firstDay + "', DATE '" + endDay + "')");
+            statement.execute("SELECT ensure_monthly_partitions('payments', DATE '" + firstDay.minusMonths(1)
+                + "', DATE '" + endDay.plusMonths(1) + "')");
+            statement.execute("SET session_replication_role = replica");
+        }
+        try {
+            copy(connection, "users (id, name, email, password, role, phone, address, status, email_verified, "
+                + "latitude, longitude, created_at, updated_at)", this::writeUsers);
+            copy(connection, "providers (id, version, name, email, phone, qualification, experience, "
+                + "availability_status, rating, total_ratings, is_verified, address, latitude, longitude, "
+                + "created_at, updated_at)", this::writeProviders);
+            copy(connection, "provider_services (provider_id, service_id, created_at)", this::writeProviderServices);
+            copy(connection, "patients (id, customer_id, name, age, gender, blood_group, is_diabetic, bp_status, "
+                + "relationship_to_customer, is_active, created_at, updated_at)", this::writePatients);
+            copy(connection, "consent_records (id, user_id, patient_id, consent_type, consent_version, is_accepted, "
+                + "accepted_at, ip_address, revoked_at, revocation_reason, created_at)", this::writeConsents);
+            copy(connection, "bookings (id, version, user_id, service_id, provider_id, patient_id, status, "
+                + "scheduled_date, scheduled_time, duration, total_amount, payment_status, payment_method, "
+                + "payment_timing, cancelled_at, created_at, updated_at)", this::writeBookings);
+            copy(connection, "provider_reservations (booking_id, provider_id, starts_at, ends_at, created_at)",
+                 this::writeReservations);
+            copy(connection, "payments (id, booking_id, customer_id, amount, payment_method, payment_status, "
+                + "payment_timing, transaction_id, invoice_number, paid_at, created_at, updated_at)", this::writePayments);
+            copy(connection, "payment_unique_keys (key_type, key_value, payment_id)", this::writePaymentKeys);
+            copy(connection, "reviews (id, booking_id, user_id, provider_id, rating, comment, created_at)",
+                 this::writeReviews);
+        } finally {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET session_replication_role = DEFAULT");
+            }
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("UPDATE providers p SET rating = round(r.average, 2), total_ratings = r.total "
+                + "FROM (SELECT provider_id, avg(rating) AS average, count(*) AS total FROM reviews GROUP BY provider_id) r "
+                + "WHERE p.id = r.provider_id");
+        }
+        logger.info("Generated dataset {} in {} s", spec, seconds(started));
+    }
+
+    // Customers, provider logins and one admin
+
+    private void writeUsers(CopyWriter out) throws SQLException {
+        for (int c = 0; c < spec.getCustomers(); c++) {
+            SplittableRandom random = random(CUSTOMER, c);
+            int locality = random.nextInt(LOCALITIES.length);
+            LocalDateTime created = customerCreatedAt(c);
+            UserStatus status = customerStatus(random);
+            out.row(customerId(c), personName(random), "customer" + c + "@dataset.test", PASSWORD_HASH,
+                    UserRole.CUSTOMER, phone(random), address(random, locality), status, random.nextInt(10) < 9,
+                    latitude(random, locality), longitude(random, locality), created, created);
+        }
+        for (int p = 0; p < spec.getProviders(); p++) {
+            SplittableRandom random = random(PROVIDER_USER, p);
+            LocalDateTime created = providerCreatedAt(p);
+            out.row(uuid(PROVIDER_USER, p), providerName(p), providerEmail(p), PASSWORD_HASH, UserRole.PROVIDER,
+                    phone(random), null, UserStatus.ACTIVE, true, null, null, created, created);
+        }
+        LocalDateTime created = firstDay.minusYears(1).atStartOfDay();
+        out.row(uuid(ADMIN, 0), "Dataset Admin", "admin@dataset.test", PASSWORD_HASH, UserRole.ADMIN,
+                null, null, UserStatus.ACTIVE, true, null, null, created, created);
+    }
+
+    /**
+     * Account status of generated customer {@code customer}; only active
+     * customers can log in, so load drivers pick their users with this
+     */
+    public UserStatus customerStatus(int customer) {
+        SplittableRandom random = random(CUSTOMER, customer);
+        random.nextInt(LOCALITIES.length);
+        return customerStatus(random);
+    }
+
+    private static UserStatus customerStatus(SplittableRandom random) {
+        return pick(random, 97, 2) == 0 ? UserStatus.ACTIVE
+            : random.nextBoolean() ? UserStatus.INACTIVE : UserStatus.SUSPENDED;
+    }
+
+    private void writeProviders(CopyWriter out) throws SQLException {
+        for (int p = 0; p < spec.getProviders(); p++) {
+            SplittableRandom random = random(PROVIDER, p);
+            int locality = random.nextInt(LOCALITIES.length);
+            AvailabilityStatus availability = AvailabilityStatus.values()[pick(random, 55, 25, 15)];
+            LocalDateTime created = providerCreatedAt(p);
+            // rating and total_ratings are filled in from the reviews afterwards
+            out.row(providerId(p), 0, providerName(p), providerEmail(p), phone(random),
+                    QUALIFICATIONS[random.nextInt(QUALIFICATIONS.length)], random.nextInt(31), availability,
+                    0, 0, random.nextInt(10) < 8, address(random, locality),
+                    latitude(random, locality), longitude(random, locality), created, created);
+        }
+    }
+
+    private void writeProviderServices(CopyWriter out) throws SQLException {
+        for (int p = 0; p < spec.getProviders(); p++) {
+            for (int service : offeredServices(p)) {
+                out.row(providerId(p), services.get(service).id, providerCreatedAt(p));
+            }
+        }
+    }
+
+    // Patients: the customer themself plus up to two family members
+
+    private void writePatients(CopyWriter out) throws SQLException {
+        for (int c = 0; c < spec.getCustomers(); c++) {
+            LocalDateTime created = customerCreatedAt(c);
+            for (int k = 0; k < patientCount(c); k++) {
+                SplittableRandom random = random(PATIENT, patientIndex(c, k));
+                Patient.Relationship relationship = k == 0 ? Patient.Relationship.SELF
+                    : FAMILY[random.nextInt(FAMILY.length)];
+                int age = switch (relationship) {
+                    case CHILD -> 1 + random.nextInt(17);
+                    case PARENT -> 55 + random.nextInt(35);
+                    case GRANDPARENT -> 70 + random.nextInt(25);
+                    default -> 22 + random.nextInt(50);
+                };
+                out.row(patientId(c, k), personName(random), age, Patient.Gender.values()[pick(random, 49, 49)],
+                        BLOOD_GROUPS[random.nextInt(BLOOD_GROUPS.length)], age > 45 && random.nextInt(4) == 0,
+                        Patient.BPStatus.values()[pick(random, 70, 20, 5)], relationship, true, created, created);
+            }
+        }
+    }
+
+    private void writeConsents(CopyWriter out) throws SQLException {
+        for (int c = 0; c < spec.getCustomers(); c++) {
+            SplittableRandom random = random(CONSENT, c);
+            LocalDateTime created = customerCreatedAt(c);
+            String ip = "10." + random.nextInt(256) + "." + random.nextInt(256) + "." + random.nextInt(1, 255);
+            out.row(uuid(CONSENT, c * 8L), customerId(c), null, ConsentRecord.ConsentType.TERMS_AND_CONDITIONS,
+                    "1.0", true, created, ip, null, null, created);
+            out.row(uuid(CONSENT, c * 8L + 1), customerId(c), null, ConsentRecord.ConsentType.PRIVACY_POLICY,
+                    "1.0", true, created, ip, null, null, created);
+            for (int k = 0; k < patientCount(c); k++) {
+                boolean accepted = random.nextInt(10) < 7;
+                boolean revoked = accepted && random.nextInt(20) == 0;
+                LocalDateTime revokedAt = revoked ? created.plusDays(1 + random.nextInt(300)) : null;
+                out.row(uuid(CONSENT, c * 8L + 2 + k), customerId(c), patientId(c, k),
+                        ConsentRecord.ConsentType.MEDICAL_DATA_SHARING, "1.0", accepted, accepted ? created : null,
+                        ip, revokedAt, revoked ? "Withdrawn by customer" : null, created);
+            }
+        }
+    }
+
+    // Bookings and what hangs off them
+
+    private void writeBookings(CopyWriter out) throws SQLException {
+        for (int i = 0; i < spec.getBookings(); i++) {
+            BookingRow b = booking(i);
+            ServiceRow service = services.get(b.service);
+            out.row(b.id, 0, customerId(b.customer), service.id, b.provider >= 0 ? providerId(b.provider) : null,
+                    patientId(b.customer, b.patient), b.status, b.date, b.time, service.duration, service.price,
+                    b.paymentStatus, b.paymentMethod, b.paymentTiming, b.cancelledAt, b.createdAt, b.updatedAt);
+        }
+    }
+
+    private void writeReservations(CopyWriter out) throws SQLException {
+        for (int i = 0; i < spec.getBookings(); i++) {
+            BookingRow b = booking(i);
+            if (holdsReservation(b)) {
+                LocalDateTime start = b.date.atTime(b.time);
+                out.row(b.id, providerId(b.provider), start.atZone(BOOKING_ZONE).toOffsetDateTime(),
+                        start.plusHours(services.get(b.service).duration).atZone(BOOKING_ZONE).toOffsetDateTime(),
+                        b.createdAt);
+            }
+        }
+    }
+
+    /**
+     * Place the reserved slots so no provider holds overlapping time, which
+     * the provider_reservations exclusion constraint would reject
+     */
+    private void planReservations() {
+        movedSlots.clear();
+        unassignedForConflict.clear();
+        Map<Integer, ProviderSchedule> schedules = new HashMap<>();
+        int moved = 0;
+        for (int i = 0; i < spec.getBookings(); i++) {
+            BookingRow b = booking(i);
+            if (!holdsReservation(b)) {
+                continue;
+            }
+            ProviderSchedule schedule = schedules.computeIfAbsent(b.provider, p -> new ProviderSchedule());
+            long minutes = services.get(b.service).duration * 60L;
+            LocalTime time = b.time;
+            long start = minuteOf(b.date, time);
+            while (!schedule.isFree(start, start + minutes)) {
+                time = time.plusMinutes(15);
+                if (time.isAfter(LAST_START) || time.isBefore(b.time)) {
+                    time = null;
+                    break;
+                }
+                start = minuteOf(b.date, time);
+            }
+            if (time == null) {
+                unassignedForConflict.set(i);
+            } else {
+                schedule.add(start, start + minutes);
+                if (!time.equals(b.time)) {
+                    movedSlots.put(i, time);
+                    moved++;
+                }
+            }
+        }
+        logger.info("Placed provider slots: {} moved, {} left unassigned", moved, unassignedForConflict.cardinality());
+    }
+
+    private boolean holdsReservation(BookingRow b) {
+        return b.provider >= 0 && ProviderReservations.holdsTime(b.status);
+    }
+
+    private long minuteOf(LocalDate date, LocalTime time) {
+        return ChronoUnit.MINUTES.between(firstDay.atStartOfDay(), date.atTime(time));
+    }
+
+    private void writePayments(CopyWriter out) throws SQLException {
+        for (int i = 0; i < spec.getBookings(); i++) {
+            BookingRow b = booking(i);
+            if (b.hasFailedAttempt) {
+                LocalDateTime attempted = b.paidAt().minusMinutes(10);
+                out.row(uuid(FAILED_PAYMENT, i), b.id, customerId(b.customer), services.get(b.service).price,
+                        b.paymentMethod, Payment.PaymentStatus.FAILED, b.paymentTiming, null, null, null,
+                        attempted, attempted);
+            }
+            if (b.isPaid()) {
+                Payment.PaymentStatus status = b.paymentStatus == PaymentStatus.REFUNDED
+                    ? Payment.PaymentStatus.REFUNDED : Payment.PaymentStatus.SUCCESS;
+                out.row(uuid(PAYMENT, i), b.id, customerId(b.customer), services.get(b.service).price,
+                        b.paymentMethod, status, b.paymentTiming, transactionId(i), invoiceNumber(i),
+                        b.paidAt().plusMinutes(1), b.paidAt(), b.paidAt());
+            }
+        }
+    }
+
+    /** The unique claims the payments triggers would have written */
+    private void writePaymentKeys(CopyWriter out) throws SQLException {
+        for (int i = 0; i < spec.getBookings(); i++) {
+            if (booking(i).isPaid()) {
+                out.row("TRANSACTION_ID", transactionId(i), uuid(PAYMENT, i));
+                out.row("INVOICE_NUMBER", invoiceNumber(i), uuid(PAYMENT, i));
+            }
+        }
+    }
+
+    private void writeReviews(CopyWriter out) throws SQLException {
+        for (int i = 0; i < spec.getBookings(); i++) {
+            BookingRow b = booking(i);
+            if (b.status != BookingStatus.COMPLETED || b.provider < 0) {
+                continue;
+            }
+            SplittableRandom random = random(REVIEW, i);
+            if (random.nextInt(10) >= 6) {
+                continue;
+            }
+            int rating = 5 - pick(random, 55, 28, 10, 4);
+            String comment = random.nextInt(10) < 6 ? REVIEW_COMMENTS[Math.min(REVIEW_COMMENTS.length - 1,
+                (5 - rating) * 2 + random.nextInt(2))] : null;
+            out.row(uuid(REVIEW, i), b.id, customerId(b.customer), providerId(b.provider), rating, comment,
+                    b.updatedAt.plusHours(1 + random.nextInt(72)));
+        }
+    }
+
+    /**
+     * Booking {@code i}, derived from the seed and the index alone
+     */
+    BookingRow booking(int i) {
+        SplittableRandom random = random(BOOKING, i);
+        BookingRow b = new BookingRow();
+        b.id = uuid(BOOKING, i);
+        b.customer = skewed(random, spec.getCustomers(), 2.0);
+        b.patient = random.nextInt(patientCount(b.customer));
+        int provider = skewed(random, spec.getProviders(), 1.5);
+        List<Integer> offered = offeredServices(provider);
+        b.service = offered.get(random.nextInt(offered.size()));
+        // Volume grows towards the present: density rises linearly over the window
+        b.date = firstDay.plusDays((long) (totalDays * Math.sqrt(random.nextDouble())));
+        int hour = 7 + Math.min(12, (int) Math.abs(random.nextGaussian() * 4));
+        b.time = LocalTime.of(hour, random.nextInt(4) * 15);
+
+        if (b.date.isBefore(today)) {
+            b.status = new BookingStatus[] {BookingStatus.COMPLETED, BookingStatus.CANCELLED,
+                BookingStatus.RESCHEDULED, BookingStatus.CONFIRMED, BookingStatus.PENDING}[pick(random, 82, 13, 2, 2)];
+        } else {
+            b.status = new BookingStatus[] {BookingStatus.PENDING, BookingStatus.CONFIRMED,
+                BookingStatus.RESCHEDULED, BookingStatus.CANCELLED}[pick(random, 35, 50, 5)];
+        }
+        boolean unassigned = b.status == BookingStatus.PENDING && random.nextBoolean();
+        if (unassignedForConflict.get(i)) {
+            // No room left that day: waits in the unassigned queue instead
+            b.status = BookingStatus.PENDING;
+            unassigned = true;
+        }
+        b.provider = unassigned ? -1 : provider;
+        b.time = movedSlots.getOrDefault(i, b.time);
+
+        b.paymentMethod = new PaymentMethod[] {PaymentMethod.UPI, PaymentMethod.CASH,
+            PaymentMethod.CARD, PaymentMethod.ONLINE}[pick(random, 45, 25, 20)];
+        b.paymentTiming = random.nextInt(10) < 4 ? Payment.PaymentTiming.ADVANCE : Payment.PaymentTiming.POST_SERVICE;
+        boolean advance = b.paymentTiming == Payment.PaymentTiming.ADVANCE;
+        b.paymentStatus = switch (b.status) {
+            case COMPLETED -> random.nextInt(20) > 0 ? PaymentStatus.PAID : PaymentStatus.PENDING;
+            case CANCELLED -> advance && random.nextInt(10) < 8 ? PaymentStatus.REFUNDED : PaymentStatus.PENDING;
+            default -> advance && random.nextInt(10) < 8 ? PaymentStatus.PAID : PaymentStatus.PENDING;
+        };
+        b.hasFailedAttempt = b.isPaid() && random.nextInt(100) < 3;
+
+        b.createdAt = b.date.minusDays(1 + random.nextInt(14)).atTime(8 + random.nextInt(14), random.nextInt(60));
+        b.completedAt = b.date.atTime(b.time).plusHours(services.get(b.service).duration);
+        if (b.status == BookingStatus.CANCELLED) {
+            b.cancelledAt = b.createdAt.plusHours(1 + random.nextInt(
+                (int) Math.max(1, ChronoUnit.HOURS.between(b.createdAt, b.date.atTime(b.time)))));
+            b.updatedAt = b.cancelledAt;
+        } else {
+            b.updatedAt = b.status == BookingStatus.COMPLETED ? b.completedAt : b.createdAt;
+        }
+        return b;
+    }
+
+    List<Integer> offeredServices(int provider) {
+        Set<Integer> offered = new LinkedHashSet<>();
+        int count = 1 + provider % 3;
+        for (int k = 0; k < count; k++) {
+            offered.add((int) ((provider * 7L + k * 5L) % services.size()));
+        }
+        return new ArrayList<>(offered);
+    }
+
+    // Identities
+
+    UUID customerId(int customer) {
+        return uuid(CUSTOMER, customer);
+    }
+
+    UUID providerId(int provider) {
+        return uuid(PROVIDER, provider);
+    }
+
+    private UUID patientId(int customer, int k) {
+        return uuid(PATIENT, patientIndex(customer, k));
+    }
+
+    private static long patientIndex(int customer, int k) {
+        return customer * 3L + k;
+    }
+
+    private static int patientCount(int customer) {
+        return 1 + customer % 3;
+    }
+
+    private String providerName(int provider) {
+        return personName(random(PROVIDER_USER, -1 - provider));
+    }
+
+    private static String providerEmail(int provider) {
+        return "provider" + provider + "@dataset.test";
+    }
+
+    private static String transactionId(int booking) {
+        return String.format("TXN%012d", booking);
+    }
+
+    private String invoiceNumber(int booking) {
+        return "INV-" + spec.getSeed() + "-" + booking;
+    }
+
+    private LocalDateTime customerCreatedAt(int customer) {
+        return firstDay.minusDays(random(CUSTOMER, -1 - customer).nextInt(365)).atTime(10, 0);
+    }
+
+    private LocalDateTime providerCreatedAt(int provider) {
+        return firstDay.minusDays(random(PROVIDER, -1 - provider).nextInt(730)).atTime(10, 0);
+    }
+
+    // Value helpers
+
+    private static String personName(SplittableRandom random) {
+        return FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+    }
+
+    private static String phone(SplittableRandom random) {
+        return (6 + random.nextInt(4)) + String.format("%09d", random.nextInt(1_000_000_000));
+    }
+
+    private static String address(SplittableRandom random, int locality) {
+        return "House " + (1 + random.nextInt(900)) + ", " + LOCALITIES[locality] + ", Lucknow";
+    }
+
+    private static double latitude(SplittableRandom random, int locality) {
+        return Math.round((LOCALITY_COORDINATES[locality][0] + (random.nextDouble() - 0.5) * 0.02) * 1e6) / 1e6;
+    }
+
+    private static double longitude(SplittableRandom random, int locality) {
+        return Math.round((LOCALITY_COORDINATES[locality][1] + (random.nextDouble() - 0.5) * 0.02) * 1e6) / 1e6;
+    }
+
+    /**
+     * Index in [0, n) biased towards low values; a larger exponent means a
+     * smaller group of heavy users
+     */
+    private static int skewed(SplittableRandom random, int n, double exponent) {
+        return Math.min(n - 1, (int) (n * Math.pow(random.nextDouble(), exponent)));
+    }
+
+    /**
+     * Index of the bucket a percentage roll falls into; weights of the
+     * leading buckets, the last bucket takes the rest
+     */
+    private static int pick(SplittableRandom random, int... weights) {
+        int roll = random.nextInt(100);
+        for (int bucket = 0; bucket < weights.length; bucket++) {
+            roll -= weights[bucket];
+            if (roll < 0) {
+                return bucket;
+            }
+        }
+        return weights.length;
+    }
+
+    private SplittableRandom random(int stream, long index) {
+        return new SplittableRandom(mix(seed, stream, index));
+    }
+
+    private UUID uuid(int stream, long index) {
+        long high = mix(seed, stream, index);
+        long low = mix(~seed, stream, index);
+        // version 4, IETF variant
+        return new UUID((high & ~0xF000L) | 0x4000L, (low & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L);
+    }
+
+    /** SplitMix64 finaliser over the seed, stream and index */
+    private static long mix(long seed, int stream, long index) {
+        long z = seed * 0x9E3779B97F4A7C15L + stream * 0xD1B54A32D192ED03L + index;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static String seconds(long startedNanos) {
+        return String.format("%.1f", (System.nanoTime() - startedNanos) / 1e9);
+    }
+
+    private static List<ServiceRow> loadServices(Connection connection) throws SQLException {
+        List<ServiceRow> services = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT id, price, duration FROM services WHERE is_active ORDER BY name, id");
+             ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) {
+                services.add(new ServiceRow(rs.getObject(1, UUID.class), rs.getBigDecimal(2), rs.getInt(3)));
+            }
+        }
+        return services;
+    }
+
+    // COPY plumbing
+
+    private void copy(Connection connection, String target, RowSource source) throws SQLException {
+        long started = System.nanoTime();
+        CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn("COPY " + target + " FROM STDIN");
+        CopyWriter writer = new CopyWriter(copyIn);
+        try {
+            source.write(writer);
+            writer.flush();
+            long rows = copyIn.endCopy();
+            logger.info("COPY {} rows into {} in {} s", rows, target.substring(0, target.indexOf(' ')),
+                        seconds(started));
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowSource {
+        void write(CopyWriter out) throws SQLException;
+    }
+
+    /**
+     * Buffers rows in COPY text format and hands them to the server in
+     * large chunks
+     */
+    private static final class CopyWriter {
+
+        private final CopyIn copyIn;
+        private final StringBuilder buffer = new StringBuilder(COPY_BUFFER + 4096);
+
+        CopyWriter(CopyIn copyIn) {
+            this.copyIn = copyIn;
+        }
+
+        void row(Object... values) throws SQLException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    buffer.append('\t');
+                }
+                append(values[i]);
+            }
+            buffer.append('\n');
+            if (buffer.length() >= COPY_BUFFER) {
+                flush();
+            }
+        }
+
+        private void append(Object value) {
+            if (value == null) {
+                buffer.append("\\N");
+            } else if (value instanceof BigDecimal decimal) {
+                buffer.append(decimal.toPlainString());
+            } else if (value instanceof Enum<?> constant) {
+                buffer.append(constant.name());
+            } else {
+                String text = value.toString();
+                for (int i = 0; i < text.length(); i++) {
+                    char c = text.charAt(i);
+                    switch (c) {
+                        case '\\' -> buffer.append("\\\\");
+                        case '\t' -> buffer.append("\\t");
+                        case '\n' -> buffer.append("\\n");
+                        case '\r' -> buffer.append("\\r");
+                        default -> buffer.append(c);
+                    }
+                }
+            }
+        }
+
+        void flush() throws SQLException {
+            if (buffer.length() > 0) {
+                byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+                copyIn.writeToCopy(bytes, 0, bytes.length);
+                buffer.setLength(0);
+            }
+        }
+    }
+
+    static final class BookingRow {
+        UUID id;
+        int customer;
+        int patient;
+        int provider;
+        int service;
+        LocalDate date;
+        LocalTime time;
+        BookingStatus status;
+        PaymentStatus paymentStatus;
+        PaymentMethod paymentMethod;
+        Payment.PaymentTiming paymentTiming;
+        boolean hasFailedAttempt;
+        LocalDateTime createdAt;
+        LocalDateTime completedAt;
+        LocalDateTime cancelledAt;
+        LocalDateTime updatedAt;
+
+        boolean isPaid() {
+            return paymentStatus == PaymentStatus.PAID || paymentStatus == PaymentStatus.REFUNDED;
+        }
+
+        /** Advance payments are made at booking time, the rest after the visit */
+        LocalDateTime paidAt() {
+            return paymentTiming == Payment.PaymentTiming.ADVANCE ? createdAt.plusMinutes(5) : completedAt;
+        }
+    }
+
+    private static final class ServiceRow {
+        final UUID id;
+        final BigDecimal price;
+        final int duration;
+
+        ServiceRow(UUID id, BigDecimal price, int duration) {
+            this.id = id;
+            this.price = price;
+            this.duration = duration;
+        }
+    }
+}
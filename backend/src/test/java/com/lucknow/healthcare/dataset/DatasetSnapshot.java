@@ -0,0 +1,206 @@
+package com.lucknow.healthcare.dataset;
+
+import org.flywaydb.core.Flyway;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Generated datasets kept as template databases on a PostgreSQL server
+ *
+ * The first {@link #ensure} for a spec migrates a fresh database, loads it
+ * with {@link DatasetGenerator}, vacuums and analyzes it, and marks it
+ * ready. Later calls reuse it as long as the spec, the latest migration and
+ * {@link #GENERATOR_VERSION} are unchanged, since all three are part of
+ * the database name. {@link #cloneTo} copies the snapshot into a working
+ * database with CREATE DATABASE ... TEMPLATE, a file-level copy that takes
+ * seconds where generating takes minutes, so every test run and benchmark
+ * starts from identical data.
+ *
+ * Run from the command line to build a snapshot (and optionally a clone)
+ * on a local server:
+ *
+ * <pre>
+ * mvn -q test-compile exec:java -Dexec.classpathScope=test \
+ *   -Dexec.mainClass=com.lucknow.healthcare.dataset.DatasetSnapshot \
+ *   -Dexec.args="--url jdbc:postgresql://localhost:5432/postgres --user postgres --dataset production --clone healthcare_load"
+ * </pre>
+ *
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+public class DatasetSnapshot {
+
+    private static final Logger logger = LoggerFactory.getLogger(DatasetSnapshot.class);
+
+    /** Bump whenever the generator output changes, so old snapshots are rebuilt */
+    static final int GENERATOR_VERSION = 2;
+
+    private static final String READY = "dataset ready";
+    private static final Pattern DATABASE_IN_URL = Pattern.compile("^(jdbc:postgresql://[^/]+/)([^?]*)(.*)$");
+    private static final Pattern MIGRATION_VERSION = Pattern.compile("V(\\d+)__.*\\.sql");
+
+    private final String adminUrl;
+    private final String username;
+    private final String password;
+
+    /**
+     * @param adminUrl JDBC URL of any database on the server, used to create
+     *                 and drop databases; needs a superuser
+     */
+    public DatasetSnapshot(String adminUrl, String username, String password) {
+        this.adminUrl = adminUrl;
+        this.username = username;
+        this.password = password;
+    }
+
+    /**
+     * Builds the snapshot for the spec unless a complete one exists
+     *
+     * @return the snapshot database name
+     */
+    public String ensure(DatasetSpec spec) throws SQLException {
+        String snapshot = snapshotName(spec);
+        try (Connection admin = DriverManager.getConnection(adminUrl, username, password)) {
+            String state = databaseComment(admin, snapshot);
+            if (READY.equals(state)) {
+                logger.info("Reusing dataset snapshot {}", snapshot);
+                return snapshot;
+            }
+            try (Statement statement = admin.createStatement()) {
+                // Left over from an interrupted build
+                statement.execute("DROP DATABASE IF EXISTS " + snapshot);
+                statement.execute("CREATE DATABASE " + snapshot);
+            }
+        }
+
+        logger.info("Building dataset snapshot {} for {}", snapshot, spec);
+        String url = urlFor(snapshot);
+        Flyway.configure()
+            .dataSource(url, username, password)
+            .locations("classpath:db/migration")
+            .load()
+            .migrate();
+        try (Connection connection = DriverManager.getConnection(url, username, password)) {
+            new DatasetGenerator(spec).generate(connection);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("VACUUM ANALYZE");
+            }
+        }
+
+        try (Connection admin = DriverManager.getConnection(adminUrl, username, password);
+             Statement statement = admin.createStatement()) {
+            statement.execute("COMMENT ON DATABASE " + snapshot + " IS '" + READY + "'");
+        }
+        return snapshot;
+    }
+
+    /**
+     * Replaces {@code target} with a copy of the spec's snapshot, building
+     * the snapshot first if needed
+     *
+     * @return JDBC URL of the copy
+     */
+    public String cloneTo(DatasetSpec spec, String target) throws SQLException {
+        String snapshot = ensure(spec);
+        try (Connection admin = DriverManager.getConnection(adminUrl, username, password);
+             Statement statement = admin.createStatement()) {
+            statement.execute("DROP DATABASE IF EXISTS " + target);
+            statement.execute("CREATE DATABASE " + target + " TEMPLATE " + snapshot);
+        }
+        logger.info("Cloned dataset snapshot {} into {}", snapshot, target);
+        return urlFor(target);
+    }
+
+    public String urlFor(String database) {
+        Matcher matcher = DATABASE_IN_URL.matcher(adminUrl);
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Not a PostgreSQL JDBC URL: " + adminUrl);
+        }
+        return matcher.group(1) + database + matcher.group(3);
+    }
+
+    /**
+     * dataset_&lt;spec key&gt;_v&lt;latest migration&gt;_g&lt;generator version&gt;
+     */
+    public static String snapshotName(DatasetSpec spec) {
+        return "dataset_" + spec.key() + "_v" + latestMigration() + "_g" + GENERATOR_VERSION;
+    }
+
+    static int latestMigration() {
+        try {
+            int latest = 0;
+            for (Resource resource : new PathMatchingResourcePatternResolver().getResources("classpath*:db/migration/V*.sql")) {
+                Matcher matcher = MIGRATION_VERSION.matcher(resource.getFilename());
+                if (matcher.matches()) {
+                    latest = Math.max(latest, Integer.parseInt(matcher.group(1)));
+                }
+            }
+            return latest;
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot list the migrations", e);
+        }
+    }
+
+    private static String databaseComment(Connection admin, String database) throws SQLException {
+        try (PreparedStatement statement = admin.prepareStatement(
+                "SELECT shobj_description(oid, 'pg_database') FROM pg_database WHERE datname = ?")) {
+            statement.setString(1, database);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() ? rs.getString(1) : null;
+            }
+        }
+    }
+
+    public static void main(String[] args) throws SQLException {
+        String url = null;
+        String user = "postgres";
+        String password = "";
+        String clone = null;
+        DatasetSpec spec = DatasetSpec.PRODUCTION;
+        Long seed = null;
+        Integer bookings = null;
+        for (int i = 0; i < args.length; i++) {
+            String value = i + 1 < args.length ? args[i + 1] : null;
+            switch (args[i]) {
+                case "--url" -> url = value;
+                case "--user" -> user = value;
+                case "--password" -> password = value;
+                case "--dataset" -> spec = DatasetSpec.named(value);
+                case "--seed" -> seed = Long.parseLong(value);
+                case "--bookings" -> bookings = Integer.parseInt(value);
+                case "--clone" -> clone = value;
+                default -> throw new IllegalArgumentException("Unknown option " + args[i]
+                    + "; use --url --user --password --dataset --seed --bookings --clone");
+            }
+            i++;
+        }
+        if (url == null) {
+            throw new IllegalArgumentException("--url is required (any database on the target server)");
+        }
+        if (seed != null) {
+            spec = spec.withSeed(seed);
+        }
+        if (bookings != null) {
+            spec = spec.withBookings(bookings);
+        }
+
+        DatasetSnapshot snapshot = new DatasetSnapshot(url, user, password);
+        if (clone != null) {
+            System.out.println(snapshot.cloneTo(spec, clone));
+        } else {
+            System.out.println(snapshot.urlFor(snapshot.ensure(spec)));
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.lucknow.healthcare.dataset;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Size, seed and anchor month of a generated dataset
+ *
+ * The same spec always produces the same rows. Bookings span
+ * {@link #MONTHS_BACK} months before the anchor month and
+ * {@link #MONTHS_AHEAD} months from it; the first day of the anchor month
+ * is "today" for statuses. The anchor defaults to the current month, so
+ * snapshots are rebuilt once a month and the data stays current.
+ *
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+public final class DatasetSpec {
+
+    public static final int MONTHS_BACK = 24;
+    public static final int MONTHS_AHEAD = 6;
+
+    public static final long DEFAULT_SEED = 20240601L;
+
+    /** Quick local runs */
+    public static final DatasetSpec SMALL = new DatasetSpec("small", 2_000, 500, 20_000);
+
+    /** Query plan checks: large enough that a sequential scan shows */
+    public static final DatasetSpec MEDIUM = new DatasetSpec("medium", 20_000, 5_000, 400_000);
+
+    /** Production scale for load tests and benchmarks */
+    public static final DatasetSpec PRODUCTION = new DatasetSpec("production", 250_000, 50_000, 1_000_000);
+
+    private static final List<DatasetSpec> PRESETS = List.of(SMALL, MEDIUM, PRODUCTION);
+
+    private final String name;
+    private final int customers;
+    private final int providers;
+    private final int bookings;
+    private final long seed;
+    private final YearMonth anchor;
+
+    private DatasetSpec(String name, int customers, int providers, int bookings) {
+        this(name, customers, providers, bookings, DEFAULT_SEED, null);
+    }
+
+    private DatasetSpec(String name, int customers, int providers, int bookings, long seed, YearMonth anchor) {
+        this.name = name;
+        this.customers = customers;
+        this.providers = providers;
+        this.bookings = bookings;
+        this.seed = seed;
+        this.anchor = anchor;
+    }
+
+    /**
+     * Preset by name: small, medium or production
+     */
+    public static DatasetSpec named(String name) {
+        return PRESETS.stream()
+            .filter(spec -> spec.name.equalsIgnoreCase(name))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("Unknown dataset: " + name + " (small, medium, production)"));
+    }
+
+    public DatasetSpec withSeed(long seed) {
+        return new DatasetSpec(name, customers, providers, bookings, seed, anchor);
+    }
+
+    public DatasetSpec withAnchor(YearMonth anchor) {
+        return new DatasetSpec(name, customers, providers, bookings, seed, anchor);
+    }
+
+    public DatasetSpec withBookings(int bookings) {
+        return new DatasetSpec(name + bookings, customers, providers, bookings, seed, anchor);
+    }
+
+    /**
+     * Identifies the generated rows; part of the snapshot database name
+     */
+    public String key() {
+        return name + "_" + seed + "_" + getAnchor().format(DateTimeFormatter.ofPattern("yyyyMM"));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getCustomers() {
+        return customers;
+    }
+
+    public int getProviders() {
+        return providers;
+    }
+
+    public int getBookings() {
+        return bookings;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public YearMonth getAnchor() {
+        return anchor != null ? anchor : YearMonth.now();
+    }
+
+    @Override
+    public String toString() {
+        return key() + " (" + customers + " customers, " + providers + " providers, " + bookings + " bookings)";
+    }
+}
@@ -0,0 +1,76 @@
+package com.lucknow.healthcare.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ReadWriteRoutingDataSource
+ *
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replicaConnection = mock(Connection.class);
+
+    @AfterEach
+    void clearReadOnly() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void getConnection_RoutesReadOnlyTransactionsToReplica() throws SQLException {
+        ReplicaPool replica = new ReplicaPool("replica-1", dataSource(replicaConnection));
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(dataSource(primaryConnection), List.of(replica));
+
+        assertSame(primaryConnection, routing.getConnection());
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertSame(replicaConnection, routing.getConnection());
+    }
+
+    @Test
+    void getConnection_SkipsLaggingReplica() throws SQLException {
+        ReplicaPool lagging = new ReplicaPool("replica-1", dataSource(mock(Connection.class)));
+        lagging.setAvailable(false);
+        ReplicaPool current = new ReplicaPool("replica-2", dataSource(replicaConnection));
+        ReadWriteRoutingDataSource routing =
+            new ReadWriteRoutingDataSource(dataSource(primaryConnection), List.of(lagging, current));
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        for (int i = 0; i < 4; i++) {
+            assertSame(replicaConnection, routing.getConnection());
+        }
+    }
+
+    @Test
+    void getConnection_FallsBackToPrimaryWhenReplicaRefuses() throws SQLException {
+        DataSource down = mock(DataSource.class);
+        when(down.getConnection()).thenThrow(new SQLException("Connection refused"));
+        ReplicaPool replica = new ReplicaPool("replica-1", down);
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(dataSource(primaryConnection), List.of(replica));
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertSame(primaryConnection, routing.getConnection());
+        assertFalse(replica.isAvailable());
+
+        routing.getConnection();
+        verify(down, times(1)).getConnection();
+    }
+
+    private static DataSource dataSource(Connection connection) throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        return dataSource;
+    }
+}
@@ -0,0 +1,92 @@
+package com.lucknow.healthcare.dispatch;
+
+import com.lucknow.healthcare.entity.Booking;
+import com.lucknow.healthcare.entity.Provider;
+import com.lucknow.healthcare.entity.Service;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for DispatchPlanner
+ *
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+class DispatchPlannerTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 3, 10);
+
+    private final DispatchPlanner planner = new DispatchPlanner(new DispatchProperties.Weights(), ZoneOffset.UTC);
+    private final Service nursing = service();
+
+    @Test
+    void plan_PrefersHigherRatedProviderAndSpreadsOverlappingBookings() {
+        Provider senior = provider(4.9, 12);
+        Provider junior = provider(3.5, 1);
+        Booking first = booking(LocalTime.of(10, 0));
+        Booking overlapping = booking(LocalTime.of(11, 0));
+
+        DispatchPlan plan = planner.plan(List.of(first, overlapping),
+            Map.of(nursing.getId(), List.of(junior, senior)), new HashMap<>());
+
+        assertEquals(2, plan.getAssignments().size());
+        assertEquals(senior.getId(), plan.getAssignments().get(0).getProviderId());
+        assertEquals(junior.getId(), plan.getAssignments().get(1).getProviderId());
+    }
+
+    @Test
+    void plan_TouchingExistingReservation_ReportsNoFreeProvider() {
+        Provider only = provider(4.5, 5);
+        Map<UUID, ProviderSchedule> schedules = new HashMap<>();
+        ProviderSchedule schedule = new ProviderSchedule();
+        long eightAm = DAY.atTime(8, 0).toEpochSecond(ZoneOffset.UTC) / 60;
+        schedule.add(eightAm, eightAm + 120);
+        schedules.put(only.getId(), schedule);
+
+        DispatchPlan plan = planner.plan(List.of(booking(LocalTime.of(10, 0))),
+            Map.of(nursing.getId(), List.of(only)), schedules);
+
+        assertTrue(plan.getAssignments().isEmpty());
+        assertEquals(DispatchPlan.UnassignedReason.NO_FREE_PROVIDER, plan.getUnassigned().get(0).getReason());
+    }
+
+    @Test
+    void plan_ServiceWithoutProviders_ReportsNoEligibleProvider() {
+        DispatchPlan plan = planner.plan(List.of(booking(LocalTime.of(9, 0))), Map.of(), new HashMap<>());
+
+        assertEquals(DispatchPlan.UnassignedReason.NO_ELIGIBLE_PROVIDER, plan.getUnassigned().get(0).getReason());
+    }
+
+    private Booking booking(LocalTime time) {
+        Booking booking = new Booking();
+        booking.setId(UUID.randomUUID());
+        booking.setService(nursing);
+        booking.setScheduledDate(DAY);
+        booking.setScheduledTime(time);
+        booking.setDuration(2);
+        return booking;
+    }
+
+    private static Provider provider(double rating, int experience) {
+        Provider provider = new Provider();
+        provider.setId(UUID.randomUUID());
+        provider.setRating(rating);
+        provider.setExperience(experience);
+        return provider;
+    }
+
+    private static Service service() {
+        Service service = new Service();
+        service.setId(UUID.randomUUID());
+        return service;
+    }
+}
@@ -0,0 +1,109 @@
+package com.lucknow.healthcare.execution;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for AdmissionControlFilter and ExecutionMode
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+class AdmissionControlFilterTest {
+    
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    
+    private AdmissionControlFilter filter(int limit) {
+        ExecutionProperties properties = new ExecutionProperties();
+        properties.setMaxConcurrentRequests(limit);
+        properties.setAdmissionTimeout(Duration.ofMillis(50));
+        return new AdmissionControlFilter(properties, 20, meterRegistry);
+    }
+    
+    @Test
+    void resolveMaxConcurrentRequests_Unset_DerivesFromPoolSize() {
+        ExecutionProperties properties = new ExecutionProperties();
+        
+        assertEquals(40, properties.resolveMaxConcurrentRequests(20));
+        properties.setRequestsPerConnection(3);
+        assertEquals(30, properties.resolveMaxConcurrentRequests(10));
+        properties.setMaxConcurrentRequests(150);
+        assertEquals(150, properties.resolveMaxConcurrentRequests(10));
+    }
+    
+    @Test
+    void doFilter_AtLimit_RejectsWithServiceUnavailable() throws Exception {
+        AdmissionControlFilter filter = filter(1);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService caller = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> running = caller.submit(() -> {
+                filter.doFilter(new MockHttpServletRequest("GET", "/bookings"), new MockHttpServletResponse(),
+                    (request, response) -> {
+                        entered.countDown();
+                        try {
+                            release.await(5, TimeUnit.SECONDS);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    });
+                return null;
+            });
+            assertTrue(entered.await(5, TimeUnit.SECONDS));
+            
+            MockHttpServletResponse rejected = new MockHttpServletResponse();
+            MockFilterChain chain = new MockFilterChain();
+            filter.doFilter(new MockHttpServletRequest("GET", "/bookings"), rejected, chain);
+            
+            assertEquals(503, rejected.getStatus());
+            assertEquals("1", rejected.getHeader("Retry-After"));
+            assertNull(chain.getRequest());
+            assertEquals(1.0, meterRegistry.get("http.admission.rejected").counter().count());
+            
+            release.countDown();
+            running.get(5, TimeUnit.SECONDS);
+            MockFilterChain next = new MockFilterChain();
+            filter.doFilter(new MockHttpServletRequest("GET", "/bookings"), new MockHttpServletResponse(), next);
+            assertNotNull(next.getRequest());
+        } finally {
+            release.countDown();
+            caller.shutdownNow();
+        }
+    }
+    
+    @Test
+    void doFilter_ActuatorRequest_BypassesLimit() throws Exception {
+        AdmissionControlFilter filter = filter(0);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/actuator/health");
+        request.setServletPath("/actuator/health");
+        MockFilterChain chain = new MockFilterChain();
+        
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        
+        assertNotNull(chain.getRequest());
+    }
+    
+    @Test
+    void resolve_FollowsRequestAndRuntimeSupport() {
+        assertEquals(ExecutionMode.PLATFORM, ExecutionMode.resolve(false));
+        assertEquals(ExecutionMode.virtualThreadsSupported() ? ExecutionMode.VIRTUAL : ExecutionMode.PLATFORM,
+            ExecutionMode.resolve(true));
+        
+        Thread thread = ExecutionMode.PLATFORM.threadFactory("outbound-test").newThread(() -> { });
+        assertEquals("outbound-test-1", thread.getName());
+        assertTrue(thread.isDaemon());
+    }
+}
@@ -0,0 +1,91 @@
+package com.lucknow.healthcare.geo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for GeoGrid and Gazetteer
+ *
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+class GeoGridTest {
+
+    private static final UUID NURSING = UUID.randomUUID();
+    private static final UUID PHYSIO = UUID.randomUUID();
+
+    @Test
+    void nearest_MatchesBruteForceAcrossCellSizes() {
+        Random random = new Random(42);
+        List<GeoGrid.Entry> entries = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            entries.add(new GeoGrid.Entry(UUID.randomUUID(),
+                26.70 + random.nextDouble() * 0.30, 80.80 + random.nextDouble() * 0.35,
+                Set.of(i % 3 == 0 ? PHYSIO : NURSING)));
+        }
+
+        for (double cellKm : new double[] {0.25, 1.0, 5.0}) {
+            GeoGrid grid = new GeoGrid(entries, cellKm);
+            for (int q = 0; q < 50; q++) {
+                // Some origins fall outside the populated area
+                GeoPoint origin = new GeoPoint(26.60 + random.nextDouble() * 0.50, 80.70 + random.nextDouble() * 0.55);
+                UUID serviceId = q % 2 == 0 ? null : PHYSIO;
+
+                List<GeoGrid.Match> expected = bruteForce(entries, origin, 10, serviceId);
+                List<GeoGrid.Match> actual = grid.nearest(origin, 10, serviceId);
+
+                assertEquals(expected.size(), actual.size());
+                for (int i = 0; i < expected.size(); i++) {
+                    assertEquals(expected.get(i).getDistanceKm(), actual.get(i).getDistanceKm(), 1e-9,
+                                 "cell " + cellKm + " rank " + i);
+                }
+            }
+        }
+    }
+
+    @Test
+    void nearest_FewerMatchingEntriesThanRequested_ReturnsAllOfThem() {
+        GeoGrid grid = new GeoGrid(List.of(
+            new GeoGrid.Entry(UUID.randomUUID(), 26.85, 80.95, Set.of(NURSING)),
+            new GeoGrid.Entry(UUID.randomUUID(), 26.90, 80.94, Set.of(PHYSIO))), 1.0);
+
+        List<GeoGrid.Match> matches = grid.nearest(new GeoPoint(26.85, 80.95), 5, PHYSIO);
+
+        assertEquals(1, matches.size());
+        assertTrue(grid.nearest(new GeoPoint(26.85, 80.95), 5, UUID.randomUUID()).isEmpty());
+        assertTrue(new GeoGrid(List.of(), 1.0).nearest(new GeoPoint(26.85, 80.95), 5, null).isEmpty());
+    }
+
+    @Test
+    void gazetteer_LocatesLocalityAliasAndPinCode() {
+        Gazetteer gazetteer = new Gazetteer(new org.springframework.core.io.ClassPathResource("geo/lucknow-gazetteer.csv"));
+
+        GeoPoint extension = gazetteer.geocode("B-12, Gomti Nagar Extension, Lucknow").orElseThrow();
+        GeoPoint gomtiNagar = gazetteer.geocode("5/110 Vipul Khand, gomtinagar").orElseThrow();
+        GeoPoint byPin = gazetteer.geocode("House 7, Lucknow 226024").orElseThrow();
+
+        assertNotEquals(gomtiNagar.getLatitude(), extension.getLatitude());
+        assertEquals(26.8930, byPin.getLatitude(), 1e-9);
+        assertTrue(gazetteer.geocode("Somewhere else entirely").isEmpty());
+    }
+
+    private List<GeoGrid.Match> bruteForce(List<GeoGrid.Entry> entries, GeoPoint origin, int k, UUID serviceId) {
+        List<GeoGrid.Match> all = new ArrayList<>();
+        for (GeoGrid.Entry entry : entries) {
+            if (serviceId == null || entry.getServiceIds().contains(serviceId)) {
+                all.add(new GeoGrid.Match(entry.getProviderId(),
+                    GeoPoint.distanceKm(origin.getLatitude(), origin.getLongitude(), entry.getLatitude(), entry.getLongitude())));
+            }
+        }
+        all.sort(Comparator.comparingDouble(GeoGrid.Match::getDistanceKm));
+        return all.subList(0, Math.min(k, all.size()));
+    }
+}
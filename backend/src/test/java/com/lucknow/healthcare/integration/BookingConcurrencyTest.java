@@ -0,0 +1,224 @@
+package com.lucknow.healthcare.integration;
+
+import com.lucknow.healthcare.entity.Booking;
+import com.lucknow.healthcare.entity.Provider;
+import com.lucknow.healthcare.entity.Service;
+import com.lucknow.healthcare.entity.ServiceCategory;
+import com.lucknow.healthcare.entity.User;
+import com.lucknow.healthcare.enums.AvailabilityStatus;
+import com.lucknow.healthcare.enums.BookingStatus;
+import com.lucknow.healthcare.enums.UserRole;
+import com.lucknow.healthcare.enums.UserStatus;
+import com.lucknow.healthcare.repository.BookingRepository;
+import com.lucknow.healthcare.repository.ProviderRepository;
+import com.lucknow.healthcare.repository.ServiceCategoryRepository;
+import com.lucknow.healthcare.repository.ServiceRepository;
+import com.lucknow.healthcare.repository.UserRepository;
+import com.lucknow.healthcare.service.interfaces.BookingService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Concurrency stress tests for booking state transitions
+ *
+ * Fires parallel transitions at the same rows against a real PostgreSQL
+ * instance, with the schema built by the Flyway migrations, and checks
+ * that exactly one of them wins.
+ * Skipped when Docker is not available.
+ *
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+class BookingConcurrencyTest {
+
+    private static final int CALLERS = 8;
+
+    @Container
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.hikari.maximum-pool-size", () -> CALLERS + 4);
+        registry.add("spring.jpa.show-sql", () -> false);
+        // The schema comes from the migrations so the reservation exclusion constraint exists
+        registry.add("spring.flyway.enabled", () -> true);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+    }
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private ProviderRepository providerRepository;
+
+    @Autowired
+    private ServiceRepository serviceRepository;
+
+    @Autowired
+    private ServiceCategoryRepository categoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void acceptBooking_ParallelCallers_ExactlyOneWins() throws Exception {
+        Booking booking = createBooking(BookingStatus.PENDING, LocalTime.of(10, 0));
+
+        List<Outcome> outcomes = race(CALLERS, () -> bookingService.acceptBooking(booking.getId()));
+
+        assertEquals(1, outcomes.stream().filter(Outcome::succeeded).count());
+        outcomes.stream().filter(o -> !o.succeeded()).forEach(o ->
+            assertTrue(o.error instanceof IllegalArgumentException || o.error instanceof IllegalStateException,
+                       "unexpected failure: " + o.error));
+
+        Booking reloaded = bookingRepository.findById(booking.getId()).orElseThrow();
+        assertEquals(BookingStatus.CONFIRMED, reloaded.getStatus());
+        assertEquals(booking.getVersion() + 1, reloaded.getVersion());
+    }
+
+    @Test
+    void assignProvider_SameProviderToOverlappingBookings_ExactlyOneWins() throws Exception {
+        Provider provider = createProvider();
+        List<Booking> bookings = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            bookings.add(createBooking(BookingStatus.CONFIRMED, LocalTime.of(14, 0)));
+        }
+
+        List<Callable<Booking>> calls = new ArrayList<>();
+        for (Booking booking : bookings) {
+            calls.add(() -> bookingService.assignProvider(booking.getId(), provider));
+        }
+        List<Outcome> outcomes = race(calls);
+
+        assertEquals(1, outcomes.stream().filter(Outcome::succeeded).count());
+        assertEquals(1, bookingRepository.findByProviderAndStatusIn(provider, List.of(BookingStatus.CONFIRMED)).size());
+    }
+
+    private List<Outcome> race(int callers, Callable<Booking> call) throws Exception {
+        List<Callable<Booking>> calls = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            calls.add(call);
+        }
+        return race(calls);
+    }
+
+    private List<Outcome> race(List<Callable<Booking>> calls) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(calls.size());
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Booking>> futures = new ArrayList<>();
+            for (Callable<Booking> call : calls) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    return call.call();
+                }));
+            }
+            start.countDown();
+
+            List<Outcome> outcomes = new ArrayList<>();
+            for (Future<Booking> future : futures) {
+                try {
+                    future.get(30, TimeUnit.SECONDS);
+                    outcomes.add(new Outcome(null));
+                } catch (java.util.concurrent.ExecutionException e) {
+                    outcomes.add(new Outcome(e.getCause()));
+                }
+            }
+            return outcomes;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private Booking createBooking(BookingStatus status, LocalTime time) {
+        Service service = serviceRepository.findAll().stream().findFirst().orElseGet(this::createService);
+
+        User user = new User();
+        user.setName("Concurrency Customer");
+        user.setEmail("customer-" + UUID.randomUUID() + "@test.com");
+        user.setPassword("password123");
+        user.setPhone("9876543210");
+        user.setRole(UserRole.CUSTOMER);
+        user.setStatus(UserStatus.ACTIVE);
+        user = userRepository.save(user);
+
+        Booking booking = new Booking();
+        booking.setUser(user);
+        booking.setService(service);
+        booking.setStatus(status);
+        booking.setScheduledDate(LocalDate.now().plusDays(3));
+        booking.setScheduledTime(time);
+        booking.setDuration(2);
+        booking.setTotalAmount(new BigDecimal("500.00"));
+        return bookingRepository.save(booking);
+    }
+
+    private Service createService() {
+        ServiceCategory category = new ServiceCategory();
+        category.setName("Nursing");
+        category = categoryRepository.save(category);
+
+        Service service = new Service();
+        service.setCategory(category);
+        service.setName("Nursing Care");
+        service.setPrice(new BigDecimal("500.00"));
+        service.setDuration(60);
+        service.setIsActive(true);
+        return serviceRepository.save(service);
+    }
+
+    private Provider createProvider() {
+        Provider provider = new Provider();
+        provider.setName("Concurrency Provider");
+        provider.setEmail("provider-" + UUID.randomUUID() + "@test.com");
+        provider.setPhone("9876543211");
+        provider.setQualification("GNM");
+        provider.setExperience(4);
+        provider.setAvailabilityStatus(AvailabilityStatus.AVAILABLE);
+        return providerRepository.save(provider);
+    }
+
+    private static final class Outcome {
+
+        private final Throwable error;
+
+        private Outcome(Throwable error) {
+            this.error = error;
+        }
+
+        boolean succeeded() {
+            return error == null;
+        }
+    }
+}
@@ -0,0 +1,292 @@
+package com.lucknow.healthcare.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lucknow.healthcare.dataset.DatasetContainer;
+import com.lucknow.healthcare.dataset.DatasetSnapshot;
+import com.lucknow.healthcare.dataset.DatasetSpec;
+import com.lucknow.healthcare.entity.Payment;
+import com.lucknow.healthcare.entity.Provider;
+import com.lucknow.healthcare.entity.User;
+import com.lucknow.healthcare.enums.BookingStatus;
+import com.lucknow.healthcare.repository.BookingRepository;
+import com.lucknow.healthcare.repository.PaymentRepository;
+import com.lucknow.healthcare.repository.ProviderRepository;
+import com.lucknow.healthcare.repository.UserRepository;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Query plan checks for the hot repository queries
+ *
+ * Runs against a copy of the generated MEDIUM dataset (400,000 bookings in
+ * a schema built by the Flyway migrations; see {@link DatasetSnapshot}).
+ * Each hot repository query is executed, the SQL Hibernate generated for it
+ * is captured, and that SQL is replayed under EXPLAIN (ANALYZE). A query fails the test when its plan reads a large
+ * bookings, providers or payments relation with a sequential scan, which
+ * means an index it relied on is missing or no longer matches its shape.
+ * Skipped when Docker is not available.
+ *
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanTest {
+
+    private static final List<String> HOT_TABLES = List.of("bookings", "providers", "payments");
+
+    /**
+     * Relations smaller than this (empty future months, the default
+     * partitions) may be scanned; the planner is right to do so
+     */
+    private static final long SCAN_TOLERANCE_ROWS = 1_000;
+
+    private static final List<BookingStatus> OPEN_STATUSES = List.of(
+        BookingStatus.PENDING, BookingStatus.CONFIRMED, BookingStatus.IN_PROGRESS, BookingStatus.RESCHEDULED);
+
+    private static String datasetUrl;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", QueryPlanTest::datasetUrl);
+        registry.add("spring.datasource.username", () -> DatasetContainer.get().getUsername());
+        registry.add("spring.datasource.password", () -> DatasetContainer.get().getPassword());
+        registry.add("spring.jpa.show-sql", () -> false);
+        // The copy is already migrated; Flyway only validates it
+        registry.add("spring.flyway.enabled", () -> true);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.jpa.properties.hibernate.session_factory.statement_inspector",
+                     () -> SqlCapture.class.getName());
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private ProviderRepository providerRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final Map<String, Long> relationRows = new HashMap<>();
+
+    private LocalDate today;
+    private User customer;
+    private Provider provider;
+    private UUID payingCustomerId;
+    private UUID serviceId;
+
+    private static synchronized String datasetUrl() {
+        if (datasetUrl == null) {
+            datasetUrl = DatasetContainer.cloneTo(DatasetSpec.MEDIUM, "query_plan");
+        }
+        return datasetUrl;
+    }
+
+    @BeforeAll
+    void loadFixtures() {
+        // The snapshot was analyzed before it was copied, so the statistics are in place
+        jdbcTemplate.query("SELECT relname, reltuples::bigint FROM pg_class WHERE relkind IN ('r', 'p')",
+            rs -> {
+                relationRows.put(rs.getString(1), rs.getLong(2));
+            });
+
+        today = LocalDate.now();
+        customer = userRepository.findById(jdbcTemplate.queryForObject(
+            "SELECT user_id FROM bookings WHERE scheduled_date >= current_date LIMIT 1", UUID.class)).orElseThrow();
+        provider = providerRepository.findById(jdbcTemplate.queryForObject(
+            "SELECT provider_id FROM bookings WHERE scheduled_date >= current_date AND provider_id IS NOT NULL LIMIT 1",
+            UUID.class)).orElseThrow();
+        payingCustomerId = jdbcTemplate.queryForObject("SELECT customer_id FROM payments LIMIT 1", UUID.class);
+        serviceId = jdbcTemplate.queryForObject("SELECT service_id FROM provider_services LIMIT 1", UUID.class);
+    }
+
+    @Test
+    void bookingsNeedingProviderAssignment() {
+        assertNoSequentialScan(() -> bookingRepository.findBookingsNeedingProviderAssignment());
+        assertNoSequentialScan(() -> bookingRepository.findBookingsNeedingProviderAssignmentFrom(today), today);
+    }
+
+    @Test
+    void unassignedBookings() {
+        assertNoSequentialScan(() -> bookingRepository.findUnassignedBookings());
+        assertNoSequentialScan(() -> bookingRepository.findUnassignedBookingsFrom(today), today);
+    }
+
+    @Test
+    void upcomingBookings() {
+        assertNoSequentialScan(() -> bookingRepository.findUpcomingBookingsByUser(customer, today),
+                               customer.getId(), today);
+        assertNoSequentialScan(() -> bookingRepository.findUpcomingBookingsByProvider(provider, today),
+                               provider.getId(), today);
+    }
+
+    @Test
+    void providerBookingsByStatus() {
+        List<BookingStatus> statuses = List.of(BookingStatus.PENDING, BookingStatus.CONFIRMED);
+        assertNoSequentialScan(() -> bookingRepository.findByProviderAndStatusIn(provider, statuses),
+                               provider.getId(), statuses);
+    }
+
+    @Test
+    void openBookingCounts() {
+        LocalDate from = today.minusMonths(3).withDayOfMonth(1);
+        assertNoSequentialScan(() -> bookingRepository.countByStatusInAndScheduledDateGreaterThanEqual(OPEN_STATUSES, from),
+                               OPEN_STATUSES, from);
+    }
+
+    @Test
+    void bookableProviders() {
+        assertNoSequentialScan(() -> providerRepository.countAvailableAndVerifiedProviders());
+        assertNoSequentialScan(() -> providerRepository.findAvailableVerifiedProvidersByService(serviceId), serviceId);
+    }
+
+    @Test
+    void customerPayments() {
+        assertNoSequentialScan(() -> paymentRepository.findByCustomerIdAndPaymentStatus(
+            payingCustomerId, Payment.PaymentStatus.SUCCESS), payingCustomerId, Payment.PaymentStatus.SUCCESS);
+        assertNoSequentialScan(() -> paymentRepository.calculateTotalPaidAmount(
+            payingCustomerId, Payment.PaymentStatus.SUCCESS), payingCustomerId, Payment.PaymentStatus.SUCCESS);
+    }
+
+    /**
+     * Runs the query, then explains the first statement it issued with the
+     * given bind values (in the order they appear in the SQL). Statements
+     * loading eager associations by id come after it and are not checked.
+     */
+    private void assertNoSequentialScan(Runnable query, Object... parameters) {
+        SqlCapture.start();
+        List<String> statements;
+        try {
+            query.run();
+        } finally {
+            statements = SqlCapture.stop();
+        }
+        assertFalse(statements.isEmpty(), "query issued no SQL");
+
+        // Drop the leading /* JPQL */ comment (use_sql_comments) before binding
+        String sql = bind(statements.get(0).replaceFirst("(?s)^/\\*.*?\\*/\\s*", ""), flatten(parameters));
+        JsonNode plan;
+        try {
+            plan = objectMapper.readTree(jdbcTemplate.queryForObject("EXPLAIN (ANALYZE, FORMAT JSON) " + sql, String.class));
+        } catch (Exception e) {
+            throw new AssertionError("could not explain " + sql, e);
+        }
+
+        List<String> scans = new ArrayList<>();
+        collectSequentialScans(plan.get(0).get("Plan"), scans);
+        assertTrue(scans.isEmpty(), "sequential scan on " + scans + " for " + sql + "\n" + plan.toPrettyString());
+    }
+
+    private void collectSequentialScans(JsonNode node, List<String> scans) {
+        if ("Seq Scan".equals(node.path("Node Type").asText())) {
+            String relation = node.path("Relation Name").asText();
+            if (isHotRelation(relation) && relationRows.getOrDefault(relation, 0L) >= SCAN_TOLERANCE_ROWS) {
+                scans.add(relation);
+            }
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectSequentialScans(child, scans);
+        }
+    }
+
+    private static boolean isHotRelation(String relation) {
+        return HOT_TABLES.stream().anyMatch(table -> relation.equals(table) || relation.startsWith(table + "_"));
+    }
+
+    private static List<Object> flatten(Object... parameters) {
+        List<Object> values = new ArrayList<>();
+        for (Object parameter : parameters) {
+            if (parameter instanceof Collection<?> collection) {
+                values.addAll(collection);
+            } else {
+                values.add(parameter);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Inlines the bind values as literals; PostgreSQL resolves their types
+     * from the columns they are compared with, as it does for parameters
+     */
+    private static String bind(String sql, List<Object> values) {
+        StringBuilder bound = new StringBuilder();
+        int next = 0;
+        for (char c : sql.toCharArray()) {
+            if (c != '?') {
+                bound.append(c);
+                continue;
+            }
+            assertTrue(next < values.size(), "more parameters than values in " + sql);
+            Object value = values.get(next++);
+            if (value instanceof Number || value instanceof Boolean) {
+                bound.append(value);
+            } else {
+                String text = value instanceof Enum<?> e ? e.name() : String.valueOf(value);
+                bound.append('\'').append(text.replace("'", "''")).append('\'');
+            }
+        }
+        assertEquals(values.size(), next, "unused values for " + sql);
+        return bound.toString();
+    }
+
+    /**
+     * Records the SQL Hibernate prepares on the current thread while a
+     * capture is running
+     */
+    public static class SqlCapture implements StatementInspector {
+
+        private static final ThreadLocal<List<String>> CAPTURED = new ThreadLocal<>();
+
+        static void start() {
+            CAPTURED.set(new ArrayList<>());
+        }
+
+        static List<String> stop() {
+            List<String> statements = CAPTURED.get();
+            CAPTURED.remove();
+            return statements;
+        }
+
+        @Override
+        public String inspect(String sql) {
+            List<String> statements = CAPTURED.get();
+            if (statements != null) {
+                statements.add(sql);
+            }
+            return sql;
+        }
+    }
+}
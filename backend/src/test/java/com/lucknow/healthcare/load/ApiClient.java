@@ -0,0 +1,107 @@
+package com.lucknow.healthcare.load;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * One user's session against the backend
+ *
+ * Sends JSON requests with the session's bearer token and records each
+ * one in {@link LoadStats} under the endpoint name the caller gives. A
+ * response outside 2xx, a timeout or a connection error counts as an
+ * error and ends the journey with an {@link IllegalStateException}.
+ *
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+class ApiClient {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient http;
+    private final String baseUrl;
+    private final ObjectMapper mapper;
+    private final LoadStats stats;
+
+    private String token;
+
+    ApiClient(HttpClient http, String baseUrl, ObjectMapper mapper, LoadStats stats) {
+        this.http = http;
+        this.baseUrl = baseUrl;
+        this.mapper = mapper;
+        this.stats = stats;
+    }
+
+    void setToken(String token) {
+        this.token = token;
+    }
+
+    JsonNode get(String endpoint, String path) {
+        return send(endpoint, request(path).GET());
+    }
+
+    JsonNode post(String endpoint, String path, Object body) {
+        String json;
+        try {
+            json = body == null ? "" : mapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize request body for " + endpoint, e);
+        }
+        return send(endpoint, request(path).POST(HttpRequest.BodyPublishers.ofString(json)));
+    }
+
+    private HttpRequest.Builder request(String path) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .timeout(TIMEOUT)
+            .header("Content-Type", "application/json")
+            .header("Accept", "application/json");
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private JsonNode send(String endpoint, HttpRequest.Builder request) {
+        long started = System.nanoTime();
+        HttpResponse<String> response;
+        try {
+            response = http.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            stats.record(endpoint, System.nanoTime() - started, false);
+            throw new IllegalStateException(endpoint + " failed: " + e, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(endpoint + " interrupted", e);
+        }
+
+        int status = response.statusCode();
+        boolean success = status >= 200 && status < 300;
+        stats.record(endpoint, System.nanoTime() - started, success);
+        if (!success) {
+            throw new IllegalStateException(endpoint + " returned " + status + ": " + abbreviate(response.body()));
+        }
+
+        String body = response.body();
+        if (body == null || body.isBlank()) {
+            return MissingNode.getInstance();
+        }
+        try {
+            return mapper.readTree(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(endpoint + " returned a body that is not JSON: " + abbreviate(body), e);
+        }
+    }
+
+    private static String abbreviate(String body) {
+        return body == null || body.length() <= 200 ? body : body.substring(0, 200) + "...";
+    }
+}
@@ -0,0 +1,147 @@
+package com.lucknow.healthcare.load;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Latencies and outcomes per endpoint for one load test run
+ *
+ * Endpoints are keyed by method and path template ("POST /bookings/{id}/accept"),
+ * not by the concrete URL. Every latency is kept, so percentiles are exact;
+ * a run of a few hundred thousand requests needs a few megabytes. Nothing
+ * is recorded until {@link #startMeasuring()}, which lets a run warm up
+ * the backend first.
+ *
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+class LoadStats {
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private final AtomicLong journeysCompleted = new AtomicLong();
+    private final AtomicLong journeysFailed = new AtomicLong();
+
+    private volatile boolean measuring;
+    private volatile long measuringSince;
+    private volatile long measuringUntil;
+
+    void startMeasuring() {
+        measuringSince = System.nanoTime();
+        measuring = true;
+    }
+
+    void stopMeasuring() {
+        measuringUntil = System.nanoTime();
+        measuring = false;
+    }
+
+    void record(String endpoint, long nanos, boolean success) {
+        if (measuring) {
+            endpoints.computeIfAbsent(endpoint, key -> new Endpoint()).add(nanos, success);
+        }
+    }
+
+    void journeyCompleted() {
+        if (measuring) {
+            journeysCompleted.incrementAndGet();
+        }
+    }
+
+    void journeyFailed() {
+        if (measuring) {
+            journeysFailed.incrementAndGet();
+        }
+    }
+
+    double measuredSeconds() {
+        long until = measuring ? System.nanoTime() : measuringUntil;
+        return (until - measuringSince) / 1e9;
+    }
+
+    /**
+     * Report body: run totals and, per endpoint in name order, requests,
+     * errors, error rate, throughput and latency percentiles in milliseconds
+     */
+    Map<String, Object> summary() {
+        double seconds = measuredSeconds();
+        Map<String, Object> perEndpoint = new LinkedHashMap<>();
+        long requests = 0;
+        long errors = 0;
+        for (Map.Entry<String, Endpoint> entry : new TreeMap<>(endpoints).entrySet()) {
+            Endpoint endpoint = entry.getValue();
+            perEndpoint.put(entry.getKey(), endpoint.summary(seconds));
+            requests += endpoint.requests();
+            errors += endpoint.errors();
+        }
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("durationSeconds", round(seconds));
+        summary.put("requests", requests);
+        summary.put("errors", errors);
+        summary.put("throughputPerSecond", round(requests / seconds));
+        summary.put("journeysCompleted", journeysCompleted.get());
+        summary.put("journeysFailed", journeysFailed.get());
+        summary.put("endpoints", perEndpoint);
+        return summary;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    private static class Endpoint {
+
+        private long[] latencies = new long[1024];
+        private int count;
+        private long errors;
+
+        synchronized void add(long nanos, boolean success) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+            if (!success) {
+                errors++;
+            }
+        }
+
+        synchronized long requests() {
+            return count;
+        }
+
+        synchronized long errors() {
+            return errors;
+        }
+
+        synchronized Map<String, Object> summary(double seconds) {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("requests", count);
+            summary.put("errors", errors);
+            summary.put("errorRate", count == 0 ? 0.0 : Math.round(errors * 10_000.0 / count) / 10_000.0);
+            summary.put("throughputPerSecond", round(count / seconds));
+            summary.put("p50Ms", percentile(sorted, 0.50));
+            summary.put("p95Ms", percentile(sorted, 0.95));
+            summary.put("p99Ms", percentile(sorted, 0.99));
+            summary.put("maxMs", count == 0 ? 0.0 : round(sorted[count - 1] / 1e6));
+            return summary;
+        }
+
+        /**
+         * Nearest-rank percentile in milliseconds
+         */
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0.0;
+            }
+            int rank = (int) Math.ceil(quantile * sorted.length);
+            return round(sorted[Math.max(rank, 1) - 1] / 1e6);
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package com.lucknow.healthcare.load;
+
+import ch.qos.logback.classic.Level;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.lucknow.healthcare.dataset.DatasetGenerator;
+import com.lucknow.healthcare.dataset.DatasetSpec;
+import com.lucknow.healthcare.enums.UserStatus;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.sync.RedisCommands;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.StreamSupport;
+
+/**
+ * End-to-end HTTP load test for the booking, payment and auth flows
+ *
+ * Drives a running backend the way the portals do: each virtual user
+ * repeats the journey in {@link VirtualUser} (OTP and password sign-in,
+ * catalog, booking, DUMMY payment, provider accept/start/complete, review)
+ * with think time between steps. The backend must serve a copy of the
+ * generated dataset given by --dataset (see DatasetSnapshot), run with
+ * PAYMENT_GATEWAY_MODE=DUMMY and TWILIO_DEVELOPMENT_MODE=true, and share
+ * the Redis passed as --redis, where OTPs are read back from.
+ *
+ * After --warmup seconds, requests are measured for --duration seconds.
+ * Throughput, error rate and p50/p95/p99 latency per endpoint are printed
+ * and written to --report; benchmarks/compare_load.py compares that
+ * report with benchmarks/load-baseline.json. scripts/load-test.sh starts
+ * the containers and the backend and runs both.
+ *
+ * <pre>
+ * mvn -q test-compile exec:java -Dexec.classpathScope=test \
+ *   -Dexec.mainClass=com.lucknow.healthcare.load.LoadTest \
+ *   -Dexec.args="--users 50 --duration 300"
+ * </pre>
+ *
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+public class LoadTest {
+
+    /** Password of every generated account */
+    static final String PASSWORD = "password123";
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = "http://localhost:8080/api";
+        String redisUri = "redis://localhost:6379";
+        DatasetSpec spec = DatasetSpec.SMALL;
+        Long seed = null;
+        int users = 20;
+        int warmupSeconds = 30;
+        int durationSeconds = 300;
+        long thinkMillis = 500;
+        Path report = Path.of("target/load-report.json");
+        for (int i = 0; i < args.length; i++) {
+            String value = i + 1 < args.length ? args[i + 1] : null;
+            switch (args[i]) {
+                case "--base-url" -> baseUrl = value;
+                case "--redis" -> redisUri = value;
+                case "--dataset" -> spec = DatasetSpec.named(value);
+                case "--seed" -> seed = Long.parseLong(value);
+                case "--users" -> users = Integer.parseInt(value);
+                case "--warmup" -> warmupSeconds = Integer.parseInt(value);
+                case "--duration" -> durationSeconds = Integer.parseInt(value);
+                case "--think-ms" -> thinkMillis = Long.parseLong(value);
+                case "--report" -> report = Path.of(value);
+                default -> throw new IllegalArgumentException("Unknown option " + args[i]
+                    + "; use --base-url --redis --dataset --seed --users --warmup --duration --think-ms --report");
+            }
+            i++;
+        }
+        if (seed != null) {
+            spec = spec.withSeed(seed);
+        }
+        // Outside Spring nothing configures Logback, which then logs Lettuce and Netty at DEBUG
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(Level.INFO);
+
+        ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        HttpClient http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+        LoadStats stats = new LoadStats();
+
+        RedisClient redisClient = RedisClient.create(redisUri);
+        try (StatefulRedisConnection<String, String> redis = redisClient.connect()) {
+            Context context = new Context(http, baseUrl, mapper, stats, redis.sync(), activeCustomers(spec),
+                                          users, thinkMillis, spec.getSeed());
+            List<VirtualUser> virtualUsers = virtualUsers(context, users);
+
+            System.out.printf("Signing in %d providers%n", users);
+            for (VirtualUser virtualUser : virtualUsers) {
+                virtualUser.signInProvider();
+            }
+
+            List<Thread> threads = new ArrayList<>();
+            for (int i = 0; i < virtualUsers.size(); i++) {
+                Thread thread = new Thread(virtualUsers.get(i), "load-user-" + i);
+                thread.start();
+                threads.add(thread);
+            }
+
+            System.out.printf("Warming up for %d s%n", warmupSeconds);
+            TimeUnit.SECONDS.sleep(warmupSeconds);
+            stats.startMeasuring();
+            Instant started = Instant.now();
+            System.out.printf("Measuring %d users for %d s%n", users, durationSeconds);
+            TimeUnit.SECONDS.sleep(durationSeconds);
+            stats.stopMeasuring();
+            context.stop();
+            for (Thread thread : threads) {
+                // Journeys in flight finish their current request; their results are no longer counted
+                thread.join(TimeUnit.SECONDS.toMillis(60));
+            }
+
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("startedAt", started.toString());
+            result.put("baseUrl", baseUrl);
+            result.put("dataset", spec.key());
+            result.put("users", users);
+            result.put("warmupSeconds", warmupSeconds);
+            result.put("thinkMillis", thinkMillis);
+            result.putAll(stats.summary());
+            print(result);
+
+            if (report.getParent() != null) {
+                Files.createDirectories(report.getParent());
+            }
+            mapper.writeValue(report.toFile(), result);
+            System.out.println("Report written to " + report);
+        } finally {
+            redisClient.shutdown();
+        }
+    }
+
+    /**
+     * Generated customers who can sign in, in index order
+     */
+    private static List<Integer> activeCustomers(DatasetSpec spec) {
+        DatasetGenerator generator = new DatasetGenerator(spec);
+        List<Integer> customers = new ArrayList<>();
+        for (int c = 0; c < spec.getCustomers(); c++) {
+            if (generator.customerStatus(c) == UserStatus.ACTIVE) {
+                customers.add(c);
+            }
+        }
+        return customers;
+    }
+
+    /**
+     * One virtual user per bookable generated provider, up to {@code users}
+     */
+    private static List<VirtualUser> virtualUsers(Context context, int users) {
+        JsonNode providers = context.newClient().get("GET /providers/available-verified", "/providers/available-verified");
+        List<JsonNode> generated = StreamSupport.stream(providers.spliterator(), false)
+            .filter(provider -> provider.path("email").asText().endsWith("@dataset.test"))
+            .sorted(Comparator.comparing(provider -> provider.path("email").asText()))
+            .toList();
+        if (generated.size() < users) {
+            throw new IllegalStateException("Only " + generated.size() + " available verified dataset providers for "
+                + users + " users; is the backend running on a generated dataset?");
+        }
+
+        List<VirtualUser> virtualUsers = new ArrayList<>();
+        for (int i = 0; i < users; i++) {
+            JsonNode provider = generated.get(i);
+            virtualUsers.add(new VirtualUser(context, i, provider.path("id").asText(), provider.path("email").asText()));
+        }
+        return virtualUsers;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void print(Map<String, Object> result) {
+        System.out.printf("%n%-52s %9s %8s %8s %9s %9s %9s%n",
+                          "Endpoint", "Requests", "Errors", "Req/s", "p50 ms", "p95 ms", "p99 ms");
+        Map<String, Map<String, Object>> endpoints = (Map<String, Map<String, Object>>) result.get("endpoints");
+        endpoints.forEach((name, endpoint) -> System.out.printf("%-52s %9d %7.2f%% %8.2f %9.1f %9.1f %9.1f%n",
+            name, endpoint.get("requests"), (double) endpoint.get("errorRate") * 100,
+            endpoint.get("throughputPerSecond"), endpoint.get("p50Ms"), endpoint.get("p95Ms"), endpoint.get("p99Ms")));
+        System.out.printf("%nTotal %d requests, %d errors, %.2f req/s; journeys %d completed, %d failed%n",
+                          result.get("requests"), result.get("errors"), result.get("throughputPerSecond"),
+                          result.get("journeysCompleted"), result.get("journeysFailed"));
+    }
+
+    /**
+     * What the virtual users share
+     */
+    static class Context {
+
+        private final HttpClient http;
+        private final String baseUrl;
+        private final ObjectMapper mapper;
+        private final LoadStats stats;
+        private final RedisCommands<String, String> redis;
+        private final List<Integer> customers;
+        private final int users;
+        private final long thinkMillis;
+        private final long seed;
+
+        private volatile boolean stopped;
+
+        Context(HttpClient http, String baseUrl, ObjectMapper mapper, LoadStats stats,
+                RedisCommands<String, String> redis, List<Integer> customers, int users, long thinkMillis, long seed) {
+            this.http = http;
+            this.baseUrl = baseUrl;
+            this.mapper = mapper;
+            this.stats = stats;
+            this.redis = redis;
+            this.customers = customers;
+            this.users = users;
+            this.thinkMillis = thinkMillis;
+            this.seed = seed;
+        }
+
+        ApiClient newClient() {
+            return new ApiClient(http, baseUrl, mapper, stats);
+        }
+
+        void stop() {
+            stopped = true;
+        }
+
+        boolean isStopped() {
+            return stopped;
+        }
+
+        LoadStats getStats() {
+            return stats;
+        }
+
+        RedisCommands<String, String> getRedis() {
+            return redis;
+        }
+
+        List<Integer> getCustomers() {
+            return customers;
+        }
+
+        int getUsers() {
+            return users;
+        }
+
+        long getThinkMillis() {
+            return thinkMillis;
+        }
+
+        long getSeed() {
+            return seed;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.lucknow.healthcare.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * One simulated customer stream paired with one provider
+ *
+ * Each iteration signs a customer in (OTP, then password), browses the
+ * catalog, books a visit, pays for it through the DUMMY gateway, has the
+ * paired provider take it from assignment to completion, and leaves a
+ * review. Customers rotate so that no two virtual users act for the same
+ * customer at once. Every booking is on its own day for the provider,
+ * since a provider cannot hold two overlapping visits.
+ *
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+class VirtualUser implements Runnable {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualUser.class);
+
+    /** Booking days ahead are cycled through, so a failed journey's leftover reservation expires */
+    private static final int BOOKING_DAYS = 180;
+
+    private final LoadTest.Context context;
+    private final int index;
+    private final String providerId;
+    private final String providerEmail;
+    private final Random random;
+
+    private ApiClient provider;
+
+    VirtualUser(LoadTest.Context context, int index, String providerId, String providerEmail) {
+        this.context = context;
+        this.index = index;
+        this.providerId = providerId;
+        this.providerEmail = providerEmail;
+        this.random = new Random(context.getSeed() * 31 + index);
+    }
+
+    /**
+     * Signs the provider in; done once, before measuring starts
+     */
+    void signInProvider() {
+        provider = context.newClient();
+        JsonNode login = provider.post("POST /auth/login", "/auth/login",
+            Map.of("email", providerEmail, "password", LoadTest.PASSWORD));
+        provider.setToken(login.path("token").asText());
+    }
+
+    @Override
+    public void run() {
+        for (int iteration = 0; !context.isStopped(); iteration++) {
+            try {
+                journey(iteration);
+                context.getStats().journeyCompleted();
+            } catch (IllegalStateException e) {
+                context.getStats().journeyFailed();
+                logger.debug("Virtual user {} journey {} failed: {}", index, iteration, e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void journey(int iteration) throws InterruptedException {
+        List<Integer> customers = context.getCustomers();
+        int customer = customers.get((index + iteration * context.getUsers()) % customers.size());
+        ApiClient api = context.newClient();
+
+        // Sign in: OTP to the phone (read back from Redis), then email and password
+        String phone = "9" + String.format("%09d", customer);
+        api.post("POST /auth/send-otp", "/auth/send-otp", Map.of("phone", phone));
+        String otp = context.getRedis().get("otp:+91" + phone);
+        if (otp == null) {
+            throw new IllegalStateException("No OTP stored for " + phone);
+        }
+        api.post("POST /auth/verify-otp", "/auth/verify-otp", Map.of("phone", phone, "otp", otp));
+        JsonNode login = api.post("POST /auth/login", "/auth/login",
+            Map.of("email", "customer" + customer + "@dataset.test", "password", LoadTest.PASSWORD));
+        api.setToken(login.path("token").asText());
+        String userId = login.path("user").path("id").asText();
+        think();
+
+        // Browse
+        JsonNode services = api.get("GET /services/active", "/services/active");
+        api.get("GET /service-categories/active", "/service-categories/active");
+        api.get("GET /bookings/user/{userId}/upcoming", "/bookings/user/" + userId + "/upcoming");
+        if (services.size() == 0) {
+            throw new IllegalStateException("No active services");
+        }
+        JsonNode service = services.get(random.nextInt(services.size()));
+        think();
+
+        // Book and pay
+        Map<String, Object> booking = new LinkedHashMap<>();
+        booking.put("user", Map.of("id", userId));
+        booking.put("service", Map.of("id", service.path("id").asText()));
+        booking.put("scheduledDate", LocalDate.now().plusDays(1 + iteration % BOOKING_DAYS).toString());
+        booking.put("scheduledTime", "10:00:00");
+        booking.put("duration", service.path("duration").asInt(1));
+        booking.put("totalAmount", service.path("price").decimalValue());
+        booking.put("specialInstructions", "Load test visit");
+        String bookingId = api.post("POST /bookings", "/bookings", booking).path("id").asText();
+        think();
+
+        JsonNode payment = api.post("POST /payments/initiate", "/payments/initiate", Map.of(
+            "bookingId", bookingId,
+            "amount", service.path("price").decimalValue(),
+            "paymentMethod", "UPI"));
+        api.post("POST /payments/verify", "/payments/verify", Map.of(
+            "transactionId", payment.path("transactionId").asText(),
+            "orderId", payment.path("orderId").asText()));
+        think();
+
+        // The provider delivers the visit
+        String bookingPath = "/bookings/" + bookingId;
+        provider.post("POST /bookings/{id}/assign-provider/{providerId}",
+                      bookingPath + "/assign-provider/" + providerId, null);
+        provider.post("POST /bookings/{id}/accept", bookingPath + "/accept", null);
+        provider.post("POST /bookings/{id}/start", bookingPath + "/start", null);
+        provider.post("POST /bookings/{id}/complete", bookingPath + "/complete", Map.of("notes", "Visit completed"));
+        think();
+
+        // Review and look back
+        api.post("POST /reviews", "/reviews", Map.of(
+            "bookingId", bookingId,
+            "rating", 3 + random.nextInt(3),
+            "comment", "Load test review"));
+        api.get("GET /payments/history", "/payments/history");
+        think();
+    }
+
+    /**
+     * Pause between steps: the configured think time, +/- 50%
+     */
+    private void think() throws InterruptedException {
+        long thinkMillis = context.getThinkMillis();
+        if (thinkMillis > 0) {
+            Thread.sleep(thinkMillis / 2 + (long) (random.nextDouble() * thinkMillis));
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.lucknow.healthcare.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SamplingTurboFilter and RequestIdFilter ID handling
+ *
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+class SamplingTurboFilterTest {
+
+    private SamplingTurboFilter filter;
+    private Logger logger;
+
+    @BeforeEach
+    void setUp() {
+        filter = new SamplingTurboFilter();
+        filter.setSampleRate(10);
+        logger = new LoggerContext().getLogger("sampling-test");
+        logger.setLevel(Level.DEBUG);
+    }
+
+    @Test
+    void decide_SampledDebugEvents_LetsOneInRateThrough() {
+        int passed = 0;
+        for (int i = 0; i < 100; i++) {
+            if (filter.decide(LogMarkers.SAMPLED, logger, Level.DEBUG, "event {}", null, null) == FilterReply.NEUTRAL) {
+                passed++;
+            }
+        }
+
+        assertEquals(10, passed);
+    }
+
+    @Test
+    void decide_UnmarkedOrWarnEvents_AreNeverSampled() {
+        for (int i = 0; i < 20; i++) {
+            assertEquals(FilterReply.NEUTRAL, filter.decide(null, logger, Level.DEBUG, "plain {}", null, null));
+            assertEquals(FilterReply.NEUTRAL, filter.decide(LogMarkers.SAMPLED, logger, Level.WARN, "warn {}", null, null));
+        }
+    }
+
+    @Test
+    void decide_DisabledLevel_DoesNotConsumeSample() {
+        logger.setLevel(Level.INFO);
+        assertEquals(FilterReply.DENY, filter.decide(LogMarkers.SAMPLED, logger, Level.DEBUG, "event {}", null, null));
+
+        logger.setLevel(Level.DEBUG);
+        assertEquals(FilterReply.NEUTRAL, filter.decide(LogMarkers.SAMPLED, logger, Level.DEBUG, "event {}", null, null));
+    }
+
+    @Test
+    void resolveRequestId_RejectsUnsafeHeaders() {
+        assertEquals("abc-123", RequestIdFilter.resolveRequestId("abc-123"));
+        assertNotEquals("bad\nid", RequestIdFilter.resolveRequestId("bad\nid"));
+        assertEquals(36, RequestIdFilter.resolveRequestId(null).length());
+    }
+}
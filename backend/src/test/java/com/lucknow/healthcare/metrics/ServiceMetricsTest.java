@@ -0,0 +1,62 @@
+package com.lucknow.healthcare.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ServiceMetrics
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+class ServiceMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ServiceMetrics serviceMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        serviceMetrics = new ServiceMetrics(meterRegistry);
+    }
+
+    @Test
+    void timed_Success_RecordsSuccessOutcome() {
+        String result = serviceMetrics.timed("booking.create", () -> "created", "channel", "web");
+
+        assertEquals("created", result);
+        assertEquals(1, meterRegistry.get("booking.create")
+            .tag("outcome", "success").tag("channel", "web").timer().count());
+    }
+
+    @Test
+    void timed_BusinessRuleViolation_RecordsRejectedOutcomeAndRethrows() {
+        assertThrows(IllegalStateException.class, () -> serviceMetrics.timed("booking.assign", () -> {
+            throw new IllegalStateException("Time conflict");
+        }));
+
+        assertEquals(1, meterRegistry.get("booking.assign").tag("outcome", "rejected").timer().count());
+    }
+
+    @Test
+    void timed_UnexpectedFailure_RecordsErrorOutcome() {
+        assertThrows(RuntimeException.class, () -> serviceMetrics.timed("payment.initiate", () -> {
+            throw new RuntimeException("gateway down");
+        }));
+
+        assertEquals(1, meterRegistry.get("payment.initiate").tag("outcome", "error").timer().count());
+    }
+
+    @Test
+    void increment_CountsPerTagCombination() {
+        serviceMetrics.increment("booking.status.transitions", "from", "PENDING", "to", "CONFIRMED");
+        serviceMetrics.increment("booking.status.transitions", "from", "PENDING", "to", "CONFIRMED");
+        serviceMetrics.increment("booking.status.transitions", "from", "CONFIRMED", "to", "IN_PROGRESS");
+
+        assertEquals(2.0, meterRegistry.get("booking.status.transitions")
+            .tag("from", "PENDING").counter().count());
+    }
+}
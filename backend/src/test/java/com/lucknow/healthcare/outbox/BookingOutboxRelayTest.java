@@ -0,0 +1,229 @@
+package com.lucknow.healthcare.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lucknow.healthcare.entity.BookingOutboxDelivery;
+import com.lucknow.healthcare.entity.BookingOutboxEvent;
+import com.lucknow.healthcare.event.BookingDomainEvent;
+import com.lucknow.healthcare.repository.BookingOutboxDeliveryRepository;
+import com.lucknow.healthcare.repository.BookingOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.notNull;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for BookingOutboxRelay
+ * 
+ * Exercises batch delivery against mocked outbox and delivery repositories
+ * and subscribers that can be told to fail for particular bookings.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+class BookingOutboxRelayTest {
+    
+    private static final int MAX_ATTEMPTS = 3;
+    
+    @Mock
+    private BookingOutboxRepository outboxRepository;
+    
+    @Mock
+    private BookingOutboxDeliveryRepository deliveryRepository;
+    
+    private RecordingSubscriber subscriber;
+    private BookingOutboxRelay relay;
+    private long nextId;
+    
+    @BeforeEach
+    void setUp() {
+        subscriber = new RecordingSubscriber("recording");
+        relay = relayFor(List.of(subscriber));
+    }
+    
+    @Test
+    void deliver_DeliversInOrderAndMarksPublished() {
+        UUID booking = UUID.randomUUID();
+        BookingOutboxEvent created = row(booking, BookingDomainEvent.Type.CREATED, "{\"to\":\"PENDING\"}", 0);
+        BookingOutboxEvent confirmed = row(booking, BookingDomainEvent.Type.STATUS_CHANGED,
+            "{\"from\":\"PENDING\",\"to\":\"CONFIRMED\"}", 0);
+        
+        int published = relay.deliver(List.of(created, confirmed));
+        
+        assertEquals(2, published);
+        assertEquals(List.of(created.getId(), confirmed.getId()), subscriber.sequences);
+        assertEquals(BookingDomainEvent.Type.STATUS_CHANGED, subscriber.events.get(1).getType());
+        assertEquals("CONFIRMED", subscriber.events.get(1).getToStatus().name());
+        verify(outboxRepository).markPublished(eq(created.getId()), any());
+        verify(outboxRepository).markPublished(eq(confirmed.getId()), any());
+    }
+    
+    @Test
+    void deliver_FailedEvent_HoldsBackLaterEventsOfSameBookingOnly() {
+        UUID failing = UUID.randomUUID();
+        UUID healthy = UUID.randomUUID();
+        subscriber.failFor.add(failing);
+        BookingOutboxEvent first = row(failing, BookingDomainEvent.Type.CREATED, "{}", 0);
+        BookingOutboxEvent other = row(healthy, BookingDomainEvent.Type.CREATED, "{}", 0);
+        BookingOutboxEvent second = row(failing, BookingDomainEvent.Type.RESCHEDULED, "{}", 0);
+        
+        int published = relay.deliver(List.of(first, other, second));
+        
+        assertEquals(1, published);
+        assertEquals(List.of(first.getId(), other.getId()), subscriber.sequences);
+        verify(outboxRepository).recordFailure(eq(first.getId()), anyString(), notNull(), isNull());
+        verify(outboxRepository).markPublished(eq(other.getId()), any());
+        verify(outboxRepository, never()).markPublished(eq(first.getId()), any());
+        verify(outboxRepository, never()).markPublished(eq(second.getId()), any());
+    }
+    
+    @Test
+    void deliver_LastAttemptFails_DeadLettersAndContinuesWithBooking() {
+        UUID booking = UUID.randomUUID();
+        BookingOutboxEvent poisoned = row(booking, BookingDomainEvent.Type.CREATED, "{}", MAX_ATTEMPTS - 1);
+        BookingOutboxEvent next = row(booking, BookingDomainEvent.Type.RESCHEDULED, "{}", 0);
+        subscriber.failOnlySequence = poisoned.getId();
+        
+        int published = relay.deliver(List.of(poisoned, next));
+        
+        assertEquals(2, published);
+        verify(outboxRepository).recordFailure(eq(poisoned.getId()), anyString(), isNull(), notNull());
+        verify(outboxRepository).markPublished(eq(next.getId()), any());
+    }
+    
+    @Test
+    void deliver_OneSubscriberFails_RetriesOnlyThatSubscriber() {
+        RecordingSubscriber mail = new RecordingSubscriber("mail");
+        RecordingSubscriber flaky = new RecordingSubscriber("flaky");
+        relay = relayFor(List.of(mail, flaky));
+        UUID booking = UUID.randomUUID();
+        flaky.failFor.add(booking);
+        BookingOutboxEvent created = row(booking, BookingDomainEvent.Type.CREATED, "{}", 0);
+        
+        assertEquals(0, relay.deliver(List.of(created)));
+        ArgumentCaptor<BookingOutboxDelivery> recorded = ArgumentCaptor.forClass(BookingOutboxDelivery.class);
+        verify(deliveryRepository).save(recorded.capture());
+        assertEquals("mail", recorded.getValue().getSubscriber());
+        assertEquals(created.getId(), recorded.getValue().getEventId());
+        verify(outboxRepository).recordFailure(eq(created.getId()), contains("flaky"), notNull(), isNull());
+        
+        flaky.failFor.clear();
+        when(deliveryRepository.findByEventIdIn(List.of(created.getId()))).thenReturn(List.of(recorded.getValue()));
+        
+        assertEquals(1, relay.deliver(List.of(created)));
+        assertEquals(List.of(created.getId()), mail.sequences);
+        assertEquals(List.of(created.getId(), created.getId()), flaky.sequences);
+        verify(outboxRepository).markPublished(eq(created.getId()), any());
+    }
+    
+    @Test
+    void deliver_FailedEvent_SchedulesRetryWithBackoff() {
+        UUID booking = UUID.randomUUID();
+        subscriber.failFor.add(booking);
+        BookingOutboxEvent created = row(booking, BookingDomainEvent.Type.CREATED, "{}", 1);
+        LocalDateTime before = LocalDateTime.now();
+        
+        relay.deliver(List.of(created));
+        
+        ArgumentCaptor<LocalDateTime> nextAttempt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(outboxRepository).recordFailure(eq(created.getId()), anyString(), nextAttempt.capture(), isNull());
+        assertFalse(nextAttempt.getValue().isBefore(before.plusSeconds(2)), "second failure waits 2 s");
+    }
+    
+    @Test
+    void retryBackoff_DoublesUpToCap() {
+        assertEquals(Duration.ofSeconds(1), relay.retryBackoff(1));
+        assertEquals(Duration.ofSeconds(2), relay.retryBackoff(2));
+        assertEquals(Duration.ofSeconds(256), relay.retryBackoff(9));
+        assertEquals(Duration.ofMinutes(5), relay.retryBackoff(10));
+        assertEquals(Duration.ofMinutes(5), relay.retryBackoff(40));
+    }
+    
+    private BookingOutboxRelay relayFor(List<BookingEventSubscriber> subscribers) {
+        return new BookingOutboxRelay(outboxRepository, deliveryRepository, subscribers, new ObjectMapper(),
+            new NoOpTransactionManager(), new SimpleMeterRegistry(), 100, 1000, MAX_ATTEMPTS, 1000, 300_000, 7);
+    }
+    
+    private BookingOutboxEvent row(UUID bookingId, BookingDomainEvent.Type type, String payload, int attempts) {
+        BookingOutboxEvent row = new BookingOutboxEvent(bookingId, type, payload);
+        row.setId(++nextId);
+        row.setAttempts(attempts);
+        return row;
+    }
+    
+    private static class RecordingSubscriber implements BookingEventSubscriber {
+        
+        private final List<BookingDomainEvent> events = new ArrayList<>();
+        private final List<Long> sequences = new ArrayList<>();
+        private final Set<UUID> failFor = new HashSet<>();
+        private final String name;
+        private Long failOnlySequence;
+        
+        RecordingSubscriber(String name) {
+            this.name = name;
+        }
+        
+        @Override
+        public String getName() {
+            return name;
+        }
+        
+        @Override
+        public void onEvent(BookingDomainEvent event) {
+            events.add(event);
+            sequences.add(event.getSequence());
+            boolean fail = failOnlySequence != null
+                ? failOnlySequence == event.getSequence()
+                : failFor.contains(event.getBookingId());
+            if (fail) {
+                throw new IllegalStateException("subscriber down");
+            }
+        }
+    }
+    
+    /**
+     * Transaction manager that runs callbacks without a real transaction
+     */
+    private static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+        
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+        
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+        
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+        
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.lucknow.healthcare.partition;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Migration test for the booking and payment partitioning (V16 to V24)
+ *
+ * Migrates a fresh database to V15, seeds bookings and payments spread
+ * over three years (so some land past the pre-created months, in the
+ * default partitions), then runs V16 to V24 over them. Row counts, the
+ * provider reservation backfill and the payment unique keys are checked
+ * after the migration and again after the months held in the default
+ * partitions are created, which moves their rows out. Skipped when Docker
+ * is not available.
+ *
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class PartitionMigrationTest {
+
+    private static final int BOOKINGS = 360;
+
+    @Container
+    private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    private long bookings;
+    private long payments;
+    private long reservations;
+    private long uniqueKeys;
+
+    @BeforeAll
+    void migrate() throws SQLException {
+        flyway("15").migrate();
+
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO service_categories (id, name) VALUES (md5('category')::uuid, 'Nursing')");
+            statement.execute("INSERT INTO services (id, category_id, name, price, duration) " +
+                              "VALUES (md5('service')::uuid, md5('category')::uuid, 'Home visit', 500, 1)");
+            statement.execute("INSERT INTO users (id, name, email, password, role) " +
+                              "SELECT md5('user' || n)::uuid, 'Customer ' || n, 'customer' || n || '@example.com', 'x', 'CUSTOMER' " +
+                              "FROM generate_series(1, 5) n");
+            statement.execute("INSERT INTO providers (id, name, email, phone, qualification) " +
+                              "SELECT md5('provider' || n)::uuid, 'Provider ' || n, 'provider' || n || '@example.com', '9000000000', 'GNM' " +
+                              "FROM generate_series(1, 3) n");
+            // One booking every third day from 18 months back to 18 months ahead,
+            // so assigned slots never overlap and the last six months are past the
+            // twelve months V23 creates up front
+            statement.execute("INSERT INTO bookings (id, user_id, service_id, provider_id, status, scheduled_date, " +
+                              "scheduled_time, duration, total_amount, created_at) " +
+                              "SELECT md5('booking' || n)::uuid, md5('user' || (1 + n % 5))::uuid, md5('service')::uuid, " +
+                              "CASE WHEN n % 4 = 0 THEN NULL ELSE md5('provider' || (1 + n % 3))::uuid END, " +
+                              "(ARRAY['PENDING','CONFIRMED','IN_PROGRESS','COMPLETED','CANCELLED','RESCHEDULED'])[1 + n % 6], " +
+                              "current_date + (n * 3 - 540), time '08:00' + (n % 8) * interval '1 hour', 1, 500, " +
+                              "now() - n * interval '1 hour' " +
+                              "FROM generate_series(1, " + BOOKINGS + ") n");
+            statement.execute("INSERT INTO payments (id, booking_id, customer_id, amount, payment_method, payment_status, " +
+                              "invoice_number, transaction_id, created_at) " +
+                              "SELECT md5('payment' || n)::uuid, md5('booking' || n)::uuid, md5('user' || (1 + n % 5))::uuid, " +
+                              "500, 'UPI', 'PAID', " +
+                              "CASE WHEN n % 4 = 0 THEN 'INV-' || n END, CASE WHEN n % 3 = 0 THEN 'TXN-' || n END, " +
+                              "(current_date + (n * 3 - 540)) + time '07:00' " +
+                              "FROM generate_series(2, " + BOOKINGS + ", 2) n");
+        }
+
+        bookings = count("SELECT count(*) FROM bookings");
+        payments = count("SELECT count(*) FROM payments");
+        reservations = count("SELECT count(*) FROM bookings WHERE provider_id IS NOT NULL " +
+                             "AND status NOT IN ('COMPLETED', 'CANCELLED')");
+        uniqueKeys = count("SELECT count(invoice_number) + count(transaction_id) FROM payments");
+
+        flyway("24").migrate();
+    }
+
+    @Test
+    @Order(1)
+    void migration_KeepsEveryRowAndBackfillsReservations() throws SQLException {
+        assertEquals(bookings, count("SELECT count(*) FROM bookings"));
+        assertEquals(payments, count("SELECT count(*) FROM payments"));
+        assertEquals(reservations, count("SELECT count(*) FROM provider_reservations"));
+        assertTrue(count("SELECT count(*) FROM bookings_default") > 0, "expected bookings past the pre-created months");
+        assertTrue(count("SELECT count(*) FROM payments_default") > 0, "expected payments past the pre-created months");
+        assertPaymentKeysIntact();
+    }
+
+    @Test
+    @Order(2)
+    void createPartition_MovesDefaultRowsWithoutReleasingKeysOrReferences() throws SQLException {
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute("SELECT ensure_monthly_partitions('bookings', " +
+                              "(SELECT min(scheduled_date) FROM bookings_default), (SELECT max(scheduled_date) FROM bookings_default))");
+            statement.execute("SELECT ensure_monthly_partitions('payments', " +
+                              "(SELECT min(created_at)::date FROM payments_default), (SELECT max(created_at)::date FROM payments_default))");
+        }
+
+        assertEquals(0, count("SELECT count(*) FROM bookings_default"));
+        assertEquals(0, count("SELECT count(*) FROM payments_default"));
+        assertEquals(bookings, count("SELECT count(*) FROM bookings"));
+        assertEquals(payments, count("SELECT count(*) FROM payments"));
+        assertEquals(reservations, count("SELECT count(*) FROM provider_reservations"));
+        assertPaymentKeysIntact();
+    }
+
+    @Test
+    @Order(3)
+    void paymentKeys_RejectDuplicateInvoiceInAnotherMonth() throws SQLException {
+        try (Connection connection = connect();
+             PreparedStatement insert = connection.prepareStatement(
+                 "INSERT INTO payments (id, booking_id, customer_id, amount, payment_method, payment_status, invoice_number, created_at) " +
+                 "SELECT gen_random_uuid(), booking_id, customer_id, amount, payment_method, payment_status, invoice_number, " +
+                 "created_at - interval '2 months' FROM payments WHERE invoice_number = ?")) {
+            insert.setString(1, "INV-4");
+            SQLException duplicate = assertThrows(SQLException.class, insert::executeUpdate);
+            assertEquals("23505", duplicate.getSQLState());
+        }
+    }
+
+    private void assertPaymentKeysIntact() throws SQLException {
+        assertEquals(uniqueKeys, count("SELECT count(*) FROM payment_unique_keys"));
+        assertEquals(0, count("SELECT count(*) FROM payments p WHERE p.invoice_number IS NOT NULL AND NOT EXISTS " +
+                              "(SELECT 1 FROM payment_unique_keys k WHERE k.key_type = 'INVOICE_NUMBER' " +
+                              "AND k.key_value = p.invoice_number AND k.payment_id = p.id)"));
+        assertEquals(0, count("SELECT count(*) FROM payments p WHERE p.transaction_id IS NOT NULL AND NOT EXISTS " +
+                              "(SELECT 1 FROM payment_unique_keys k WHERE k.key_type = 'TRANSACTION_ID' " +
+                              "AND k.key_value = p.transaction_id AND k.payment_id = p.id)"));
+    }
+
+    private static Flyway flyway(String target) {
+        return Flyway.configure()
+            .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+            .locations("classpath:db/migration")
+            .target(target)
+            .load();
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+    }
+
+    private static long count(String sql) throws SQLException {
+        try (Connection connection = connect();
+             Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery(sql)) {
+            result.next();
+            return result.getLong(1);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.lucknow.healthcare.partition;
+
+import com.lucknow.healthcare.enums.BookingStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.EnumSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for PartitionWindow
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+class PartitionWindowTest {
+    
+    private static final Clock MID_MAY = Clock.fixed(Instant.parse("2026-05-17T10:00:00Z"), ZoneOffset.UTC);
+    
+    @Test
+    void openBookingsFrom_StartsAtFirstDayOfLookbackMonth() {
+        assertEquals(LocalDate.of(2026, 2, 1), new PartitionWindow(MID_MAY, 3).openBookingsFrom());
+    }
+    
+    @Test
+    void openBookingsFrom_NoLookback_StartsAtCurrentMonth() {
+        assertEquals(LocalDate.of(2026, 5, 1), new PartitionWindow(MID_MAY, 0).openBookingsFrom());
+    }
+    
+    @Test
+    void openBookingsFrom_LookbackCrossesYear() {
+        Clock january = Clock.fixed(Instant.parse("2026-01-31T23:00:00Z"), ZoneOffset.UTC);
+        
+        assertEquals(LocalDate.of(2025, 10, 1), new PartitionWindow(january, 3).openBookingsFrom());
+    }
+    
+    @Test
+    void constructor_NegativeLookback_Throws() {
+        assertThrows(IllegalArgumentException.class, () -> new PartitionWindow(MID_MAY, -1));
+    }
+    
+    @Test
+    void isOpen_OnlyUnfinishedStatuses() {
+        EnumSet<BookingStatus> open = EnumSet.of(BookingStatus.PENDING, BookingStatus.CONFIRMED,
+                                                 BookingStatus.IN_PROGRESS, BookingStatus.RESCHEDULED);
+        for (BookingStatus status : BookingStatus.values()) {
+            assertEquals(open.contains(status), PartitionWindow.isOpen(status), status.name());
+        }
+    }
+}
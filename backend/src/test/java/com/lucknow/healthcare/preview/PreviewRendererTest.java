@@ -0,0 +1,117 @@
+package com.lucknow.healthcare.preview;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for PreviewRenderer and PreviewDiskCache
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+class PreviewRendererTest {
+    
+    @TempDir
+    Path dir;
+    
+    private final PreviewRenderer renderer = new PreviewRenderer(60_000_000L);
+    
+    @Test
+    void render_LargePng_IsDownscaledToVariantKeepingAspectRatio() throws Exception {
+        Path source = dir.resolve("scan.png");
+        ImageIO.write(new BufferedImage(3000, 1500, BufferedImage.TYPE_INT_ARGB), "png", source.toFile());
+        
+        BufferedImage thumbnail = renderToImage(source, "image/png", PreviewVariant.THUMBNAIL);
+        
+        assertEquals(256, thumbnail.getWidth());
+        assertEquals(128, thumbnail.getHeight());
+    }
+    
+    @Test
+    void render_SmallImage_IsNotUpscaled() throws Exception {
+        Path source = dir.resolve("small.jpg");
+        ImageIO.write(new BufferedImage(100, 80, BufferedImage.TYPE_INT_RGB), "jpeg", source.toFile());
+        
+        BufferedImage preview = renderToImage(source, "image/jpeg", PreviewVariant.PREVIEW);
+        
+        assertEquals(100, preview.getWidth());
+        assertEquals(80, preview.getHeight());
+    }
+    
+    @Test
+    void render_Pdf_RendersFirstPage() throws Exception {
+        Path source = dir.resolve("report.pdf");
+        try (PDDocument document = new PDDocument()) {
+            document.addPage(new PDPage(PDRectangle.A4));
+            document.addPage(new PDPage(PDRectangle.A4));
+            document.save(source.toFile());
+        }
+        
+        BufferedImage preview = renderToImage(source, "application/pdf", PreviewVariant.PREVIEW);
+        
+        assertEquals(1024, Math.max(preview.getWidth(), preview.getHeight()), 2);
+        assertTrue(preview.getHeight() > preview.getWidth());
+    }
+    
+    @Test
+    void render_OversizedSource_IsRejected() throws Exception {
+        Path source = dir.resolve("huge.png");
+        ImageIO.write(new BufferedImage(2000, 2000, BufferedImage.TYPE_INT_RGB), "png", source.toFile());
+        PreviewRenderer strict = new PreviewRenderer(1_000_000L);
+        
+        assertThrows(IOException.class,
+            () -> strict.render(source, "image/png", PreviewVariant.THUMBNAIL, new ByteArrayOutputStream()));
+    }
+    
+    @Test
+    void diskCache_EvictsLeastRecentlyUsedOverCap() throws Exception {
+        PreviewDiskCache cache = new PreviewDiskCache(dir.resolve("previews"), 250);
+        cache.put("a", out -> out.write(new byte[100]));
+        cache.put("b", out -> out.write(new byte[100]));
+        assertTrue(cache.get("a").isPresent());
+        
+        cache.put("c", out -> out.write(new byte[100]));
+        
+        assertTrue(cache.get("a").isPresent());
+        assertTrue(cache.get("b").isEmpty());
+        assertTrue(cache.get("c").isPresent());
+        assertEquals(200, cache.getTotalBytes());
+        assertFalse(Files.exists(dir.resolve("previews").resolve("b")));
+        
+        PreviewDiskCache reloaded = new PreviewDiskCache(dir.resolve("previews"), 250);
+        assertEquals(2, reloaded.size());
+        assertEquals(200, reloaded.getTotalBytes());
+    }
+    
+    @Test
+    void diskCache_Remove_DeletesEntryAndFile() throws Exception {
+        PreviewDiskCache cache = new PreviewDiskCache(dir.resolve("previews"), 1_000);
+        cache.put("a", out -> out.write(new byte[100]));
+        
+        assertTrue(cache.remove("a"));
+        
+        assertTrue(cache.get("a").isEmpty());
+        assertEquals(0, cache.getTotalBytes());
+        assertFalse(Files.exists(dir.resolve("previews").resolve("a")));
+        assertFalse(cache.remove("a"));
+    }
+    
+    private BufferedImage renderToImage(Path source, String mimeType, PreviewVariant variant) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        renderer.render(source, mimeType, variant, out);
+        return ImageIO.read(new ByteArrayInputStream(out.toByteArray()));
+    }
+}
@@ -0,0 +1,173 @@
+package com.lucknow.healthcare.privacy;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import com.lucknow.healthcare.dto.BookingDTO;
+import com.lucknow.healthcare.dto.PatientDTO;
+import com.lucknow.healthcare.dto.UserDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for PrivacyMaskingModule
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+class PrivacyMaskingModuleTest {
+    
+    private static final LocalDate TODAY = LocalDate.of(2024, 3, 10);
+    
+    private ObjectMapper plainMapper;
+    private ObjectMapper maskingMapper;
+    
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(Instant.parse("2024-03-10T06:00:00Z"), ZoneOffset.UTC);
+        plainMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+        maskingMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .addModule(new PrivacyMaskingModule(PrivacyPolicy.defaultPolicy(), clock))
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    }
+    
+    @Test
+    void provider_InsideWindow_SeesContactDetails() throws Exception {
+        JsonNode json = writeAs("PROVIDER", booking(TODAY.plusDays(1)));
+        
+        assertEquals("+91-9876500001", json.at("/user/phone").asText());
+        assertEquals("+91-9000000000", json.at("/patient/emergencyContactPhone").asText());
+        assertTrue(json.get(MaskingSerializer.CONTACT_AVAILABLE_FIELD).asBoolean());
+    }
+    
+    @Test
+    void provider_OutsideWindow_GetsMaskedContactDetails() throws Exception {
+        JsonNode before = writeAs("PROVIDER", booking(TODAY.plusDays(5)));
+        JsonNode after = writeAs("PROVIDER", booking(TODAY.minusDays(2)));
+        
+        for (JsonNode json : List.of(before, after)) {
+            assertTrue(json.at("/user/phone").isNull());
+            assertTrue(json.at("/user/address").isNull());
+            assertTrue(json.at("/patient/emergencyContactPhone").isNull());
+            assertEquals("Customer 1", json.at("/user/name").asText());
+            assertEquals("Ravi", json.at("/patient/emergencyContactName").asText());
+            assertFalse(json.get(MaskingSerializer.CONTACT_AVAILABLE_FIELD).asBoolean());
+        }
+        assertEquals("Contact details will be available from 2024-03-14",
+            before.get(MaskingSerializer.PRIVACY_MESSAGE_FIELD).asText());
+    }
+    
+    @Test
+    void rolesWithoutRules_GetUnchangedOutput() throws Exception {
+        BookingDTO booking = booking(TODAY.plusDays(5));
+        
+        assertEquals(plainMapper.writeValueAsString(booking),
+            maskingMapper.writer().withAttribute(PrivacyMaskingModule.ROLE_ATTRIBUTE, "ADMIN").writeValueAsString(booking));
+        assertEquals(plainMapper.writeValueAsString(booking), maskingMapper.writeValueAsString(booking));
+    }
+    
+    @Test
+    void provider_UserOutsideBooking_IsNotMasked() throws Exception {
+        JsonNode json = writeAs("PROVIDER", booking(TODAY.plusDays(5)).getUser());
+        
+        assertEquals("+91-9876500001", json.get("phone").asText());
+    }
+    
+    @Test
+    void visibility_IsEvaluatedPerBookingInList() throws Exception {
+        JsonNode json = writeAs("PROVIDER", List.of(booking(TODAY), booking(TODAY.plusDays(10)), booking(TODAY)));
+        
+        assertFalse(json.at("/0/user/phone").isNull());
+        assertTrue(json.at("/1/user/phone").isNull());
+        assertFalse(json.at("/2/user/phone").isNull());
+    }
+    
+    @Test
+    void propertyAnnotations_AreHonouredForManagedTypes() throws Exception {
+        ObjectMapper mapper = JsonMapper.builder()
+            .findAndAddModules()
+            .addModule(new PrivacyMaskingModule(PrivacyPolicy.builder()
+                .anchor(AnnotatedVisit.class, "date")
+                .role("PROVIDER", 1, 1)
+                .mask(AnnotatedVisit.class, "phone")
+                .build(), Clock.fixed(Instant.parse("2024-03-10T06:00:00Z"), ZoneOffset.UTC)))
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+        AnnotatedVisit visit = new AnnotatedVisit();
+        
+        assertEquals(plainMapper.writeValueAsString(visit), mapper.writeValueAsString(visit));
+        JsonNode json = plainMapper.readTree(mapper.writer()
+            .withAttribute(PrivacyMaskingModule.ROLE_ATTRIBUTE, "PROVIDER").writeValueAsString(visit));
+        assertEquals("10/03/2024", json.get("date").asText());
+        assertEquals("1250", json.get("fee").asText());
+        assertTrue(json.get("fee").isTextual());
+    }
+    
+    public static class AnnotatedVisit {
+        
+        @JsonFormat(pattern = "dd/MM/yyyy")
+        private LocalDate date = TODAY;
+        
+        @JsonSerialize(using = ToStringSerializer.class)
+        private Long fee = 1250L;
+        
+        private String phone = "+91-9876500001";
+        
+        public LocalDate getDate() {
+            return date;
+        }
+        
+        public Long getFee() {
+            return fee;
+        }
+        
+        public String getPhone() {
+            return phone;
+        }
+    }
+    
+    private JsonNode writeAs(String role, Object value) throws Exception {
+        String json = maskingMapper.writer().withAttribute(PrivacyMaskingModule.ROLE_ATTRIBUTE, role)
+            .writeValueAsString(value);
+        return plainMapper.readTree(json);
+    }
+    
+    private static BookingDTO booking(LocalDate serviceDate) {
+        UserDTO user = new UserDTO();
+        user.setId(UUID.randomUUID());
+        user.setName("Customer 1");
+        user.setPhone("+91-9876500001");
+        user.setAddress("1 Hazratganj, Lucknow");
+        
+        PatientDTO patient = new PatientDTO();
+        patient.setId(UUID.randomUUID());
+        patient.setName("Patient 1");
+        patient.setEmergencyContactName("Ravi");
+        patient.setEmergencyContactPhone("+91-9000000000");
+        
+        BookingDTO booking = new BookingDTO();
+        booking.setId(UUID.randomUUID());
+        booking.setUser(user);
+        booking.setPatient(patient);
+        booking.setScheduledDate(serviceDate);
+        return booking;
+    }
+}
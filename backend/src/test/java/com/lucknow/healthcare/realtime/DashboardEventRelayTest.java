@@ -0,0 +1,96 @@
+package com.lucknow.healthcare.realtime;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lucknow.healthcare.event.DashboardEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for DashboardEventRelay
+ * 
+ * Two relays stand in for two nodes; messages one publishes are handed to
+ * the other's listener as Redis would.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+class DashboardEventRelayTest {
+    
+    private SseBroadcaster broadcasterA;
+    private SseBroadcaster broadcasterB;
+    private RedisTemplate<String, String> redisTemplate;
+    private DashboardEventRelay nodeA;
+    private DashboardEventRelay nodeB;
+    
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        broadcasterA = mock(SseBroadcaster.class);
+        broadcasterB = mock(SseBroadcaster.class);
+        redisTemplate = mock(RedisTemplate.class);
+        nodeA = relay(broadcasterA);
+        nodeB = relay(broadcasterB);
+    }
+    
+    @Test
+    void event_IsDeliveredLocallyAndOnOtherNodes() {
+        DashboardEvent event = DashboardEvent.builder(DashboardEvent.BOOKING_ASSIGNED)
+            .data("bookingId", "b-1")
+            .recipient("provider@example.com")
+            .admins()
+            .build();
+        
+        nodeA.onDashboardEvent(event);
+        
+        verify(broadcasterA).publish(event);
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq("dashboard-events"), message.capture());
+        
+        nodeB.handle(message.getValue());
+        ArgumentCaptor<DashboardEvent> relayed = ArgumentCaptor.forClass(DashboardEvent.class);
+        verify(broadcasterB).publish(relayed.capture());
+        assertEquals(DashboardEvent.BOOKING_ASSIGNED, relayed.getValue().getType());
+        assertEquals(Map.of("bookingId", "b-1"), relayed.getValue().getData());
+        assertEquals(Set.of("provider@example.com"), relayed.getValue().getRecipients());
+        assertTrue(relayed.getValue().isForAdmins());
+        
+        // The publishing node ignores its own message
+        nodeA.handle(message.getValue());
+        verify(broadcasterA, times(1)).publish(any());
+    }
+    
+    @Test
+    void redisUnavailable_StillDeliversLocally() {
+        doThrow(new IllegalStateException("Redis down")).when(redisTemplate).convertAndSend(anyString(), anyString());
+        DashboardEvent event = DashboardEvent.builder(DashboardEvent.BOOKING_STATUS_CHANGED)
+            .recipient("customer@example.com")
+            .build();
+        
+        nodeA.onDashboardEvent(event);
+        
+        verify(broadcasterA).publish(event);
+    }
+    
+    private DashboardEventRelay relay(SseBroadcaster broadcaster) {
+        DashboardEventRelay relay = new DashboardEventRelay();
+        ReflectionTestUtils.setField(relay, "broadcaster", broadcaster);
+        ReflectionTestUtils.setField(relay, "redisTemplate", redisTemplate);
+        ReflectionTestUtils.setField(relay, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(relay, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(relay, "channel", "dashboard-events");
+        return relay;
+    }
+}
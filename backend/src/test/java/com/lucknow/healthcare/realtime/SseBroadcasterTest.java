@@ -0,0 +1,153 @@
+package com.lucknow.healthcare.realtime;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lucknow.healthcare.event.DashboardEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SseBroadcaster
+ * 
+ * Uses emitters that record (or block on) the frames they are sent instead
+ * of writing to a servlet response.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+class SseBroadcasterTest {
+    
+    private SimpleMeterRegistry meterRegistry;
+    private SseBroadcaster broadcaster;
+    
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        broadcaster = new SseBroadcaster(new ObjectMapper(), meterRegistry, 60_000, 4, 2, 3_000, 2);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdown();
+    }
+    
+    @Test
+    void publish_DeliversToRecipientsAndAdminsOnce() throws Exception {
+        RecordingEmitter provider = new RecordingEmitter(null);
+        RecordingEmitter admin = new RecordingEmitter(null);
+        RecordingEmitter bystander = new RecordingEmitter(null);
+        broadcaster.subscribe("provider@example.com", false, provider);
+        broadcaster.subscribe("admin@example.com", true, admin);
+        broadcaster.subscribe("other@example.com", false, bystander);
+        
+        broadcaster.publish(DashboardEvent.builder(DashboardEvent.BOOKING_ASSIGNED)
+            .data("bookingId", "b-1")
+            .recipient("provider@example.com")
+            .recipient("admin@example.com")
+            .admins()
+            .build());
+        
+        waitUntil(() -> provider.events().size() == 2 && admin.events().size() == 2);
+        assertEquals(List.of(SseBroadcaster.CONNECTED_EVENT, DashboardEvent.BOOKING_ASSIGNED), provider.events());
+        assertEquals(List.of(SseBroadcaster.CONNECTED_EVENT, DashboardEvent.BOOKING_ASSIGNED), admin.events());
+        assertTrue(provider.text().contains("\"bookingId\":\"b-1\""));
+        assertEquals(List.of(SseBroadcaster.CONNECTED_EVENT), bystander.events());
+    }
+    
+    @Test
+    void subscribe_OverPerUserLimit_ClosesOldestConnection() {
+        broadcaster.subscribe("provider@example.com", false, new RecordingEmitter(null));
+        broadcaster.subscribe("provider@example.com", false, new RecordingEmitter(null));
+        broadcaster.subscribe("provider@example.com", false, new RecordingEmitter(null));
+        
+        assertEquals(2, broadcaster.getConnectionCount());
+        assertEquals(2.0, meterRegistry.get("sse.connections").gauge().value());
+    }
+    
+    @Test
+    void publish_SlowClient_IsDisconnectedWithoutBlockingOthers() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(release);
+        RecordingEmitter fast = new RecordingEmitter(null);
+        broadcaster.subscribe("slow@example.com", false, slow);
+        broadcaster.subscribe("fast@example.com", false, fast);
+        
+        try {
+            // The slow emitter is stuck on its first frame, so its queue of 4 overflows on the fifth event
+            for (int i = 0; i < 5; i++) {
+                broadcaster.publish(DashboardEvent.builder(DashboardEvent.BOOKING_STATUS_CHANGED)
+                    .data("sequence", i)
+                    .recipient("slow@example.com")
+                    .recipient("fast@example.com")
+                    .build());
+                int expected = i + 2;
+                waitUntil(() -> fast.events().size() == expected);
+            }
+            
+            assertEquals(6, fast.events().size());
+            assertEquals(1, broadcaster.getConnectionCount());
+            assertEquals(1.0, meterRegistry.get("sse.connections.dropped").counter().count());
+        } finally {
+            release.countDown();
+        }
+    }
+    
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2_000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+    
+    /**
+     * Emitter that keeps the frames it is sent, optionally blocking until released
+     */
+    private static class RecordingEmitter extends SseEmitter {
+        
+        private final List<String> frames = new CopyOnWriteArrayList<>();
+        private final CountDownLatch release;
+        
+        RecordingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+        
+        @Override
+        public void send(Set<ResponseBodyEmitter.DataWithMediaType> items) throws IOException {
+            if (release != null) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+            frames.add(items.stream().map(item -> item.getData().toString()).collect(Collectors.joining()));
+        }
+        
+        List<String> events() {
+            return frames.stream()
+                .flatMap(frame -> frame.lines())
+                .filter(line -> line.startsWith("event:"))
+                .map(line -> line.substring("event:".length()))
+                .collect(Collectors.toList());
+        }
+        
+        String text() {
+            return String.join("", frames);
+        }
+    }
+}
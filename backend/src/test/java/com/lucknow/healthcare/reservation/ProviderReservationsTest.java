@@ -0,0 +1,170 @@
+package com.lucknow.healthcare.reservation;
+
+import com.lucknow.healthcare.entity.Booking;
+import com.lucknow.healthcare.entity.Provider;
+import com.lucknow.healthcare.metrics.ServiceMetrics;
+import com.lucknow.healthcare.repository.ProviderReservationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.BatchUpdateException;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ProviderReservations
+ * 
+ * Covers slot computation in the booking time zone and the mapping of
+ * PostgreSQL exclusion violations to ReservationConflictException.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+class ProviderReservationsTest {
+    
+    private static final ZoneOffset IST = ZoneOffset.ofHoursMinutes(5, 30);
+    
+    @Mock
+    private ProviderReservationRepository reservationRepository;
+    
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    
+    private SimpleMeterRegistry meterRegistry;
+    private ProviderReservations reservations;
+    private Provider provider;
+    
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        reservations = new ProviderReservations();
+        ReflectionTestUtils.setField(reservations, "reservationRepository", reservationRepository);
+        ReflectionTestUtils.setField(reservations, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(reservations, "serviceMetrics", new ServiceMetrics(meterRegistry));
+        ReflectionTestUtils.setField(reservations, "zone", ZoneId.of("Asia/Kolkata"));
+        
+        provider = new Provider();
+        provider.setId(UUID.randomUUID());
+        provider.setName("Asha Verma");
+    }
+    
+    @Test
+    void reserve_ComputesSlotInBookingZone() {
+        Booking booking = booking(LocalDate.of(2026, 3, 10), LocalTime.of(9, 30), 2);
+        
+        reservations.reserve(booking, provider);
+        
+        verify(jdbcTemplate).update(anyString(), eq(booking.getId()), eq(provider.getId()),
+            eq(OffsetDateTime.of(2026, 3, 10, 9, 30, 0, 0, IST)),
+            eq(OffsetDateTime.of(2026, 3, 10, 11, 30, 0, 0, IST)));
+        assertEquals(1.0, counter("reserved"));
+    }
+    
+    @Test
+    void reserve_ExclusionViolation_ThrowsConflict() {
+        Booking booking = booking(LocalDate.of(2026, 3, 10), LocalTime.of(9, 0), 1);
+        when(jdbcTemplate.update(anyString(), any(), any(), any(), any()))
+            .thenThrow(new DataIntegrityViolationException("overlap",
+                new SQLException("conflicting key value violates exclusion constraint", ProviderReservations.EXCLUSION_VIOLATION)));
+        
+        ReservationConflictException conflict = assertThrows(ReservationConflictException.class,
+            () -> reservations.reserve(booking, provider));
+        
+        assertTrue(conflict.getMessage().contains("Asha Verma"));
+        assertEquals(1.0, counter("conflict"));
+        assertEquals(0.0, counter("reserved"));
+    }
+    
+    @Test
+    void reserve_OtherIntegrityViolation_IsRethrown() {
+        Booking booking = booking(LocalDate.of(2026, 3, 10), LocalTime.of(9, 0), 1);
+        DataIntegrityViolationException notNull = new DataIntegrityViolationException("null provider",
+            new SQLException("null value in column", "23502"));
+        when(jdbcTemplate.update(anyString(), any(), any(), any(), any())).thenThrow(notNull);
+        
+        assertSame(notNull, assertThrows(DataIntegrityViolationException.class,
+            () -> reservations.reserve(booking, provider)));
+        assertEquals(0.0, counter("conflict"));
+    }
+    
+    @Test
+    void reserveAll_ExclusionViolationInBatch_ThrowsConflict() {
+        // The driver wraps a failed batch statement's error as the next exception
+        BatchUpdateException batch = new BatchUpdateException("Batch entry 3 was aborted", "40001", new int[0]);
+        batch.setNextException(new SQLException("conflicting key value", ProviderReservations.EXCLUSION_VIOLATION));
+        when(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(), any()))
+            .thenThrow(new DataIntegrityViolationException("batch failed", batch));
+        
+        Map<UUID, LocalDateTime> starts = Map.of(UUID.randomUUID(), LocalDateTime.of(2026, 3, 10, 9, 0),
+                                                 UUID.randomUUID(), LocalDateTime.of(2026, 3, 17, 9, 0));
+        
+        assertThrows(ReservationConflictException.class, () -> reservations.reserveAll(provider, starts, 1));
+        assertEquals(1.0, counter("conflict"));
+    }
+    
+    @Test
+    void reserveAll_CountsEveryReservedSlot() {
+        Map<UUID, LocalDateTime> starts = Map.of(UUID.randomUUID(), LocalDateTime.of(2026, 3, 10, 9, 0),
+                                                 UUID.randomUUID(), LocalDateTime.of(2026, 3, 17, 9, 0));
+        
+        reservations.reserveAll(provider, starts, 1);
+        
+        verify(jdbcTemplate).batchUpdate(anyString(), anyList(), eq(500), any());
+        assertEquals(2.0, counter("reserved"));
+    }
+    
+    @Test
+    void releaseAll_NoBookings_SkipsDelete() {
+        reservations.releaseAll(List.of());
+        
+        verifyNoInteractions(reservationRepository);
+    }
+    
+    @Test
+    void release_CountsOnlyHeldReservations() {
+        UUID held = UUID.randomUUID();
+        when(reservationRepository.deleteByBookingId(held)).thenReturn(1);
+        
+        reservations.release(held);
+        reservations.release(UUID.randomUUID());
+        
+        assertEquals(1.0, counter("released"));
+    }
+    
+    private Booking booking(LocalDate date, LocalTime time, int durationHours) {
+        Booking booking = new Booking();
+        booking.setId(UUID.randomUUID());
+        booking.setScheduledDate(date);
+        booking.setScheduledTime(time);
+        booking.setDuration(durationHours);
+        return booking;
+    }
+    
+    private double counter(String outcome) {
+        var counter = meterRegistry.find("provider.reservations").tag("outcome", outcome).counter();
+        return counter != null ? counter.count() : 0.0;
+    }
+}
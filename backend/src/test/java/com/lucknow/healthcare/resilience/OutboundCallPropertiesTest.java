@@ -0,0 +1,45 @@
+package com.lucknow.healthcare.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for OutboundCallProperties
+ *
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+class OutboundCallPropertiesTest {
+
+    @Test
+    void forIntegration_PartialBlock_InheritsConfiguredDefaults() {
+        OutboundCallProperties properties = new OutboundCallProperties();
+        properties.getDefaults().setSlidingWindowSize(50);
+        properties.getDefaults().setWaitDurationInOpenState(Duration.ofSeconds(90));
+        OutboundCallProperties.Integration twilio = new OutboundCallProperties.Integration();
+        twilio.setMaxConcurrentCalls(5);
+        twilio.setWaitDurationInOpenState(Duration.ofSeconds(10));
+        properties.getIntegrations().put("twilio", twilio);
+
+        OutboundCallProperties.Integration merged = properties.forIntegration("twilio");
+
+        assertEquals(5, merged.getMaxConcurrentCalls());
+        assertEquals(Duration.ofSeconds(10), merged.getWaitDurationInOpenState());
+        assertEquals(50, merged.getSlidingWindowSize());
+        assertEquals(Duration.ofSeconds(5), merged.getTimeout());
+    }
+
+    @Test
+    void forIntegration_UnknownIntegration_UsesDefaults() {
+        OutboundCallProperties properties = new OutboundCallProperties();
+        properties.getDefaults().setQueueCapacity(7);
+
+        OutboundCallProperties.Integration merged = properties.forIntegration("unknown");
+
+        assertEquals(7, merged.getQueueCapacity());
+        assertEquals(10, merged.getMaxConcurrentCalls());
+    }
+}
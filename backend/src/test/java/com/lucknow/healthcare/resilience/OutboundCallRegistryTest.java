@@ -0,0 +1,147 @@
+package com.lucknow.healthcare.resilience;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for OutboundCallRegistry
+ *
+ * Uses local fault-injecting stubs (slow, failing and blocking calls)
+ * to exercise the bulkhead, timeout and circuit breaker behaviour.
+ *
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+class OutboundCallRegistryTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private OutboundCallRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        OutboundCallProperties.Integration config = new OutboundCallProperties.Integration();
+        config.setMaxConcurrentCalls(2);
+        config.setQueueCapacity(1);
+        config.setTimeout(Duration.ofMillis(100));
+        config.setSlidingWindowSize(4);
+        config.setMinimumNumberOfCalls(4);
+        config.setFailureRateThreshold(50f);
+        config.setWaitDurationInOpenState(Duration.ofMillis(200));
+        config.setPermittedCallsInHalfOpenState(1);
+
+        OutboundCallProperties properties = new OutboundCallProperties();
+        properties.getIntegrations().put("stub", config);
+
+        OutboundCallProperties.Integration slow = new OutboundCallProperties.Integration();
+        slow.setMaxConcurrentCalls(2);
+        slow.setQueueCapacity(1);
+        slow.setTimeout(Duration.ofSeconds(5));
+        properties.getIntegrations().put("slow", slow);
+
+        meterRegistry = new SimpleMeterRegistry();
+        registry = new OutboundCallRegistry(properties, CircuitBreakerRegistry.ofDefaults(), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        registry.shutdown();
+    }
+
+    @Test
+    void execute_SuccessfulCall_ReturnsResultAndRecordsLatency() {
+        String result = registry.execute("stub", () -> "ok");
+
+        assertEquals("ok", result);
+        assertEquals(1, meterRegistry.get("outbound.calls")
+            .tag("integration", "stub").tag("outcome", "success").timer().count());
+    }
+
+    @Test
+    void execute_SlowCall_TimesOut() {
+        OutboundCallException e = assertThrows(OutboundCallException.class,
+            () -> registry.execute("stub", () -> {
+                Thread.sleep(1_000);
+                return "late";
+            }));
+
+        assertEquals(OutboundCallException.Reason.TIMEOUT, e.getReason());
+        assertEquals(1, meterRegistry.get("outbound.calls").tag("outcome", "timeout").timer().count());
+    }
+
+    @Test
+    void execute_FailingCall_WrapsCause() {
+        OutboundCallException e = assertThrows(OutboundCallException.class,
+            () -> registry.execute("stub", () -> {
+                throw new IllegalStateException("gateway down");
+            }));
+
+        assertEquals(OutboundCallException.Reason.FAILED, e.getReason());
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+    }
+
+    @Test
+    void execute_BulkheadFull_RejectsExtraCalls() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService callers = Executors.newFixedThreadPool(3);
+        try {
+            // Two running calls plus one queued call fill the bulkhead
+            for (int i = 0; i < 3; i++) {
+                callers.submit(() -> {
+                    try {
+                        registry.execute("slow", () -> release.await(5, TimeUnit.SECONDS));
+                    } catch (OutboundCallException ignored) {
+                        // the fourth caller below is the one expected to fail
+                    }
+                });
+            }
+            registry.guard("slow");
+            waitUntil(() -> meterRegistry.get("outbound.bulkhead.queued")
+                .tag("integration", "slow").gauge().value() >= 1);
+
+            OutboundCallException e = assertThrows(OutboundCallException.class,
+                () -> registry.execute("slow", () -> "extra"));
+            assertEquals(OutboundCallException.Reason.REJECTED, e.getReason());
+        } finally {
+            release.countDown();
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    void execute_RepeatedFailures_OpenCircuitThenRecoverThroughHalfOpenProbe() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            assertThrows(OutboundCallException.class, () -> registry.execute("stub", () -> {
+                throw new IllegalStateException("boom");
+            }));
+        }
+        assertEquals(CircuitBreaker.State.OPEN, registry.guard("stub").getCircuitState());
+
+        OutboundCallException shortCircuited = assertThrows(OutboundCallException.class,
+            () -> registry.execute("stub", () -> "not called"));
+        assertEquals(OutboundCallException.Reason.CIRCUIT_OPEN, shortCircuited.getReason());
+
+        Thread.sleep(250);
+
+        assertEquals("probe", registry.execute("stub", () -> "probe"));
+        assertEquals(CircuitBreaker.State.CLOSED, registry.guard("stub").getCircuitState());
+    }
+
+    private static void waitUntil(java.util.function.BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2_000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.lucknow.healthcare.security;
+
+import com.lucknow.healthcare.entity.User;
+import com.lucknow.healthcare.enums.UserRole;
+import com.lucknow.healthcare.enums.UserStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for PrincipalCache
+ *
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+class PrincipalCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private final Function<String, UserPrincipal> loader = email -> {
+        loads.incrementAndGet();
+        User user = new User();
+        user.setId(UUID.nameUUIDFromBytes(email.getBytes()));
+        user.setEmail(email);
+        user.setPassword("hash");
+        user.setRole(UserRole.CUSTOMER);
+        user.setStatus(UserStatus.ACTIVE);
+        return UserPrincipal.from(user);
+    };
+
+    @Test
+    void get_RepeatedLookups_LoadOnce() {
+        PrincipalCache cache = new PrincipalCache(60, 100);
+
+        UserPrincipal first = cache.get("a@example.com", loader);
+        UserPrincipal second = cache.get("a@example.com", loader);
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void invalidate_ByUserId_ForcesReload() {
+        PrincipalCache cache = new PrincipalCache(60, 100);
+        UserPrincipal principal = cache.get("a@example.com", loader);
+
+        cache.invalidate(principal.getId());
+        cache.get("a@example.com", loader);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_ExpiredEntry_Reloads() {
+        PrincipalCache cache = new PrincipalCache(0, 100);
+
+        cache.get("a@example.com", loader);
+        cache.get("a@example.com", loader);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_FullCache_StaysBounded() {
+        PrincipalCache cache = new PrincipalCache(60, 10);
+
+        for (int i = 0; i < 25; i++) {
+            cache.get("user" + i + "@example.com", loader);
+        }
+
+        assertTrue(cache.size() <= 10);
+    }
+}
@@ -0,0 +1,53 @@
+package com.lucknow.healthcare.series;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for RecurrenceRule
+ *
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+class RecurrenceRuleTest {
+
+    // A Wednesday
+    private static final LocalDate START = LocalDate.of(2025, 3, 5);
+
+    @Test
+    void expand_DailyWithCount_ReturnsConsecutiveDays() {
+        List<LocalDate> dates = RecurrenceRule.parse("FREQ=DAILY;COUNT=90").expand(START, 366);
+
+        assertEquals(90, dates.size());
+        assertEquals(START, dates.get(0));
+        assertEquals(START.plusDays(89), dates.get(89));
+    }
+
+    @Test
+    void expand_WeeklyByDayUntil_SkipsDaysBeforeStartAndStopsAtUntil() {
+        RecurrenceRule rule = RecurrenceRule.parse("RRULE:FREQ=WEEKLY;INTERVAL=2;BYDAY=FR,MO,WE;UNTIL=20250321");
+
+        List<LocalDate> dates = rule.expand(START, 366);
+
+        // Monday 3 March is before the start; the week of 10 March is skipped by INTERVAL=2
+        assertEquals(List.of(LocalDate.of(2025, 3, 5), LocalDate.of(2025, 3, 7),
+                             LocalDate.of(2025, 3, 17), LocalDate.of(2025, 3, 19), LocalDate.of(2025, 3, 21)), dates);
+        assertEquals("FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,WE,FR;UNTIL=20250321", rule.toString());
+    }
+
+    @Test
+    void parseAndExpand_InvalidRules_AreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("FREQ=MONTHLY;COUNT=3"));
+        assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("FREQ=DAILY"));
+        assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("FREQ=DAILY;COUNT=3;UNTIL=20250401"));
+        assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("FREQ=DAILY;BYDAY=MO;COUNT=3"));
+        assertThrows(IllegalArgumentException.class,
+            () -> RecurrenceRule.parse("FREQ=DAILY;UNTIL=20260601").expand(START, 366));
+        assertThrows(IllegalArgumentException.class,
+            () -> RecurrenceRule.parse("FREQ=DAILY;UNTIL=20250301").expand(START, 366));
+    }
+}
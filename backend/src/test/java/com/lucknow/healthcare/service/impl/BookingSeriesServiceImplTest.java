@@ -0,0 +1,365 @@
+package com.lucknow.healthcare.service.impl;
+
+import com.lucknow.healthcare.entity.BookingSeries;
+import com.lucknow.healthcare.entity.Provider;
+import com.lucknow.healthcare.entity.Service;
+import com.lucknow.healthcare.entity.User;
+import com.lucknow.healthcare.enums.AvailabilityStatus;
+import com.lucknow.healthcare.enums.BookingStatus;
+import com.lucknow.healthcare.event.BookingDomainEvent;
+import com.lucknow.healthcare.event.DashboardEvent;
+import com.lucknow.healthcare.metrics.ServiceMetrics;
+import com.lucknow.healthcare.outbox.BookingOutbox;
+import com.lucknow.healthcare.repository.BookingRepository;
+import com.lucknow.healthcare.repository.BookingSeriesRepository;
+import com.lucknow.healthcare.repository.ProviderRepository;
+import com.lucknow.healthcare.repository.ProviderReservationRepository;
+import com.lucknow.healthcare.repository.ServiceRepository;
+import com.lucknow.healthcare.repository.UserRepository;
+import com.lucknow.healthcare.reservation.ProviderReservations;
+import com.lucknow.healthcare.series.SeriesOccurrenceWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for BookingSeriesServiceImpl
+ * 
+ * Checks that series-wide operations write one outbox event per affected
+ * occurrence, with the occurrence count on the first event only, that a
+ * requested provider passes the assignment checks, and that reservations
+ * follow each occurrence's own provider.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+class BookingSeriesServiceImplTest {
+    
+    @Mock
+    private BookingSeriesRepository seriesRepository;
+    
+    @Mock
+    private BookingRepository bookingRepository;
+    
+    @Mock
+    private UserRepository userRepository;
+    
+    @Mock
+    private ServiceRepository serviceRepository;
+    
+    @Mock
+    private ProviderRepository providerRepository;
+    
+    @Mock
+    private ProviderReservationRepository reservationRepository;
+    
+    @Mock
+    private ProviderReservations providerReservations;
+    
+    @Mock
+    private SeriesOccurrenceWriter occurrenceWriter;
+    
+    @Mock
+    private BookingOutbox bookingOutbox;
+    
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Spy
+    private ServiceMetrics serviceMetrics = new ServiceMetrics(new SimpleMeterRegistry());
+    
+    @InjectMocks
+    private BookingSeriesServiceImpl seriesService;
+    
+    private final List<Appended> appended = new ArrayList<>();
+    
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(seriesService, "maxOccurrences", 366);
+        lenient().when(providerReservations.getZone()).thenReturn(ZoneId.of("Asia/Kolkata"));
+        lenient().doAnswer(invocation -> {
+            appended.add(new Appended(invocation.getArgument(0), invocation.getArgument(1),
+                                      (Object[]) invocation.getRawArguments()[2]));
+            return null;
+        }).when(bookingOutbox).append(any(), any(), any(Object[].class));
+    }
+    
+    @Test
+    void createSeries_AppendsEventPerOccurrence() {
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        Service service = new Service();
+        service.setId(UUID.randomUUID());
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        when(serviceRepository.findById(service.getId())).thenReturn(Optional.of(service));
+        when(seriesRepository.saveAndFlush(any(BookingSeries.class))).thenAnswer(invocation -> {
+            BookingSeries saved = invocation.getArgument(0);
+            saved.setId(UUID.randomUUID());
+            return saved;
+        });
+        Map<UUID, LocalDateTime> starts = new LinkedHashMap<>();
+        LocalDate start = LocalDate.now().plusDays(1);
+        for (int i = 0; i < 3; i++) {
+            starts.put(UUID.randomUUID(), start.plusDays(i).atTime(9, 0));
+        }
+        when(occurrenceWriter.insert(any(), any())).thenReturn(starts);
+        
+        BookingSeries series = new BookingSeries();
+        series.setUser(user);
+        series.setService(service);
+        series.setStartDate(start);
+        series.setScheduledTime(LocalTime.of(9, 0));
+        series.setDuration(1);
+        series.setAmountPerVisit(new BigDecimal("500.00"));
+        series.setRecurrenceRule("FREQ=DAILY;COUNT=3");
+        
+        BookingSeries saved = seriesService.createSeries(series);
+        
+        assertEquals(new ArrayList<>(starts.keySet()), appended.stream().map(a -> a.bookingId).toList());
+        for (Appended event : appended) {
+            assertEquals(BookingDomainEvent.Type.CREATED, event.type);
+            assertEquals(saved.getId(), event.get(BookingDomainEvent.SERIES_ID));
+        }
+        assertEquals(3, appended.get(0).get(BookingDomainEvent.SERIES_OCCURRENCES));
+        assertNull(appended.get(1).get(BookingDomainEvent.SERIES_OCCURRENCES));
+        assertNull(appended.get(2).get(BookingDomainEvent.SERIES_OCCURRENCES));
+    }
+    
+    @Test
+    void createSeries_WithProvider_ReservesAndAppendsAssignmentPerOccurrence() {
+        Service service = service();
+        Provider provider = provider("Asha Verma");
+        provider.setServices(List.of(service));
+        BookingSeries series = newSeries(service, provider);
+        Map<UUID, LocalDateTime> starts = insertedOccurrences(series.getStartDate(), 3);
+        
+        seriesService.createSeries(series);
+        
+        verify(providerReservations).reserveAll(provider, starts, 1);
+        List<Appended> assigned = appended.stream()
+            .filter(event -> event.type == BookingDomainEvent.Type.PROVIDER_ASSIGNED).toList();
+        assertEquals(new ArrayList<>(starts.keySet()), assigned.stream().map(a -> a.bookingId).toList());
+        assertEquals(provider.getId(), assigned.get(0).get(BookingDomainEvent.PROVIDER_ID));
+        assertEquals(3, assigned.get(0).get(BookingDomainEvent.SERIES_OCCURRENCES));
+        assertNull(assigned.get(2).get(BookingDomainEvent.SERIES_OCCURRENCES));
+        verify(eventPublisher).publishEvent(any(DashboardEvent.class));
+    }
+    
+    @Test
+    void createSeries_UnverifiedProvider_ThrowsBeforeWriting() {
+        Service service = service();
+        Provider provider = provider("Asha Verma");
+        provider.setServices(List.of(service));
+        provider.setIsVerified(false);
+        BookingSeries series = newSeries(service, provider);
+        
+        assertThrows(IllegalStateException.class, () -> seriesService.createSeries(series));
+        
+        verifyNoInteractions(occurrenceWriter, providerReservations, bookingOutbox);
+    }
+    
+    @Test
+    void createSeries_ProviderWithoutService_ThrowsBeforeWriting() {
+        Service service = service();
+        Provider provider = provider("Asha Verma");
+        provider.setServices(List.of());
+        BookingSeries series = newSeries(service, provider);
+        
+        assertThrows(IllegalArgumentException.class, () -> seriesService.createSeries(series));
+        
+        verifyNoInteractions(occurrenceWriter, providerReservations, bookingOutbox);
+    }
+    
+    @Test
+    void rescheduleSeries_AppendsEventPerOccurrenceWithItsDate() {
+        BookingSeries series = activeSeries();
+        LocalDate first = LocalDate.now().plusDays(7);
+        List<Object[]> open = List.of(
+            new Object[] {UUID.randomUUID(), first, BookingStatus.PENDING, null},
+            new Object[] {UUID.randomUUID(), first.plusDays(7), BookingStatus.CONFIRMED, null});
+        when(bookingRepository.findOpenSeriesOccurrences(eq(series.getId()), any())).thenReturn(open);
+        when(seriesRepository.saveAndFlush(series)).thenReturn(series);
+        when(bookingRepository.rescheduleOpenSeriesOccurrences(eq(series.getId()), any(), eq(LocalTime.of(16, 0)), any()))
+            .thenReturn(2);
+        
+        seriesService.rescheduleSeries(series.getId(), null, LocalTime.of(16, 0));
+        
+        assertEquals(2, appended.size());
+        for (int i = 0; i < open.size(); i++) {
+            assertEquals(open.get(i)[0], appended.get(i).bookingId);
+            assertEquals(BookingDomainEvent.Type.RESCHEDULED, appended.get(i).type);
+            assertEquals(open.get(i)[1], appended.get(i).get("scheduledDate"));
+        }
+        assertEquals(2, appended.get(0).get(BookingDomainEvent.SERIES_OCCURRENCES));
+        assertNull(appended.get(1).get(BookingDomainEvent.SERIES_OCCURRENCES));
+    }
+    
+    @Test
+    void rescheduleSeries_DispatchedOccurrence_ReservesUnderItsOwnProvider() {
+        BookingSeries series = activeSeries();
+        Provider seriesProvider = provider("Asha Verma");
+        Provider dispatched = provider("Ravi Kumar");
+        series.setProvider(seriesProvider);
+        LocalDate first = LocalDate.now().plusDays(7);
+        UUID ownVisit = UUID.randomUUID();
+        UUID dispatchedVisit = UUID.randomUUID();
+        UUID openVisit = UUID.randomUUID();
+        List<Object[]> open = List.of(
+            new Object[] {ownVisit, first, BookingStatus.CONFIRMED, seriesProvider.getId()},
+            new Object[] {dispatchedVisit, first.plusDays(7), BookingStatus.CONFIRMED, dispatched.getId()},
+            new Object[] {openVisit, first.plusDays(14), BookingStatus.PENDING, null});
+        when(bookingRepository.findOpenSeriesOccurrences(eq(series.getId()), any())).thenReturn(open);
+        when(seriesRepository.saveAndFlush(series)).thenReturn(series);
+        when(providerRepository.findAllById(any())).thenReturn(List.of(seriesProvider, dispatched));
+        when(bookingRepository.rescheduleOpenSeriesOccurrences(eq(series.getId()), any(), eq(LocalTime.of(16, 0)), any()))
+            .thenReturn(3);
+        
+        seriesService.rescheduleSeries(series.getId(), null, LocalTime.of(16, 0));
+        
+        verify(providerReservations).releaseAll(List.of(ownVisit, dispatchedVisit));
+        verify(providerReservations).reserveAll(seriesProvider, Map.of(ownVisit, first.atTime(16, 0)), 1);
+        verify(providerReservations).reserveAll(dispatched, Map.of(dispatchedVisit, first.plusDays(7).atTime(16, 0)), 1);
+        verify(providerReservations, times(2)).reserveAll(any(), any(), anyInt());
+    }
+    
+    @Test
+    void cancelSeries_AppendsEventPerOccurrenceWithItsStatus() {
+        BookingSeries series = activeSeries();
+        LocalDate first = LocalDate.now().plusDays(7);
+        List<Object[]> open = List.of(
+            new Object[] {UUID.randomUUID(), first, BookingStatus.CONFIRMED, null},
+            new Object[] {UUID.randomUUID(), first.plusDays(7), BookingStatus.PENDING, null},
+            new Object[] {UUID.randomUUID(), first.plusDays(14), BookingStatus.PENDING, null});
+        when(bookingRepository.findOpenSeriesOccurrences(eq(series.getId()), any())).thenReturn(open);
+        when(seriesRepository.saveAndFlush(series)).thenReturn(series);
+        when(bookingRepository.cancelOpenSeriesOccurrences(eq(series.getId()), any(), eq(BookingStatus.CANCELLED), any()))
+            .thenReturn(3);
+        
+        seriesService.cancelSeries(series.getId(), null);
+        
+        assertEquals(3, appended.size());
+        for (int i = 0; i < open.size(); i++) {
+            assertEquals(open.get(i)[0], appended.get(i).bookingId);
+            assertEquals(BookingDomainEvent.Type.STATUS_CHANGED, appended.get(i).type);
+            assertEquals(open.get(i)[2], appended.get(i).get(BookingDomainEvent.FROM_STATUS));
+            assertEquals(BookingStatus.CANCELLED, appended.get(i).get(BookingDomainEvent.TO_STATUS));
+        }
+        assertEquals(3, appended.get(0).get(BookingDomainEvent.SERIES_OCCURRENCES));
+        assertNull(appended.get(2).get(BookingDomainEvent.SERIES_OCCURRENCES));
+        verify(providerReservations).releaseAll(open.stream().map(row -> (UUID) row[0]).toList());
+    }
+    
+    private BookingSeries activeSeries() {
+        BookingSeries series = new BookingSeries();
+        series.setId(UUID.randomUUID());
+        series.setStatus(BookingSeries.Status.ACTIVE);
+        series.setScheduledTime(LocalTime.of(9, 0));
+        series.setDuration(1);
+        when(seriesRepository.findById(series.getId())).thenReturn(Optional.of(series));
+        return series;
+    }
+    
+    private Provider provider(String name) {
+        Provider provider = new Provider();
+        provider.setId(UUID.randomUUID());
+        provider.setName(name);
+        provider.setAvailabilityStatus(AvailabilityStatus.AVAILABLE);
+        provider.setIsVerified(true);
+        return provider;
+    }
+    
+    private Service service() {
+        Service service = new Service();
+        service.setId(UUID.randomUUID());
+        service.setName("Home nursing");
+        when(serviceRepository.findById(service.getId())).thenReturn(Optional.of(service));
+        return service;
+    }
+    
+    /**
+     * A three-day series starting tomorrow for a known user, with the
+     * provider (if any) found by id
+     */
+    private BookingSeries newSeries(Service service, Provider provider) {
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        lenient().when(providerRepository.findById(provider.getId())).thenReturn(Optional.of(provider));
+        
+        BookingSeries series = new BookingSeries();
+        series.setUser(user);
+        series.setService(service);
+        series.setProvider(provider);
+        series.setStartDate(LocalDate.now().plusDays(1));
+        series.setScheduledTime(LocalTime.of(9, 0));
+        series.setDuration(1);
+        series.setAmountPerVisit(new BigDecimal("500.00"));
+        series.setRecurrenceRule("FREQ=DAILY;COUNT=3");
+        return series;
+    }
+    
+    private Map<UUID, LocalDateTime> insertedOccurrences(LocalDate start, int count) {
+        when(seriesRepository.saveAndFlush(any(BookingSeries.class))).thenAnswer(invocation -> {
+            BookingSeries saved = invocation.getArgument(0);
+            saved.setId(UUID.randomUUID());
+            return saved;
+        });
+        Map<UUID, LocalDateTime> starts = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            starts.put(UUID.randomUUID(), start.plusDays(i).atTime(9, 0));
+        }
+        when(occurrenceWriter.insert(any(), any())).thenReturn(starts);
+        return starts;
+    }
+    
+    /**
+     * One recorded BookingOutbox.append call
+     */
+    private static class Appended {
+        
+        private final UUID bookingId;
+        private final BookingDomainEvent.Type type;
+        private final Object[] attributes;
+        
+        Appended(UUID bookingId, BookingDomainEvent.Type type, Object[] attributes) {
+            this.bookingId = bookingId;
+            this.type = type;
+            this.attributes = attributes;
+        }
+        
+        Object get(String key) {
+            for (int i = 0; i < attributes.length; i += 2) {
+                if (attributes[i].equals(key)) {
+                    return attributes[i + 1];
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.lucknow.healthcare.service.impl;
+
+import com.lucknow.healthcare.entity.ConsentCampaign;
+import com.lucknow.healthcare.entity.ConsentRecord;
+import com.lucknow.healthcare.metrics.ServiceMetrics;
+import com.lucknow.healthcare.repository.ConsentCampaignRepository;
+import com.lucknow.healthcare.repository.ConsentRecordRepository;
+import com.lucknow.healthcare.repository.UserRepository;
+import com.lucknow.healthcare.service.interfaces.ConsentService;
+import com.lucknow.healthcare.service.interfaces.EmailNotificationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ConsentCampaignServiceImpl
+ *
+ * Covers resuming a campaign on a node that did not start it: whether the
+ * campaign is superseded is decided by the campaign rows, not by the
+ * versions this node happens to hold in memory.
+ *
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ConsentCampaignServiceImplTest {
+
+    private static final ConsentRecord.ConsentType TYPE = ConsentRecord.ConsentType.PRIVACY_POLICY;
+
+    @Mock
+    private ConsentCampaignRepository campaignRepository;
+
+    @Mock
+    private ConsentRecordRepository consentRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ConsentService consentService;
+
+    @Mock
+    private EmailNotificationService emailNotificationService;
+
+    @Mock
+    private ServiceMetrics serviceMetrics;
+
+    @InjectMocks
+    private ConsentCampaignServiceImpl campaignService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(campaignService, "chunkSize", 10);
+        ReflectionTestUtils.setField(campaignService, "concurrency", 2);
+        ReflectionTestUtils.setField(campaignService, "leaseSeconds", 60L);
+        campaignService.init();
+        // This node still believes the old version is current
+        when(consentService.getLatestConsentVersion(TYPE)).thenReturn("1.0");
+        when(campaignRepository.claimLease(any(), anyString(), any(), any())).thenReturn(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        campaignService.shutdown();
+    }
+
+    @Test
+    void resumeCampaigns_NewestCampaign_RunsAgainstItsOwnVersion() {
+        ConsentCampaign campaign = campaign("2.0");
+        when(campaignRepository.findAllByOrderByCreatedAtDesc()).thenReturn(List.of(campaign));
+        when(campaignRepository.findByStatusOrderByCreatedAtDesc(ConsentCampaign.Status.RUNNING))
+            .thenReturn(List.of(campaign));
+        when(campaignRepository.findById(campaign.getId())).thenReturn(Optional.of(campaign));
+        when(campaignRepository.findFirstByConsentTypeOrderByCreatedAtDesc(TYPE)).thenReturn(Optional.of(campaign));
+        when(consentRepository.findUsersRequiringConsentUpdateAfter(eq(TYPE), eq("2.0"), any(), any()))
+            .thenReturn(List.of());
+
+        campaignService.resumeCampaigns();
+
+        verify(consentService).updateConsentVersion(TYPE, "2.0");
+        verify(campaignRepository, timeout(2_000)).finish(eq(campaign.getId()), anyString(),
+            eq(ConsentCampaign.Status.COMPLETED), isNull(), any(LocalDateTime.class));
+    }
+
+    @Test
+    void resumeCampaigns_NewerCampaignExists_FinishesAsSupersededByNewerVersion() {
+        ConsentCampaign older = campaign("2.0");
+        ConsentCampaign newer = campaign("3.0");
+        when(campaignRepository.findAllByOrderByCreatedAtDesc()).thenReturn(List.of(newer, older));
+        when(campaignRepository.findByStatusOrderByCreatedAtDesc(ConsentCampaign.Status.RUNNING))
+            .thenReturn(List.of(older));
+        when(campaignRepository.findById(older.getId())).thenReturn(Optional.of(older));
+        when(campaignRepository.findFirstByConsentTypeOrderByCreatedAtDesc(TYPE)).thenReturn(Optional.of(newer));
+
+        campaignService.resumeCampaigns();
+
+        verify(consentService).updateConsentVersion(TYPE, "3.0");
+        verify(campaignRepository, timeout(2_000)).finish(eq(older.getId()), anyString(),
+            eq(ConsentCampaign.Status.COMPLETED), eq("Superseded by version 3.0"), any(LocalDateTime.class));
+        verify(consentRepository, never()).findUsersRequiringConsentUpdateAfter(any(), any(), any(), any());
+    }
+
+    private static ConsentCampaign campaign(String version) {
+        ConsentCampaign campaign = new ConsentCampaign(TYPE, version);
+        campaign.setId(UUID.randomUUID());
+        campaign.setStatus(ConsentCampaign.Status.RUNNING);
+        return campaign;
+    }
+}
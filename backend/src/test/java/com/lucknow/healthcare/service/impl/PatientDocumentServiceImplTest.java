@@ -0,0 +1,90 @@
+package com.lucknow.healthcare.service.impl;
+
+import com.lucknow.healthcare.entity.PatientDocument;
+import com.lucknow.healthcare.entity.Provider;
+import com.lucknow.healthcare.enums.BookingStatus;
+import com.lucknow.healthcare.repository.BookingRepository;
+import com.lucknow.healthcare.repository.PatientDocumentRepository;
+import com.lucknow.healthcare.repository.ProviderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for PatientDocumentServiceImpl
+ * 
+ * Covers provider access to documents, which is limited to patients the
+ * provider is assigned to on a booking that is not cancelled.
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+class PatientDocumentServiceImplTest {
+    
+    private static final String PROVIDER_EMAIL = "asha.verma@example.com";
+    
+    @Mock
+    private PatientDocumentRepository documentRepository;
+    
+    @Mock
+    private BookingRepository bookingRepository;
+    
+    @Mock
+    private ProviderRepository providerRepository;
+    
+    @InjectMocks
+    private PatientDocumentServiceImpl documentService;
+    
+    private Provider provider;
+    private UUID patientId;
+    private UUID documentId;
+    
+    @BeforeEach
+    void setUp() {
+        provider = new Provider();
+        provider.setId(UUID.randomUUID());
+        provider.setEmail(PROVIDER_EMAIL);
+        patientId = UUID.randomUUID();
+        documentId = UUID.randomUUID();
+    }
+    
+    @Test
+    void getDocumentForProvider_AssignedToPatient_ReturnsDocument() {
+        PatientDocument document = new PatientDocument();
+        when(providerRepository.findByEmail(PROVIDER_EMAIL)).thenReturn(Optional.of(provider));
+        when(bookingRepository.existsByProviderIdAndPatientIdAndStatusNot(provider.getId(), patientId,
+            BookingStatus.CANCELLED)).thenReturn(true);
+        when(documentRepository.findByIdAndPatientId(documentId, patientId)).thenReturn(Optional.of(document));
+        
+        assertSame(document, documentService.getDocumentForProvider(documentId, patientId, PROVIDER_EMAIL).orElseThrow());
+    }
+    
+    @Test
+    void getDocumentForProvider_NotAssignedToPatient_ReturnsEmpty() {
+        when(providerRepository.findByEmail(PROVIDER_EMAIL)).thenReturn(Optional.of(provider));
+        when(bookingRepository.existsByProviderIdAndPatientIdAndStatusNot(provider.getId(), patientId,
+            BookingStatus.CANCELLED)).thenReturn(false);
+        
+        assertTrue(documentService.getDocumentForProvider(documentId, patientId, PROVIDER_EMAIL).isEmpty());
+        verify(documentRepository, never()).findByIdAndPatientId(any(), any());
+    }
+    
+    @Test
+    void getDocumentForProvider_UnknownProvider_ReturnsEmpty() {
+        when(providerRepository.findByEmail(PROVIDER_EMAIL)).thenReturn(Optional.empty());
+        
+        assertTrue(documentService.getDocumentForProvider(documentId, patientId, PROVIDER_EMAIL).isEmpty());
+        verifyNoInteractions(bookingRepository, documentRepository);
+    }
+}
@@ -3,7 +3,9 @@ package com.lucknow.healthcare.service.impl;
 import com.lucknow.healthcare.entity.User;
 import com.lucknow.healthcare.enums.UserRole;
 import com.lucknow.healthcare.enums.UserStatus;
+import com.lucknow.healthcare.geo.Gazetteer;
 import com.lucknow.healthcare.repository.UserRepository;
+import com.lucknow.healthcare.security.PrincipalCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -39,6 +41,12 @@ class UserServiceImplTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private PrincipalCache principalCache;
+
+    @Mock
+    private Gazetteer gazetteer;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -0,0 +1,133 @@
+package com.lucknow.healthcare.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for LocalFileSystemDocumentStorage
+ * 
+ * @author Lucknow Healthcare Team
+ * @version 1.0.0
+ */
+class LocalFileSystemDocumentStorageTest {
+    
+    private static final String HELLO_SHA256 = "2cf24dba5fb0a30e26e83b2ac5b9e29e1b161e5c1fa7425e73043362938b9824";
+    
+    @TempDir
+    Path root;
+    
+    private LocalFileSystemDocumentStorage storage;
+    
+    @BeforeEach
+    void setUp() throws Exception {
+        // Small buffer so multi-chunk streaming is exercised
+        storage = new LocalFileSystemDocumentStorage(root, 1024, Duration.ofMinutes(10));
+    }
+    
+    @Test
+    void store_NamesContentBySha256() throws Exception {
+        StoredContent stored = storage.store(stream("hello".getBytes(StandardCharsets.UTF_8)), 100);
+        
+        assertEquals(HELLO_SHA256, stored.getSha256());
+        assertEquals(5, stored.getSize());
+        assertFalse(stored.isDeduplicated());
+        assertTrue(Files.isRegularFile(root.resolve(stored.getLocation())));
+        assertEquals("2c/f2/" + HELLO_SHA256, stored.getLocation());
+    }
+    
+    @Test
+    void store_IdenticalContent_IsDeduplicated() throws Exception {
+        byte[] content = randomBytes(10_000);
+        
+        StoredContent first = storage.store(stream(content), 20_000);
+        StoredContent second = storage.store(stream(content), 20_000);
+        
+        assertEquals(first.getSha256(), second.getSha256());
+        assertTrue(second.isDeduplicated());
+        try (Stream<Path> tmp = Files.list(root.resolve("tmp"))) {
+            assertEquals(0, tmp.count());
+        }
+    }
+    
+    @Test
+    void store_OversizedContent_IsRejectedAndNothingKept() throws Exception {
+        assertThrows(IllegalArgumentException.class, () -> storage.store(stream(randomBytes(5_000)), 4_096));
+        
+        try (Stream<Path> files = Files.walk(root)) {
+            assertEquals(0, files.filter(Files::isRegularFile).count());
+        }
+    }
+    
+    @Test
+    void transferTo_CopiesRequestedRange() throws Exception {
+        byte[] content = randomBytes(5_000);
+        StoredContent stored = storage.store(stream(content), 10_000);
+        
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long written = storage.transferTo(stored.getSha256(), 1_000, 2_500, Channels.newChannel(out));
+        
+        assertEquals(2_500, written);
+        byte[] expected = new byte[2_500];
+        System.arraycopy(content, 1_000, expected, 0, 2_500);
+        assertArrayEquals(expected, out.toByteArray());
+        
+        out.reset();
+        assertEquals(500, storage.transferTo(stored.getSha256(), 4_500, 10_000, Channels.newChannel(out)));
+    }
+    
+    @Test
+    void delete_KeepsRecentlyReferencedObjects() throws Exception {
+        StoredContent stored = storage.store(stream(randomBytes(100)), 1_000);
+        
+        assertFalse(storage.delete(stored.getSha256()));
+        assertTrue(storage.exists(stored.getSha256()));
+        
+        Path path = storage.localPath(stored.getSha256()).orElseThrow();
+        Files.setLastModifiedTime(path, FileTime.from(Instant.now().minus(Duration.ofHours(1))));
+        assertTrue(storage.delete(stored.getSha256()));
+        assertFalse(storage.exists(stored.getSha256()));
+    }
+    
+    @Test
+    void digests_ListsStoredObjectsOnly() throws Exception {
+        StoredContent first = storage.store(stream(randomBytes(100)), 1_000);
+        StoredContent second = storage.store(stream(randomBytes(200)), 1_000);
+        Files.writeString(root.resolve("tmp").resolve("upload-1.part"), "partial");
+        
+        try (Stream<String> digests = storage.digests()) {
+            assertEquals(Set.of(first.getSha256(), second.getSha256()), digests.collect(Collectors.toSet()));
+        }
+    }
+    
+    @Test
+    void invalidDigest_IsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> storage.exists("../../etc/passwd"));
+    }
+    
+    private static ByteArrayInputStream stream(byte[] content) {
+        return new ByteArrayInputStream(content);
+    }
+    
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,11 @@
+#!/bin/bash
+# Allows streaming replication for the postgres-replica service (docker compose --profile replica).
+# Only does something when REPLICATION_PASSWORD is set on the primary; runs once, when the
+# data volume is first initialised. May be sourced by the entrypoint, so it does not exit.
+
+if [ -n "$REPLICATION_PASSWORD" ]; then
+    psql -v ON_ERROR_STOP=1 --username "$POSTGRES_USER" --dbname "$POSTGRES_DB" <<-EOSQL
+	CREATE ROLE replicator WITH REPLICATION LOGIN PASSWORD '$REPLICATION_PASSWORD';
+EOSQL
+    echo "host replication replicator all scram-sha-256" >> "$PGDATA/pg_hba.conf"
+fi
@@ -0,0 +1,111 @@
+#!/bin/bash
+
+# Lucknow Healthcare Services - HTTP Load Test
+# Starts PostgreSQL and Redis, loads a generated dataset, runs the backend
+# in DUMMY payment mode and drives it with the LoadTest journeys.
+#
+# Usage: scripts/load-test.sh [extra LoadTest options, e.g. --users 50 --duration 600]
+# Environment: DATASET (small), USERS (20), DURATION (300), WARMUP (30)
+
+set -e
+
+# Colors for output
+RED='\033[0;31m'
+GREEN='\033[0;32m'
+YELLOW='\033[1;33m'
+NC='\033[0m' # No Color
+
+# Configuration
+PROJECT_ROOT=$(pwd)
+BACKEND_DIR="$PROJECT_ROOT/backend"
+DATASET=${DATASET:-small}
+USERS=${USERS:-20}
+DURATION=${DURATION:-300}
+WARMUP=${WARMUP:-30}
+DB_USER=healthcare_user
+DB_PASSWORD=healthcare_password
+LOAD_DB=healthcare_load
+BASE_URL=http://localhost:8080/api
+BACKEND_LOG="$BACKEND_DIR/target/load-backend.log"
+
+print_status() {
+    echo -e "${GREEN}✓${NC} $1"
+}
+
+print_warning() {
+    echo -e "${YELLOW}⚠${NC} $1"
+}
+
+print_error() {
+    echo -e "${RED}✗${NC} $1"
+}
+
+wait_for() {
+    local description=$1
+    shift
+    for _ in $(seq 1 120); do
+        if "$@" > /dev/null 2>&1; then
+            return 0
+        fi
+        sleep 2
+    done
+    print_error "Timed out waiting for $description"
+    exit 1
+}
+
+start_containers() {
+    print_status "Starting PostgreSQL and Redis..."
+    docker compose up -d postgres redis
+    wait_for "PostgreSQL" docker exec lucknow-healthcare-db pg_isready -U "$DB_USER"
+    wait_for "Redis" docker exec lucknow-healthcare-redis redis-cli ping
+}
+
+load_dataset() {
+    print_status "Copying the $DATASET dataset into $LOAD_DB (built on first use)..."
+    cd "$BACKEND_DIR"
+    LOAD_DB_URL=$(mvn -q test-compile exec:java -Dexec.classpathScope=test \
+        -Dexec.mainClass=com.lucknow.healthcare.dataset.DatasetSnapshot \
+        -Dexec.args="--url jdbc:postgresql://localhost:5432/lucknow_healthcare --user $DB_USER --password $DB_PASSWORD --dataset $DATASET --clone $LOAD_DB" \
+        | tail -n 1)
+    cd "$PROJECT_ROOT"
+}
+
+start_backend() {
+    print_status "Building and starting the backend..."
+    cd "$BACKEND_DIR"
+    mvn -q -DskipTests package
+    SPRING_DATASOURCE_JDBC_URL="$LOAD_DB_URL" \
+    PAYMENT_GATEWAY_MODE=DUMMY \
+    TWILIO_DEVELOPMENT_MODE=true \
+        java -jar target/healthcare-1.0.0.jar > "$BACKEND_LOG" 2>&1 &
+    BACKEND_PID=$!
+    trap 'kill $BACKEND_PID 2> /dev/null || true' EXIT
+    cd "$PROJECT_ROOT"
+    wait_for "the backend (log: $BACKEND_LOG)" curl -sf "$BASE_URL/actuator/health"
+}
+
+run_load_test() {
+    print_status "Running $USERS users for $DURATION s after a $WARMUP s warm-up..."
+    cd "$BACKEND_DIR"
+    mvn -q exec:java -Dexec.classpathScope=test \
+        -Dexec.mainClass=com.lucknow.healthcare.load.LoadTest \
+        -Dexec.args="--base-url $BASE_URL --dataset $DATASET --users $USERS --duration $DURATION --warmup $WARMUP $*"
+
+    echo ""
+    if python3 benchmarks/compare_load.py target/load-report.json benchmarks/load-baseline.json; then
+        print_status "No regressions against benchmarks/load-baseline.json"
+    else
+        print_warning "Regressions against benchmarks/load-baseline.json (see above)"
+        exit 1
+    fi
+    cd "$PROJECT_ROOT"
+}
+
+main() {
+    start_containers
+    load_dataset
+    start_backend
+    run_load_test "$@"
+}
+
+main "$@"